@@ -2,16 +2,19 @@ package seedu.address;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
@@ -22,12 +25,20 @@ import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.AddressBookLibrary;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BackupAddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.KeyValueAddressBookStorage;
+import seedu.address.storage.MappedAddressBookStorage;
+import seedu.address.storage.ShardedAddressBookStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
+import seedu.address.storage.WatchedAddressBookStorage;
+import seedu.address.storage.WriteAheadLogAddressBookStorage;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
 
@@ -56,8 +67,14 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        Path addressBookFilePath = userPrefs.getAddressBookFilePath();
+        AddressBookStorage addressBookStorage = initBackupStorage(
+                initWatchedStorage(initAddressBookStorage(addressBookFilePath, userPrefs)), userPrefs);
+        AddressBookLibrary addressBookLibrary = new AddressBookLibrary(addressBookFilePath, addressBookStorage,
+                filePath -> initBackupStorage(initWatchedStorage(initAddressBookStorage(filePath, userPrefs)),
+                        userPrefs),
+                userPrefs.getAddressBookMemoryBudgetMegabytes() << 20);
+        storage = new StorageManager(addressBookLibrary, userPrefsStorage);
 
         initLogging(config);
 
@@ -68,6 +85,90 @@ public class MainApp extends Application {
         ui = new UiManager(logic);
     }
 
+    /**
+     * Returns the {@code AddressBookStorage} for the address book at {@code addressBookFilePath}, in the format in
+     * {@code userPrefs}. <br>
+     * A plain json file will be used if the format is not recognised.
+     */
+    private AddressBookStorage initAddressBookStorage(Path addressBookFilePath, ReadOnlyUserPrefs userPrefs) {
+        boolean isCompact = userPrefs.isAddressBookCompact();
+        boolean isLazy = userPrefs.isAddressBookLazy();
+        boolean isCompressed = userPrefs.isAddressBookCompressed();
+        switch (userPrefs.getAddressBookFormat()) {
+        case UserPrefs.ADDRESS_BOOK_FORMAT_JSON_LOG:
+            return new WriteAheadLogAddressBookStorage(addressBookFilePath, isCompact);
+        case UserPrefs.ADDRESS_BOOK_FORMAT_BINARY:
+            return new BinaryAddressBookStorage(
+                    BinaryAddressBookStorage.toBinaryFilePath(addressBookFilePath), addressBookFilePath);
+        case UserPrefs.ADDRESS_BOOK_FORMAT_MAPPED:
+            return new MappedAddressBookStorage(
+                    FileUtil.replaceExtension(addressBookFilePath, MappedAddressBookStorage.FILE_EXTENSION),
+                    addressBookFilePath);
+        case UserPrefs.ADDRESS_BOOK_FORMAT_SHARDED:
+            return new ShardedAddressBookStorage(
+                    FileUtil.replaceExtension(addressBookFilePath, ShardedAddressBookStorage.DIRECTORY_EXTENSION),
+                    addressBookFilePath, isCompact);
+        case UserPrefs.ADDRESS_BOOK_FORMAT_KEY_VALUE:
+            return new KeyValueAddressBookStorage(
+                    FileUtil.replaceExtension(addressBookFilePath, KeyValueAddressBookStorage.FILE_EXTENSION),
+                    addressBookFilePath);
+        case UserPrefs.ADDRESS_BOOK_FORMAT_JSON:
+            return new JsonAddressBookStorage(addressBookFilePath, isCompact, isLazy, isCompressed);
+        default:
+            logger.warning("Unknown address book format " + userPrefs.getAddressBookFormat()
+                    + ". Using the json format");
+            return new JsonAddressBookStorage(addressBookFilePath, isCompact, isLazy, isCompressed);
+        }
+    }
+
+    /**
+     * Returns {@code addressBookStorage}, backed up into a {@code backups} directory next to its file as set in
+     * {@code userPrefs}. <br>
+     * {@code addressBookStorage} is returned as is if no backups are to be kept.
+     */
+    private AddressBookStorage initBackupStorage(AddressBookStorage addressBookStorage, ReadOnlyUserPrefs userPrefs) {
+        int backupCount = userPrefs.getAddressBookBackupCount();
+        if (backupCount <= 0) {
+            return addressBookStorage;
+        }
+        Path backupDirectoryPath = addressBookStorage.getAddressBookFilePath().toAbsolutePath()
+                .resolveSibling("backups");
+        Duration backupInterval = Duration.ofMinutes(Math.max(0, userPrefs.getAddressBookBackupIntervalMinutes()));
+        return new BackupAddressBookStorage(addressBookStorage, backupDirectoryPath, backupInterval, backupCount);
+    }
+
+    /**
+     * Returns {@code addressBookStorage}, watched for changes made to its file outside of the app from when the
+     * address book is first read from it. <br>
+     * {@code addressBookStorage} is returned as is if it is not a json storage, whose files are the only ones synced.
+     */
+    private AddressBookStorage initWatchedStorage(AddressBookStorage addressBookStorage) {
+        if (!(addressBookStorage instanceof JsonAddressBookStorage)) {
+            return addressBookStorage;
+        }
+        Path filePath = addressBookStorage.getAddressBookFilePath();
+        return new WatchedAddressBookStorage(addressBookStorage, Platform::runLater,
+                addressBook -> applyExternalChange(filePath, addressBook));
+    }
+
+    /**
+     * Applies {@code addressBook}, read from the file at {@code filePath} after it was changed outside of the app,
+     * and returns whether it was applied. <br>
+     * It is merged into {@code model} if it is the current address book. Otherwise it is evicted from memory if
+     * resident, so that the changed file is read when the book is next switched to.
+     */
+    private boolean applyExternalChange(Path filePath, ReadOnlyAddressBook addressBook) {
+        if (model == null) {
+            return false;
+        }
+        if (!storage.getAddressBookFilePath().equals(filePath)) {
+            storage.getAddressBookLibrary().evict(filePath);
+            return false;
+        }
+        model.mergeAddressBook(addressBook);
+        return true;
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
@@ -174,10 +275,16 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Address Book ] =============================");
+        ui.stop();
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        try {
+            storage.close();
+        } catch (IOException e) {
+            logger.warning("Failed to close the data files " + StringUtil.getDetails(e));
+        }
     }
 }
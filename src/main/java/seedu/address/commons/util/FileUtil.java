@@ -65,6 +65,19 @@ public class FileUtil {
         }
     }
 
+    /**
+     * Returns {@code file} with the extension of its name, if any, replaced by {@code extension}.
+     * @param extension the new extension, including the leading dot.
+     */
+    public static Path replaceExtension(Path file, String extension) {
+        String fileName = file.getFileName().toString();
+        int dotIndex = fileName.lastIndexOf('.');
+        if (dotIndex > 0) {
+            fileName = fileName.substring(0, dotIndex);
+        }
+        return file.resolveSibling(fileName + extension);
+    }
+
     /**
      * Assumes file exists
      */
@@ -2,15 +2,27 @@ package seedu.address.commons.util;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
@@ -29,6 +41,7 @@ import seedu.address.commons.exceptions.DataConversionException;
 public class JsonUtil {
 
     private static final Logger logger = LogsCenter.getLogger(JsonUtil.class);
+    private static final int COMPRESSION_BUFFER_SIZE = 1 << 16;
 
     private static ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
             .configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false)
@@ -91,6 +104,80 @@ public class JsonUtil {
     }
 
 
+    /**
+     * Returns a streaming parser over the json file at {@code filePath}, which reads the file through a buffer
+     * rather than all at once. Values can be bound one at a time with {@link JsonParser#readValueAs(Class)}.
+     * A file written with compression by {@link #createGenerator(Path, boolean, boolean)} is recognised by the gzip
+     * magic bytes at its start and decompressed as it is read.
+     * @param filePath cannot be null.
+     * @throws IOException if the file cannot be opened.
+     */
+    public static JsonParser createParser(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        return createParser(Files.newInputStream(filePath));
+    }
+
+    /**
+     * Similar to {@link #createParser(Path)}, but reads from {@code in}, which is closed when the parser is closed.
+     * @param in cannot be null.
+     */
+    public static JsonParser createParser(InputStream in) throws IOException {
+        requireNonNull(in);
+        in = new BufferedInputStream(in);
+        if (isGzipped(in)) {
+            in = new GZIPInputStream(in, COMPRESSION_BUFFER_SIZE);
+        }
+        return objectMapper.getFactory().createParser(in);
+    }
+
+    /**
+     * Returns true if {@code in} starts with the gzip magic bytes, without consuming them.
+     * Json text cannot start with these bytes.
+     */
+    private static boolean isGzipped(InputStream in) throws IOException {
+        in.mark(2);
+        int first = in.read();
+        int second = in.read();
+        in.reset();
+        return first == (GZIPInputStream.GZIP_MAGIC & 0xFF) && second == (GZIPInputStream.GZIP_MAGIC >>> 8);
+    }
+
+    /**
+     * Returns a streaming generator that writes to the file at {@code filePath} through a buffered channel,
+     * replacing the file's contents. The file is closed when the generator is closed.
+     * @param filePath cannot be null.
+     * @param isCompact whether to leave out the whitespace that makes the file easier to read.
+     * @throws IOException if the file cannot be opened.
+     */
+    public static JsonGenerator createGenerator(Path filePath, boolean isCompact) throws IOException {
+        return createGenerator(filePath, isCompact, false);
+    }
+
+    /**
+     * Similar to {@link #createGenerator(Path, boolean)}, but if {@code isCompressed} is true, the json is
+     * compressed in the gzip format as it is written.
+     */
+    public static JsonGenerator createGenerator(Path filePath, boolean isCompact, boolean isCompressed)
+            throws IOException {
+        requireNonNull(filePath);
+        FileChannel channel = FileChannel.open(filePath,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        return createGenerator(Channels.newOutputStream(channel), isCompact, isCompressed);
+    }
+
+    /**
+     * Similar to {@link #createGenerator(Path, boolean, boolean)}, but writes to {@code out}, which is closed when the
+     * generator is closed.
+     * @param out cannot be null.
+     */
+    public static JsonGenerator createGenerator(OutputStream out, boolean isCompact, boolean isCompressed)
+            throws IOException {
+        requireNonNull(out);
+        out = isCompressed ? new GZIPOutputStream(out, COMPRESSION_BUFFER_SIZE) : new BufferedOutputStream(out);
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8);
+        return isCompact ? generator : generator.useDefaultPrettyPrinter();
+    }
+
     /**
      * Converts a given string representation of a JSON data to instance of a class
      * @param <T> The generic type to create an instance of
@@ -110,6 +197,17 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation on a single line,
+     * with no whitespace between tokens.
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, in string
+     */
+    public static <T> String toJsonLine(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
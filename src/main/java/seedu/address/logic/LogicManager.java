@@ -2,19 +2,23 @@ package seedu.address.logic;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.SwitchCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
+import seedu.address.storage.AddressBookLibrary;
 import seedu.address.storage.Storage;
 
 /**
@@ -22,6 +26,7 @@ import seedu.address.storage.Storage;
  */
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_MESSAGE = "Could not save data to file: ";
+    public static final String MESSAGE_UNREADABLE_ADDRESS_BOOK = "Could not read address book %1$s: %2$s";
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
@@ -34,7 +39,7 @@ public class LogicManager implements Logic {
     public LogicManager(Model model, Storage storage) {
         this.model = model;
         this.storage = storage;
-        addressBookParser = new AddressBookParser();
+        addressBookParser = new AddressBookParser(model.getUserPrefs().getCommandAliases());
     }
 
     @Override
@@ -44,6 +49,11 @@ public class LogicManager implements Logic {
         CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
         commandResult = command.execute(model);
+        Optional<String> addressBookName = commandResult.getAddressBookName();
+        if (addressBookName.isPresent()) {
+            switchAddressBook(addressBookName.get(), commandResult.isNewAddressBookAllowed());
+            return commandResult;
+        }
         model.sortAddressBook();
 
         try {
@@ -55,6 +65,40 @@ public class LogicManager implements Logic {
         return commandResult;
     }
 
+    /**
+     * Saves the current address book, and switches to the address book named {@code name}.
+     * A new, empty address book is created if there is none with that name and {@code isNewAddressBookAllowed}.
+     */
+    private void switchAddressBook(String name, boolean isNewAddressBookAllowed) throws CommandException {
+        AddressBookLibrary addressBookLibrary = storage.getAddressBookLibrary();
+        if (name.equals(addressBookLibrary.getCurrentName())) {
+            return;
+        }
+        boolean isNewAddressBook = !addressBookLibrary.hasAddressBook(name);
+        if (isNewAddressBook && !isNewAddressBookAllowed) {
+            throw new CommandException(String.format(SwitchCommand.MESSAGE_UNKNOWN_ADDRESS_BOOK, name));
+        }
+
+        ReadOnlyAddressBook addressBook;
+        try {
+            model.sortAddressBook();
+            addressBook = addressBookLibrary.switchTo(name, model.getAddressBook());
+        } catch (DataConversionException e) {
+            throw new CommandException(String.format(MESSAGE_UNREADABLE_ADDRESS_BOOK, name, e.getMessage()), e);
+        } catch (IOException ioe) {
+            throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+        }
+        model.switchAddressBook(addressBook, addressBookLibrary.getFilePath(name));
+
+        if (isNewAddressBook) {
+            try {
+                storage.saveAddressBook(model.getAddressBook());
+            } catch (IOException ioe) {
+                throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+            }
+        }
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
@@ -9,6 +9,10 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_REMARK;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TELE_HANDLE;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.person.Person;
@@ -38,6 +42,7 @@ public class AddCommand extends Command {
 
     public static final String MESSAGE_SUCCESS = "New person added: %1$s";
     public static final String MESSAGE_DUPLICATE_PERSON = "This person already exists in the address book";
+    public static final String MESSAGE_SHARED_PHONE = "\nNote: this phone number also belongs to %1$s";
 
     private final Person toAdd;
 
@@ -57,8 +62,28 @@ public class AddCommand extends Command {
             throw new CommandException(MESSAGE_DUPLICATE_PERSON);
         }
 
+        List<Person> personsWithPhone = toAdd.getPhone().value.isEmpty()
+                ? Collections.emptyList()
+                : model.getPersonsWithPhone(toAdd.getPhone());
+        String sharedPhoneMessage = getSharedPhoneMessage(personsWithPhone);
+
         model.addPerson(toAdd);
-        return new CommandResult(String.format(MESSAGE_SUCCESS, toAdd));
+        model.commitAddressBook();
+        return new CommandResult(String.format(MESSAGE_SUCCESS, toAdd) + sharedPhoneMessage);
+    }
+
+    /**
+     * Returns a note naming the {@code personsWithPhone} that have the phone number of the added person, or an empty
+     * string if there are none.
+     */
+    private static String getSharedPhoneMessage(List<Person> personsWithPhone) {
+        if (personsWithPhone.isEmpty()) {
+            return "";
+        }
+        String names = personsWithPhone.stream()
+                .map(person -> person.getName().fullName)
+                .collect(Collectors.joining(", "));
+        return String.format(MESSAGE_SHARED_PHONE, names);
     }
 
     @Override
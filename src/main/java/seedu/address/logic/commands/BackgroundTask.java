@@ -0,0 +1,21 @@
+package seedu.address.logic.commands;
+
+import java.util.function.Consumer;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+
+/**
+ * Work started by a command that is too slow to run on the UI thread, such as writing a large file.
+ * The task must not modify the model, as it runs concurrently with later commands.
+ */
+@FunctionalInterface
+public interface BackgroundTask {
+
+    /**
+     * Runs the task, passing messages that describe its progress to {@code progressListener}.
+     *
+     * @return the feedback to show the user once the task is done.
+     * @throws CommandException if the task fails.
+     */
+    String run(Consumer<String> progressListener) throws CommandException;
+}
@@ -0,0 +1,284 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADD_MODULE_CODE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADD_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MODULE_CODE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_REMOVE_MODULE_CODE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_REMOVE_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import seedu.address.commons.util.CollectionUtil;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.ModuleCode;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Adds and removes module codes and tags for every person who has all of the given module codes and tags, and whose
+ * email is at the given domain if there is one.
+ * All edited persons are replaced in the address book at once, as a single undoable change.
+ * When a domain is given, only the persons with emails at that domain are looked at, through the email domain index.
+ */
+public class BulkEditCommand extends Command {
+
+    public static final String MESSAGE_USAGE = "edit: Edits every person who has all of the given module codes "
+            + "and tags, and an email at the given domain. Removals are applied before additions. "
+            + "Module codes, tags and domains are matched ignoring case.\n"
+            + "Parameters: "
+            + "[" + PREFIX_EMAIL + "@DOMAIN] "
+            + "[" + PREFIX_MODULE_CODE + "MODULE_CODE]... "
+            + "[" + PREFIX_TAG + "TAG]... "
+            + "[" + PREFIX_ADD_MODULE_CODE + "MODULE_CODE]... "
+            + "[" + PREFIX_REMOVE_MODULE_CODE + "MODULE_CODE]... "
+            + "[" + PREFIX_ADD_TAG + "TAG]... "
+            + "[" + PREFIX_REMOVE_TAG + "TAG]...\n"
+            + "Example: edit "
+            + PREFIX_MODULE_CODE + "CS2040 "
+            + PREFIX_ADD_TAG + "alumni "
+            + PREFIX_REMOVE_MODULE_CODE + "CS2040 "
+            + PREFIX_ADD_MODULE_CODE + "CS2040S\n"
+            + "Example: edit "
+            + PREFIX_EMAIL + "@u.nus.edu "
+            + PREFIX_ADD_TAG + "student";
+
+    public static final String MESSAGE_SUCCESS = "Edited %1$d persons";
+    public static final String MESSAGE_NO_MATCHING_PERSONS = "No persons match all of the given filters.";
+    public static final String MESSAGE_NO_FILTER = "At least one email domain, module code or tag to match must be "
+            + "provided.";
+    public static final String MESSAGE_NO_MODULE_CODE_LEFT = "This edit would leave %1$s without a module code.";
+
+    private final Set<ModuleCode> moduleCodesToMatch;
+    private final Set<Tag> tagsToMatch;
+    /** The email domain that every person to edit must have, in lower case, or null to match any domain. */
+    private final String emailDomainToMatch;
+    private final BulkEditDescriptor bulkEditDescriptor;
+
+    /**
+     * @param moduleCodesToMatch module codes that every person to edit must have
+     * @param tagsToMatch tags that every person to edit must have
+     * @param bulkEditDescriptor the module codes and tags to add and remove
+     */
+    public BulkEditCommand(Set<ModuleCode> moduleCodesToMatch, Set<Tag> tagsToMatch,
+                           BulkEditDescriptor bulkEditDescriptor) {
+        this(null, moduleCodesToMatch, tagsToMatch, bulkEditDescriptor);
+    }
+
+    /**
+     * @param emailDomainToMatch the email domain, without the '@', that every person to edit must have,
+     *                           or null to match any domain
+     * @param moduleCodesToMatch module codes that every person to edit must have
+     * @param tagsToMatch tags that every person to edit must have
+     * @param bulkEditDescriptor the module codes and tags to add and remove
+     */
+    public BulkEditCommand(String emailDomainToMatch, Set<ModuleCode> moduleCodesToMatch, Set<Tag> tagsToMatch,
+                           BulkEditDescriptor bulkEditDescriptor) {
+        CollectionUtil.requireAllNonNull(moduleCodesToMatch, tagsToMatch, bulkEditDescriptor);
+
+        this.emailDomainToMatch = emailDomainToMatch == null ? null : Email.internDomain(emailDomainToMatch);
+        this.moduleCodesToMatch = new HashSet<>(moduleCodesToMatch);
+        this.tagsToMatch = new HashSet<>(tagsToMatch);
+        this.bulkEditDescriptor = new BulkEditDescriptor(bulkEditDescriptor);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        List<Person> targets = new ArrayList<>();
+        List<Person> editedPersons = new ArrayList<>();
+        boolean hasMatch = false;
+        List<Person> candidates = emailDomainToMatch == null
+                ? model.getAddressBook().getPersonList()
+                : model.getPersonsWithEmailDomain(emailDomainToMatch);
+        for (Person person : candidates) {
+            if (!isMatch(person)) {
+                continue;
+            }
+            hasMatch = true;
+
+            Person editedPerson = createEditedPerson(person, bulkEditDescriptor);
+            if (editedPerson.getModuleCodeCount() == 0) {
+                throw new CommandException(String.format(MESSAGE_NO_MODULE_CODE_LEFT, person.getName()));
+            }
+            if (!editedPerson.equals(person)) {
+                targets.add(person);
+                editedPersons.add(editedPerson);
+            }
+        }
+
+        if (!hasMatch) {
+            throw new CommandException(MESSAGE_NO_MATCHING_PERSONS);
+        }
+
+        if (!targets.isEmpty()) {
+            model.setPersons(targets, editedPersons);
+            model.commitAddressBook();
+        }
+        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, targets.size()));
+    }
+
+    /**
+     * Returns true if {@code person} has all of the module codes and tags to match.
+     */
+    private boolean isMatch(Person person) {
+        for (ModuleCode moduleCode : moduleCodesToMatch) {
+            if (!person.hasModuleCode(moduleCode)) {
+                return false;
+            }
+        }
+        for (Tag tag : tagsToMatch) {
+            if (!containsIgnoreCase(person.getTags(), tag)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Creates and returns a {@code Person} with the module codes and tags of {@code personToEdit}
+     * edited with {@code bulkEditDescriptor}.
+     */
+    private static Person createEditedPerson(Person personToEdit, BulkEditDescriptor bulkEditDescriptor) {
+        assert personToEdit != null;
+
+        Set<ModuleCode> updatedModuleCodes = new HashSet<>(personToEdit.getModuleCodes());
+        updatedModuleCodes.removeAll(bulkEditDescriptor.getModuleCodesToRemove());
+        updatedModuleCodes.addAll(bulkEditDescriptor.getModuleCodesToAdd());
+
+        Set<Tag> updatedTags = new HashSet<>(personToEdit.getTags());
+        updatedTags.removeIf(tag -> containsIgnoreCase(bulkEditDescriptor.getTagsToRemove(), tag));
+        for (Tag tag : bulkEditDescriptor.getTagsToAdd()) {
+            if (!containsIgnoreCase(updatedTags, tag)) {
+                updatedTags.add(tag);
+            }
+        }
+
+        return new Person(personToEdit.getName(), personToEdit.getEmail(), updatedModuleCodes,
+                personToEdit.getPhone(), personToEdit.getTeleHandle(), personToEdit.getRemark(), updatedTags);
+    }
+
+    private static boolean containsIgnoreCase(Set<Tag> tags, Tag toFind) {
+        for (Tag tag : tags) {
+            if (tag.tagName.equalsIgnoreCase(toFind.tagName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        // short circuit if same object
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof BulkEditCommand)) {
+            return false;
+        }
+
+        // state check
+        BulkEditCommand e = (BulkEditCommand) other;
+        return Objects.equals(emailDomainToMatch, e.emailDomainToMatch)
+                && moduleCodesToMatch.equals(e.moduleCodesToMatch)
+                && tagsToMatch.equals(e.tagsToMatch)
+                && bulkEditDescriptor.equals(e.bulkEditDescriptor);
+    }
+
+    /**
+     * Stores the module codes and tags to add to and remove from each person.
+     */
+    public static class BulkEditDescriptor {
+        private Set<ModuleCode> moduleCodesToAdd = new HashSet<>();
+        private Set<ModuleCode> moduleCodesToRemove = new HashSet<>();
+        private Set<Tag> tagsToAdd = new HashSet<>();
+        private Set<Tag> tagsToRemove = new HashSet<>();
+
+        public BulkEditDescriptor() {}
+
+        /**
+         * Copy constructor.
+         * Defensive copies of the sets are used internally.
+         */
+        public BulkEditDescriptor(BulkEditDescriptor toCopy) {
+            setModuleCodesToAdd(toCopy.moduleCodesToAdd);
+            setModuleCodesToRemove(toCopy.moduleCodesToRemove);
+            setTagsToAdd(toCopy.tagsToAdd);
+            setTagsToRemove(toCopy.tagsToRemove);
+        }
+
+        /**
+         * Returns true if at least one module code or tag is added or removed.
+         */
+        public boolean isAnyFieldEdited() {
+            return !moduleCodesToAdd.isEmpty() || !moduleCodesToRemove.isEmpty()
+                    || !tagsToAdd.isEmpty() || !tagsToRemove.isEmpty();
+        }
+
+        public void setModuleCodesToAdd(Set<ModuleCode> moduleCodesToAdd) {
+            this.moduleCodesToAdd = new HashSet<>(moduleCodesToAdd);
+        }
+
+        public Set<ModuleCode> getModuleCodesToAdd() {
+            return Collections.unmodifiableSet(moduleCodesToAdd);
+        }
+
+        public void setModuleCodesToRemove(Set<ModuleCode> moduleCodesToRemove) {
+            this.moduleCodesToRemove = new HashSet<>(moduleCodesToRemove);
+        }
+
+        public Set<ModuleCode> getModuleCodesToRemove() {
+            return Collections.unmodifiableSet(moduleCodesToRemove);
+        }
+
+        public void setTagsToAdd(Set<Tag> tagsToAdd) {
+            this.tagsToAdd = new HashSet<>(tagsToAdd);
+        }
+
+        public Set<Tag> getTagsToAdd() {
+            return Collections.unmodifiableSet(tagsToAdd);
+        }
+
+        public void setTagsToRemove(Set<Tag> tagsToRemove) {
+            this.tagsToRemove = new HashSet<>(tagsToRemove);
+        }
+
+        public Set<Tag> getTagsToRemove() {
+            return Collections.unmodifiableSet(tagsToRemove);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            // short circuit if same object
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof BulkEditDescriptor)) {
+                return false;
+            }
+
+            // state check
+            BulkEditDescriptor e = (BulkEditDescriptor) other;
+            return moduleCodesToAdd.equals(e.moduleCodesToAdd)
+                    && moduleCodesToRemove.equals(e.moduleCodesToRemove)
+                    && tagsToAdd.equals(e.tagsToAdd)
+                    && tagsToRemove.equals(e.tagsToRemove);
+        }
+    }
+}
@@ -3,6 +3,7 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import java.util.Objects;
+import java.util.Optional;
 
 /**
  * Represents the result of a command execution.
@@ -17,6 +18,15 @@ public class CommandResult {
     /** The application should exit. */
     private final boolean exit;
 
+    /** Work to continue in the background after the command returns, or null if there is none. */
+    private final BackgroundTask backgroundTask;
+
+    /** The name of the address book to switch to, or null if the address book should not change. */
+    private final String addressBookName;
+
+    /** The address book to switch to should be created if it does not exist. */
+    private final boolean isNewAddressBookAllowed;
+
     /**
      * Constructs a {@code CommandResult} with the specified fields.
      */
@@ -24,6 +34,36 @@ public class CommandResult {
         this.feedbackToUser = requireNonNull(feedbackToUser);
         this.showHelp = showHelp;
         this.exit = exit;
+        this.backgroundTask = null;
+        this.addressBookName = null;
+        this.isNewAddressBookAllowed = false;
+    }
+
+    /**
+     * Constructs a {@code CommandResult} with the specified {@code feedbackToUser} that continues with
+     * {@code backgroundTask}, and other fields set to their default value.
+     */
+    public CommandResult(String feedbackToUser, BackgroundTask backgroundTask) {
+        this.feedbackToUser = requireNonNull(feedbackToUser);
+        this.showHelp = false;
+        this.exit = false;
+        this.backgroundTask = requireNonNull(backgroundTask);
+        this.addressBookName = null;
+        this.isNewAddressBookAllowed = false;
+    }
+
+    /**
+     * Constructs a {@code CommandResult} with the specified {@code feedbackToUser} that switches to the address book
+     * named {@code addressBookName}, creating it if {@code isNewAddressBookAllowed}, and other fields set to their
+     * default value.
+     */
+    public CommandResult(String feedbackToUser, String addressBookName, boolean isNewAddressBookAllowed) {
+        this.feedbackToUser = requireNonNull(feedbackToUser);
+        this.showHelp = false;
+        this.exit = false;
+        this.backgroundTask = null;
+        this.addressBookName = requireNonNull(addressBookName);
+        this.isNewAddressBookAllowed = isNewAddressBookAllowed;
     }
 
     /**
@@ -46,6 +86,22 @@ public class CommandResult {
         return exit;
     }
 
+    public Optional<BackgroundTask> getBackgroundTask() {
+        return Optional.ofNullable(backgroundTask);
+    }
+
+    public Optional<String> getAddressBookName() {
+        return Optional.ofNullable(addressBookName);
+    }
+
+    public boolean isNewAddressBookAllowed() {
+        return isNewAddressBookAllowed;
+    }
+
+    /**
+     * Returns true if both results show the same feedback and flags.
+     * Background tasks are not compared, as they cannot be compared meaningfully.
+     */
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -60,12 +116,14 @@ public class CommandResult {
         CommandResult otherCommandResult = (CommandResult) other;
         return feedbackToUser.equals(otherCommandResult.feedbackToUser)
                 && showHelp == otherCommandResult.showHelp
-                && exit == otherCommandResult.exit;
+                && exit == otherCommandResult.exit
+                && Objects.equals(addressBookName, otherCommandResult.addressBookName)
+                && isNewAddressBookAllowed == otherCommandResult.isNewAddressBookAllowed;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(feedbackToUser, showHelp, exit);
+        return Objects.hash(feedbackToUser, showHelp, exit, addressBookName, isNewAddressBookAllowed);
     }
 
 }
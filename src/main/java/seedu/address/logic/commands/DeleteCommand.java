@@ -1,10 +1,16 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_MODULE_CODE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.Set;
 import java.util.function.Predicate;
 
@@ -18,24 +24,36 @@ import seedu.address.model.person.Person;
 
 /**
  * Deletes a person identified using it's displayed index from the address book.
+ * Persons can also be deleted in batches, by a range of indexes or by the fields they match.
+ * Each batch is applied to the address book as a single change.
  */
 public class DeleteCommand extends Command {
 
     public static final String MESSAGE_USAGE = "delete: "
-            + "Deletes the person identified by the index number used in the displayed person list "
-            + "or by module code.\n"
+            + "Deletes the person identified by the index number used in the displayed person list, "
+            + "the persons in a range of indexes, or every person matching all of the given fields. "
+            + "When module codes are given, they are removed from the matching persons, "
+            + "and only persons left without a module code are deleted.\n"
             + "Parameters: INDEX (must be a positive integer) "
-            + PREFIX_MODULE_CODE + "MODULE CODE\n"
+            + "or [" + PREFIX_NAME + "NAME] [" + PREFIX_EMAIL + "@DOMAIN] [" + PREFIX_MODULE_CODE + "MODULE_CODE]... ["
+            + PREFIX_TAG + "TAG]...\n"
             + "Example: delete 1 , delete 1-3 , delete "
-            + PREFIX_MODULE_CODE + "CS2040S";
+            + PREFIX_MODULE_CODE + "CS2040S , delete "
+            + PREFIX_TAG + "graduated , delete "
+            + PREFIX_EMAIL + "@example.com";
 
     public static final String MESSAGE_NUMBER_DELETED_PERSON = "%d Deleted Persons: \n";
     public static final String MESSAGE_DELETE_PERSON_SUCCESS = "%1$s \n";
+    public static final String MESSAGE_MORE_DELETED_PERSONS = "...and %1$d more\n";
+    public static final String MESSAGE_NUMBER_EDITED_PERSON = "Removed module codes from %d other Persons\n";
+
+    /** Maximum number of deleted persons listed in the result, to keep the result short. */
+    public static final int MAX_LISTED_PERSONS = 20;
 
     private final Index targetIndex;
     private final Index endIndex;
     private final Predicate<Person> predicate;
-    private ModuleCode moduleCode;
+    private final Set<ModuleCode> moduleCodes;
 
     /**
      * Creates a DeleteCommand to delete the person at specified index
@@ -43,9 +61,7 @@ public class DeleteCommand extends Command {
      * @param targetIndex the person to be deleted
      */
     public DeleteCommand(Index targetIndex) {
-        this.targetIndex = targetIndex;
-        endIndex = targetIndex;
-        predicate = Model.PREDICATE_SHOW_ALL_PERSONS;
+        this(targetIndex, targetIndex);
     }
 
     /**
@@ -58,6 +74,7 @@ public class DeleteCommand extends Command {
         this.targetIndex = targetIndex;
         this.endIndex = endIndex;
         predicate = Model.PREDICATE_SHOW_ALL_PERSONS;
+        moduleCodes = Collections.emptySet();
     }
 
     /**
@@ -67,10 +84,24 @@ public class DeleteCommand extends Command {
      * @param moduleCode the specified module code to delete
      */
     public DeleteCommand(ModuleCodesContainsKeywordsPredicate predicate, ModuleCode moduleCode) {
+        this(predicate, Collections.singleton(moduleCode));
+    }
+
+    /**
+     * Creates a DeleteCommand to delete the persons matching the specified predicate.
+     * If {@code moduleCodes} is not empty, the module codes are removed from the matching persons instead,
+     * and only those left without a module code are deleted.
+     *
+     * @param predicate the condition to delete the person
+     * @param moduleCodes the module codes to remove from the matching persons
+     */
+    public DeleteCommand(Predicate<Person> predicate, Set<ModuleCode> moduleCodes) {
+        requireNonNull(predicate);
+        requireNonNull(moduleCodes);
         targetIndex = Index.fromZeroBased(0);
         endIndex = Index.fromZeroBased(0);
         this.predicate = predicate;
-        this.moduleCode = moduleCode;
+        this.moduleCodes = new HashSet<>(moduleCodes);
     }
 
     @Override
@@ -80,7 +111,7 @@ public class DeleteCommand extends Command {
         String successMessage;
 
         if (predicate != Model.PREDICATE_SHOW_ALL_PERSONS) {
-            successMessage = deleteRelatedPersonByModuleCode(model);
+            successMessage = deleteMatchingPersons(model);
         } else {
             if (targetIndex.getZeroBased() >= sizeOfPersonList) {
                 throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
@@ -91,60 +122,89 @@ public class DeleteCommand extends Command {
             }
             successMessage = deleteAll(model);
         }
+        model.commitAddressBook();
         model.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
         return new CommandResult(successMessage);
     }
 
     private String deleteAll(Model model) {
-        int first = targetIndex.getZeroBased();
-        int last = endIndex.getZeroBased();
-        List<Person> lastShownList = model.getFilteredPersonList();
-        int numberOfDeletedPersons = 0;
-        StringBuilder deletedPersons = new StringBuilder();
-
-        while (last >= first) {
-            Person personToDelete = lastShownList.get(last);
-            model.deletePerson(personToDelete);
-            deletedPersons.insert(0, String.format(MESSAGE_DELETE_PERSON_SUCCESS, personToDelete));
-            numberOfDeletedPersons++;
-            last--;
-        }
-        return String.format(MESSAGE_NUMBER_DELETED_PERSON, numberOfDeletedPersons) + deletedPersons;
+        List<Person> personsToDelete = new ArrayList<>(
+                model.getFilteredPersonList().subList(targetIndex.getZeroBased(), endIndex.getZeroBased() + 1));
+        model.updatePersons(personsToDelete, Collections.emptyList(), Collections.emptyList());
+        return getDeletedPersonsMessage(personsToDelete);
     }
 
-    private String deleteRelatedPersonByModuleCode(Model model) {
-        model.updateFilteredPersonList(predicate);
-        List<Person> filteredList = model.getFilteredPersonList();
-        int first = 0;
-        int last = filteredList.size() - 1;
-        int numberOfDeletedPersons = 0;
-        StringBuilder deletedPersons = new StringBuilder();
-
-        while (last >= first) {
-            Person personToCheck = filteredList.get(last);
-            if (personToCheck.getModuleCodes().size() > 1) {
-                deleteModuleCodeTag(personToCheck, model);
-            } else {
-                Person personToDelete = filteredList.get(last);
-                model.deletePerson(personToDelete);
-                deletedPersons.insert(0, String.format(MESSAGE_DELETE_PERSON_SUCCESS, personToDelete));
-                numberOfDeletedPersons++;
+    /**
+     * Deletes the persons matching the predicate, or removes the module codes from them, in one pass over the
+     * address book and a single change to it.
+     */
+    private String deleteMatchingPersons(Model model) {
+        List<Person> personsToDelete = new ArrayList<>();
+        List<Person> personsToEdit = new ArrayList<>();
+        List<Person> editedPersons = new ArrayList<>();
+
+        for (Person person : model.getAddressBook().getPersonList()) {
+            if (!predicate.test(person)) {
+                continue;
             }
-            last--;
+
+            int removedCount = countModuleCodesTaken(person);
+            if (moduleCodes.isEmpty() || removedCount == person.getModuleCodeCount()) {
+                personsToDelete.add(person);
+            } else if (removedCount > 0) {
+                personsToEdit.add(person);
+                editedPersons.add(new Person(person.getName(), person.getEmail(), removeModuleCodes(person),
+                        person.getPhone(), person.getTeleHandle(), person.getRemark(), person.getTags()));
+            }
+        }
+
+        if (!personsToDelete.isEmpty() || !personsToEdit.isEmpty()) {
+            model.updatePersons(personsToDelete, personsToEdit, editedPersons);
+        }
+
+        String message = getDeletedPersonsMessage(personsToDelete);
+        if (!personsToEdit.isEmpty()) {
+            message += String.format(MESSAGE_NUMBER_EDITED_PERSON, personsToEdit.size());
         }
-        return String.format(MESSAGE_NUMBER_DELETED_PERSON, numberOfDeletedPersons) + deletedPersons;
+        return message;
     }
 
-    private void deleteModuleCodeTag(Person person, Model model) {
-        Set<ModuleCode> moduleCodes = new HashSet<>(person.getModuleCodes());
-        moduleCodes.remove(moduleCode);
+    /**
+     * Returns the number of the module codes to remove that {@code person} takes.
+     */
+    private int countModuleCodesTaken(Person person) {
+        int count = 0;
+        for (ModuleCode moduleCode : moduleCodes) {
+            if (person.hasModuleCode(moduleCode)) {
+                count++;
+            }
+        }
+        return count;
+    }
 
-        EditCommand.EditPersonDescriptor editPersonDescriptor = new EditCommand.EditPersonDescriptor();
-        editPersonDescriptor.setModuleCodes(moduleCodes);
+    /**
+     * Returns the module codes of {@code person} without the module codes to remove.
+     */
+    private Set<ModuleCode> removeModuleCodes(Person person) {
+        Set<ModuleCode> remainingModuleCodes = new HashSet<>(person.getModuleCodes());
+        remainingModuleCodes.removeAll(moduleCodes);
+        return remainingModuleCodes;
+    }
 
-        Person editedPerson = new Person(person.getName(), person.getEmail(), moduleCodes, person.getPhone(),
-                person.getTeleHandle(), person.getRemark(), person.getTags());
-        model.setPerson(person, editedPerson);
+    /**
+     * Returns a summary of the deleted persons, listing at most {@value #MAX_LISTED_PERSONS} of them.
+     */
+    private static String getDeletedPersonsMessage(List<Person> deletedPersons) {
+        StringBuilder message = new StringBuilder(
+                String.format(MESSAGE_NUMBER_DELETED_PERSON, deletedPersons.size()));
+        int listedCount = Math.min(deletedPersons.size(), MAX_LISTED_PERSONS);
+        for (int i = 0; i < listedCount; i++) {
+            message.append(String.format(MESSAGE_DELETE_PERSON_SUCCESS, deletedPersons.get(i)));
+        }
+        if (deletedPersons.size() > listedCount) {
+            message.append(String.format(MESSAGE_MORE_DELETED_PERSONS, deletedPersons.size() - listedCount));
+        }
+        return message.toString();
     }
 
     @Override
@@ -153,6 +213,7 @@ public class DeleteCommand extends Command {
                 || (other instanceof DeleteCommand // instanceof handles nulls
                 && targetIndex.equals(((DeleteCommand) other).targetIndex)
                 && endIndex.equals(((DeleteCommand) other).endIndex)
-                && predicate.equals(((DeleteCommand) other).predicate)); // state check
+                && predicate.equals(((DeleteCommand) other).predicate)
+                && Objects.equals(moduleCodes, ((DeleteCommand) other).moduleCodes)); // state check
     }
 }
@@ -0,0 +1,111 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+import seedu.address.storage.PersonFileFormat;
+import seedu.address.storage.PersonRecordWriter;
+
+/**
+ * Writes the persons in the currently displayed list to a CSV or vCard file.
+ * The list is snapshotted when the command is executed, and the file is written in the background,
+ * one person at a time, so that later commands neither wait for nor affect the export.
+ */
+public class ExportCommand extends Command {
+
+    public static final String MESSAGE_USAGE = "export: Writes the persons in the displayed list to a file. "
+            + "The format is csv or vcard; if it is not given, it is chosen by the file extension "
+            + "(.vcf or .vcard for vCards, otherwise CSV).\n"
+            + "Parameters: FILE_PATH [FORMAT]\n"
+            + "Example: export data/cs2103t.vcf";
+
+    public static final String MESSAGE_STARTED = "Exporting %1$d persons to %2$s...";
+    public static final String MESSAGE_PROGRESS = "Exported %1$d of %2$d persons to %3$s...";
+    public static final String MESSAGE_SUCCESS = "Exported %1$d persons to %2$s";
+    public static final String MESSAGE_WRITE_ERROR = "Could not write %1$s: %2$s";
+    public static final String MESSAGE_DIRECTORY = "it is a directory";
+
+    /** Number of persons written between progress reports. */
+    public static final int PROGRESS_INTERVAL = 10_000;
+
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    private final Path filePath;
+    private final PersonFileFormat format;
+
+    /**
+     * Creates an ExportCommand to write the displayed persons to {@code filePath} in {@code format}.
+     */
+    public ExportCommand(Path filePath, PersonFileFormat format) {
+        requireNonNull(filePath);
+        requireNonNull(format);
+        this.filePath = filePath;
+        this.format = format;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<Person> snapshot = new ArrayList<>(model.getFilteredPersonList());
+        return new CommandResult(String.format(MESSAGE_STARTED, snapshot.size(), filePath),
+                progressListener -> export(snapshot, progressListener));
+    }
+
+    /**
+     * Writes {@code persons} to the file, reporting progress every {@value #PROGRESS_INTERVAL} persons.
+     * The persons are written to a temporary file that is moved into place once complete, so the file is never left
+     * partly written; the temporary file is deleted if the export fails.
+     */
+    private String export(List<Person> persons, Consumer<String> progressListener) throws CommandException {
+        if (Files.isDirectory(filePath)) {
+            throw new CommandException(String.format(MESSAGE_WRITE_ERROR, filePath, MESSAGE_DIRECTORY));
+        }
+
+        int total = persons.size();
+        Path tempPath = filePath.resolveSibling(filePath.getFileName() + TEMP_FILE_SUFFIX);
+        try {
+            try (PersonRecordWriter writer = PersonRecordWriter.open(tempPath, format)) {
+                for (int i = 0; i < total; i++) {
+                    writer.write(persons.get(i));
+                    if ((i + 1) % PROGRESS_INTERVAL == 0 && i + 1 < total) {
+                        progressListener.accept(String.format(MESSAGE_PROGRESS, i + 1, total, filePath));
+                    }
+                }
+            }
+            Files.move(tempPath, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            deleteTempFile(tempPath);
+            throw new CommandException(String.format(MESSAGE_WRITE_ERROR, filePath, e.getMessage()), e);
+        } catch (RuntimeException e) {
+            deleteTempFile(tempPath);
+            throw e;
+        }
+        return String.format(MESSAGE_SUCCESS, total, filePath);
+    }
+
+    private static void deleteTempFile(Path tempPath) {
+        try {
+            Files.deleteIfExists(tempPath);
+        } catch (IOException e) {
+            // The export has failed anyway, and a leftover temporary file does not replace the exported file.
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ExportCommand // instanceof handles nulls
+                && filePath.equals(((ExportCommand) other).filePath)
+                && format == ((ExportCommand) other).format);
+    }
+}
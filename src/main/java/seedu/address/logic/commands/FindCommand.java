@@ -1,17 +1,21 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_MODULE_CODE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
 import java.util.function.Predicate;
 
 import seedu.address.commons.core.Messages;
 import seedu.address.model.Model;
+import seedu.address.model.person.EmailDomainMatchesPredicate;
 import seedu.address.model.person.ModuleCodesContainsKeywordsPredicate;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PhoneMatchesPredicate;
 import seedu.address.model.person.TagsContainsKeywordsPredicate;
 
 /**
@@ -22,10 +26,14 @@ public class FindCommand extends Command {
 
     public static final String MESSAGE_USAGE = "find: Finds all persons whose names contain "
             + "any of the specified keywords (case-insensitive).\n"
-            + "You can choose one of three ways to search:\n"
+            + "You can choose one of five ways to search:\n"
             + "1) search by name(s) using the prefix 'n/': " + "find " + PREFIX_NAME + "alice bob charlie\n"
             + "2) search by module code(s) using the prefix 'm/': " + "find " + PREFIX_MODULE_CODE + "CS2030S CS2100\n"
-            + "3) search by tag(s) using the prefix 't/': " + "find " + PREFIX_TAG + "overseas quarantined";
+            + "3) search by tag(s) using the prefix 't/': " + "find " + PREFIX_TAG + "overseas quarantined\n"
+            + "4) search by phone number(s) using the prefix 'p/', with * matching the rest of the number: "
+            + "find " + PREFIX_PHONE + "91234567 9123* *4567\n"
+            + "5) search by email domain(s) using the prefix 'e/': "
+            + "find " + PREFIX_EMAIL + "@u.nus.edu @nus.edu.sg";
     public static final String MESSAGE_SINGLE_PREFIX_SEARCH = "You can only search with a single prefix.";
 
     private final Predicate<Person> predicate;
@@ -42,6 +50,14 @@ public class FindCommand extends Command {
         this.predicate = predicate;
     }
 
+    public FindCommand(PhoneMatchesPredicate predicate) {
+        this.predicate = predicate;
+    }
+
+    public FindCommand(EmailDomainMatchesPredicate predicate) {
+        this.predicate = predicate;
+    }
+
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
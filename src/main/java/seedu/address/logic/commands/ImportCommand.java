@@ -0,0 +1,219 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.ModuleCode;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Remark;
+import seedu.address.model.person.TeleHandle;
+import seedu.address.model.tag.Tag;
+import seedu.address.storage.PersonRecord;
+import seedu.address.storage.PersonRecordReader;
+
+/**
+ * Adds every valid person in a CSV or vCard file to the address book.
+ * The file is read in batches of {@value #BATCH_SIZE} records so that only one batch of raw records is held
+ * in memory at a time; the records of each batch are validated in parallel.
+ * All imported persons are added to the address book at once, as a single undoable change.
+ */
+public class ImportCommand extends Command {
+
+    public static final String MESSAGE_USAGE = "import: Adds the persons in a CSV or vCard file to the address book. "
+            + "Files ending in .vcf or .vcard are read as vCards; all other files are read as CSV, "
+            + "with a header row naming the columns.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: import data/contacts.csv";
+
+    public static final String MESSAGE_SUCCESS = "Imported %1$d persons from %2$s";
+    public static final String MESSAGE_SKIPPED_ROWS = "\nSkipped %1$d rows:";
+    public static final String MESSAGE_SHARED_PHONES =
+            "\n%1$d imported persons have a phone number that another person also has";
+    public static final String MESSAGE_ROW_ERROR = "\nRow %1$d: %2$s";
+    public static final String MESSAGE_MORE_ERRORS = "\n...and %1$d more";
+    public static final String MESSAGE_MISSING_FIELD = "Missing %1$s";
+    public static final String MESSAGE_DUPLICATE_PERSON = "This person already exists in the address book";
+    public static final String MESSAGE_FILE_NOT_FOUND = "File not found: %1$s";
+    public static final String MESSAGE_READ_ERROR = "Could not read %1$s: %2$s";
+
+    public static final int BATCH_SIZE = 4096;
+    public static final int MAX_REPORTED_ERRORS = 20;
+
+    private final Path filePath;
+
+    /**
+     * Creates an ImportCommand to add the persons in the file at {@code filePath}.
+     */
+    public ImportCommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        Set<Name> knownNames = new HashSet<>();
+        for (Person person : model.getAddressBook().getPersonList()) {
+            knownNames.add(person.getName());
+        }
+        ImportReport report = new ImportReport();
+
+        try (PersonRecordReader reader = PersonRecordReader.open(filePath)) {
+            List<PersonRecord> batch = new ArrayList<>(BATCH_SIZE);
+            PersonRecord record;
+            while ((record = reader.read()) != null) {
+                batch.add(record);
+                if (batch.size() == BATCH_SIZE) {
+                    importBatch(batch, knownNames, report);
+                    batch.clear();
+                }
+            }
+            importBatch(batch, knownNames, report);
+        } catch (NoSuchFileException e) {
+            throw new CommandException(String.format(MESSAGE_FILE_NOT_FOUND, filePath));
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_READ_ERROR, filePath, e.getMessage()), e);
+        }
+
+        report.countSharedPhones(model);
+        if (!report.imported.isEmpty()) {
+            model.addPersons(report.imported);
+            model.commitAddressBook();
+        }
+        return new CommandResult(report.toString(filePath));
+    }
+
+    /**
+     * Validates the records in {@code batch} in parallel, then adds those that are valid and not already known
+     * to {@code report} in file order.
+     */
+    private static void importBatch(List<PersonRecord> batch, Set<Name> knownNames, ImportReport report) {
+        List<Object> results = batch.parallelStream()
+                .map(ImportCommand::toPersonOrError)
+                .collect(Collectors.toList());
+
+        for (int i = 0; i < results.size(); i++) {
+            Object result = results.get(i);
+            int rowNumber = batch.get(i).getRowNumber();
+            if (result instanceof String) {
+                report.skip(rowNumber, (String) result);
+            } else if (!knownNames.add(((Person) result).getName())) {
+                report.skip(rowNumber, MESSAGE_DUPLICATE_PERSON);
+            } else {
+                report.imported.add((Person) result);
+            }
+        }
+    }
+
+    /**
+     * Returns the person described by {@code record}, or the reason it is invalid.
+     */
+    private static Object toPersonOrError(PersonRecord record) {
+        try {
+            return toPerson(record);
+        } catch (ParseException pe) {
+            return pe.getMessage();
+        }
+    }
+
+    /**
+     * Converts {@code record} to a {@code Person}, validating it as {@code AddCommand} would.
+     *
+     * @throws ParseException if a required field is missing or a field is invalid.
+     */
+    static Person toPerson(PersonRecord record) throws ParseException {
+        if (record.getName() == null) {
+            throw new ParseException(String.format(MESSAGE_MISSING_FIELD, "name"));
+        }
+        if (record.getEmail() == null) {
+            throw new ParseException(String.format(MESSAGE_MISSING_FIELD, "email"));
+        }
+        if (record.getModuleCodes().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_MISSING_FIELD, "module code"));
+        }
+
+        Name name = ParserUtil.parseName(record.getName());
+        Email email = ParserUtil.parseEmail(record.getEmail());
+        Set<ModuleCode> moduleCodes = ParserUtil.parseModuleCodes(record.getModuleCodes());
+        Phone phone = ParserUtil.parsePhone(orEmpty(record.getPhone()));
+        TeleHandle teleHandle = ParserUtil.parseTeleHandle(orEmpty(record.getTeleHandle()));
+        Remark remark = ParserUtil.parseRemark(orEmpty(record.getRemark()));
+        Set<Tag> tags = ParserUtil.parseTags(record.getTags());
+
+        return new Person(name, email, moduleCodes, phone, teleHandle, remark, tags);
+    }
+
+    private static String orEmpty(String value) {
+        return value == null ? "" : value;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ImportCommand // instanceof handles nulls
+                && filePath.equals(((ImportCommand) other).filePath));
+    }
+
+    /**
+     * The persons to import and the rows skipped so far.
+     * Only the first {@value #MAX_REPORTED_ERRORS} skipped rows are described, to keep the result short.
+     */
+    private static class ImportReport {
+        private final List<Person> imported = new ArrayList<>();
+        private final StringBuilder errors = new StringBuilder();
+        private int skippedCount;
+        private int sharedPhoneCount;
+
+        void skip(int rowNumber, String reason) {
+            if (skippedCount < MAX_REPORTED_ERRORS) {
+                errors.append(String.format(MESSAGE_ROW_ERROR, rowNumber, reason));
+            }
+            skippedCount++;
+        }
+
+        /**
+         * Counts the imported persons whose phone number is shared with a person in {@code model} or with another
+         * imported person, using the phone index of the model.
+         */
+        void countSharedPhones(Model model) {
+            Set<Phone> importedPhones = new HashSet<>();
+            for (Person person : imported) {
+                Phone phone = person.getPhone();
+                if (!phone.value.isEmpty()
+                        && (!importedPhones.add(phone) || !model.getPersonsWithPhone(phone).isEmpty())) {
+                    sharedPhoneCount++;
+                }
+            }
+        }
+
+        String toString(Path filePath) {
+            StringBuilder sb = new StringBuilder(String.format(MESSAGE_SUCCESS, imported.size(), filePath));
+            if (sharedPhoneCount > 0) {
+                sb.append(String.format(MESSAGE_SHARED_PHONES, sharedPhoneCount));
+            }
+            if (skippedCount > 0) {
+                sb.append(String.format(MESSAGE_SKIPPED_ROWS, skippedCount)).append(errors);
+                if (skippedCount > MAX_REPORTED_ERRORS) {
+                    sb.append(String.format(MESSAGE_MORE_ERRORS, skippedCount - MAX_REPORTED_ERRORS));
+                }
+            }
+            return sb.toString();
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.model.Model;
+
+/**
+ * Opens the address book with a given name, creating an empty one if there is none yet, and switches to it.
+ * The switch is made by {@code Logic} once this command returns, as it needs the storage of the address books.
+ */
+public class OpenCommand extends Command {
+
+    public static final String MESSAGE_USAGE = "open: Opens the address book with the given name, "
+            + "creating an empty one if there is none, and switches to it.\n"
+            + "Parameters: NAME\n"
+            + "Example: open marketing";
+
+    public static final String MESSAGE_SUCCESS = "Opened address book: %1$s";
+
+    private final String addressBookName;
+
+    /**
+     * Creates an OpenCommand to open the address book named {@code addressBookName}.
+     */
+    public OpenCommand(String addressBookName) {
+        requireNonNull(addressBookName);
+        this.addressBookName = addressBookName;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, addressBookName), addressBookName, true);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof OpenCommand // instanceof handles nulls
+                && addressBookName.equals(((OpenCommand) other).addressBookName));
+    }
+
+}
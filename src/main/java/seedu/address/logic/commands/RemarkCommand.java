@@ -58,6 +58,7 @@ public class RemarkCommand extends Command {
                 personToEdit.getTags());
 
         model.setPerson(personToEdit, editedPerson);
+        model.commitAddressBook();
         model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
 
         return new CommandResult(generateSuccessMessage(editedPerson));
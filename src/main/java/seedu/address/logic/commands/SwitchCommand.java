@@ -0,0 +1,44 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.model.Model;
+
+/**
+ * Switches to the existing address book with a given name.
+ * The switch is made by {@code Logic} once this command returns, as it needs the storage of the address books.
+ */
+public class SwitchCommand extends Command {
+
+    public static final String MESSAGE_USAGE = "switch: Switches to the existing address book with the given name.\n"
+            + "Parameters: NAME\n"
+            + "Example: switch marketing";
+
+    public static final String MESSAGE_SUCCESS = "Switched to address book: %1$s";
+    public static final String MESSAGE_UNKNOWN_ADDRESS_BOOK =
+            "There is no address book named %1$s. Use open to create it.";
+
+    private final String addressBookName;
+
+    /**
+     * Creates a SwitchCommand to switch to the address book named {@code addressBookName}.
+     */
+    public SwitchCommand(String addressBookName) {
+        requireNonNull(addressBookName);
+        this.addressBookName = addressBookName;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, addressBookName), addressBookName, false);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SwitchCommand // instanceof handles nulls
+                && addressBookName.equals(((SwitchCommand) other).addressBookName));
+    }
+
+}
@@ -1,16 +1,23 @@
 package seedu.address.logic.parser;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.logging.Logger;
 
+import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
@@ -18,10 +25,39 @@ import seedu.address.logic.parser.exceptions.ParseException;
  */
 public class AddressBookParser {
 
+    private static final Logger logger = LogsCenter.getLogger(AddressBookParser.class);
+
+    /**
+     * The parser for each command word. Parsers hold no state, so a single instance of each is shared.
+     */
+    private static final Map<CommandWord, Parser<? extends Command>> COMMAND_PARSERS = createCommandParsers();
+
+    /**
+     * Built-in aliases mapped to their parsers.
+     */
+    private static final Map<String, Parser<? extends Command>> DEFAULT_DISPATCH_TABLE =
+            Collections.unmodifiableMap(createDispatchTable(Collections.emptyMap()));
+
+    private final Map<String, Parser<? extends Command>> dispatchTable;
+
     /**
-     * Used for initial separation of command word and args.
+     * Creates an {@code AddressBookParser} that recognises only the built-in command aliases.
      */
-    private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
+    public AddressBookParser() {
+        dispatchTable = DEFAULT_DISPATCH_TABLE;
+    }
+
+    /**
+     * Creates an {@code AddressBookParser} that also recognises the given user-defined aliases.
+     *
+     * @param userAliases user-defined aliases mapped to the command word (or built-in alias) they stand for.
+     */
+    public AddressBookParser(Map<String, String> userAliases) {
+        requireNonNull(userAliases);
+        dispatchTable = userAliases.isEmpty()
+                ? DEFAULT_DISPATCH_TABLE
+                : Collections.unmodifiableMap(createDispatchTable(userAliases));
+    }
 
     /**
      * Parses user input into command for execution.
@@ -31,45 +67,85 @@ public class AddressBookParser {
      * @throws ParseException if the user input does not conform the expected format
      */
     public Command parseCommand(String userInput) throws ParseException {
-        final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
-        if (!matcher.matches()) {
+        int end = userInput.length();
+        while (end > 0 && userInput.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        int start = 0;
+        while (start < end && userInput.charAt(start) <= ' ') {
+            start++;
+        }
+        if (start == end) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
         }
 
-        final String commandWord = matcher.group("commandWord");
-        final String arguments = matcher.group("arguments");
-        switch (CommandWord.getCommandType(commandWord)) {
-
-        case ADD:
-            return new AddCommandParser().parse(arguments);
-
-        case EDIT:
-            return new EditCommandParser().parse(arguments);
-
-        case DELETE:
-            return new DeleteCommandParser().parse(arguments);
-
-        case CLEAR:
-            return new ClearCommand();
-
-        case FIND:
-            return new FindCommandParser().parse(arguments);
+        int commandWordEnd = start;
+        while (commandWordEnd < end && !Character.isWhitespace(userInput.charAt(commandWordEnd))) {
+            commandWordEnd++;
+        }
 
-        case LIST:
-            return new ListCommand();
+        final String commandWord = userInput.substring(start, commandWordEnd);
+        final String arguments = userInput.substring(commandWordEnd, end);
 
-        case EXIT:
-            return new ExitCommand();
+        Parser<? extends Command> parser = dispatchTable.get(commandWord);
+        if (parser == null) {
+            parser = dispatchTable.get(commandWord.toLowerCase());
+        }
+        if (parser == null) {
+            throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
+        }
+        return parser.parse(arguments);
+    }
 
-        case HELP:
-            return new HelpCommand();
+    private static Map<CommandWord, Parser<? extends Command>> createCommandParsers() {
+        Map<CommandWord, Parser<? extends Command>> parsers = new EnumMap<>(CommandWord.class);
+        parsers.put(CommandWord.ADD, new AddCommandParser());
+        parsers.put(CommandWord.EDIT, new EditCommandParser());
+        parsers.put(CommandWord.DELETE, new DeleteCommandParser());
+        parsers.put(CommandWord.CLEAR, arguments -> new ClearCommand());
+        parsers.put(CommandWord.FIND, new FindCommandParser());
+        parsers.put(CommandWord.LIST, arguments -> new ListCommand());
+        parsers.put(CommandWord.EXIT, arguments -> new ExitCommand());
+        parsers.put(CommandWord.EXPORT, new ExportCommandParser());
+        parsers.put(CommandWord.HELP, arguments -> new HelpCommand());
+        parsers.put(CommandWord.IMPORT, new ImportCommandParser());
+        parsers.put(CommandWord.OPEN, new OpenCommandParser());
+        parsers.put(CommandWord.REMARK, new RemarkCommandParser());
+        parsers.put(CommandWord.SWITCH, new SwitchCommandParser());
+        parsers.put(CommandWord.UNDO, arguments -> new UndoCommand());
+        parsers.put(CommandWord.REDO, arguments -> new RedoCommand());
+        return Collections.unmodifiableMap(parsers);
+    }
 
-        case REMARK:
-            return new RemarkCommandParser().parse(arguments);
+    /**
+     * Returns a table mapping every built-in alias, followed by every valid alias in {@code userAliases},
+     * to the parser of its command word.
+     * User-defined aliases that shadow a built-in alias or refer to an unknown command are ignored.
+     */
+    private static Map<String, Parser<? extends Command>> createDispatchTable(Map<String, String> userAliases) {
+        Map<String, Parser<? extends Command>> table = new HashMap<>();
+        for (CommandWord cw : CommandWord.values()) {
+            for (String alias : CommandWord.getAliasList(cw)) {
+                table.put(alias, COMMAND_PARSERS.get(cw));
+            }
+        }
 
-        default:
-            throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
+        for (Map.Entry<String, String> userAlias : userAliases.entrySet()) {
+            String alias = userAlias.getKey().trim().toLowerCase();
+            if (alias.isEmpty() || alias.chars().anyMatch(Character::isWhitespace)
+                    || CommandWord.isBuiltInAlias(alias)) {
+                logger.warning("Ignoring invalid command alias: " + userAlias.getKey());
+                continue;
+            }
+            try {
+                String targetWord = userAlias.getValue() == null ? "" : userAlias.getValue().trim();
+                CommandWord target = CommandWord.getCommandType(targetWord);
+                table.put(alias, COMMAND_PARSERS.get(target));
+            } catch (ParseException pe) {
+                logger.warning("Ignoring command alias " + alias + " for unknown command: " + userAlias.getValue());
+            }
         }
+        return table;
     }
 
 }
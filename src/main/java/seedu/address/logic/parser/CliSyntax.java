@@ -13,5 +13,9 @@ public class CliSyntax {
     public static final Prefix PREFIX_PHONE = new Prefix("p/");
     public static final Prefix PREFIX_TELE_HANDLE = new Prefix("h/");
     public static final Prefix PREFIX_TAG = new Prefix("t/");
+    public static final Prefix PREFIX_ADD_MODULE_CODE = new Prefix("+m/");
+    public static final Prefix PREFIX_REMOVE_MODULE_CODE = new Prefix("-m/");
+    public static final Prefix PREFIX_ADD_TAG = new Prefix("+t/");
+    public static final Prefix PREFIX_REMOVE_TAG = new Prefix("-t/");
 
 }
@@ -2,7 +2,6 @@ package seedu.address.logic.parser;
 
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
@@ -27,28 +26,37 @@ public enum CommandWord {
     DELETE("delete", "del", "rm"),
     EDIT("edit", "update"),
     EXIT("exit", "quit"),
+    EXPORT("export"),
     FIND("find"),
     HELP("help", "man"),
+    IMPORT("import"),
     LIST("list", "ls"),
-    REMARK("remark");
+    OPEN("open"),
+    REDO("redo"),
+    REMARK("remark"),
+    SWITCH("switch", "sw"),
+    UNDO("undo");
 
-    private static final Map<CommandWord, ArrayList<String>> ALIAS_MAP;
+    /** Every alias mapped to its command word, built once so that lookups do not scan the alias lists. */
+    private static final Map<String, CommandWord> ALIAS_MAP;
 
     static {
-        Map<CommandWord, ArrayList<String>> aliasMap = new HashMap<>();
+        Map<String, CommandWord> aliasMap = new HashMap<>();
         for (CommandWord cw : values()) {
-            aliasMap.put(cw, cw.aliasList);
+            for (String alias : cw.aliasList) {
+                aliasMap.put(alias, cw);
+            }
         }
         ALIAS_MAP = Collections.unmodifiableMap(aliasMap);
     }
 
-    private ArrayList<String> aliasList;
+    private final List<String> aliasList;
 
     /**
      * @param aliases The array of alias that will match to this CommandWord
      */
     CommandWord(String... aliases) {
-        aliasList = new ArrayList<>(Arrays.asList(aliases));
+        aliasList = Collections.unmodifiableList(Arrays.asList(aliases));
     }
 
     /**
@@ -56,19 +64,28 @@ public enum CommandWord {
      * internally in the program for the creation of Command objects.
      *
      * @param userInput The user input to parse into a command word
-     * @return The matching command word if exists, else null.
+     * @return The matching command word.
+     * @throws ParseException if no command word has {@code userInput} as an alias.
      */
     public static CommandWord getCommandType(String userInput) throws ParseException {
-        String aliasToLowerCase = userInput.toLowerCase();
-        for (CommandWord cw : ALIAS_MAP.keySet()) {
-            if (cw.aliasList.contains(aliasToLowerCase)) {
-                return cw;
-            }
+        CommandWord cw = ALIAS_MAP.get(userInput);
+        if (cw == null) {
+            cw = ALIAS_MAP.get(userInput.toLowerCase());
         }
-        throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
+        if (cw == null) {
+            throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
+        }
+        return cw;
+    }
+
+    /**
+     * Returns true if {@code alias} is one of the built-in aliases of any command word.
+     */
+    public static boolean isBuiltInAlias(String alias) {
+        return ALIAS_MAP.containsKey(alias.toLowerCase());
     }
 
     public static List<String> getAliasList(CommandWord cw) {
-        return Collections.unmodifiableList(cw.aliasList);
+        return cw.aliasList;
     }
 }
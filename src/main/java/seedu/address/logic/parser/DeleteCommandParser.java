@@ -1,16 +1,31 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_MODULE_CODE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.EmailDomainMatchesPredicate;
 import seedu.address.model.person.ModuleCode;
 import seedu.address.model.person.ModuleCodesContainsKeywordsPredicate;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonMatchesAllPredicate;
+import seedu.address.model.person.TagsContainsKeywordsPredicate;
+import seedu.address.model.tag.Tag;
 
 /**
  * Parses input arguments and creates a new DeleteCommand object
@@ -24,15 +39,14 @@ public class DeleteCommandParser implements Parser<DeleteCommand> {
      * @throws ParseException if the user input does not conform the expected format
      */
     public DeleteCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_MODULE_CODE);
-        List<String> moduleCodes = argMultimap.getAllValues(PREFIX_MODULE_CODE);
+        ArgumentMultimap argMultimap =
+                ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_EMAIL, PREFIX_MODULE_CODE, PREFIX_TAG);
 
-        if (moduleCodes.size() == 1) { //delete only accepts deleting 1 batch of module code at a time
+        if (argMultimap.getValue(PREFIX_NAME).isPresent() || argMultimap.getValue(PREFIX_EMAIL).isPresent()
+                || argMultimap.getValue(PREFIX_MODULE_CODE).isPresent()
+                || argMultimap.getValue(PREFIX_TAG).isPresent()) {
             try {
-                List<String> stringListOfModuleCodes = getStringListOfModuleCode(moduleCodes);
-                ModuleCode moduleCode = ParserUtil.parseModuleCode(moduleCodes.get(0));
-                return new DeleteCommand(
-                        new ModuleCodesContainsKeywordsPredicate(stringListOfModuleCodes), moduleCode);
+                return parseDeleteMatching(argMultimap);
             } catch (ParseException pe) {
                 throw new ParseException(
                         String.format(MESSAGE_INVALID_COMMAND_FORMAT, DeleteCommand.MESSAGE_USAGE), pe);
@@ -51,9 +65,64 @@ public class DeleteCommandParser implements Parser<DeleteCommand> {
         }
     }
 
-    private List<String> getStringListOfModuleCode(List<String> moduleCodes) throws ParseException {
-        return ParserUtil.parseModuleCodes(moduleCodes).stream()
-                .map(moduleCode -> moduleCode.toString())
+    /**
+     * Parses the name keywords, email domain, module codes and tags in {@code argMultimap} into a DeleteCommand that
+     * deletes the persons matching all of them.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    private DeleteCommand parseDeleteMatching(ArgumentMultimap argMultimap) throws ParseException {
+        if (!argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, DeleteCommand.MESSAGE_USAGE));
+        }
+
+        List<Predicate<Person>> predicates = new ArrayList<>();
+
+        Optional<String> name = argMultimap.getValue(PREFIX_NAME);
+        if (name.isPresent()) {
+            String trimmedName = name.get().trim();
+            if (trimmedName.isEmpty()) {
+                throw new ParseException(
+                        String.format(MESSAGE_INVALID_COMMAND_FORMAT, DeleteCommand.MESSAGE_USAGE));
+            }
+            // every word of the name must match, so that "n/John Doe" does not delete every John
+            for (String keyword : trimmedName.split("\\s+")) {
+                predicates.add(new NameContainsKeywordsPredicate(Collections.singletonList(keyword)));
+            }
+        }
+
+        Optional<String> emailDomain = argMultimap.getValue(PREFIX_EMAIL);
+        if (emailDomain.isPresent()) {
+            String domainKeyword = emailDomain.get().trim();
+            if (!EmailDomainMatchesPredicate.isValidKeyword(domainKeyword)) {
+                throw new ParseException(Email.MESSAGE_DOMAIN_CONSTRAINTS);
+            }
+            predicates.add(new EmailDomainMatchesPredicate(Collections.singletonList(domainKeyword)));
+        }
+
+        Set<ModuleCode> moduleCodes = ParserUtil.parseModuleCodes(argMultimap.getAllValues(PREFIX_MODULE_CODE));
+        if (!moduleCodes.isEmpty()) {
+            predicates.add(new ModuleCodesContainsKeywordsPredicate(
+                    getBracketedKeywords(argMultimap.getAllValues(PREFIX_MODULE_CODE))));
+        }
+
+        Set<Tag> tags = ParserUtil.parseTags(argMultimap.getAllValues(PREFIX_TAG));
+        if (!tags.isEmpty()) {
+            predicates.add(new TagsContainsKeywordsPredicate(
+                    getBracketedKeywords(argMultimap.getAllValues(PREFIX_TAG))));
+        }
+
+        Predicate<Person> predicate = predicates.size() == 1
+                ? predicates.get(0)
+                : new PersonMatchesAllPredicate(predicates);
+        return new DeleteCommand(predicate, moduleCodes);
+    }
+
+    /**
+     * Returns the trimmed {@code values} in the bracketed form matched by the module code and tag predicates.
+     */
+    private static List<String> getBracketedKeywords(List<String> values) {
+        return values.stream()
+                .map(value -> '[' + value.trim() + ']')
                 .collect(Collectors.toList());
     }
 }
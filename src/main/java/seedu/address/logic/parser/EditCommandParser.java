@@ -2,11 +2,15 @@ package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADD_MODULE_CODE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADD_TAG;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_MODULE_CODE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_REMARK;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_REMOVE_MODULE_CODE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_REMOVE_TAG;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TELE_HANDLE;
 
@@ -14,8 +18,12 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.BulkEditCommand;
+import seedu.address.logic.commands.BulkEditCommand.BulkEditDescriptor;
+import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.EditCommand.EditPersonDescriptor;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -23,20 +31,27 @@ import seedu.address.model.person.ModuleCode;
 import seedu.address.model.tag.Tag;
 
 /**
- * Parses input arguments and creates a new EditCommand object
+ * Parses input arguments and creates a new EditCommand object, or a BulkEditCommand object if any module codes
+ * or tags are to be added or removed
  */
-public class EditCommandParser implements Parser<EditCommand> {
+public class EditCommandParser implements Parser<Command> {
 
     /**
      * Parses the given {@code String} of arguments in the context of the EditCommand
-     * and returns an EditCommand object for execution.
+     * and returns an EditCommand or BulkEditCommand object for execution.
      * @throws ParseException if the user input does not conform the expected format
      */
-    public EditCommand parse(String args) throws ParseException {
+    public Command parse(String args) throws ParseException {
         requireNonNull(args);
         ArgumentMultimap argMultimap =
                 ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_EMAIL, PREFIX_MODULE_CODE, PREFIX_PHONE,
-                        PREFIX_TELE_HANDLE, PREFIX_REMARK, PREFIX_TAG);
+                        PREFIX_TELE_HANDLE, PREFIX_REMARK, PREFIX_TAG, PREFIX_ADD_MODULE_CODE,
+                        PREFIX_REMOVE_MODULE_CODE, PREFIX_ADD_TAG, PREFIX_REMOVE_TAG);
+
+        if (isAnyPrefixPresent(argMultimap, PREFIX_ADD_MODULE_CODE, PREFIX_REMOVE_MODULE_CODE, PREFIX_ADD_TAG,
+                PREFIX_REMOVE_TAG)) {
+            return parseBulkEdit(argMultimap);
+        }
 
         Index index;
 
@@ -74,6 +89,43 @@ public class EditCommandParser implements Parser<EditCommand> {
         return new EditCommand(index, editPersonDescriptor);
     }
 
+    /**
+     * Parses the email domain, module codes and tags to match, and the module codes and tags to add and remove, in
+     * {@code argMultimap} into a BulkEditCommand.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    private BulkEditCommand parseBulkEdit(ArgumentMultimap argMultimap) throws ParseException {
+        if (!argMultimap.getPreamble().isEmpty()
+                || isAnyPrefixPresent(argMultimap, PREFIX_NAME, PREFIX_PHONE, PREFIX_TELE_HANDLE, PREFIX_REMARK)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, BulkEditCommand.MESSAGE_USAGE));
+        }
+
+        Optional<String> emailDomain = argMultimap.getValue(PREFIX_EMAIL);
+        String emailDomainToMatch = emailDomain.isPresent() ? ParserUtil.parseEmailDomain(emailDomain.get()) : null;
+        Set<ModuleCode> moduleCodesToMatch = ParserUtil.parseModuleCodes(argMultimap.getAllValues(PREFIX_MODULE_CODE));
+        Set<Tag> tagsToMatch = ParserUtil.parseTags(argMultimap.getAllValues(PREFIX_TAG));
+        if (emailDomainToMatch == null && moduleCodesToMatch.isEmpty() && tagsToMatch.isEmpty()) {
+            throw new ParseException(BulkEditCommand.MESSAGE_NO_FILTER);
+        }
+
+        BulkEditDescriptor bulkEditDescriptor = new BulkEditDescriptor();
+        bulkEditDescriptor.setModuleCodesToAdd(
+                ParserUtil.parseModuleCodes(argMultimap.getAllValues(PREFIX_ADD_MODULE_CODE)));
+        bulkEditDescriptor.setModuleCodesToRemove(
+                ParserUtil.parseModuleCodes(argMultimap.getAllValues(PREFIX_REMOVE_MODULE_CODE)));
+        bulkEditDescriptor.setTagsToAdd(ParserUtil.parseTags(argMultimap.getAllValues(PREFIX_ADD_TAG)));
+        bulkEditDescriptor.setTagsToRemove(ParserUtil.parseTags(argMultimap.getAllValues(PREFIX_REMOVE_TAG)));
+
+        return new BulkEditCommand(emailDomainToMatch, moduleCodesToMatch, tagsToMatch, bulkEditDescriptor);
+    }
+
+    /**
+     * Returns true if any of the prefixes has a value in the given {@code ArgumentMultimap}.
+     */
+    private static boolean isAnyPrefixPresent(ArgumentMultimap argumentMultimap, Prefix... prefixes) {
+        return Stream.of(prefixes).anyMatch(prefix -> argumentMultimap.getValue(prefix).isPresent());
+    }
+
     private Optional<Set<ModuleCode>> parseModuleCodesForEdit(Collection<String> moduleCodes) throws ParseException {
         assert moduleCodes != null;
 
@@ -0,0 +1,47 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.storage.PersonFileFormat;
+
+/**
+ * Parses input arguments and creates a new ExportCommand object
+ */
+public class ExportCommandParser implements Parser<ExportCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ExportCommand
+     * and returns an ExportCommand object for execution.
+     * If the last word of the arguments names a file format, it is taken as the format;
+     * otherwise the format is chosen by the file extension.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ExportCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        String filePath = trimmedArgs;
+        PersonFileFormat format = null;
+
+        int lastSpace = trimmedArgs.lastIndexOf(' ');
+        if (lastSpace > 0) {
+            try {
+                format = PersonFileFormat.fromName(trimmedArgs.substring(lastSpace + 1));
+                filePath = trimmedArgs.substring(0, lastSpace).trim();
+            } catch (IllegalArgumentException e) {
+                // the last word is part of the file path
+            }
+        }
+
+        if (filePath.isEmpty() || !FileUtil.isValidPath(filePath)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+        }
+        Path path = Paths.get(filePath);
+        return new ExportCommand(path, format == null ? PersonFileFormat.fromFileName(path) : format);
+    }
+
+}
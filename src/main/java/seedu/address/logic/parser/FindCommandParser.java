@@ -1,8 +1,10 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_MODULE_CODE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
 import java.util.Arrays;
@@ -12,8 +14,11 @@ import java.util.stream.Collectors;
 
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.EmailDomainMatchesPredicate;
 import seedu.address.model.person.ModuleCodesContainsKeywordsPredicate;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.PhoneMatchesPredicate;
 import seedu.address.model.person.TagsContainsKeywordsPredicate;
 
 /**
@@ -28,12 +33,15 @@ public class FindCommandParser implements Parser<FindCommand> {
      */
     public FindCommand parse(String args) throws ParseException {
         ArgumentMultimap argMultimap = ArgumentTokenizer
-                .tokenize(args, PREFIX_NAME, PREFIX_MODULE_CODE, PREFIX_TAG);
+                .tokenize(args, PREFIX_NAME, PREFIX_MODULE_CODE, PREFIX_TAG, PREFIX_PHONE, PREFIX_EMAIL);
         boolean isNamePrefixPresent = argMultimap.getValue(PREFIX_NAME).isPresent();
         boolean isModulePrefixPresent = argMultimap.getValue(PREFIX_MODULE_CODE).isPresent();
         boolean isTagPrefixPresent = argMultimap.getValue(PREFIX_TAG).isPresent();
+        boolean isPhonePrefixPresent = argMultimap.getValue(PREFIX_PHONE).isPresent();
+        boolean isEmailPrefixPresent = argMultimap.getValue(PREFIX_EMAIL).isPresent();
 
-        long numberOfValidPrefixes = countValidPrefixes(isNamePrefixPresent, isModulePrefixPresent, isTagPrefixPresent);
+        long numberOfValidPrefixes = countValidPrefixes(isNamePrefixPresent, isModulePrefixPresent, isTagPrefixPresent,
+                isPhonePrefixPresent, isEmailPrefixPresent);
 
         if (numberOfValidPrefixes == 0) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
@@ -49,6 +57,10 @@ public class FindCommandParser implements Parser<FindCommand> {
             return getFindNameCommand(argMultimap);
         } else if (isModulePrefixPresent) {
             return getFindModuleCommand(argMultimap);
+        } else if (isPhonePrefixPresent) {
+            return getFindPhoneCommand(argMultimap);
+        } else if (isEmailPrefixPresent) {
+            return getFindEmailDomainCommand(argMultimap);
         } else {
             // if tag prefix is not present
             return getFindTagCommand(argMultimap);
@@ -88,6 +100,38 @@ public class FindCommandParser implements Parser<FindCommand> {
         return new FindCommand(new ModuleCodesContainsKeywordsPredicate(moduleKeywordsList));
     }
 
+    private FindCommand getFindPhoneCommand(ArgumentMultimap argMultimap) throws ParseException {
+        String phones = argMultimap.getValue(PREFIX_PHONE).get().trim();
+        if (phones.isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        }
+
+        List<String> phoneKeywords = Arrays.asList(phones.split("\\s+"));
+        for (String keyword : phoneKeywords) {
+            if (!PhoneMatchesPredicate.isValidKeyword(keyword)) {
+                throw new ParseException(PhoneMatchesPredicate.MESSAGE_CONSTRAINTS);
+            }
+        }
+        return new FindCommand(new PhoneMatchesPredicate(phoneKeywords));
+    }
+
+    private FindCommand getFindEmailDomainCommand(ArgumentMultimap argMultimap) throws ParseException {
+        String domains = argMultimap.getValue(PREFIX_EMAIL).get().trim();
+        if (domains.isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        }
+
+        List<String> domainKeywords = Arrays.asList(domains.split("\\s+"));
+        for (String keyword : domainKeywords) {
+            if (!EmailDomainMatchesPredicate.isValidKeyword(keyword)) {
+                throw new ParseException(Email.MESSAGE_DOMAIN_CONSTRAINTS);
+            }
+        }
+        return new FindCommand(new EmailDomainMatchesPredicate(domainKeywords));
+    }
+
     private FindCommand getFindTagCommand (ArgumentMultimap argMultimap) throws ParseException {
         Optional<String> searchInput = argMultimap.getValue(PREFIX_TAG);
         String tags = searchInput.get().trim();
@@ -0,0 +1,27 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.OpenCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new {@code OpenCommand} object
+ */
+public class OpenCommandParser implements Parser<OpenCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the {@code OpenCommand}
+     * and returns a {@code OpenCommand} object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public OpenCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        if (args.trim().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, OpenCommand.MESSAGE_USAGE));
+        }
+        return new OpenCommand(ParserUtil.parseAddressBookName(args));
+    }
+
+}
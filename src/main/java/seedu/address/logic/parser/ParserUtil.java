@@ -10,12 +10,14 @@ import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.Email;
+import seedu.address.model.person.EmailDomainMatchesPredicate;
 import seedu.address.model.person.ModuleCode;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Phone;
 import seedu.address.model.person.Remark;
 import seedu.address.model.person.TeleHandle;
 import seedu.address.model.tag.Tag;
+import seedu.address.storage.AddressBookLibrary;
 
 /**
  * Contains utility methods used for parsing strings in the various *Parser classes.
@@ -49,7 +51,22 @@ public class ParserUtil {
         if (!Name.isValidName(trimmedName)) {
             throw new ParseException(Name.MESSAGE_CONSTRAINTS);
         }
-        return new Name(trimmedName);
+        return Name.ofTrusted(trimmedName);
+    }
+
+    /**
+     * Parses a {@code String addressBookName} into the name of an address book.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code addressBookName} is invalid.
+     */
+    public static String parseAddressBookName(String addressBookName) throws ParseException {
+        requireNonNull(addressBookName);
+        String trimmedName = addressBookName.trim();
+        if (!AddressBookLibrary.isValidName(trimmedName)) {
+            throw new ParseException(AddressBookLibrary.MESSAGE_CONSTRAINTS);
+        }
+        return trimmedName;
     }
 
     /**
@@ -64,7 +81,22 @@ public class ParserUtil {
         if (!Email.isValidEmail(trimmedEmail)) {
             throw new ParseException(Email.MESSAGE_CONSTRAINTS);
         }
-        return new Email(trimmedEmail);
+        return Email.ofTrusted(trimmedEmail);
+    }
+
+    /**
+     * Parses a {@code String domain}, written with a leading '@', into the lower case email domain without it.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code domain} is invalid.
+     */
+    public static String parseEmailDomain(String domain) throws ParseException {
+        requireNonNull(domain);
+        String trimmedDomain = domain.trim();
+        if (!EmailDomainMatchesPredicate.isValidKeyword(trimmedDomain)) {
+            throw new ParseException(Email.MESSAGE_DOMAIN_CONSTRAINTS);
+        }
+        return Email.internDomain(trimmedDomain.substring(1));
     }
 
     /**
@@ -79,7 +111,7 @@ public class ParserUtil {
         if (!ModuleCode.isValidModuleCode(trimmedModuleCode)) {
             throw new ParseException(ModuleCode.MESSAGE_CONSTRAINTS);
         }
-        return new ModuleCode(trimmedModuleCode);
+        return ModuleCode.ofTrusted(trimmedModuleCode);
     }
 
     /**
@@ -106,7 +138,7 @@ public class ParserUtil {
         if (!Phone.isValidPhone(trimmedPhone)) {
             throw new ParseException(Phone.MESSAGE_CONSTRAINTS);
         }
-        return new Phone(trimmedPhone);
+        return Phone.ofTrusted(trimmedPhone);
     }
 
     /**
@@ -121,7 +153,7 @@ public class ParserUtil {
         if (!TeleHandle.isValidTeleHandle(trimmedTeleHandle)) {
             throw new ParseException(TeleHandle.MESSAGE_CONSTRAINTS);
         }
-        return new TeleHandle(trimmedTeleHandle);
+        return TeleHandle.ofTrusted(trimmedTeleHandle);
     }
 
     /**
@@ -136,7 +168,7 @@ public class ParserUtil {
         if (!Tag.isValidTagName(trimmedTag)) {
             throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
+        return Tag.ofTrusted(trimmedTag);
     }
 
     /**
@@ -0,0 +1,27 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.SwitchCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new {@code SwitchCommand} object
+ */
+public class SwitchCommandParser implements Parser<SwitchCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the {@code SwitchCommand}
+     * and returns a {@code SwitchCommand} object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public SwitchCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        if (args.trim().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SwitchCommand.MESSAGE_USAGE));
+        }
+        return new SwitchCommand(ParserUtil.parseAddressBookName(args));
+    }
+
+}
@@ -2,10 +2,12 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collection;
 import java.util.List;
 
 import javafx.collections.ObservableList;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
 import seedu.address.model.person.UniquePersonList;
 
 /**
@@ -73,6 +75,20 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.contains(person);
     }
 
+    /**
+     * Returns the persons whose phone number is {@code phone}, which must not be empty.
+     */
+    public List<Person> getPersonsWithPhone(Phone phone) {
+        return persons.getPersonsWithPhone(phone);
+    }
+
+    /**
+     * Returns the persons whose email is at {@code domain}, which is matched ignoring case.
+     */
+    public List<Person> getPersonsWithEmailDomain(String domain) {
+        return persons.getPersonsWithEmailDomain(domain);
+    }
+
     /**
      * Adds a person to the address book.
      * The person must not already exist in the address book.
@@ -81,6 +97,14 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.add(p);
     }
 
+    /**
+     * Adds all of {@code persons} to the address book as a single change.
+     * None of the persons may already exist in the address book or be duplicated within {@code persons}.
+     */
+    public void addPersons(Collection<Person> persons) {
+        this.persons.addAll(persons);
+    }
+
     /**
      * Replaces the given person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the address book.
@@ -92,6 +116,36 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.setPerson(target, editedPerson);
     }
 
+    /**
+     * Replaces each person in {@code targets} with the person at the same position in {@code editedPersons}
+     * as a single change.
+     * Every person in {@code targets} must exist in the address book.
+     * The edited persons must not have the same identity as each other or as any person that is not replaced.
+     */
+    public void setPersons(List<Person> targets, List<Person> editedPersons) {
+        persons.setPersons(targets, editedPersons);
+    }
+
+    /**
+     * Removes all of {@code toRemove}, and replaces each person in {@code targets} with the person at the same
+     * position in {@code editedPersons}, as a single change.
+     * Every person in {@code toRemove} and {@code targets} must exist in the address book.
+     * The edited persons must not have the same identity as each other or as any person that remains.
+     */
+    public void updatePersons(Collection<Person> toRemove, List<Person> targets, List<Person> editedPersons) {
+        persons.updatePersons(toRemove, targets, editedPersons);
+    }
+
+    /**
+     * Similar to {@link #updatePersons(Collection, List, List)}, but also adds all of {@code toAdd} as part of the
+     * same change.
+     * None of {@code toAdd} may have the same identity as each other or as any person that remains.
+     */
+    public void updatePersons(Collection<Person> toRemove, List<Person> targets, List<Person> editedPersons,
+                              Collection<Person> toAdd) {
+        persons.updatePersons(toRemove, targets, editedPersons, toAdd);
+    }
+
     /**
      * Removes {@code key} from this {@code AddressBook}.
      * {@code key} must exist in the address book.
@@ -100,6 +154,14 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.remove(key);
     }
 
+    /**
+     * Removes all of {@code keys} from this {@code AddressBook} as a single change.
+     * Every person in {@code keys} must exist in the address book.
+     */
+    public void removePersons(Collection<Person> keys) {
+        persons.removeAll(keys);
+    }
+
     //// util methods
 
     @Override
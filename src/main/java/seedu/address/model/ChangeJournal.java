@@ -0,0 +1,333 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.person.Person;
+
+/**
+ * Records the changes made to an {@code AddressBook} as inverse operations, so that they can be undone and redone
+ * in time proportional to the size of each change rather than the size of the address book.
+ * Edits are recorded as they happen and grouped into one undoable change by {@link #commit()}.
+ * The journal holds at most {@code capacity} person references; the oldest changes are discarded to stay within it.
+ */
+class ChangeJournal {
+
+    public static final int DEFAULT_CAPACITY = 100_000;
+
+    private static final Logger logger = LogsCenter.getLogger(ChangeJournal.class);
+
+    private final int capacity;
+    private final Deque<List<Edit>> undoStack = new ArrayDeque<>();
+    private final Deque<List<Edit>> redoStack = new ArrayDeque<>();
+    private List<Edit> pendingEdits = new ArrayList<>();
+
+    /** Number of person references held by {@code undoStack} and {@code redoStack}. */
+    private int size;
+
+    ChangeJournal() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    ChangeJournal(int capacity) {
+        assert capacity > 0;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Records that {@code added} was added to the address book.
+     */
+    void recordAdd(Person added) {
+        requireNonNull(added);
+        pendingEdits.add(new PersonEdit(null, added));
+    }
+
+    /**
+     * Records that {@code removed} was removed from the address book.
+     */
+    void recordRemove(Person removed) {
+        requireNonNull(removed);
+        pendingEdits.add(new PersonEdit(removed, null));
+    }
+
+    /**
+     * Records that {@code before} was replaced by {@code after} in the address book.
+     */
+    void recordSet(Person before, Person after) {
+        requireNonNull(before);
+        requireNonNull(after);
+        pendingEdits.add(new PersonEdit(before, after));
+    }
+
+    /**
+     * Records that {@code removed} were removed from the address book, and each person in {@code before} was
+     * replaced by the person at the same position in {@code after}, as a single batch.
+     */
+    void recordUpdate(List<Person> removed, List<Person> before, List<Person> after) {
+        requireNonNull(removed);
+        requireNonNull(before);
+        requireNonNull(after);
+        pendingEdits.add(new UpdateEdit(removed, before, after));
+    }
+
+    /**
+     * Records that {@code removed} were removed from, and then {@code added} were added to, the address book
+     * as a single batch.
+     */
+    void recordBatch(List<Person> removed, List<Person> added) {
+        requireNonNull(removed);
+        requireNonNull(added);
+        pendingEdits.add(new BatchEdit(removed, added));
+    }
+
+    /**
+     * Records that the persons in the address book were replaced wholesale, from {@code before} to {@code after}.
+     */
+    void recordReset(List<Person> before, List<Person> after) {
+        requireNonNull(before);
+        requireNonNull(after);
+        pendingEdits.add(new ResetEdit(before, after));
+    }
+
+    /**
+     * Groups all edits recorded since the last commit into a single undoable change.
+     * Discards the redo history if there was anything to commit.
+     */
+    void commit() {
+        if (pendingEdits.isEmpty()) {
+            return;
+        }
+
+        List<Edit> change = pendingEdits;
+        pendingEdits = new ArrayList<>();
+        int weight = weightOf(change);
+
+        for (List<Edit> undone : redoStack) {
+            size -= weightOf(undone);
+        }
+        redoStack.clear();
+
+        if (weight > capacity) {
+            logger.info("Change of " + weight + " persons exceeds the undo capacity; clearing undo history");
+            undoStack.clear();
+            size = 0;
+            return;
+        }
+
+        undoStack.push(change);
+        size += weight;
+        while (size > capacity) {
+            size -= weightOf(undoStack.removeLast());
+        }
+    }
+
+    /**
+     * Discards all recorded changes, including any that are not committed yet.
+     */
+    void clear() {
+        undoStack.clear();
+        redoStack.clear();
+        pendingEdits = new ArrayList<>();
+        size = 0;
+    }
+
+    boolean canUndo() {
+        return !undoStack.isEmpty() || !pendingEdits.isEmpty();
+    }
+
+    boolean canRedo() {
+        return pendingEdits.isEmpty() && !redoStack.isEmpty();
+    }
+
+    /**
+     * Reverts the most recent change on {@code addressBook}.
+     * {@code addressBook} must be in the state the change left it in.
+     */
+    void undo(AddressBook addressBook) {
+        commit();
+        assert canUndo();
+
+        List<Edit> change = undoStack.pop();
+        for (int i = change.size() - 1; i >= 0; i--) {
+            change.get(i).undo(addressBook);
+        }
+        redoStack.push(change);
+    }
+
+    /**
+     * Reapplies the most recently undone change on {@code addressBook}.
+     * {@code addressBook} must be in the state the undo left it in.
+     */
+    void redo(AddressBook addressBook) {
+        assert canRedo();
+
+        List<Edit> change = redoStack.pop();
+        for (Edit edit : change) {
+            edit.redo(addressBook);
+        }
+        undoStack.push(change);
+    }
+
+    /**
+     * Returns the number of person references held by the journal.
+     */
+    int size() {
+        return size + weightOf(pendingEdits);
+    }
+
+    private static int weightOf(List<Edit> change) {
+        int weight = 0;
+        for (Edit edit : change) {
+            weight += edit.weight();
+        }
+        return weight;
+    }
+
+    /**
+     * An edit to an {@code AddressBook} that knows how to reverse itself.
+     */
+    private interface Edit {
+        void undo(AddressBook addressBook);
+
+        void redo(AddressBook addressBook);
+
+        /** Returns the number of person references held by this edit. */
+        int weight();
+    }
+
+    /**
+     * The addition, removal or replacement of a single person.
+     * {@code before} is null for an addition and {@code after} is null for a removal.
+     */
+    private static class PersonEdit implements Edit {
+        private final Person before;
+        private final Person after;
+
+        PersonEdit(Person before, Person after) {
+            this.before = before;
+            this.after = after;
+        }
+
+        @Override
+        public void undo(AddressBook addressBook) {
+            apply(addressBook, after, before);
+        }
+
+        @Override
+        public void redo(AddressBook addressBook) {
+            apply(addressBook, before, after);
+        }
+
+        private static void apply(AddressBook addressBook, Person from, Person to) {
+            if (from == null) {
+                addressBook.addPerson(to);
+            } else if (to == null) {
+                addressBook.removePerson(from);
+            } else {
+                addressBook.setPerson(from, to);
+            }
+        }
+
+        @Override
+        public int weight() {
+            return (before == null ? 0 : 1) + (after == null ? 0 : 1);
+        }
+    }
+
+    /**
+     * The removal and addition of many persons at once, e.g. by an import.
+     */
+    private static class BatchEdit implements Edit {
+        private final List<Person> removed;
+        private final List<Person> added;
+
+        BatchEdit(List<Person> removed, List<Person> added) {
+            this.removed = removed;
+            this.added = added;
+        }
+
+        @Override
+        public void undo(AddressBook addressBook) {
+            addressBook.removePersons(added);
+            addressBook.addPersons(removed);
+        }
+
+        @Override
+        public void redo(AddressBook addressBook) {
+            addressBook.removePersons(removed);
+            addressBook.addPersons(added);
+        }
+
+        @Override
+        public int weight() {
+            return removed.size() + added.size();
+        }
+    }
+
+    /**
+     * The removal and replacement of many persons at once, e.g. by a bulk edit or delete.
+     * The replaced persons are restored before the removed ones are added back, as an edited person may have
+     * taken the identity of a removed one.
+     */
+    private static class UpdateEdit implements Edit {
+        private final List<Person> removed;
+        private final List<Person> before;
+        private final List<Person> after;
+
+        UpdateEdit(List<Person> removed, List<Person> before, List<Person> after) {
+            this.removed = removed;
+            this.before = before;
+            this.after = after;
+        }
+
+        @Override
+        public void undo(AddressBook addressBook) {
+            addressBook.setPersons(after, before);
+            addressBook.addPersons(removed);
+        }
+
+        @Override
+        public void redo(AddressBook addressBook) {
+            addressBook.updatePersons(removed, before, after);
+        }
+
+        @Override
+        public int weight() {
+            return removed.size() + before.size() + after.size();
+        }
+    }
+
+    /**
+     * The replacement of every person in the address book, e.g. by a clear.
+     */
+    private static class ResetEdit implements Edit {
+        private final List<Person> before;
+        private final List<Person> after;
+
+        ResetEdit(List<Person> before, List<Person> after) {
+            this.before = before;
+            this.after = after;
+        }
+
+        @Override
+        public void undo(AddressBook addressBook) {
+            addressBook.setPersons(before);
+        }
+
+        @Override
+        public void redo(AddressBook addressBook) {
+            addressBook.setPersons(after);
+        }
+
+        @Override
+        public int weight() {
+            return before.size() + after.size();
+        }
+    }
+}
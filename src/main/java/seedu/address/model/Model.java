@@ -1,11 +1,13 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.List;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
 
 /**
  * The API of the Model component.
@@ -49,6 +51,12 @@ public interface Model {
      */
     void setAddressBook(ReadOnlyAddressBook addressBook);
 
+    /**
+     * Switches to another address book, saved at {@code addressBookFilePath}, with the data in {@code addressBook}.
+     * The changes made to the previous address book can no longer be undone, and all persons are shown.
+     */
+    void switchAddressBook(ReadOnlyAddressBook addressBook, Path addressBookFilePath);
+
     /**
      * Sorts the contacts in the address book by alphabetical order.
      */
@@ -62,6 +70,18 @@ public interface Model {
      */
     boolean hasPerson(Person person);
 
+    /**
+     * Returns the persons in the address book whose phone number is {@code phone}, which must not be empty.
+     * The persons are looked up in an index rather than found by going through everyone.
+     */
+    List<Person> getPersonsWithPhone(Phone phone);
+
+    /**
+     * Returns the persons in the address book whose email is at {@code domain}, given without the '@' and matched
+     * ignoring case. The persons are looked up in an index rather than found by going through everyone.
+     */
+    List<Person> getPersonsWithEmailDomain(String domain);
+
     /**
      * Deletes the given person.
      * The person must exist in the address book.
@@ -74,6 +94,12 @@ public interface Model {
      */
     void addPerson(Person person);
 
+    /**
+     * Adds all of the given persons as a single change.
+     * None of {@code persons} may already exist in the address book or be duplicated within {@code persons}.
+     */
+    void addPersons(List<Person> persons);
+
     /**
      * Replaces the given person {@code target} with {@code editedPerson}.
      * {@code target} must exist in the address book.
@@ -81,6 +107,54 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
+    /**
+     * Replaces each person in {@code targets} with the person at the same position in {@code editedPersons}
+     * as a single change.
+     * Every person in {@code targets} must exist in the address book.
+     * The edited persons must not have the same identity as each other or as any person that is not replaced.
+     */
+    void setPersons(List<Person> targets, List<Person> editedPersons);
+
+    /**
+     * Deletes all of {@code toDelete}, and replaces each person in {@code targets} with the person at the same
+     * position in {@code editedPersons}, as a single change.
+     * Every person in {@code toDelete} and {@code targets} must exist in the address book.
+     * The edited persons must not have the same identity as each other or as any person that remains.
+     */
+    void updatePersons(List<Person> toDelete, List<Person> targets, List<Person> editedPersons);
+
+    /**
+     * Updates the address book to hold the same persons as {@code addressBook}, matching persons by identity.
+     * Only the persons that were added, removed or changed are touched; every other person is kept as is.
+     * The update cannot be undone, and if anything changed, neither can any change made before it.
+     */
+    void mergeAddressBook(ReadOnlyAddressBook addressBook);
+
+    /**
+     * Groups the changes made to the address book since the last commit into one change that can be undone.
+     */
+    void commitAddressBook();
+
+    /**
+     * Returns true if there is a committed change to the address book that can be undone.
+     */
+    boolean canUndoAddressBook();
+
+    /**
+     * Returns true if there is an undone change to the address book that can be redone.
+     */
+    boolean canRedoAddressBook();
+
+    /**
+     * Reverts the most recent change to the address book.
+     */
+    void undoAddressBook();
+
+    /**
+     * Reapplies the most recently undone change to the address book.
+     */
+    void redoAddressBook();
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
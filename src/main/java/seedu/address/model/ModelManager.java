@@ -4,6 +4,11 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -11,7 +16,9 @@ import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -22,6 +29,7 @@ public class ModelManager implements Model {
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
+    private final ChangeJournal changeJournal = new ChangeJournal();
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -80,7 +88,19 @@ public class ModelManager implements Model {
 
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
+        List<Person> previousPersons = new ArrayList<>(this.addressBook.getPersonList());
         this.addressBook.resetData(addressBook);
+        changeJournal.recordReset(previousPersons, new ArrayList<>(this.addressBook.getPersonList()));
+    }
+
+    @Override
+    public void switchAddressBook(ReadOnlyAddressBook addressBook, Path addressBookFilePath) {
+        requireAllNonNull(addressBook, addressBookFilePath);
+
+        this.addressBook.resetData(addressBook);
+        changeJournal.clear();
+        userPrefs.setAddressBookFilePath(addressBookFilePath);
+        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
     /**
@@ -102,14 +122,36 @@ public class ModelManager implements Model {
         return addressBook.hasPerson(person);
     }
 
+    @Override
+    public List<Person> getPersonsWithPhone(Phone phone) {
+        requireNonNull(phone);
+        return addressBook.getPersonsWithPhone(phone);
+    }
+
+    @Override
+    public List<Person> getPersonsWithEmailDomain(String domain) {
+        requireNonNull(domain);
+        return addressBook.getPersonsWithEmailDomain(domain);
+    }
+
     @Override
     public void deletePerson(Person target) {
         addressBook.removePerson(target);
+        changeJournal.recordRemove(target);
     }
 
     @Override
     public void addPerson(Person person) {
         addressBook.addPerson(person);
+        changeJournal.recordAdd(person);
+        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+    }
+
+    @Override
+    public void addPersons(List<Person> persons) {
+        requireNonNull(persons);
+        addressBook.addPersons(persons);
+        changeJournal.recordBatch(Collections.emptyList(), new ArrayList<>(persons));
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
@@ -118,6 +160,87 @@ public class ModelManager implements Model {
         requireAllNonNull(target, editedPerson);
 
         addressBook.setPerson(target, editedPerson);
+        changeJournal.recordSet(target, editedPerson);
+    }
+
+    @Override
+    public void setPersons(List<Person> targets, List<Person> editedPersons) {
+        requireAllNonNull(targets, editedPersons);
+
+        addressBook.setPersons(targets, editedPersons);
+        changeJournal.recordUpdate(Collections.emptyList(), new ArrayList<>(targets),
+                new ArrayList<>(editedPersons));
+    }
+
+    @Override
+    public void updatePersons(List<Person> toDelete, List<Person> targets, List<Person> editedPersons) {
+        requireAllNonNull(toDelete, targets, editedPersons);
+
+        addressBook.updatePersons(toDelete, targets, editedPersons);
+        changeJournal.recordUpdate(new ArrayList<>(toDelete), new ArrayList<>(targets),
+                new ArrayList<>(editedPersons));
+    }
+
+    @Override
+    public void mergeAddressBook(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+
+        Map<Name, Person> currentPersons = new HashMap<>();
+        for (Person person : this.addressBook.getPersonList()) {
+            currentPersons.put(person.getName(), person);
+        }
+        List<Person> targets = new ArrayList<>();
+        List<Person> editedPersons = new ArrayList<>();
+        List<Person> toAdd = new ArrayList<>();
+        for (Person person : addressBook.getPersonList()) {
+            Person currentPerson = currentPersons.remove(person.getName());
+            if (currentPerson == null) {
+                toAdd.add(person);
+            } else if (!currentPerson.equals(person)) {
+                targets.add(currentPerson);
+                editedPersons.add(person);
+            }
+        }
+        List<Person> toDelete = new ArrayList<>(currentPersons.values());
+        if (toDelete.isEmpty() && targets.isEmpty() && toAdd.isEmpty()) {
+            return;
+        }
+
+        logger.info("Merging address book: " + toAdd.size() + " added, " + targets.size() + " changed, "
+                + toDelete.size() + " removed");
+        this.addressBook.updatePersons(toDelete, targets, editedPersons, toAdd);
+        // The merge is not the user's to undo, and earlier changes can no longer be undone over it.
+        changeJournal.clear();
+        if (!toAdd.isEmpty()) {
+            this.addressBook.sortAddressBook();
+        }
+    }
+
+    //=========== Undo/Redo ==================================================================================
+
+    @Override
+    public void commitAddressBook() {
+        changeJournal.commit();
+    }
+
+    @Override
+    public boolean canUndoAddressBook() {
+        return changeJournal.canUndo();
+    }
+
+    @Override
+    public boolean canRedoAddressBook() {
+        return changeJournal.canRedo();
+    }
+
+    @Override
+    public void undoAddressBook() {
+        changeJournal.undo(addressBook);
+    }
+
+    @Override
+    public void redoAddressBook() {
+        changeJournal.redo(addressBook);
     }
 
     //=========== Filtered Person List Accessors =============================================================
@@ -1,6 +1,7 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.Map;
 
 import seedu.address.commons.core.GuiSettings;
 
@@ -13,4 +14,48 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    /**
+     * Returns the format the address book is stored in, one of the {@code ADDRESS_BOOK_FORMAT_*} constants in
+     * {@link UserPrefs}.
+     */
+    String getAddressBookFormat();
+
+    /**
+     * Returns true if the address book file should be written without any whitespace between tokens.
+     */
+    boolean isAddressBookCompact();
+
+    /**
+     * Returns true if only the name of each person should be converted when a json address book file is read, leaving
+     * the rest of the person to be converted when it is first needed. Every field is still checked when the file is
+     * read.
+     */
+    boolean isAddressBookLazy();
+
+    /**
+     * Returns true if the json address book file should be compressed as it is written.
+     */
+    boolean isAddressBookCompressed();
+
+    /**
+     * Returns the number of backups of the address book file to keep. No backups are made if this is not positive.
+     */
+    int getAddressBookBackupCount();
+
+    /**
+     * Returns the least number of minutes between two backups of the address book file.
+     */
+    long getAddressBookBackupIntervalMinutes();
+
+    /**
+     * Returns roughly how many megabytes of memory the recently used address books, other than the current one, may
+     * take up before the least recently used of them are dropped from memory.
+     */
+    long getAddressBookMemoryBudgetMegabytes();
+
+    /**
+     * Returns the user-defined command aliases, each mapped to the command word it stands for.
+     */
+    Map<String, String> getCommandAliases();
+
 }
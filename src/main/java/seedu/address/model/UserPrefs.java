@@ -4,6 +4,9 @@ import static java.util.Objects.requireNonNull;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 
 import seedu.address.commons.core.GuiSettings;
@@ -13,8 +16,23 @@ import seedu.address.commons.core.GuiSettings;
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    public static final String ADDRESS_BOOK_FORMAT_JSON = "json";
+    public static final String ADDRESS_BOOK_FORMAT_JSON_LOG = "json-log";
+    public static final String ADDRESS_BOOK_FORMAT_BINARY = "binary";
+    public static final String ADDRESS_BOOK_FORMAT_MAPPED = "mapped";
+    public static final String ADDRESS_BOOK_FORMAT_SHARDED = "sharded";
+    public static final String ADDRESS_BOOK_FORMAT_KEY_VALUE = "key-value";
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "addressbook.json");
+    private String addressBookFormat = ADDRESS_BOOK_FORMAT_JSON;
+    private boolean isAddressBookCompact = false;
+    private boolean isAddressBookLazy = false;
+    private boolean isAddressBookCompressed = false;
+    private int addressBookBackupCount = 5;
+    private long addressBookBackupIntervalMinutes = 60;
+    private long addressBookMemoryBudgetMegabytes = 64;
+    private Map<String, String> commandAliases = new HashMap<>();
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +54,14 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setAddressBookFormat(newUserPrefs.getAddressBookFormat());
+        setAddressBookCompact(newUserPrefs.isAddressBookCompact());
+        setAddressBookLazy(newUserPrefs.isAddressBookLazy());
+        setAddressBookCompressed(newUserPrefs.isAddressBookCompressed());
+        setAddressBookBackupCount(newUserPrefs.getAddressBookBackupCount());
+        setAddressBookBackupIntervalMinutes(newUserPrefs.getAddressBookBackupIntervalMinutes());
+        setAddressBookMemoryBudgetMegabytes(newUserPrefs.getAddressBookMemoryBudgetMegabytes());
+        setCommandAliases(newUserPrefs.getCommandAliases());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +82,72 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public String getAddressBookFormat() {
+        return addressBookFormat;
+    }
+
+    public void setAddressBookFormat(String addressBookFormat) {
+        requireNonNull(addressBookFormat);
+        this.addressBookFormat = addressBookFormat;
+    }
+
+    public boolean isAddressBookCompact() {
+        return isAddressBookCompact;
+    }
+
+    public void setAddressBookCompact(boolean isAddressBookCompact) {
+        this.isAddressBookCompact = isAddressBookCompact;
+    }
+
+    public boolean isAddressBookLazy() {
+        return isAddressBookLazy;
+    }
+
+    public void setAddressBookLazy(boolean isAddressBookLazy) {
+        this.isAddressBookLazy = isAddressBookLazy;
+    }
+
+    public boolean isAddressBookCompressed() {
+        return isAddressBookCompressed;
+    }
+
+    public void setAddressBookCompressed(boolean isAddressBookCompressed) {
+        this.isAddressBookCompressed = isAddressBookCompressed;
+    }
+
+    public int getAddressBookBackupCount() {
+        return addressBookBackupCount;
+    }
+
+    public void setAddressBookBackupCount(int addressBookBackupCount) {
+        this.addressBookBackupCount = addressBookBackupCount;
+    }
+
+    public long getAddressBookBackupIntervalMinutes() {
+        return addressBookBackupIntervalMinutes;
+    }
+
+    public void setAddressBookBackupIntervalMinutes(long addressBookBackupIntervalMinutes) {
+        this.addressBookBackupIntervalMinutes = addressBookBackupIntervalMinutes;
+    }
+
+    public long getAddressBookMemoryBudgetMegabytes() {
+        return addressBookMemoryBudgetMegabytes;
+    }
+
+    public void setAddressBookMemoryBudgetMegabytes(long addressBookMemoryBudgetMegabytes) {
+        this.addressBookMemoryBudgetMegabytes = addressBookMemoryBudgetMegabytes;
+    }
+
+    public Map<String, String> getCommandAliases() {
+        return Collections.unmodifiableMap(commandAliases);
+    }
+
+    public void setCommandAliases(Map<String, String> commandAliases) {
+        requireNonNull(commandAliases);
+        this.commandAliases = new HashMap<>(commandAliases);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -68,12 +160,22 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return guiSettings.equals(o.guiSettings)
-                && addressBookFilePath.equals(o.addressBookFilePath);
+                && addressBookFilePath.equals(o.addressBookFilePath)
+                && addressBookFormat.equals(o.addressBookFormat)
+                && isAddressBookCompact == o.isAddressBookCompact
+                && isAddressBookLazy == o.isAddressBookLazy
+                && isAddressBookCompressed == o.isAddressBookCompressed
+                && addressBookBackupCount == o.addressBookBackupCount
+                && addressBookBackupIntervalMinutes == o.addressBookBackupIntervalMinutes
+                && addressBookMemoryBudgetMegabytes == o.addressBookMemoryBudgetMegabytes
+                && commandAliases.equals(o.commandAliases);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, addressBookFormat, isAddressBookCompact,
+                isAddressBookLazy, isAddressBookCompressed, addressBookBackupCount, addressBookBackupIntervalMinutes,
+                addressBookMemoryBudgetMegabytes, commandAliases);
     }
 
     @Override
@@ -81,6 +183,14 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nLocal data file format : " + addressBookFormat);
+        sb.append("\nCompact data file : " + isAddressBookCompact);
+        sb.append("\nLazy loading : " + isAddressBookLazy);
+        sb.append("\nCompressed data file : " + isAddressBookCompressed);
+        sb.append("\nData file backups kept : " + addressBookBackupCount);
+        sb.append("\nData file backup interval (minutes) : " + addressBookBackupIntervalMinutes);
+        sb.append("\nMemory for other address books (MB) : " + addressBookMemoryBudgetMegabytes);
+        sb.append("\nCommand aliases : " + commandAliases);
         return sb.toString();
     }
 
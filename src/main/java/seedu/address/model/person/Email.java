@@ -3,9 +3,16 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Locale;
+
+import seedu.address.model.util.ValidationUtil;
+
 /**
  * Represents a Person's email in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidEmail(String)}
+ * <p>
+ * An email is held as its local part and its domain. Domains are not case-sensitive, so they are held in lower
+ * case, and are interned so that the many persons sharing a domain share a single copy of it.
  */
 public class Email {
 
@@ -30,8 +37,11 @@ public class Email {
     private static final String DOMAIN_LAST_PART_REGEX = "(" + DOMAIN_PART_REGEX + "){2,}$"; // At least two chars
     private static final String DOMAIN_REGEX = "(" + DOMAIN_PART_REGEX + "\\.)*" + DOMAIN_LAST_PART_REGEX;
     public static final String VALIDATION_REGEX = LOCAL_PART_REGEX + "@" + DOMAIN_REGEX;
+    public static final String MESSAGE_DOMAIN_CONSTRAINTS = "Email domains should be given with a leading '@', "
+            + "e.g. @u.nus.edu, and follow the constraints on the domains of emails.";
 
-    public final String value;
+    private final String localPart;
+    private final String domain;
 
     /**
      * Constructs an {@code Email}.
@@ -39,33 +49,81 @@ public class Email {
      * @param email A valid email address.
      */
     public Email(String email) {
+        this(email, true);
+    }
+
+    private Email(String email, boolean isChecked) {
         requireNonNull(email);
-        checkArgument(isValidEmail(email), MESSAGE_CONSTRAINTS);
-        value = email;
+        if (isChecked) {
+            checkArgument(isValidEmail(email), MESSAGE_CONSTRAINTS);
+        }
+        int separatorIndex = email.indexOf('@');
+        if (separatorIndex < 0) {
+            // Only an unchecked email can have no domain; it is kept whole as the local part.
+            localPart = email;
+            domain = "";
+        } else {
+            localPart = email.substring(0, separatorIndex);
+            domain = internDomain(email.substring(separatorIndex + 1));
+        }
+    }
+
+    /**
+     * Returns a {@code Email} holding {@code email} without checking that it is a valid email address.
+     * Only for values already known to be valid, such as those read back from a file that this application saved.
+     */
+    public static Email ofTrusted(String email) {
+        return new Email(email, false);
     }
 
     /**
      * Returns if a given string is a valid email.
      */
     public static boolean isValidEmail(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.isValidEmail(test);
+    }
+
+    /**
+     * Returns true if a given string is a valid email domain, without the '@'.
+     */
+    public static boolean isValidDomain(String test) {
+        return ValidationUtil.isValidEmailDomain(test);
+    }
+
+    /**
+     * Returns the single shared copy of the valid email domain {@code domain}, in lower case.
+     */
+    public static String internDomain(String domain) {
+        return domain.toLowerCase(Locale.ROOT).intern();
+    }
+
+    public String getLocalPart() {
+        return localPart;
+    }
+
+    /**
+     * Returns the domain of this email in lower case. Equal domains are the same object.
+     */
+    public String getDomain() {
+        return domain;
     }
 
     @Override
     public String toString() {
-        return value;
+        return domain.isEmpty() ? localPart : localPart + '@' + domain;
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Email // instanceof handles nulls
-                && value.equals(((Email) other).value)); // state check
+                && localPart.equals(((Email) other).localPart)
+                && domain.equals(((Email) other).domain)); // state check
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return 31 * localPart.hashCode() + domain.hashCode();
     }
 
 }
@@ -0,0 +1,58 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Tests that a {@code Person}'s {@code Email} is at any of the domains given.
+ * Each keyword is a domain with a leading {@code @}, such as {@code @u.nus.edu}, and is matched ignoring case.
+ * Domains are interned, so each keyword is matched by comparing references.
+ */
+public class EmailDomainMatchesPredicate implements Predicate<Person> {
+
+    private static final char DOMAIN_MARKER = '@';
+
+    private final List<String> keywords;
+    private final String[] domains;
+
+    /**
+     * Creates a predicate matching the persons whose email is at any of the domains in {@code keywords}, which must
+     * all be valid as declared in {@link #isValidKeyword(String)}.
+     */
+    public EmailDomainMatchesPredicate(List<String> keywords) {
+        this.keywords = keywords;
+        this.domains = new String[keywords.size()];
+        for (int i = 0; i < keywords.size(); i++) {
+            String keyword = keywords.get(i);
+            checkArgument(isValidKeyword(keyword), Email.MESSAGE_DOMAIN_CONSTRAINTS);
+            domains[i] = Email.internDomain(keyword.substring(1));
+        }
+    }
+
+    /**
+     * Returns true if {@code keyword} is {@code @} followed by a valid email domain.
+     */
+    public static boolean isValidKeyword(String keyword) {
+        return !keyword.isEmpty() && keyword.charAt(0) == DOMAIN_MARKER && Email.isValidDomain(keyword.substring(1));
+    }
+
+    @Override
+    public boolean test(Person person) {
+        String domain = person.getEmail().getDomain();
+        for (String keywordDomain : domains) {
+            if (keywordDomain == domain) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof EmailDomainMatchesPredicate // instanceof handles nulls
+                && keywords.equals(((EmailDomainMatchesPredicate) other).keywords)); // state check
+    }
+}
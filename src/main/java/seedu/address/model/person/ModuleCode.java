@@ -3,9 +3,26 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import seedu.address.model.util.ValidationUtil;
+
 /**
  * Represents a module code that a Person is taking in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidModuleCode(String)}
+ * <p>
+ * Module codes are case-insensitive, and are held in upper case. Each module code also has a packed form, a
+ * {@code long} holding five bits for each letter and fourteen bits for the number, ordered from the first letter of
+ * the prefix to the last letter of the suffix. A module code whose suffix is too long to pack that way is instead
+ * registered, and packed as its registration number with {@code REGISTERED_FLAG} set, so that it sorts after every
+ * other packed module code. Packed module codes are equal exactly when the module codes are, and are ordered the same
+ * way apart from registered ones.
  */
 public class ModuleCode {
 
@@ -13,8 +30,25 @@ public class ModuleCode {
             "Module codes should consists of a two- or three-letter prefix followed by a 4-digit number"
                     + " and optionally a one-letter suffix";
 
+    /** The longest suffix that fits in a packed module code without registering it. */
+    public static final int MAX_PACKED_SUFFIX_LENGTH = 6;
+
     public static final String VALIDATION_REGEX = "[a-zA-Z]{2,3}[\\d]{4}[a-zA-Z]*";
+
+    private static final int MAX_PREFIX_LENGTH = 3;
+    private static final int NUMBER_LENGTH = 4;
+    private static final int LETTER_BITS = 5;
+    private static final int NUMBER_BITS = 14;
+    private static final long LETTER_MASK = (1L << LETTER_BITS) - 1;
+    private static final long NUMBER_MASK = (1L << NUMBER_BITS) - 1;
+    private static final long REGISTERED_FLAG = 1L << 62;
+
+    /** Module codes with suffixes too long to pack, indexed by their registration numbers. */
+    private static final List<String> registeredModuleCodes = new ArrayList<>();
+    private static final Map<String, Long> registeredPackedModuleCodes = new HashMap<>();
+
     public final String value;
+    private final long packed;
 
     /**
      * Constructs a {@code ModuleCode}.
@@ -22,9 +56,36 @@ public class ModuleCode {
      * @param moduleCode A valid module code.
      */
     public ModuleCode(String moduleCode) {
+        this(moduleCode, true);
+    }
+
+    private ModuleCode(String moduleCode, boolean isChecked) {
         requireNonNull(moduleCode);
-        checkArgument(isValidModuleCode(moduleCode), MESSAGE_CONSTRAINTS);
-        value = moduleCode;
+        if (isChecked) {
+            checkArgument(isValidModuleCode(moduleCode), MESSAGE_CONSTRAINTS);
+        }
+        value = moduleCode.toUpperCase(Locale.ROOT);
+        packed = pack(moduleCode);
+    }
+
+    private ModuleCode(long packed) {
+        this.value = unpack(packed);
+        this.packed = packed;
+    }
+
+    /**
+     * Returns a {@code ModuleCode} holding {@code moduleCode} without checking that it is a valid module code.
+     * Only for values already known to be valid, such as those read back from a file that this application saved.
+     */
+    public static ModuleCode ofTrusted(String moduleCode) {
+        return new ModuleCode(moduleCode, false);
+    }
+
+    /**
+     * Returns the module code packed into {@code packed} by {@link #getPacked()}.
+     */
+    public static ModuleCode ofPacked(long packed) {
+        return new ModuleCode(packed);
     }
 
     /**
@@ -34,7 +95,117 @@ public class ModuleCode {
      * @return True if the given string is a valid module code, false otherwise.
      */
     public static boolean isValidModuleCode(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.isValidModuleCode(test);
+    }
+
+    /**
+     * Returns the packed form of the valid module code {@code moduleCode}, ignoring case.
+     */
+    public static long pack(String moduleCode) {
+        int prefixLength = ValidationUtil.isLetter(moduleCode.charAt(MAX_PREFIX_LENGTH - 1))
+                ? MAX_PREFIX_LENGTH
+                : MAX_PREFIX_LENGTH - 1;
+        if (moduleCode.length() - prefixLength - NUMBER_LENGTH > MAX_PACKED_SUFFIX_LENGTH) {
+            return register(moduleCode.toUpperCase(Locale.ROOT));
+        }
+
+        long packed = 0;
+        int index = 0;
+        for (int i = 0; i < MAX_PREFIX_LENGTH; i++) {
+            packed <<= LETTER_BITS;
+            if (ValidationUtil.isLetter(moduleCode.charAt(index))) {
+                packed |= toLetterBits(moduleCode.charAt(index++));
+            }
+        }
+
+        int number = 0;
+        for (int i = 0; i < NUMBER_LENGTH; i++) {
+            number = number * 10 + moduleCode.charAt(index++) - '0';
+        }
+        packed = (packed << NUMBER_BITS) | number;
+
+        for (int i = 0; i < MAX_PACKED_SUFFIX_LENGTH; i++) {
+            packed <<= LETTER_BITS;
+            if (index < moduleCode.length()) {
+                packed |= toLetterBits(moduleCode.charAt(index++));
+            }
+        }
+        return packed;
+    }
+
+    /**
+     * Returns the module code, in upper case, that was packed into {@code packed}.
+     */
+    public static String unpack(long packed) {
+        if ((packed & REGISTERED_FLAG) != 0) {
+            synchronized (registeredModuleCodes) {
+                return registeredModuleCodes.get((int) (packed & ~REGISTERED_FLAG));
+            }
+        }
+
+        StringBuilder builder = new StringBuilder(MAX_PREFIX_LENGTH + NUMBER_LENGTH + MAX_PACKED_SUFFIX_LENGTH);
+        int suffixShift = MAX_PACKED_SUFFIX_LENGTH * LETTER_BITS;
+        int numberShift = suffixShift + NUMBER_BITS;
+        for (int i = MAX_PREFIX_LENGTH - 1; i >= 0; i--) {
+            appendLetter(builder, packed >>> (numberShift + i * LETTER_BITS));
+        }
+        String number = Long.toString((packed >>> suffixShift) & NUMBER_MASK);
+        for (int i = number.length(); i < NUMBER_LENGTH; i++) {
+            builder.append('0');
+        }
+        builder.append(number);
+        for (int i = MAX_PACKED_SUFFIX_LENGTH - 1; i >= 0; i--) {
+            appendLetter(builder, packed >>> (i * LETTER_BITS));
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Returns the packed forms of {@code moduleCodes}, sorted and without duplicates.
+     */
+    public static long[] packAll(Collection<ModuleCode> moduleCodes) {
+        long[] packed = new long[moduleCodes.size()];
+        int size = 0;
+        for (ModuleCode moduleCode : moduleCodes) {
+            packed[size++] = moduleCode.packed;
+        }
+        Arrays.sort(packed);
+
+        int distinctSize = 0;
+        for (int i = 0; i < size; i++) {
+            if (distinctSize == 0 || packed[distinctSize - 1] != packed[i]) {
+                packed[distinctSize++] = packed[i];
+            }
+        }
+        return distinctSize == size ? packed : Arrays.copyOf(packed, distinctSize);
+    }
+
+    /**
+     * Returns the packed form of the upper-case module code {@code moduleCode}, registering it if it is new.
+     * Registered module codes are kept for as long as the application runs, as persons hold only packed forms.
+     */
+    private static long register(String moduleCode) {
+        synchronized (registeredModuleCodes) {
+            return registeredPackedModuleCodes.computeIfAbsent(moduleCode, code -> {
+                registeredModuleCodes.add(code);
+                return REGISTERED_FLAG | (registeredModuleCodes.size() - 1);
+            });
+        }
+    }
+
+    private static long toLetterBits(char letter) {
+        return (letter | 0x20) - 'a' + 1;
+    }
+
+    private static void appendLetter(StringBuilder builder, long bits) {
+        long letterBits = bits & LETTER_MASK;
+        if (letterBits != 0) {
+            builder.append((char) ('A' + letterBits - 1));
+        }
+    }
+
+    public long getPacked() {
+        return packed;
     }
 
     @Override
@@ -46,15 +217,18 @@ public class ModuleCode {
     public boolean equals(Object other) {
         return other == this
                 || (other instanceof ModuleCode
-                && value.equals(((ModuleCode) other).value));
+                && packed == ((ModuleCode) other).packed);
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return Long.hashCode(packed);
     }
 
     public int compareTo(ModuleCode c) {
-        return this.value.toLowerCase().compareTo(c.value.toLowerCase());
+        if (((packed | c.packed) & REGISTERED_FLAG) != 0) {
+            return value.compareTo(c.value);
+        }
+        return Long.compare(packed, c.packed);
     }
 }
@@ -1,26 +1,45 @@
 package seedu.address.model.person;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Predicate;
 
 /**
  * Tests that a {@code Person}'s {@code ModuleCode}s matches all of the keywords given.
+ * Each keyword is a module code in square brackets, matched ignoring case.
  */
 public class ModuleCodesContainsKeywordsPredicate implements Predicate<Person> {
     private final List<String> keywords;
 
+    /** The packed module codes of the keywords, or null if a keyword is not a module code and matches no one. */
+    private final long[] packedModuleCodes;
+
+    /**
+     * Creates a predicate matching the persons taking every module in {@code keywords}.
+     */
     public ModuleCodesContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.packedModuleCodes = packKeywords(keywords);
+    }
+
+    private static long[] packKeywords(List<String> keywords) {
+        List<ModuleCode> moduleCodes = new ArrayList<>();
+        for (String keyword : keywords) {
+            if (keyword.length() < 2 || keyword.charAt(0) != '[' || keyword.charAt(keyword.length() - 1) != ']') {
+                return null;
+            }
+            String moduleCode = keyword.substring(1, keyword.length() - 1);
+            if (!ModuleCode.isValidModuleCode(moduleCode)) {
+                return null;
+            }
+            moduleCodes.add(ModuleCode.ofTrusted(moduleCode));
+        }
+        return ModuleCode.packAll(moduleCodes);
     }
 
     @Override
     public boolean test(Person person) {
-        return keywords.stream()
-                .allMatch(keyword -> person.getModuleCodes()
-                        .stream().anyMatch(moduleCode ->
-                                keyword.equalsIgnoreCase(moduleCode.toString())
-                        )
-                );
+        return packedModuleCodes != null && person.hasAllModuleCodes(packedModuleCodes);
     }
 
     @Override
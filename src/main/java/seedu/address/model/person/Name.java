@@ -3,9 +3,19 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+import seedu.address.model.util.ValidationUtil;
+
 /**
  * Represents a Person's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
+ * <p>
+ * The name is also held split into its words and case-folded, so that searches match keywords against it without
+ * splitting or folding it again for every keyword.
  */
 public class Name {
 
@@ -20,24 +30,100 @@ public class Name {
 
     public final String fullName;
 
+    /** The words of the name, folded with {@link #fold(String)}. */
+    private final String[] foldedWords;
+
     /**
      * Constructs a {@code Name}.
      *
      * @param name A valid name.
      */
     public Name(String name) {
+        this(name, true);
+    }
+
+    private Name(String name, boolean isChecked) {
         requireNonNull(name);
-        checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
+        if (isChecked) {
+            checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
+        }
         fullName = name;
+        foldedWords = splitIntoWords(fold(name));
+    }
+
+    /**
+     * Returns a {@code Name} holding {@code name} without checking that it is a valid name.
+     * Only for values already known to be valid, such as those read back from a file that this application saved.
+     */
+    public static Name ofTrusted(String name) {
+        return new Name(name, false);
     }
 
     /**
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.isValidName(test);
     }
 
+    /**
+     * Returns {@code text} case-folded in the same way as the words of names, regardless of the default locale.
+     */
+    public static String fold(String text) {
+        return text.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns the words of {@code text}, which are separated by whitespace.
+     */
+    private static String[] splitIntoWords(String text) {
+        int wordCount = 0;
+        for (int i = 0; i < text.length(); i++) {
+            if (isWordStart(text, i)) {
+                wordCount++;
+            }
+        }
+
+        String[] words = new String[wordCount];
+        int start = 0;
+        for (int wordIndex = 0; wordIndex < wordCount; wordIndex++) {
+            while (Character.isWhitespace(text.charAt(start))) {
+                start++;
+            }
+            int end = start;
+            while (end < text.length() && !Character.isWhitespace(text.charAt(end))) {
+                end++;
+            }
+            words[wordIndex] = text.substring(start, end);
+            start = end;
+        }
+        return words;
+    }
+
+    private static boolean isWordStart(String text, int index) {
+        return !Character.isWhitespace(text.charAt(index))
+                && (index == 0 || Character.isWhitespace(text.charAt(index - 1)));
+    }
+
+    /**
+     * Returns true if any word of this name contains {@code foldedKeyword}, which must already be folded with
+     * {@link #fold(String)}. Nothing is allocated, so this can be called for every person in a search.
+     */
+    public boolean hasWordContaining(String foldedKeyword) {
+        for (String word : foldedWords) {
+            if (word.contains(foldedKeyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the words of this name in order, folded with {@link #fold(String)}.
+     */
+    public List<String> getFoldedWords() {
+        return Collections.unmodifiableList(Arrays.asList(foldedWords));
+    }
 
     @Override
     public String toString() {
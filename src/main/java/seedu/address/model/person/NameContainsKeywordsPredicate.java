@@ -1,24 +1,54 @@
 package seedu.address.model.person;
 
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
 import java.util.List;
 import java.util.function.Predicate;
 
-import seedu.address.commons.util.StringUtil;
-
 /**
  * Tests that a {@code Person}'s {@code Name} matches any of the keywords given.
+ * A keyword matches a name if it is part of any word of the name, ignoring case.
+ * The keywords are folded once, here, and matched against the folded words held by each {@code Name}.
  */
 public class NameContainsKeywordsPredicate implements Predicate<Person> {
     private final List<String> keywords;
+    private final String[] foldedKeywords;
 
+    /**
+     * Creates a predicate matching the persons with a name containing any of {@code keywords}, each of which must be
+     * a single word.
+     */
     public NameContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.foldedKeywords = new String[keywords.size()];
+        for (int i = 0; i < keywords.size(); i++) {
+            foldedKeywords[i] = Name.fold(checkKeyword(keywords.get(i)));
+        }
+    }
+
+    /**
+     * Returns {@code keyword} without leading and trailing whitespace, after checking that it is a single word.
+     */
+    private static String checkKeyword(String keyword) {
+        requireNonNull(keyword);
+        String trimmedKeyword = keyword.trim();
+        checkArgument(!trimmedKeyword.isEmpty(), "Word parameter cannot be empty");
+        for (int i = 0; i < trimmedKeyword.length(); i++) {
+            checkArgument(!Character.isWhitespace(trimmedKeyword.charAt(i)), "Word parameter should be a single word");
+        }
+        return trimmedKeyword;
     }
 
     @Override
     public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getName().fullName, keyword));
+        Name name = person.getName();
+        for (String foldedKeyword : foldedKeywords) {
+            if (name.hasWordContaining(foldedKeyword)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
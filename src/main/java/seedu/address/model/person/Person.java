@@ -1,29 +1,45 @@
 package seedu.address.model.person;
 
+import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Supplier;
 
 import seedu.address.model.tag.Tag;
 
 /**
  * Represents a Person in the address book.
  * Guarantees: details are present and not null, field values are validated, immutable.
+ * <p>
+ * A person created with {@link #createLazily(Name, Supplier)} has only its name until any other field is first
+ * asked for, at which point the rest of its fields are loaded.
+ * <p>
+ * Module codes are held in their packed form, as a sorted array of distinct {@code long}s, so that checking whether
+ * a person takes a module is a binary search rather than a lookup in a set of objects.
  */
 public class Person {
 
+    public static final String MESSAGE_LOADED_PERSON_MISMATCH = "Loaded person %s does not match the name %s.";
+
     // Identity fields
     private final Name name;
-    private final Email email;
-    private final Set<ModuleCode> moduleCodes = new HashSet<>();
-    private final TeleHandle teleHandle;
-    private final Phone phone;
-    private final Remark remark;
+
+    // Data fields, set once by the constructor or by the loader
+    private Email email;
+    private long[] moduleCodes;
+    private TeleHandle teleHandle;
+    private Phone phone;
+    private Remark remark;
     private final Set<Tag> tags = new HashSet<>();
 
+    /** Supplies the fully loaded person, or null once the data fields are set. */
+    private volatile Supplier<Person> loader;
 
     /**
      * Every field must be present and not null.
@@ -34,36 +50,137 @@ public class Person {
         this.name = name;
         this.email = email;
         this.remark = remark;
-        this.moduleCodes.addAll(moduleCodes);
+        this.moduleCodes = ModuleCode.packAll(moduleCodes);
         this.phone = phone;
         this.teleHandle = teleHandle;
         this.tags.addAll(tags);
     }
 
+    private Person(Name name, Supplier<Person> loader) {
+        this.name = name;
+        this.loader = loader;
+    }
+
+    /**
+     * Returns a person with the given {@code name}, whose other fields are taken from the person returned by
+     * {@code loader} when any of them is first needed. The loaded person must have the same name.
+     * Until then, the person takes up little more memory than its name.
+     */
+    public static Person createLazily(Name name, Supplier<Person> loader) {
+        requireAllNonNull(name, loader);
+        return new Person(name, loader);
+    }
+
+    /**
+     * Returns true if every field of this person has been loaded.
+     */
+    public boolean isLoaded() {
+        return loader == null;
+    }
+
+    /**
+     * Loads every field of this person, if they have not been loaded yet.
+     */
+    public void load() {
+        if (loader == null) {
+            return;
+        }
+
+        synchronized (this) {
+            Supplier<Person> currentLoader = loader;
+            if (currentLoader == null) {
+                return;
+            }
+            Person loaded = currentLoader.get();
+            checkArgument(loaded.name.equals(name), String.format(MESSAGE_LOADED_PERSON_MISMATCH, loaded.name, name));
+            loaded.load();
+            email = loaded.email;
+            moduleCodes = loaded.moduleCodes;
+            phone = loaded.phone;
+            teleHandle = loaded.teleHandle;
+            remark = loaded.remark;
+            tags.addAll(loaded.tags);
+            loader = null;
+        }
+    }
+
     public Name getName() {
         return name;
     }
 
     public Email getEmail() {
+        load();
         return email;
     }
 
     /**
-     * Returns an immutable module codes set, which throws {@code UnsupportedOperationException}
-     * if modification is attempted.
+     * Returns an immutable module codes set, in the order of the module codes, which throws
+     * {@code UnsupportedOperationException} if modification is attempted.
      */
     public Set<ModuleCode> getModuleCodes() {
-        return Collections.unmodifiableSet(moduleCodes);
+        load();
+        Set<ModuleCode> moduleCodeSet = new LinkedHashSet<>();
+        for (long moduleCode : moduleCodes) {
+            moduleCodeSet.add(ModuleCode.ofPacked(moduleCode));
+        }
+        return Collections.unmodifiableSet(moduleCodeSet);
+    }
+
+    /**
+     * Returns the number of modules this person takes.
+     */
+    public int getModuleCodeCount() {
+        load();
+        return moduleCodes.length;
+    }
+
+    /**
+     * Returns the packed form of the module code at {@code index} in the order of the module codes, for reading the
+     * module codes without creating a set of them.
+     */
+    public long getPackedModuleCode(int index) {
+        load();
+        return moduleCodes[index];
+    }
+
+    /**
+     * Returns true if this person takes the module {@code moduleCode}.
+     */
+    public boolean hasModuleCode(ModuleCode moduleCode) {
+        load();
+        return Arrays.binarySearch(moduleCodes, moduleCode.getPacked()) >= 0;
+    }
+
+    /**
+     * Returns true if this person takes every module in {@code packedModuleCodes}, which must be sorted packed
+     * module codes as returned by {@link ModuleCode#packAll}.
+     */
+    public boolean hasAllModuleCodes(long[] packedModuleCodes) {
+        load();
+        int index = 0;
+        for (long moduleCode : packedModuleCodes) {
+            while (index < moduleCodes.length && moduleCodes[index] < moduleCode) {
+                index++;
+            }
+            if (index == moduleCodes.length || moduleCodes[index] != moduleCode) {
+                return false;
+            }
+        }
+        return true;
     }
 
     public Phone getPhone() {
+        load();
         return phone;
     }
 
     public TeleHandle getTeleHandle() {
+        load();
         return teleHandle;
     }
+
     public Remark getRemark() {
+        load();
         return remark;
     }
 
@@ -72,6 +189,7 @@ public class Person {
      * if modification is attempted.
      */
     public Set<Tag> getTags() {
+        load();
         return Collections.unmodifiableSet(tags);
     }
 
@@ -105,7 +223,7 @@ public class Person {
         Person otherPerson = (Person) other;
         return otherPerson.getName().equals(getName())
                 && otherPerson.getEmail().equals(getEmail())
-                && otherPerson.getModuleCodes().equals(getModuleCodes())
+                && Arrays.equals(otherPerson.moduleCodes, moduleCodes)
                 && otherPerson.getPhone().equals(getPhone())
                 && otherPerson.getTeleHandle().equals(getTeleHandle())
                 && otherPerson.getRemark().equals(getRemark())
@@ -115,7 +233,8 @@ public class Person {
     @Override
     public int hashCode() {
         // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, email, moduleCodes, phone, teleHandle, remark, tags);
+        load();
+        return Objects.hash(name, email, Arrays.hashCode(moduleCodes), phone, teleHandle, remark, tags);
     }
 
     @Override
@@ -145,7 +264,7 @@ public class Person {
             tags.forEach(builder::append);
         }
 
-        if (!remark.toString().trim().isEmpty()) {
+        if (!getRemark().toString().trim().isEmpty()) {
             builder.append("; Remark: ");
             builder.append(getRemark());
         }
@@ -0,0 +1,79 @@
+package seedu.address.model.person;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * An index of persons by a key taken from each person, such as the packed form of their phone number, so that the
+ * persons with a given key are found without looking at everyone. Persons without a key are not indexed.
+ * <p>
+ * The slot of each person in the list of their key is kept as well, so that a person is removed in constant time
+ * however many persons share their key.
+ *
+ * @param <K> the type of the keys.
+ */
+class PersonIndex<K> {
+
+    private final Function<Person, K> keyOf;
+    private final Map<K, List<Person>> personsByKey = new HashMap<>();
+    /** The index of each person in the list of their key, keyed by reference since persons are immutable. */
+    private final Map<Person, Integer> slots = new IdentityHashMap<>();
+
+    /**
+     * Creates an index of {@code persons} by the keys returned by {@code keyOf}, which returns null for a person who
+     * should not be indexed.
+     */
+    PersonIndex(List<Person> persons, Function<Person, K> keyOf) {
+        this.keyOf = keyOf;
+        for (Person person : persons) {
+            add(person);
+        }
+    }
+
+    /**
+     * Adds {@code person} to the index.
+     */
+    void add(Person person) {
+        K key = keyOf.apply(person);
+        if (key != null) {
+            List<Person> persons = personsByKey.computeIfAbsent(key, unused -> new ArrayList<>(1));
+            slots.put(person, persons.size());
+            persons.add(person);
+        }
+    }
+
+    /**
+     * Removes {@code person}, the same object that was added, from the index.
+     * The last person with the same key takes the slot of the removed person.
+     */
+    void remove(Person person) {
+        Integer slot = slots.remove(person);
+        if (slot == null) {
+            return;
+        }
+        K key = keyOf.apply(person);
+        List<Person> persons = personsByKey.get(key);
+        Person lastPerson = persons.remove(persons.size() - 1);
+        if (lastPerson != person) {
+            persons.set(slot, lastPerson);
+            slots.put(lastPerson, slot);
+        }
+        if (persons.isEmpty()) {
+            personsByKey.remove(key);
+        }
+    }
+
+    /**
+     * Returns the persons with the key {@code key}, in no particular order.
+     */
+    List<Person> get(K key) {
+        List<Person> persons = personsByKey.get(key);
+        return persons == null ? Collections.emptyList() : Collections.unmodifiableList(persons);
+    }
+
+}
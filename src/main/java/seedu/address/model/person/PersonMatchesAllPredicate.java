@@ -0,0 +1,39 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Tests that a {@code Person} matches all of the given predicates.
+ */
+public class PersonMatchesAllPredicate implements Predicate<Person> {
+    private final List<Predicate<Person>> predicates;
+
+    /**
+     * Constructs a predicate that matches persons who match every one of {@code predicates}.
+     */
+    public PersonMatchesAllPredicate(List<Predicate<Person>> predicates) {
+        requireNonNull(predicates);
+        this.predicates = new ArrayList<>(predicates);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        for (Predicate<Person> predicate : predicates) {
+            if (!predicate.test(person)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof PersonMatchesAllPredicate // instanceof handles nulls
+                && predicates.equals(((PersonMatchesAllPredicate) other).predicates)); // state check
+    }
+}
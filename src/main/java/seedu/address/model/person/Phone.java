@@ -3,17 +3,29 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.model.util.ValidationUtil;
+
 /**
  * Represents a Person's phone number in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidPhone(String)}
+ * <p>
+ * Each phone number of up to {@value #MAX_PACKED_LENGTH} digits also has a packed form, a {@code long} holding its
+ * digits after a leading 1 so that leading zeros are kept. The packed form is 0 if there is no phone number, and
+ * {@link #NOT_PACKED} if the phone number is too long to pack; such phone numbers are compared by their digits.
  */
 public class Phone {
 
+    /** The most digits a phone number can have for its packed form to fit in a {@code long}. */
+    public static final int MAX_PACKED_LENGTH = 18;
+
+    /** The packed form of phone numbers longer than {@value #MAX_PACKED_LENGTH} digits. */
+    public static final long NOT_PACKED = -1;
 
     public static final String MESSAGE_CONSTRAINTS =
             "Phone numbers should only contain numbers, and it should be at least 3 digits long";
     public static final String VALIDATION_REGEX = "\\d{3,}";
     public final String value;
+    private final long packed;
 
     /**
      * Constructs a {@code Phone}.
@@ -21,16 +33,67 @@ public class Phone {
      * @param phone A valid phone number.
      */
     public Phone(String phone) {
+        this(phone, true);
+    }
+
+    private Phone(String phone, boolean isChecked) {
         requireNonNull(phone);
-        checkArgument(isValidPhone(phone), MESSAGE_CONSTRAINTS);
+        if (isChecked) {
+            checkArgument(isValidPhone(phone), MESSAGE_CONSTRAINTS);
+        }
         value = phone;
+        if (phone.isEmpty()) {
+            packed = 0;
+        } else if (phone.length() > MAX_PACKED_LENGTH) {
+            packed = NOT_PACKED;
+        } else {
+            packed = packDigits(phone);
+        }
+    }
+
+    /**
+     * Returns a {@code Phone} holding {@code phone} without checking that it is a valid phone number.
+     * Only for values already known to be valid, such as those read back from a file that this application saved.
+     */
+    public static Phone ofTrusted(String phone) {
+        return new Phone(phone, false);
     }
 
     /**
      * Returns true if a given string is a valid phone number.
      */
     public static boolean isValidPhone(String test) {
-        return test.equals("") || test.matches(VALIDATION_REGEX);
+        return ValidationUtil.isValidPhone(test);
+    }
+
+    /**
+     * Returns the packed form of {@code digits}, which must be at most {@value #MAX_PACKED_LENGTH} digits: the digits
+     * after a leading 1.
+     */
+    public static long packDigits(String digits) {
+        long packed = 1;
+        for (int i = 0; i < digits.length(); i++) {
+            packed = packed * 10 + digits.charAt(i) - '0';
+        }
+        return packed;
+    }
+
+    /**
+     * Returns the number of digits in the packed form {@code packed} of some digits.
+     */
+    public static int getDigitCount(long packed) {
+        int count = 0;
+        for (long remaining = packed; remaining >= 10; remaining /= 10) {
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Returns the packed form of this phone number, 0 if there is none, or {@link #NOT_PACKED} if it is too long.
+     */
+    public long getPacked() {
+        return packed;
     }
 
     @Override
@@ -42,12 +105,13 @@ public class Phone {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Phone // instanceof handles nulls
-                && value.equals(((Phone) other).value)); // state check
+                && packed == ((Phone) other).packed
+                && (packed != NOT_PACKED || value.equals(((Phone) other).value))); // state check
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return packed == NOT_PACKED ? value.hashCode() : Long.hashCode(packed);
     }
 
 }
@@ -0,0 +1,135 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import seedu.address.model.util.ValidationUtil;
+
+/**
+ * Tests that a {@code Person}'s {@code Phone} matches any of the keywords given.
+ * A keyword of digits matches the whole phone number; a keyword ending in {@code *} matches the start of the phone
+ * number and one starting with {@code *} matches the end of it.
+ * Keywords are matched against the packed forms of the phone numbers, without building any strings. Phone numbers
+ * and keywords too long to pack are matched by their digits instead.
+ */
+public class PhoneMatchesPredicate implements Predicate<Person> {
+
+    public static final String MESSAGE_CONSTRAINTS = "Phone searches should only contain digits, "
+            + "optionally starting or ending with * to match the end or start of phone numbers";
+
+    private static final char WILDCARD = '*';
+
+    private final List<String> keywords;
+    private final String[] digits;
+    private final long[] packedDigits;
+    private final int[] digitCounts;
+    private final boolean[] isPrefixes;
+    private final boolean[] isSuffixes;
+
+    /**
+     * Creates a predicate matching the persons whose phone number matches any of {@code keywords}, which must all be
+     * valid as declared in {@link #isValidKeyword(String)}.
+     */
+    public PhoneMatchesPredicate(List<String> keywords) {
+        this.keywords = keywords;
+        this.digits = new String[keywords.size()];
+        this.packedDigits = new long[keywords.size()];
+        this.digitCounts = new int[keywords.size()];
+        this.isPrefixes = new boolean[keywords.size()];
+        this.isSuffixes = new boolean[keywords.size()];
+        for (int i = 0; i < keywords.size(); i++) {
+            String keyword = keywords.get(i);
+            checkArgument(isValidKeyword(keyword), MESSAGE_CONSTRAINTS);
+            isPrefixes[i] = keyword.charAt(keyword.length() - 1) == WILDCARD;
+            isSuffixes[i] = keyword.charAt(0) == WILDCARD;
+            digits[i] = keyword.substring(isSuffixes[i] ? 1 : 0, keyword.length() - (isPrefixes[i] ? 1 : 0));
+            packedDigits[i] = digits[i].length() > Phone.MAX_PACKED_LENGTH
+                    ? Phone.NOT_PACKED
+                    : Phone.packDigits(digits[i]);
+            digitCounts[i] = digits[i].length();
+        }
+    }
+
+    /**
+     * Returns true if {@code keyword} is at least 1 digit, with an optional {@code *} at either end but not both.
+     */
+    public static boolean isValidKeyword(String keyword) {
+        int start = keyword.startsWith(String.valueOf(WILDCARD)) ? 1 : 0;
+        int end = keyword.length();
+        if (start == 0 && keyword.endsWith(String.valueOf(WILDCARD))) {
+            end--;
+        }
+        if (end <= start) {
+            return false;
+        }
+        for (int i = start; i < end; i++) {
+            if (!ValidationUtil.isDigit(keyword.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        Phone phone = person.getPhone();
+        long packedPhone = phone.getPacked();
+        if (packedPhone == 0) {
+            return false;
+        }
+        int phoneDigitCount = phone.value.length();
+        for (int i = 0; i < packedDigits.length; i++) {
+            boolean isMatch = packedPhone == Phone.NOT_PACKED || packedDigits[i] == Phone.NOT_PACKED
+                    ? matches(phone.value, i)
+                    : matches(packedPhone, phoneDigitCount, i);
+            if (isMatch) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean matches(String phone, int keywordIndex) {
+        if (isPrefixes[keywordIndex]) {
+            return phone.startsWith(digits[keywordIndex]);
+        }
+        if (isSuffixes[keywordIndex]) {
+            return phone.endsWith(digits[keywordIndex]);
+        }
+        return phone.equals(digits[keywordIndex]);
+    }
+
+    private boolean matches(long phone, int phoneDigitCount, int keywordIndex) {
+        long keyword = packedDigits[keywordIndex];
+        int keywordDigitCount = digitCounts[keywordIndex];
+        if (keywordDigitCount > phoneDigitCount) {
+            return false;
+        }
+        if (isPrefixes[keywordIndex]) {
+            // Dropping the trailing digits leaves the leading 1 and the first digits of the phone number.
+            return phone / powerOfTen(phoneDigitCount - keywordDigitCount) == keyword;
+        }
+        if (isSuffixes[keywordIndex]) {
+            long mask = powerOfTen(keywordDigitCount);
+            return phone % mask == keyword % mask;
+        }
+        return phone == keyword;
+    }
+
+    private static long powerOfTen(int exponent) {
+        long power = 1;
+        for (int i = 0; i < exponent; i++) {
+            power *= 10;
+        }
+        return power;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof PhoneMatchesPredicate // instanceof handles nulls
+                && keywords.equals(((PhoneMatchesPredicate) other).keywords)); // state check
+    }
+}
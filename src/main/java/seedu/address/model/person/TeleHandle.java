@@ -5,6 +5,8 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.util.Objects;
 
+import seedu.address.model.util.ValidationUtil;
+
 /**
  * Represents a Person's Telegram handle in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidTeleHandle(String)}
@@ -23,11 +25,25 @@ public class TeleHandle {
      * @param teleHandle A valid Telegram handle.
      */
     public TeleHandle(String teleHandle) {
+        this(teleHandle, true);
+    }
+
+    private TeleHandle(String teleHandle, boolean isChecked) {
         requireNonNull(teleHandle);
-        checkArgument(isValidTeleHandle(teleHandle), MESSAGE_CONSTRAINTS);
+        if (isChecked) {
+            checkArgument(isValidTeleHandle(teleHandle), MESSAGE_CONSTRAINTS);
+        }
         value = teleHandle;
     }
 
+    /**
+     * Returns a {@code TeleHandle} holding {@code teleHandle} without checking that it is a valid Telegram handle.
+     * Only for values already known to be valid, such as those read back from a file that this application saved.
+     */
+    public static TeleHandle ofTrusted(String teleHandle) {
+        return new TeleHandle(teleHandle, false);
+    }
+
     /**
      * Returns true if a given string is a valid Telegram handle.
      *
@@ -35,7 +51,7 @@ public class TeleHandle {
      * @return True if the given string is a valid Telegram handle, false otherwise.
      */
     public static boolean isValidTeleHandle(String test) {
-        return test.equals("") || test.matches(VALIDATION_REGEX);
+        return ValidationUtil.isValidTeleHandle(test);
     }
 
     @Override
@@ -1,13 +1,23 @@
 package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
@@ -20,6 +30,10 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * as to ensure that the person with exactly the same fields will be removed.
  *
  * Supports a minimal set of list operations.
+ * <p>
+ * The persons are also indexed by phone number and by email domain. Each index is only built the first time it is
+ * needed, as building it loads every lazily created person, and is then kept up to date with every change to the list.
+ * Bulk updates only update the indexes for the persons they remove, replace or add.
  *
  * @see Person#isSamePerson(Person)
  */
@@ -28,6 +42,17 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private PersonIndex<Long> phoneIndex;
+    private PersonIndex<String> emailDomainIndex;
+    /** Whether the indexes are already up to date with the change being made to the list. */
+    private boolean areIndexesUpToDate;
+
+    /**
+     * Creates an empty list.
+     */
+    public UniquePersonList() {
+        internalList.addListener(this::updateIndexes);
+    }
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
@@ -37,6 +62,40 @@ public class UniquePersonList implements Iterable<Person> {
         return internalList.stream().anyMatch(toCheck::isSamePerson);
     }
 
+    /**
+     * Returns the persons in the list whose phone number is {@code phone}, which must not be empty.
+     * Phone numbers too long to pack are not indexed, so the persons with them are found by going through the list.
+     */
+    public List<Person> getPersonsWithPhone(Phone phone) {
+        requireNonNull(phone);
+        checkArgument(!phone.value.isEmpty(), "Only persons with a phone number are indexed");
+        if (phone.getPacked() == Phone.NOT_PACKED) {
+            return internalList.stream()
+                    .filter(person -> person.getPhone().equals(phone))
+                    .collect(Collectors.toList());
+        }
+        if (phoneIndex == null) {
+            phoneIndex = new PersonIndex<>(internalList, UniquePersonList::getPhoneKey);
+        }
+        return phoneIndex.get(phone.getPacked());
+    }
+
+    /**
+     * Returns the persons in the list whose email is at {@code domain}, which is matched ignoring case.
+     */
+    public List<Person> getPersonsWithEmailDomain(String domain) {
+        requireNonNull(domain);
+        if (emailDomainIndex == null) {
+            emailDomainIndex = new PersonIndex<>(internalList, person -> person.getEmail().getDomain());
+        }
+        return emailDomainIndex.get(Email.internDomain(domain));
+    }
+
+    private static Long getPhoneKey(Person person) {
+        long phone = person.getPhone().getPacked();
+        return phone == 0 || phone == Phone.NOT_PACKED ? null : phone;
+    }
+
     /**
      * Adds a person to the list.
      * The person must not already exist in the list.
@@ -49,6 +108,21 @@ public class UniquePersonList implements Iterable<Person> {
         internalList.add(toAdd);
     }
 
+    /**
+     * Adds all persons in {@code toAdd} to the end of the list as a single change.
+     * None of the persons may already exist in the list, and {@code toAdd} must not contain duplicate persons.
+     */
+    public void addAll(Collection<Person> toAdd) {
+        requireAllNonNull(toAdd);
+        Set<Name> names = getNames();
+        for (Person person : toAdd) {
+            if (!names.add(person.getName())) {
+                throw new DuplicatePersonException();
+            }
+        }
+        internalList.addAll(toAdd);
+    }
+
     /**
      * Replaces the person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the list.
@@ -69,6 +143,93 @@ public class UniquePersonList implements Iterable<Person> {
         internalList.set(index, editedPerson);
     }
 
+    /**
+     * Replaces each person in {@code targets} with the person at the same position in {@code editedPersons}
+     * as a single change.
+     * Every person in {@code targets} must exist in the list.
+     * The edited persons must not have the same identity as each other or as any person that is not replaced.
+     */
+    public void setPersons(List<Person> targets, List<Person> editedPersons) {
+        updatePersons(Collections.emptyList(), targets, editedPersons);
+    }
+
+    /**
+     * Removes all persons equal to those in {@code toRemove}, and replaces each person in {@code targets} with the
+     * person at the same position in {@code editedPersons}, in a single pass over the list and as a single change.
+     * Every person in {@code toRemove} and {@code targets} must exist in the list, and no person may be both
+     * removed and replaced.
+     * The edited persons must not have the same identity as each other or as any person that remains in the list.
+     */
+    public void updatePersons(Collection<Person> toRemove, List<Person> targets, List<Person> editedPersons) {
+        updatePersons(toRemove, targets, editedPersons, Collections.emptyList());
+    }
+
+    /**
+     * Similar to {@link #updatePersons(Collection, List, List)}, but also adds all persons in {@code toAdd} to the
+     * end of the list as part of the same change.
+     * None of the persons in {@code toAdd} may have the same identity as each other or as any person that remains.
+     */
+    public void updatePersons(Collection<Person> toRemove, List<Person> targets, List<Person> editedPersons,
+                              Collection<Person> toAdd) {
+        requireAllNonNull(toRemove, targets, editedPersons, toAdd);
+        checkArgument(targets.size() == editedPersons.size(), "Each target must have exactly one edited person");
+
+        // Keyed by name, so that only the persons with a matching name are compared field by field.
+        Map<Name, Person> removals = new HashMap<>();
+        for (Person person : toRemove) {
+            removals.put(person.getName(), person);
+        }
+        Map<Name, Integer> targetIndices = new HashMap<>();
+        for (int i = 0; i < targets.size(); i++) {
+            requireNonNull(editedPersons.get(i));
+            targetIndices.put(targets.get(i).getName(), i);
+        }
+
+        List<Person> updatedList = new ArrayList<>(internalList.size());
+        List<Person> oldPersons = new ArrayList<>();
+        List<Person> newPersons = new ArrayList<>(toAdd.size() + editedPersons.size());
+        Set<Name> names = new HashSet<>();
+        for (Person person : internalList) {
+            if (person.equals(removals.get(person.getName()))) {
+                oldPersons.add(person);
+                continue;
+            }
+
+            Person updatedPerson = person;
+            Integer targetIndex = targetIndices.get(person.getName());
+            if (targetIndex != null && person.equals(targets.get(targetIndex))) {
+                updatedPerson = editedPersons.get(targetIndex);
+                oldPersons.add(person);
+                newPersons.add(updatedPerson);
+            }
+            if (!names.add(updatedPerson.getName())) {
+                throw new DuplicatePersonException();
+            }
+            updatedList.add(updatedPerson);
+        }
+        if (oldPersons.size() != removals.size() + targetIndices.size()) {
+            throw new PersonNotFoundException();
+        }
+        for (Person person : toAdd) {
+            requireNonNull(person);
+            if (!names.add(person.getName())) {
+                throw new DuplicatePersonException();
+            }
+            updatedList.add(person);
+            newPersons.add(person);
+        }
+
+        // The indexes are updated before the list, so that listeners of the list see them up to date.
+        updateIndex(phoneIndex, oldPersons, newPersons);
+        updateIndex(emailDomainIndex, oldPersons, newPersons);
+        areIndexesUpToDate = true;
+        try {
+            internalList.setAll(updatedList);
+        } finally {
+            areIndexesUpToDate = false;
+        }
+    }
+
     /**
      * Removes the equivalent person from the list.
      * The person must exist in the list.
@@ -80,6 +241,14 @@ public class UniquePersonList implements Iterable<Person> {
         }
     }
 
+    /**
+     * Removes all persons equal to those in {@code toRemove} from the list as a single change.
+     * Every person in {@code toRemove} must exist in the list.
+     */
+    public void removeAll(Collection<Person> toRemove) {
+        updatePersons(toRemove, Collections.emptyList(), Collections.emptyList());
+    }
+
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
@@ -122,15 +291,50 @@ public class UniquePersonList implements Iterable<Person> {
         return internalList.hashCode();
     }
 
+    private void updateIndexes(ListChangeListener.Change<? extends Person> change) {
+        if (areIndexesUpToDate) {
+            return;
+        }
+        while (change.next()) {
+            updateIndex(phoneIndex, change.getRemoved(), change.getAddedSubList());
+            updateIndex(emailDomainIndex, change.getRemoved(), change.getAddedSubList());
+        }
+    }
+
+    private static void updateIndex(PersonIndex<?> index, List<? extends Person> removedPersons,
+            List<? extends Person> addedPersons) {
+        if (index == null) {
+            return;
+        }
+        for (Person removed : removedPersons) {
+            index.remove(removed);
+        }
+        for (Person added : addedPersons) {
+            index.add(added);
+        }
+    }
+
+    /**
+     * Returns the names of all persons in the list.
+     * Two persons have the same identity exactly when their names are equal, so this set can stand in for
+     * {@code Person#isSamePerson(Person)} checks against the whole list.
+     */
+    private Set<Name> getNames() {
+        Set<Name> names = new HashSet<>();
+        for (Person person : internalList) {
+            names.add(person.getName());
+        }
+        return names;
+    }
+
     /**
      * Returns true if {@code persons} contains only unique persons.
      */
     private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+        Set<Name> names = new HashSet<>();
+        for (Person person : persons) {
+            if (!names.add(person.getName())) {
+                return false;
             }
         }
         return true;
@@ -3,6 +3,8 @@ package seedu.address.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.model.util.ValidationUtil;
+
 /**
  * Represents a Tag in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
@@ -20,16 +22,30 @@ public class Tag {
      * @param tagName A valid tag name.
      */
     public Tag(String tagName) {
+        this(tagName, true);
+    }
+
+    private Tag(String tagName, boolean isChecked) {
         requireNonNull(tagName);
-        checkArgument(isValidTagName(tagName), MESSAGE_CONSTRAINTS);
+        if (isChecked) {
+            checkArgument(isValidTagName(tagName), MESSAGE_CONSTRAINTS);
+        }
         this.tagName = tagName;
     }
 
+    /**
+     * Returns a {@code Tag} holding {@code tagName} without checking that it is a valid tag name.
+     * Only for values already known to be valid, such as those read back from a file that this application saved.
+     */
+    public static Tag ofTrusted(String tagName) {
+        return new Tag(tagName, false);
+    }
+
     /**
      * Returns true if a given string is a valid tag name.
      */
     public static boolean isValidTagName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.isValidTagName(test);
     }
 
     @Override
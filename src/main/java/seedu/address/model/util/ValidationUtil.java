@@ -0,0 +1,257 @@
+package seedu.address.model.util;
+
+/**
+ * Hand-written checks for the formats of person fields, each accepting exactly the strings matched by the
+ * {@code VALIDATION_REGEX} of its field.
+ * The checks scan the string once without compiling a pattern or allocating, as they run for every field of every
+ * person parsed or read from a file.
+ */
+public class ValidationUtil {
+
+    private static final int MIN_PHONE_LENGTH = 3;
+    private static final int MIN_TELE_HANDLE_NAME_LENGTH = 5;
+    private static final int MIN_MODULE_CODE_PREFIX_LENGTH = 2;
+    private static final int MAX_MODULE_CODE_PREFIX_LENGTH = 3;
+    private static final int MODULE_CODE_NUMBER_LENGTH = 4;
+    private static final String EMAIL_LOCAL_PART_SPECIAL_CHARACTERS = "+_.-";
+
+    private ValidationUtil() {}
+
+    /**
+     * Returns true if {@code c} is an ASCII letter, as matched by {@code [a-zA-Z]}.
+     */
+    public static boolean isLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    /**
+     * Returns true if {@code c} is an ASCII digit, as matched by {@code \d}.
+     */
+    public static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Returns true if {@code c} is an ASCII letter or digit, as matched by {@code \p{Alnum}} and {@code [^\W_]}.
+     */
+    public static boolean isAlphanumeric(char c) {
+        return isLetter(c) || isDigit(c);
+    }
+
+    /**
+     * Returns true if {@code test} is not empty and only contains ASCII letters and digits.
+     */
+    public static boolean isAlphanumeric(String test) {
+        return isAlphanumeric(test, 0, test.length());
+    }
+
+    /**
+     * Returns true if the characters of {@code test} from {@code start} (inclusive) to {@code end} (exclusive) are
+     * not empty and are all ASCII letters and digits.
+     */
+    private static boolean isAlphanumeric(String test, int start, int end) {
+        if (start >= end) {
+            return false;
+        }
+        for (int i = start; i < end; i++) {
+            if (!isAlphanumeric(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} is a valid name, matching {@code [\p{Alnum}][\p{Alnum} ]*}.
+     */
+    public static boolean isValidName(String test) {
+        if (test.isEmpty() || !isAlphanumeric(test.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (c != ' ' && !isAlphanumeric(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} is empty or a valid phone number, matching {@code \d{3,}}.
+     */
+    public static boolean isValidPhone(String test) {
+        if (test.isEmpty()) {
+            return true;
+        }
+        if (test.length() < MIN_PHONE_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < test.length(); i++) {
+            if (!isDigit(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} is empty or a valid telegram handle, matching {@code @[\p{Alnum}]{5,}}.
+     */
+    public static boolean isValidTeleHandle(String test) {
+        if (test.isEmpty()) {
+            return true;
+        }
+        return test.length() >= 1 + MIN_TELE_HANDLE_NAME_LENGTH && test.charAt(0) == '@'
+                && isAlphanumeric(test, 1, test.length());
+    }
+
+    /**
+     * Returns true if {@code test} is a valid module code, matching {@code [a-zA-Z]{2,3}[\d]{4}[a-zA-Z]*}.
+     */
+    public static boolean isValidModuleCode(String test) {
+        int length = test.length();
+        int prefixEnd = 0;
+        while (prefixEnd < length && isLetter(test.charAt(prefixEnd))) {
+            prefixEnd++;
+        }
+        if (prefixEnd < MIN_MODULE_CODE_PREFIX_LENGTH || prefixEnd > MAX_MODULE_CODE_PREFIX_LENGTH) {
+            return false;
+        }
+
+        int numberEnd = prefixEnd + MODULE_CODE_NUMBER_LENGTH;
+        if (numberEnd > length) {
+            return false;
+        }
+        for (int i = prefixEnd; i < numberEnd; i++) {
+            if (!isDigit(test.charAt(i))) {
+                return false;
+            }
+        }
+        for (int i = numberEnd; i < length; i++) {
+            if (!isLetter(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} is a valid tag name, matching {@code \p{Alnum}+}.
+     */
+    public static boolean isValidTagName(String test) {
+        return isAlphanumeric(test);
+    }
+
+    /**
+     * Returns true if {@code test} is empty or a valid remark, matching {@code [\p{ASCII}]+[^\s]}: at least one
+     * ASCII character followed by a final character that is not whitespace.
+     */
+    public static boolean isValidRemark(String test) {
+        if (test.isEmpty()) {
+            return true;
+        }
+        int lastCodePoint = test.codePointBefore(test.length());
+        int lastIndex = test.length() - Character.charCount(lastCodePoint);
+        if (lastIndex < 1 || isRegexWhitespace(lastCodePoint)) {
+            return false;
+        }
+        for (int i = 0; i < lastIndex; i++) {
+            if (test.charAt(i) > 0x7F) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code codePoint} is whitespace as matched by {@code \s}.
+     */
+    private static boolean isRegexWhitespace(int codePoint) {
+        return codePoint == ' ' || codePoint == '\t' || codePoint == '\n' || codePoint == 0x0B
+                || codePoint == '\f' || codePoint == '\r';
+    }
+
+    /**
+     * Returns true if {@code test} is a valid email, matching the {@code VALIDATION_REGEX} of
+     * {@link seedu.address.model.person.Email}.
+     * The local part is runs of letters and digits joined by single characters from {@code +_.-}. The domain is
+     * labels of letters and digits, joined by single hyphens within a label, separated by periods; the last label
+     * must have two letters or digits in a row.
+     */
+    public static boolean isValidEmail(String test) {
+        int at = test.indexOf('@');
+        if (at < 0) {
+            return false;
+        }
+        return isValidEmailLocalPart(test, at) && isValidEmailDomain(test, at + 1);
+    }
+
+    private static boolean isValidEmailLocalPart(String test, int end) {
+        boolean isPreviousAlphanumeric = false;
+        for (int i = 0; i < end; i++) {
+            char c = test.charAt(i);
+            if (isAlphanumeric(c)) {
+                isPreviousAlphanumeric = true;
+            } else if (isPreviousAlphanumeric && EMAIL_LOCAL_PART_SPECIAL_CHARACTERS.indexOf(c) >= 0) {
+                isPreviousAlphanumeric = false;
+            } else {
+                return false;
+            }
+        }
+        return isPreviousAlphanumeric;
+    }
+
+    /**
+     * Returns true if {@code test} is a valid domain of an email, as matched by the part of the
+     * {@code VALIDATION_REGEX} of {@link seedu.address.model.person.Email} after the '@'.
+     */
+    public static boolean isValidEmailDomain(String test) {
+        return isValidEmailDomain(test, 0);
+    }
+
+    private static boolean isValidEmailDomain(String test, int start) {
+        int length = test.length();
+        int labelStart = start;
+        while (true) {
+            int labelEnd = test.indexOf('.', labelStart);
+            if (labelEnd < 0) {
+                return isValidDomainLabel(test, labelStart, length)
+                        && hasAdjacentAlphanumerics(test, labelStart, length);
+            }
+            if (!isValidDomainLabel(test, labelStart, labelEnd)) {
+                return false;
+            }
+            labelStart = labelEnd + 1;
+        }
+    }
+
+    /**
+     * Returns true if the characters from {@code start} to {@code end} are runs of letters and digits joined by
+     * single hyphens.
+     */
+    private static boolean isValidDomainLabel(String test, int start, int end) {
+        boolean isPreviousAlphanumeric = false;
+        for (int i = start; i < end; i++) {
+            char c = test.charAt(i);
+            if (isAlphanumeric(c)) {
+                isPreviousAlphanumeric = true;
+            } else if (isPreviousAlphanumeric && c == '-') {
+                isPreviousAlphanumeric = false;
+            } else {
+                return false;
+            }
+        }
+        return isPreviousAlphanumeric;
+    }
+
+    private static boolean hasAdjacentAlphanumerics(String test, int start, int end) {
+        for (int i = start + 1; i < end; i++) {
+            if (isAlphanumeric(test.charAt(i - 1)) && isAlphanumeric(test.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
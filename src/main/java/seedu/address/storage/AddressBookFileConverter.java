@@ -0,0 +1,56 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Converts address book files between the json and binary formats.
+ * The format of each file is chosen by its extension: {@link BinaryAddressBookStorage#FILE_EXTENSION} for the
+ * binary format, and json for any other extension.
+ */
+public class AddressBookFileConverter {
+
+    public static final String MESSAGE_USAGE = "Usage: AddressBookFileConverter SOURCE_FILE TARGET_FILE";
+
+    /**
+     * Reads the address book in {@code source} and writes it to {@code target}, replacing any existing file.
+     *
+     * @throws NoSuchFileException if {@code source} does not exist.
+     * @throws DataConversionException if {@code source} is not in the correct format.
+     * @throws IOException if {@code target} cannot be written.
+     */
+    public static void convert(Path source, Path target) throws DataConversionException, IOException {
+        requireNonNull(source);
+        requireNonNull(target);
+
+        ReadOnlyAddressBook addressBook = getStorage(source).readAddressBook()
+                .orElseThrow(() -> new NoSuchFileException(source.toString()));
+        getStorage(target).saveAddressBook(addressBook);
+    }
+
+    private static AddressBookStorage getStorage(Path filePath) {
+        if (filePath.getFileName().toString().endsWith(BinaryAddressBookStorage.FILE_EXTENSION)) {
+            return new BinaryAddressBookStorage(filePath);
+        }
+        return new JsonAddressBookStorage(filePath);
+    }
+
+    /**
+     * Converts the file named by the first argument into the file named by the second.
+     */
+    public static void main(String[] args) throws DataConversionException, IOException {
+        if (args.length != 2) {
+            System.err.println(MESSAGE_USAGE);
+            System.exit(1);
+        }
+        convert(Paths.get(args[0]), Paths.get(args[1]));
+    }
+
+}
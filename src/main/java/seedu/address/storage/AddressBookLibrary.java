@@ -0,0 +1,231 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Keeps track of the named address books kept in one directory, each saved to its own file through its own
+ * {@code AddressBookStorage}. Exactly one of them is current at any time.
+ * <p>
+ * The books that were recently switched away from stay resident in memory, together with their storage, so that
+ * switching back to one of them does not read its file again. Resident books are kept in least-recently-used order,
+ * and the least recently used ones are evicted once their estimated size exceeds the memory budget.
+ * A book is saved when it is switched away from, and is not changed while it is resident, so it never needs to be
+ * saved again when it is evicted.
+ */
+public class AddressBookLibrary {
+
+    public static final String MESSAGE_CONSTRAINTS =
+            "Address book names should only contain letters, digits, hyphens and underscores, and not be blank";
+    public static final String VALIDATION_REGEX = "[\\p{Alnum}_-]+";
+
+    /** Rough number of bytes a resident person takes up in memory, used to estimate the size of resident books. */
+    public static final long ESTIMATED_BYTES_PER_PERSON = 2048;
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookLibrary.class);
+
+    /** The path of the first current address book, which the paths of the other books are siblings of. */
+    private final Path firstFilePath;
+    private final String fileExtension;
+    private final Function<Path, AddressBookStorage> storageFactory;
+    private final long memoryBudgetBytes;
+    private final Map<String, ResidentAddressBook> residentAddressBooks = new LinkedHashMap<>(16, 0.75f, true);
+
+    private String currentName;
+    private AddressBookStorage currentStorage;
+
+    /**
+     * Creates a library of the address books in the directory of {@code currentFilePath}, with the book at
+     * {@code currentFilePath}, saved through {@code currentStorage}, as the current one.
+     * The other books are at paths with the same extension, and are saved through storages made from their paths by
+     * {@code storageFactory}.
+     */
+    public AddressBookLibrary(Path currentFilePath, AddressBookStorage currentStorage,
+                              Function<Path, AddressBookStorage> storageFactory, long memoryBudgetBytes) {
+        requireNonNull(currentFilePath);
+        requireNonNull(currentStorage);
+        requireNonNull(storageFactory);
+        String fileName = currentFilePath.getFileName().toString();
+        int extensionIndex = fileName.lastIndexOf('.');
+
+        this.firstFilePath = currentFilePath;
+        this.fileExtension = extensionIndex > 0 ? fileName.substring(extensionIndex) : "";
+        this.storageFactory = storageFactory;
+        this.memoryBudgetBytes = memoryBudgetBytes;
+        this.currentName = extensionIndex > 0 ? fileName.substring(0, extensionIndex) : fileName;
+        this.currentStorage = currentStorage;
+    }
+
+    /**
+     * Returns true if {@code name} is a valid address book name.
+     */
+    public static boolean isValidName(String name) {
+        return name.matches(VALIDATION_REGEX);
+    }
+
+    public String getCurrentName() {
+        return currentName;
+    }
+
+    public AddressBookStorage getCurrentStorage() {
+        return currentStorage;
+    }
+
+    /**
+     * Returns the path of the address book named {@code name}, from which its storage is made.
+     */
+    public Path getFilePath(String name) {
+        checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
+        return firstFilePath.resolveSibling(name + fileExtension);
+    }
+
+    /**
+     * Returns true if there is an address book named {@code name}, whether it is current, resident or only saved.
+     */
+    public boolean hasAddressBook(String name) {
+        if (name.equals(currentName) || residentAddressBooks.containsKey(name)) {
+            return true;
+        }
+        Path filePath = getFilePath(name);
+        return Files.exists(filePath) || Files.exists(storageFactory.apply(filePath).getAddressBookFilePath());
+    }
+
+    /**
+     * Returns true if the address book named {@code name} is resident in memory.
+     */
+    public boolean isResident(String name) {
+        return residentAddressBooks.containsKey(name);
+    }
+
+    /**
+     * Returns the names of the resident address books, least recently used first.
+     */
+    List<String> getResidentNames() {
+        return new ArrayList<>(residentAddressBooks.keySet());
+    }
+
+    /**
+     * Makes the address book named {@code name} the current one and returns it. The book is taken from memory if it
+     * is resident, or read from its file otherwise; an empty book is returned if it has no file yet.
+     * {@code currentAddressBook}, the data of the book that was current, is saved and kept resident.
+     *
+     * @throws DataConversionException if the file of the book is not in the correct format.
+     * @throws IOException if the book cannot be read, or the current book cannot be saved.
+     */
+    public ReadOnlyAddressBook switchTo(String name, ReadOnlyAddressBook currentAddressBook)
+            throws DataConversionException, IOException {
+        requireNonNull(name);
+        requireNonNull(currentAddressBook);
+        checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
+        if (name.equals(currentName)) {
+            return currentAddressBook;
+        }
+
+        ResidentAddressBook target = residentAddressBooks.get(name);
+        if (target == null) {
+            logger.fine("Reading address book " + name + " from its file");
+            AddressBookStorage storage = storageFactory.apply(getFilePath(name));
+            ReadOnlyAddressBook addressBook = storage.readAddressBook().orElseGet(AddressBook::new);
+            target = new ResidentAddressBook(storage, addressBook);
+        }
+
+        currentStorage.saveAddressBook(currentAddressBook);
+        residentAddressBooks.remove(name);
+        residentAddressBooks.put(currentName, new ResidentAddressBook(currentStorage,
+                new AddressBook(currentAddressBook)));
+        currentName = name;
+        currentStorage = target.storage;
+        evictOverBudget();
+        return target.addressBook;
+    }
+
+    /**
+     * Evicts the resident address book saved to {@code filePath}, if any, so that it is read from its file again when
+     * it is next switched to. This is for books whose files were changed outside of the app while they were resident.
+     */
+    public void evict(Path filePath) {
+        requireNonNull(filePath);
+        Iterator<Map.Entry<String, ResidentAddressBook>> iterator = residentAddressBooks.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, ResidentAddressBook> resident = iterator.next();
+            if (resident.getValue().storage.getAddressBookFilePath().equals(filePath)) {
+                iterator.remove();
+                logger.fine("Evicting address book " + resident.getKey() + " as its file was changed");
+                resident.getValue().close();
+            }
+        }
+    }
+
+    /**
+     * Evicts every resident address book, and closes the storage of the current one.
+     * @throws IOException if there was any problem closing the current storage.
+     */
+    public void close() throws IOException {
+        for (ResidentAddressBook resident : residentAddressBooks.values()) {
+            resident.close();
+        }
+        residentAddressBooks.clear();
+        currentStorage.close();
+    }
+
+    private void evictOverBudget() {
+        long residentBytes = 0;
+        for (ResidentAddressBook resident : residentAddressBooks.values()) {
+            residentBytes += resident.getEstimatedBytes();
+        }
+
+        Iterator<Map.Entry<String, ResidentAddressBook>> iterator = residentAddressBooks.entrySet().iterator();
+        while (residentBytes > memoryBudgetBytes && iterator.hasNext()) {
+            Map.Entry<String, ResidentAddressBook> eldest = iterator.next();
+            iterator.remove();
+            residentBytes -= eldest.getValue().getEstimatedBytes();
+            logger.fine("Evicting address book " + eldest.getKey() + " from memory");
+            eldest.getValue().close();
+        }
+    }
+
+    /**
+     * An address book kept in memory together with the storage it is saved through.
+     */
+    private static class ResidentAddressBook {
+        private final AddressBookStorage storage;
+        private final ReadOnlyAddressBook addressBook;
+
+        ResidentAddressBook(AddressBookStorage storage, ReadOnlyAddressBook addressBook) {
+            this.storage = storage;
+            this.addressBook = addressBook;
+        }
+
+        long getEstimatedBytes() {
+            return addressBook.getPersonList().size() * ESTIMATED_BYTES_PER_PERSON;
+        }
+
+        /**
+         * Releases the files held by the storage, if any.
+         */
+        void close() {
+            try {
+                storage.close();
+            } catch (IOException e) {
+                logger.warning("Failed to close the storage of " + storage.getAddressBookFilePath() + ": " + e);
+            }
+        }
+    }
+
+}
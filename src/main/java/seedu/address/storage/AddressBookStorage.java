@@ -42,4 +42,12 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Releases any files or threads held by the storage.
+     * Storages that hold none need not override this.
+     * @throws IOException if there was any problem closing a file.
+     */
+    default void close() throws IOException {
+    }
+
 }
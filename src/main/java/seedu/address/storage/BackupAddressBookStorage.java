@@ -0,0 +1,269 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * An {@code AddressBookStorage} that keeps rolling, timestamped json backups of the address book saved through
+ * another {@code AddressBookStorage}.
+ * <p>
+ * When the address book is saved and the last backup is older than the backup interval, the persons in it are copied
+ * into a new list, which only copies references since persons are immutable. The backup is then written from that
+ * list on a background thread, so a save never waits for a backup. Once a backup is written, the oldest backups are
+ * deleted so that at most the given number of them are kept.
+ */
+public class BackupAddressBookStorage implements AddressBookStorage {
+
+    public static final String BACKUP_FILE_EXTENSION = ".json";
+
+    private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS");
+    private static final String TIMESTAMP_REGEX = "\\d{8}-\\d{6}-\\d{3}";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final long CLOSE_TIMEOUT_SECONDS = 10;
+
+    private static final Logger logger = LogsCenter.getLogger(BackupAddressBookStorage.class);
+
+    private final AddressBookStorage storage;
+    private final Path backupDirectoryPath;
+    private final Duration backupInterval;
+    private final int maxBackupCount;
+    private final Clock clock;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "address-book-backup");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private Instant lastBackupTime;
+    private List<Person> lastBackupPersons;
+
+    /**
+     * Creates a storage that saves through {@code storage}, and backs up the address book into the directory at
+     * {@code backupDirectoryPath} at most once every {@code backupInterval}, keeping the latest
+     * {@code maxBackupCount} backups.
+     */
+    public BackupAddressBookStorage(AddressBookStorage storage, Path backupDirectoryPath, Duration backupInterval,
+                                    int maxBackupCount) {
+        this(storage, backupDirectoryPath, backupInterval, maxBackupCount, Clock.systemDefaultZone());
+    }
+
+    /**
+     * Similar to {@link #BackupAddressBookStorage(AddressBookStorage, Path, Duration, int)}, but backups are timed
+     * and named with {@code clock}.
+     */
+    BackupAddressBookStorage(AddressBookStorage storage, Path backupDirectoryPath, Duration backupInterval,
+                             int maxBackupCount, Clock clock) {
+        requireNonNull(storage);
+        requireNonNull(backupDirectoryPath);
+        requireNonNull(backupInterval);
+        requireNonNull(clock);
+        this.storage = storage;
+        this.backupDirectoryPath = backupDirectoryPath;
+        this.backupInterval = backupInterval;
+        this.maxBackupCount = maxBackupCount;
+        this.clock = clock;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return storage.getAddressBookFilePath();
+    }
+
+    public Path getBackupDirectoryPath() {
+        return backupDirectoryPath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return storage.readAddressBook();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException, IOException {
+        return storage.readAddressBook(filePath);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, getAddressBookFilePath());
+    }
+
+    /**
+     * Saves {@code addressBook} through the underlying storage, and starts a backup of it in the background if one is
+     * due. Only saves to the storage's own file are backed up.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        storage.saveAddressBook(addressBook, filePath);
+        if (filePath.equals(getAddressBookFilePath())) {
+            backUpIfDue(addressBook.getPersonList());
+        }
+    }
+
+    private synchronized void backUpIfDue(List<Person> persons) {
+        if (executor.isShutdown()) {
+            return;
+        }
+        Instant now = clock.instant();
+        if (lastBackupTime != null && now.isBefore(lastBackupTime.plus(backupInterval))) {
+            return;
+        }
+        if (isSameReferences(persons, lastBackupPersons)) {
+            return;
+        }
+
+        List<Person> snapshot = Collections.unmodifiableList(new ArrayList<>(persons));
+        lastBackupTime = now;
+        lastBackupPersons = snapshot;
+        executor.execute(() -> backUp(snapshot, now));
+    }
+
+    private static boolean isSameReferences(List<Person> persons, List<Person> otherPersons) {
+        if (otherPersons == null || persons.size() != otherPersons.size()) {
+            return false;
+        }
+        for (int i = 0; i < persons.size(); i++) {
+            if (persons.get(i) != otherPersons.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Stops taking backups, waits for those already started to be written, and closes the underlying storage.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                logger.warning("Timed out waiting for the backups of the address book to be written");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        storage.close();
+    }
+
+    /**
+     * Writes {@code persons} as a backup taken at {@code time}, and deletes the backups beyond the latest
+     * {@code maxBackupCount}. The backup is written to a temporary file first, which is deleted if it cannot be
+     * written, and is left over only if the application exits while writing it; such files are deleted with the old
+     * backups.
+     */
+    private void backUp(List<Person> persons, Instant time) {
+        Path backupPath = getBackupFilePath(time);
+        Path tempPath = backupPath.resolveSibling(backupPath.getFileName() + TEMP_FILE_SUFFIX);
+        try {
+            FileUtil.createParentDirsOfFile(backupPath);
+            new JsonAddressBookStorage(tempPath).savePersons(persons, tempPath);
+            Files.move(tempPath, backupPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            logger.fine("Backed up the address book to " + backupPath);
+            deleteOldBackups();
+        } catch (IOException | RuntimeException e) {
+            // A lazily read person that cannot be loaded fails the backup with a runtime exception.
+            logger.warning("Failed to back up the address book to " + backupPath + ": " + e);
+            try {
+                Files.deleteIfExists(tempPath);
+            } catch (IOException deleteException) {
+                logger.warning("Failed to delete " + tempPath + ": " + deleteException);
+            }
+        }
+    }
+
+    /**
+     * Returns the path of the backup taken at {@code time}. Backups sort by name in the order they were taken.
+     */
+    private Path getBackupFilePath(Instant time) {
+        String timestamp = TIMESTAMP_FORMAT.format(time.atZone(ZoneId.systemDefault()));
+        return backupDirectoryPath.resolve(getBaseName() + "-" + timestamp + BACKUP_FILE_EXTENSION);
+    }
+
+    private String getBaseName() {
+        String fileName = getAddressBookFilePath().getFileName().toString();
+        int extensionIndex = fileName.lastIndexOf('.');
+        return extensionIndex > 0 ? fileName.substring(0, extensionIndex) : fileName;
+    }
+
+    /**
+     * Returns the backups of this address book, oldest first.
+     * The backup directory may be shared by several address books, so only names that are exactly this address
+     * book's name followed by a timestamp are matched; the backups of {@code addressbook-old.json} are not backups
+     * of {@code addressbook.json}.
+     */
+    List<Path> getBackupFilePaths() throws IOException {
+        return getFilePaths(BACKUP_FILE_EXTENSION);
+    }
+
+    /**
+     * Returns the files in the backup directory named as backups of this address book with {@code suffix} in place
+     * of the extension, sorted by name.
+     */
+    private List<Path> getFilePaths(String suffix) throws IOException {
+        List<Path> filePaths = new ArrayList<>();
+        if (!Files.isDirectory(backupDirectoryPath)) {
+            return filePaths;
+        }
+
+        Pattern fileNamePattern = Pattern.compile(Pattern.quote(getBaseName()) + "-" + TIMESTAMP_REGEX
+                + Pattern.quote(suffix));
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(backupDirectoryPath, path ->
+                fileNamePattern.matcher(path.getFileName().toString()).matches())) {
+            files.forEach(filePaths::add);
+        }
+        Collections.sort(filePaths);
+        return filePaths;
+    }
+
+    /**
+     * Deletes the backups beyond the latest {@code maxBackupCount}, and any temporary files left over from backups
+     * that were being written when the application exited.
+     */
+    private void deleteOldBackups() throws IOException {
+        List<Path> backupPaths = getBackupFilePaths();
+        for (int i = 0; i < backupPaths.size() - maxBackupCount; i++) {
+            Files.deleteIfExists(backupPaths.get(i));
+        }
+        for (Path tempPath : getFilePaths(BACKUP_FILE_EXTENSION + TEMP_FILE_SUFFIX)) {
+            Files.deleteIfExists(tempPath);
+        }
+    }
+
+    /**
+     * Waits for every backup started so far to finish.
+     */
+    void awaitBackups() throws InterruptedException, ExecutionException {
+        executor.submit(() -> { }).get();
+    }
+
+}
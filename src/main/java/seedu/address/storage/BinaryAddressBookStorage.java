@@ -0,0 +1,327 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.ModuleCode;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Remark;
+import seedu.address.model.person.TeleHandle;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A class to access AddressBook data stored as a binary file on the hard disk.
+ * <p>
+ * The file starts with {@link #MAGIC} and {@link #FORMAT_VERSION}, followed by the number of persons and then each
+ * person's name, email, phone, telegram handle, remark, module codes and tags. Every string is stored as its
+ * length followed by its UTF-8 bytes, and every length and count as a variable-length integer.
+ * <p>
+ * If the binary file does not exist yet, the address book is read once from the json file it replaces and saved in
+ * the binary format.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    public static final String FILE_EXTENSION = ".bin";
+    /** The bytes "CHAB" at the start of every binary address book. */
+    public static final int MAGIC = 0x43484142;
+    public static final int FORMAT_VERSION = 1;
+
+    public static final String MESSAGE_NOT_BINARY_ADDRESS_BOOK = "The file is not a binary address book.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Version %d of the binary address book is not supported.";
+    public static final String MESSAGE_MALFORMED_LENGTH = "The file contains a malformed length.";
+    public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
+    public static final String MESSAGE_STRING_TOO_LONG = "The file contains a string longer than %d bytes.";
+
+    /**
+     * The length of the longest string read, in bytes. Far longer than any field, so that a corrupt length is
+     * rejected before its bytes are allocated.
+     */
+    public static final int MAX_STRING_LENGTH = 1 << 20;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private final Path filePath;
+    private final Path jsonFilePath;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this(filePath, null);
+    }
+
+    /**
+     * Creates a storage for the binary file at {@code filePath}, which is migrated from the json file at
+     * {@code jsonFilePath} the first time it is read if it does not exist yet.
+     *
+     * @param jsonFilePath may be null if there is nothing to migrate from.
+     */
+    public BinaryAddressBookStorage(Path filePath, Path jsonFilePath) {
+        this.filePath = filePath;
+        this.jsonFilePath = jsonFilePath;
+    }
+
+    /**
+     * Returns the path of the binary file that replaces the json file at {@code jsonFilePath}.
+     */
+    public static Path toBinaryFilePath(Path jsonFilePath) {
+        return FileUtil.replaceExtension(jsonFilePath, FILE_EXTENSION);
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            if (filePath.equals(this.filePath) && jsonFilePath != null && Files.exists(jsonFilePath)) {
+                return migrateFromJson();
+            }
+            logger.info("Binary file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(filePath)))) {
+            return Optional.of(readFrom(in));
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Reads the address book from the json file and saves it in the binary format.
+     * If the binary file cannot be written, the migration is attempted again on the next read.
+     */
+    private Optional<ReadOnlyAddressBook> migrateFromJson() throws DataConversionException {
+        Optional<ReadOnlyAddressBook> addressBook = new JsonAddressBookStorage(jsonFilePath).readAddressBook();
+        if (!addressBook.isPresent()) {
+            return addressBook;
+        }
+
+        try {
+            saveAddressBook(addressBook.get());
+            logger.info("Migrated " + jsonFilePath + " to " + filePath);
+        } catch (IOException e) {
+            logger.warning("Failed to migrate " + jsonFilePath + " to " + filePath + ": " + e);
+        }
+        return addressBook;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.createIfMissing(filePath);
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(filePath)))) {
+            writeTo(addressBook.getPersonList(), out);
+        }
+    }
+
+    /**
+     * Writes {@code persons} to {@code out} in the binary format.
+     */
+    static void writeTo(List<Person> persons, DataOutput out) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeInt(FORMAT_VERSION);
+        writeLength(persons.size(), out);
+        for (Person person : persons) {
+            writePerson(person, out);
+        }
+    }
+
+    /**
+     * Writes the fields of {@code person} to {@code out} in the binary format.
+     */
+    static void writePerson(Person person, DataOutput out) throws IOException {
+        writeString(person.getName().fullName, out);
+        writeString(person.getEmail().toString(), out);
+        writeString(person.getPhone().value, out);
+        writeString(person.getTeleHandle().value, out);
+        writeString(person.getRemark().value, out);
+        writeLength(person.getModuleCodeCount(), out);
+        for (int i = 0; i < person.getModuleCodeCount(); i++) {
+            writeString(ModuleCode.unpack(person.getPackedModuleCode(i)), out);
+        }
+        writeLength(person.getTags().size(), out);
+        for (Tag tag : person.getTags()) {
+            writeString(tag.tagName, out);
+        }
+    }
+
+    /**
+     * Reads an address book in the binary format from {@code in}.
+     *
+     * @throws IOException if the input ends early or is not in the binary format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static AddressBook readFrom(DataInput in) throws IOException, IllegalValueException {
+        if (in.readInt() != MAGIC) {
+            throw new IllegalValueException(MESSAGE_NOT_BINARY_ADDRESS_BOOK);
+        }
+        int version = in.readInt();
+        if (version != FORMAT_VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+
+        int personCount = readLength(in);
+        List<Person> persons = new ArrayList<>(Math.min(personCount, 1 << 16));
+        Set<Name> names = new HashSet<>();
+        for (int i = 0; i < personCount; i++) {
+            Person person = readPerson(in);
+            if (!names.add(person.getName())) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+            }
+            persons.add(person);
+        }
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPersons(persons);
+        return addressBook;
+    }
+
+    /**
+     * Reads the fields of a person written by {@link #writePerson(Person, DataOutput)} from {@code in}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static Person readPerson(DataInput in) throws IOException, IllegalValueException {
+        Name name = readName(in);
+        String email = readString(in);
+        checkValid(Email.isValidEmail(email), Email.MESSAGE_CONSTRAINTS);
+        String phone = readString(in);
+        checkValid(Phone.isValidPhone(phone), Phone.MESSAGE_CONSTRAINTS);
+        String teleHandle = readString(in);
+        checkValid(TeleHandle.isValidTeleHandle(teleHandle), TeleHandle.MESSAGE_CONSTRAINTS);
+        String remark = readString(in);
+
+        Set<ModuleCode> moduleCodes = new HashSet<>();
+        int moduleCodeCount = readLength(in);
+        for (int i = 0; i < moduleCodeCount; i++) {
+            String moduleCode = readString(in);
+            checkValid(ModuleCode.isValidModuleCode(moduleCode), ModuleCode.MESSAGE_CONSTRAINTS);
+            moduleCodes.add(new ModuleCode(moduleCode));
+        }
+
+        Set<Tag> tags = new HashSet<>();
+        int tagCount = readLength(in);
+        for (int i = 0; i < tagCount; i++) {
+            String tagName = readString(in);
+            checkValid(Tag.isValidTagName(tagName), Tag.MESSAGE_CONSTRAINTS);
+            tags.add(new Tag(tagName));
+        }
+
+        return new Person(name, new Email(email), moduleCodes, new Phone(phone),
+                new TeleHandle(teleHandle), new Remark(remark), tags);
+    }
+
+    /**
+     * Reads only the name of a person written by {@link #writePerson(Person, DataOutput)} from {@code in}.
+     *
+     * @throws IllegalValueException if the name is invalid.
+     */
+    static Name readName(DataInput in) throws IOException, IllegalValueException {
+        String name = readString(in);
+        checkValid(Name.isValidName(name), Name.MESSAGE_CONSTRAINTS);
+        return new Name(name);
+    }
+
+    private static void checkValid(boolean isValid, String message) throws IllegalValueException {
+        if (!isValid) {
+            throw new IllegalValueException(message);
+        }
+    }
+
+    private static void writeString(String value, DataOutput out) throws IOException {
+        byte[] bytes = value.getBytes(UTF_8);
+        writeLength(bytes.length, out);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInput in) throws IOException, IllegalValueException {
+        int length = readLength(in);
+        if (length > MAX_STRING_LENGTH) {
+            throw new IllegalValueException(String.format(MESSAGE_STRING_TOO_LONG, MAX_STRING_LENGTH));
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, UTF_8);
+    }
+
+    /**
+     * Writes the non-negative {@code length} seven bits at a time, lowest bits first, so that small values take a
+     * single byte. The top bit of each byte is set if more bytes follow.
+     */
+    private static void writeLength(int length, DataOutput out) throws IOException {
+        int remaining = length;
+        while ((remaining & ~0x7F) != 0) {
+            out.writeByte((remaining & 0x7F) | 0x80);
+            remaining >>>= 7;
+        }
+        out.writeByte(remaining);
+    }
+
+    private static int readLength(DataInput in) throws IOException, IllegalValueException {
+        int length = 0;
+        for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+            int b = in.readUnsignedByte();
+            length |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                if (length < 0) {
+                    break;
+                }
+                return length;
+            }
+        }
+        throw new IllegalValueException(MESSAGE_MALFORMED_LENGTH);
+    }
+
+}
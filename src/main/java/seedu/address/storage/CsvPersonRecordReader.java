@@ -0,0 +1,190 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Reads {@code PersonRecord}s from a CSV file, one row at a time.
+ * The first row must be a header naming the columns (in any order and case) using {@link #HEADERS}.
+ * Fields may be quoted as described in RFC 4180, and fields with several values separated by
+ * {@link #MULTI_VALUE_SEPARATOR}.
+ */
+public class CsvPersonRecordReader implements PersonRecordReader {
+
+    public static final List<String> HEADERS = Collections.unmodifiableList(Arrays.asList(
+            "name", "email", "moduleCodes", "phone", "teleHandle", "remark", "tags"));
+    public static final char SEPARATOR = ',';
+    public static final char QUOTE = '"';
+    public static final String MULTI_VALUE_SEPARATOR = ";";
+
+    private static final int NAME = 0;
+    private static final int EMAIL = 1;
+    private static final int MODULE_CODES = 2;
+    private static final int PHONE = 3;
+    private static final int TELE_HANDLE = 4;
+    private static final int REMARK = 5;
+    private static final int TAGS = 6;
+
+    private final BufferedReader reader;
+
+    /** The column of each header in {@code HEADERS}, or -1 if the file does not have that column. */
+    private final int[] columnOfHeader = new int[HEADERS.size()];
+    private final List<String> row = new ArrayList<>();
+    private final StringBuilder field = new StringBuilder();
+
+    /** One-based number of the last line read. */
+    private int lineNumber;
+
+    /**
+     * Creates a reader over {@code reader} and reads the header row.
+     *
+     * @throws IOException if the header row is missing or does not have a name column.
+     */
+    public CsvPersonRecordReader(BufferedReader reader) throws IOException {
+        requireNonNull(reader);
+        this.reader = reader;
+        readHeader();
+    }
+
+    private void readHeader() throws IOException {
+        if (readRow() < 0) {
+            throw new IOException("CSV file is empty; expected a header row");
+        }
+
+        Arrays.fill(columnOfHeader, -1);
+        for (int column = 0; column < row.size(); column++) {
+            String header = row.get(column).trim();
+            for (int i = 0; i < HEADERS.size(); i++) {
+                if (HEADERS.get(i).equalsIgnoreCase(header)) {
+                    columnOfHeader[i] = column;
+                }
+            }
+        }
+        if (columnOfHeader[NAME] < 0) {
+            throw new IOException("CSV header row must have a name column; expected columns: " + HEADERS);
+        }
+    }
+
+    @Override
+    public PersonRecord read() throws IOException {
+        int rowNumber;
+        do {
+            rowNumber = readRow();
+            if (rowNumber < 0) {
+                return null;
+            }
+        } while (row.size() == 1 && row.get(0).trim().isEmpty());
+
+        return new PersonRecord(rowNumber,
+                getField(NAME),
+                getField(EMAIL),
+                getValues(MODULE_CODES),
+                getField(PHONE),
+                getField(TELE_HANDLE),
+                getField(REMARK),
+                getValues(TAGS));
+    }
+
+    /**
+     * Returns the trimmed value of the field under {@code header} in the current row,
+     * or null if the field is absent or blank.
+     */
+    private String getField(int header) {
+        int column = columnOfHeader[header];
+        if (column < 0 || column >= row.size()) {
+            return null;
+        }
+        String value = row.get(column).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    /**
+     * Returns the non-blank values of the multi-valued field under {@code header} in the current row.
+     */
+    private List<String> getValues(int header) {
+        String value = getField(header);
+        if (value == null) {
+            return Collections.emptyList();
+        }
+
+        List<String> values = new ArrayList<>();
+        for (String part : value.split(MULTI_VALUE_SEPARATOR)) {
+            String trimmed = part.trim();
+            if (!trimmed.isEmpty()) {
+                values.add(trimmed);
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Reads the next row into {@code row}.
+     *
+     * @return the line number at which the row starts, or -1 at the end of the file.
+     * @throws IOException if the file ends inside a quoted field.
+     */
+    private int readRow() throws IOException {
+        row.clear();
+        field.setLength(0);
+
+        int c = reader.read();
+        if (c < 0) {
+            return -1;
+        }
+        int startLine = ++lineNumber;
+        boolean inQuotes = false;
+
+        while (true) {
+            if (inQuotes) {
+                if (c < 0) {
+                    throw new IOException("Unterminated quoted field starting on line " + startLine);
+                } else if (c == QUOTE) {
+                    c = reader.read();
+                    if (c != QUOTE) {
+                        inQuotes = false;
+                        continue;
+                    }
+                    field.append(QUOTE);
+                } else {
+                    if (c == '\n') {
+                        lineNumber++;
+                    }
+                    field.append((char) c);
+                }
+            } else if (c < 0 || c == '\n') {
+                endField();
+                return startLine;
+            } else if (c == '\r') {
+                reader.mark(1);
+                if (reader.read() != '\n') {
+                    reader.reset();
+                }
+                endField();
+                return startLine;
+            } else if (c == SEPARATOR) {
+                endField();
+            } else if (c == QUOTE && field.length() == 0) {
+                inQuotes = true;
+            } else {
+                field.append((char) c);
+            }
+            c = reader.read();
+        }
+    }
+
+    private void endField() {
+        row.add(field.toString());
+        field.setLength(0);
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
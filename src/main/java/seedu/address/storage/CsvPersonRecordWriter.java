@@ -0,0 +1,97 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.storage.CsvPersonRecordReader.HEADERS;
+import static seedu.address.storage.CsvPersonRecordReader.MULTI_VALUE_SEPARATOR;
+import static seedu.address.storage.CsvPersonRecordReader.QUOTE;
+import static seedu.address.storage.CsvPersonRecordReader.SEPARATOR;
+
+import java.io.IOException;
+import java.io.Writer;
+
+import seedu.address.model.person.ModuleCode;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Writes persons to a CSV file in the layout read by {@link CsvPersonRecordReader}, starting with a header row.
+ * Fields are quoted only when they contain a separator, a quote or a line break.
+ */
+public class CsvPersonRecordWriter implements PersonRecordWriter {
+
+    private static final String LINE_SEPARATOR = "\r\n";
+
+    private final Writer writer;
+
+    /**
+     * Creates a writer over {@code writer} and writes the header row.
+     */
+    public CsvPersonRecordWriter(Writer writer) throws IOException {
+        requireNonNull(writer);
+        this.writer = writer;
+        writer.write(String.join(String.valueOf(SEPARATOR), HEADERS));
+        writer.write(LINE_SEPARATOR);
+    }
+
+    @Override
+    public void write(Person person) throws IOException {
+        requireNonNull(person);
+        writeField(person.getName().fullName);
+        writer.write(SEPARATOR);
+        writeField(person.getEmail().toString());
+        writer.write(SEPARATOR);
+        StringBuilder moduleCodes = new StringBuilder();
+        for (int i = 0; i < person.getModuleCodeCount(); i++) {
+            moduleCodes.append(i == 0 ? "" : MULTI_VALUE_SEPARATOR)
+                    .append(ModuleCode.unpack(person.getPackedModuleCode(i)));
+        }
+        writeField(moduleCodes);
+        writer.write(SEPARATOR);
+        writeField(person.getPhone().value);
+        writer.write(SEPARATOR);
+        writeField(person.getTeleHandle().value);
+        writer.write(SEPARATOR);
+        writeField(person.getRemark().value);
+        writer.write(SEPARATOR);
+        boolean isFirst = true;
+        StringBuilder tags = new StringBuilder();
+        for (Tag tag : person.getTags()) {
+            tags.append(isFirst ? "" : MULTI_VALUE_SEPARATOR).append(tag.tagName);
+            isFirst = false;
+        }
+        writeField(tags);
+        writer.write(LINE_SEPARATOR);
+    }
+
+    private void writeField(CharSequence value) throws IOException {
+        if (!needsQuotes(value)) {
+            writer.append(value);
+            return;
+        }
+
+        writer.write(QUOTE);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == QUOTE) {
+                writer.write(QUOTE);
+            }
+            writer.write(c);
+        }
+        writer.write(QUOTE);
+    }
+
+    private static boolean needsQuotes(CharSequence value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == SEPARATOR || c == QUOTE || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+}
@@ -44,9 +44,28 @@ public class JsonAdaptedModuleCode {
      * @throws IllegalValueException If there were any data constraints violated in the adapted module code.
      */
     public ModuleCode toModelType() throws IllegalValueException {
+        checkValid();
+        return ModuleCode.ofTrusted(moduleCodeName);
+    }
+
+    /**
+     * Checks that this adapted module code is valid, without converting it.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted module code.
+     */
+    public void checkValid() throws IllegalValueException {
         if (!ModuleCode.isValidModuleCode(moduleCodeName)) {
             throw new IllegalValueException(ModuleCode.MESSAGE_CONSTRAINTS);
         }
-        return new ModuleCode(moduleCodeName);
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted module code object into the model's {@code ModuleCode} object, without
+     * checking that it is valid.
+     *
+     * @return The ModuleCode object.
+     */
+    public ModuleCode toTrustedModelType() {
+        return ModuleCode.ofTrusted(moduleCodeName);
     }
 }
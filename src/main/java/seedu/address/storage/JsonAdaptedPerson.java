@@ -1,5 +1,6 @@
 package seedu.address.storage;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
@@ -8,6 +9,7 @@ import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.person.Email;
@@ -62,11 +64,11 @@ class JsonAdaptedPerson {
      */
     public JsonAdaptedPerson(Person source) {
         name = source.getName().fullName;
-        email = source.getEmail().value;
+        email = source.getEmail().toString();
         remark = source.getRemark().value;
-        moduleCodes.addAll(source.getModuleCodes().stream()
-                .map(JsonAdaptedModuleCode::new)
-                .collect(Collectors.toList()));
+        for (int i = 0; i < source.getModuleCodeCount(); i++) {
+            moduleCodes.add(new JsonAdaptedModuleCode(ModuleCode.unpack(source.getPackedModuleCode(i))));
+        }
         phone = source.getPhone().value;
         teleHandle = source.getTeleHandle().value;
         tagged.addAll(source.getTags().stream()
@@ -74,63 +76,138 @@ class JsonAdaptedPerson {
                 .collect(Collectors.toList()));
     }
 
+    /**
+     * Writes {@code source} to {@code generator} as the same json object that this class would be serialized to,
+     * without creating an adapted person.
+     */
+    public static void write(Person source, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("name", source.getName().fullName);
+        generator.writeStringField("email", source.getEmail().toString());
+        generator.writeArrayFieldStart("moduleCodes");
+        for (int i = 0; i < source.getModuleCodeCount(); i++) {
+            generator.writeString(ModuleCode.unpack(source.getPackedModuleCode(i)));
+        }
+        generator.writeEndArray();
+        generator.writeStringField("phone", source.getPhone().value);
+        generator.writeStringField("teleHandle", source.getTeleHandle().value);
+        generator.writeStringField("remark", source.getRemark().value);
+        generator.writeArrayFieldStart("tagged");
+        for (Tag tag : source.getTags()) {
+            generator.writeString(tag.tagName);
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
     /**
      * Converts this Jackson-friendly adapted person object into the model's {@code Person} object.
      *
      * @throws IllegalValueException if there were any data constraints violated in the adapted person.
      */
     public Person toModelType() throws IllegalValueException {
-        final List<Tag> personTags = new ArrayList<>();
+        checkFields();
+        return toTrustedModelType();
+    }
+
+    /**
+     * Checks that every field of this adapted person is present and valid, without converting any of them.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted person.
+     */
+    private void checkFields() throws IllegalValueException {
         for (JsonAdaptedTag tag : tagged) {
-            personTags.add(tag.toModelType());
+            tag.checkValid();
         }
-
-        final List<ModuleCode> personModuleCodes = new ArrayList<>();
         for (JsonAdaptedModuleCode moduleCode : moduleCodes) {
-            personModuleCodes.add(moduleCode.toModelType());
+            moduleCode.checkValid();
         }
 
-        if (name == null) {
-            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
-        }
-        if (!Name.isValidName(name)) {
-            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
-        }
-        final Name modelName = new Name(name);
+        checkPresent(name, Name.class);
+        checkValid(Name.isValidName(name), Name.MESSAGE_CONSTRAINTS);
+        checkPresent(phone, Phone.class);
+        checkValid(Phone.isValidPhone(phone), Phone.MESSAGE_CONSTRAINTS);
+        checkPresent(email, Email.class);
+        checkValid(Email.isValidEmail(email), Email.MESSAGE_CONSTRAINTS);
+        checkPresent(remark, Remark.class);
+        checkPresent(teleHandle, TeleHandle.class);
+        checkValid(TeleHandle.isValidTeleHandle(teleHandle), TeleHandle.MESSAGE_CONSTRAINTS);
+    }
 
-        if (phone == null) {
-            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Phone.class.getSimpleName()));
-        }
-        if (!Phone.isValidPhone(phone)) {
-            throw new IllegalValueException(Phone.MESSAGE_CONSTRAINTS);
-        }
-        final Phone modelPhone = new Phone(phone);
+    /**
+     * Checks that every field of this adapted person is present, without checking that any of them is valid.
+     *
+     * @throws IllegalValueException if any field of the adapted person is missing.
+     */
+    private void checkFieldsPresent() throws IllegalValueException {
+        checkPresent(name, Name.class);
+        checkPresent(phone, Phone.class);
+        checkPresent(email, Email.class);
+        checkPresent(remark, Remark.class);
+        checkPresent(teleHandle, TeleHandle.class);
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted person object into the model's {@code Person} object, without checking
+     * that its fields are valid. Only for persons read back from a file that this application saved.
+     *
+     * @throws IllegalValueException if any field of the adapted person is missing.
+     */
+    public Person toTrustedModelType() throws IllegalValueException {
+        checkFieldsPresent();
 
-        if (email == null) {
-            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Email.class.getSimpleName()));
+        final Set<Tag> modelTags = new HashSet<>();
+        for (JsonAdaptedTag tag : tagged) {
+            modelTags.add(tag.toTrustedModelType());
         }
-        if (!Email.isValidEmail(email)) {
-            throw new IllegalValueException(Email.MESSAGE_CONSTRAINTS);
+        final Set<ModuleCode> modelModuleCodes = new HashSet<>();
+        for (JsonAdaptedModuleCode moduleCode : moduleCodes) {
+            modelModuleCodes.add(moduleCode.toTrustedModelType());
         }
-        final Email modelEmail = new Email(email);
+        return new Person(Name.ofTrusted(name), Email.ofTrusted(email), modelModuleCodes, Phone.ofTrusted(phone),
+                TeleHandle.ofTrusted(teleHandle), new Remark(remark), modelTags);
+    }
 
-        if (remark == null) {
-            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Remark.class.getSimpleName()));
-        }
-        final Remark modelRemark = new Remark(remark);
+    /**
+     * Converts this Jackson-friendly adapted person object into a lazily loaded {@code Person}. Every field is
+     * checked now, as with {@link #toModelType()}, but only the name is converted. The rest of the fields are
+     * converted when they are first needed.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted person.
+     */
+    public Person toLazyModelType() throws IllegalValueException {
+        return toLazyModelType(false);
+    }
 
-        if (teleHandle == null) {
-            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
-                    TeleHandle.class.getSimpleName()));
+    /**
+     * Similar to {@link #toLazyModelType()}, but if {@code isTrusted} is true, the fields are only checked to be
+     * present, as in {@link #toTrustedModelType()}.
+     */
+    public Person toLazyModelType(boolean isTrusted) throws IllegalValueException {
+        if (isTrusted) {
+            checkFieldsPresent();
+        } else {
+            checkFields();
         }
-        if (!TeleHandle.isValidTeleHandle(teleHandle)) {
-            throw new IllegalValueException(TeleHandle.MESSAGE_CONSTRAINTS);
+        return Person.createLazily(Name.ofTrusted(name), () -> {
+            try {
+                return toTrustedModelType();
+            } catch (IllegalValueException ive) {
+                throw new AssertionError("Fields were checked to be present when the person was read", ive);
+            }
+        });
+    }
+
+    private static void checkPresent(String value, Class<?> fieldClass) throws IllegalValueException {
+        if (value == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, fieldClass.getSimpleName()));
         }
-        final TeleHandle modelTeleHandle = new TeleHandle(teleHandle);
+    }
 
-        final Set<Tag> modelTags = new HashSet<>(personTags);
-        final Set<ModuleCode> modelModuleCodes = new HashSet<>(personModuleCodes);
-        return new Person(modelName, modelEmail, modelModuleCodes, modelPhone, modelTeleHandle, modelRemark, modelTags);
+    private static void checkValid(boolean isValid, String message) throws IllegalValueException {
+        if (!isValid) {
+            throw new IllegalValueException(message);
+        }
     }
 
 }
@@ -39,10 +39,27 @@ class JsonAdaptedTag {
      * @throws IllegalValueException if there were any data constraints violated in the adapted tag.
      */
     public Tag toModelType() throws IllegalValueException {
+        checkValid();
+        return Tag.ofTrusted(tagName);
+    }
+
+    /**
+     * Checks that this adapted tag is valid, without converting it.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted tag.
+     */
+    public void checkValid() throws IllegalValueException {
         if (!Tag.isValidTagName(tagName)) {
             throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(tagName);
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted tag object into the model's {@code Tag} object, without checking that
+     * it is valid.
+     */
+    public Tag toTrustedModelType() {
+        return Tag.ofTrusted(tagName);
     }
 
 }
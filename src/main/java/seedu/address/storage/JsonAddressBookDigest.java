@@ -0,0 +1,75 @@
+package seedu.address.storage;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly record of the content hash of an address book file, saved next to the file.
+ * A file whose content still has this hash, and whose record is trusted, was saved by this application and has not
+ * changed since, so the persons in it do not need to be checked again.
+ */
+class JsonAddressBookDigest {
+
+    public static final String FILE_SUFFIX = ".digest";
+    public static final String ALGORITHM = "SHA-256";
+
+    private final String algorithm;
+    private final String hash;
+    private final boolean isTrusted;
+
+    /**
+     * Constructs a {@code JsonAddressBookDigest} with the given details.
+     */
+    @JsonCreator
+    public JsonAddressBookDigest(@JsonProperty("algorithm") String algorithm, @JsonProperty("hash") String hash,
+                                 @JsonProperty("isTrusted") boolean isTrusted) {
+        this.algorithm = algorithm;
+        this.hash = hash;
+        this.isTrusted = isTrusted;
+    }
+
+    /**
+     * Constructs a trusted record of the content hash {@code hash}, computed by {@link #createMessageDigest()}.
+     */
+    public JsonAddressBookDigest(byte[] hash) {
+        this(ALGORITHM, toHex(hash), true);
+    }
+
+    /**
+     * Returns a new {@code MessageDigest} for the algorithm used in every record made by this application.
+     */
+    public static MessageDigest createMessageDigest() {
+        try {
+            return MessageDigest.getInstance(ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256.
+            throw new AssertionError(e);
+        }
+    }
+
+    /**
+     * Returns true if this record is trusted and its hash is {@code hash}, computed by {@link #createMessageDigest()}.
+     */
+    public boolean isTrustedMatch(byte[] hash) {
+        return isTrusted && ALGORITHM.equals(algorithm) && toHex(hash).equals(this.hash);
+    }
+
+    /**
+     * Returns true if this record can be trusted at all, before any hash is computed.
+     */
+    public boolean isTrusted() {
+        return isTrusted && ALGORITHM.equals(algorithm) && hash != null;
+    }
+
+    private static String toHex(byte[] bytes) {
+        StringBuilder builder = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            builder.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return builder.toString();
+    }
+
+}
@@ -0,0 +1,66 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly version of the changes made to an address book by a single save.
+ * Persons are identified by name: a removed name drops the person with that name, and an added person replaces
+ * any person with the same name. Applying a record is therefore idempotent.
+ */
+class JsonAddressBookLogRecord {
+
+    private final List<String> removed = new ArrayList<>();
+    private final List<JsonAdaptedPerson> added = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAddressBookLogRecord} with the given names and person details.
+     */
+    @JsonCreator
+    public JsonAddressBookLogRecord(@JsonProperty("removed") List<String> removed,
+                                    @JsonProperty("added") List<JsonAdaptedPerson> added) {
+        if (removed != null) {
+            this.removed.addAll(removed);
+        }
+        if (added != null) {
+            this.added.addAll(added);
+        }
+    }
+
+    /**
+     * Converts the given changes into this class for Jackson use.
+     */
+    public JsonAddressBookLogRecord(Collection<Name> removedNames, Collection<Person> addedPersons) {
+        removed.addAll(removedNames.stream().map(name -> name.fullName).collect(Collectors.toList()));
+        added.addAll(addedPersons.stream().map(JsonAdaptedPerson::new).collect(Collectors.toList()));
+    }
+
+    /**
+     * Applies the changes in this record to {@code persons}, which maps each person's name to the person.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the record.
+     */
+    public void applyTo(Map<Name, Person> persons) throws IllegalValueException {
+        for (String name : removed) {
+            if (!Name.isValidName(name)) {
+                throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+            }
+            persons.remove(new Name(name));
+        }
+        for (JsonAdaptedPerson jsonAdaptedPerson : added) {
+            Person person = jsonAdaptedPerson.toModelType();
+            persons.put(person.getName(), person);
+        }
+    }
+
+}
@@ -3,16 +3,28 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
@@ -22,9 +34,41 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
+    private boolean isCompact;
+    private boolean isLazy;
+    private boolean isCompressed;
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a storage for the file at {@code filePath}, which is written without any whitespace between tokens
+     * if {@code isCompact} is true.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isCompact) {
+        this(filePath, isCompact, false);
+    }
+
+    /**
+     * Creates a storage for the file at {@code filePath}, which is written without any whitespace between tokens
+     * if {@code isCompact} is true. If {@code isLazy} is true, every field is checked when the file is read but only
+     * the name of each person is converted then, and the rest of the person is converted when it is first needed.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isCompact, boolean isLazy) {
+        this(filePath, isCompact, isLazy, false);
+    }
+
+    /**
+     * Similar to {@link #JsonAddressBookStorage(Path, boolean, boolean)}, but the file is also compressed in the gzip
+     * format as it is written if {@code isCompressed} is true.
+     * Compressed and uncompressed files can both be read, whatever {@code isCompressed} is.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isCompact, boolean isLazy, boolean isCompressed) {
         this.filePath = filePath;
+        this.isCompact = isCompact;
+        this.isLazy = isLazy;
+        this.isCompressed = isCompressed;
     }
 
     public Path getAddressBookFilePath() {
@@ -45,20 +89,66 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
             return Optional.empty();
         }
 
-        try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+        Optional<AddressBook> trustedAddressBook = readTrustedAddressBook(filePath);
+        if (trustedAddressBook.isPresent()) {
+            return Optional.of(trustedAddressBook.get());
+        }
+
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            return Optional.of(JsonSerializableAddressBook.readModelType(parser, isLazy));
+        } catch (IOException e) {
+            logger.warning("Error reading from json file " + filePath + ": " + e);
+            throw new DataConversionException(e);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
         }
     }
 
+    /**
+     * Reads the file at {@code filePath} without checking the persons in it, if its digest is trusted.
+     * The content hash of the file is computed as it is read, and the address book is only returned if the hash
+     * matches the digest, which means the file has not changed since this application saved it.
+     */
+    private Optional<AddressBook> readTrustedAddressBook(Path filePath) {
+        Optional<JsonAddressBookDigest> digest;
+        try {
+            digest = JsonUtil.readJsonFile(getDigestFilePath(filePath), JsonAddressBookDigest.class);
+        } catch (DataConversionException e) {
+            return Optional.empty();
+        }
+        if (!digest.isPresent() || !digest.get().isTrusted()) {
+            return Optional.empty();
+        }
+
+        MessageDigest messageDigest = JsonAddressBookDigest.createMessageDigest();
+        try (InputStream in = new DigestInputStream(Files.newInputStream(filePath), messageDigest);
+                JsonParser parser = JsonUtil.createParser(in)) {
+            AddressBook addressBook = JsonSerializableAddressBook.readModelType(parser, isLazy, true);
+            // The parser may stop before the end of the file, but the whole file must be hashed.
+            in.transferTo(OutputStream.nullOutputStream());
+            if (digest.get().isTrustedMatch(messageDigest.digest())) {
+                return Optional.of(addressBook);
+            }
+        } catch (IOException | IllegalValueException e) {
+            // The file is read again below with every check, which reports what is wrong with it.
+        }
+        logger.info("Json file " + filePath + " has changed since it was saved, so every person will be checked");
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the path of the file holding the digest of the address book file at {@code filePath}.
+     */
+    static Path getDigestFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JsonAddressBookDigest.FILE_SUFFIX);
+    }
+
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
         saveAddressBook(addressBook, filePath);
@@ -73,8 +163,32 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
+        // The old digest is removed first, so that a save cut short never leaves a trusted digest behind.
+        Files.deleteIfExists(getDigestFilePath(filePath));
+        byte[] hash = savePersons(addressBook.getPersonList(), filePath);
+        saveDigest(hash, filePath);
+    }
+
+    /**
+     * Saves {@code persons} as an address book at {@code filePath}, streaming each person straight to the file.
+     *
+     * @return the content hash of the file, computed as it is written.
+     */
+    byte[] savePersons(List<Person> persons, Path filePath) throws IOException {
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        MessageDigest messageDigest = JsonAddressBookDigest.createMessageDigest();
+        OutputStream out = new DigestOutputStream(Files.newOutputStream(filePath), messageDigest);
+        try (JsonGenerator generator = JsonUtil.createGenerator(out, isCompact, isCompressed)) {
+            JsonSerializableAddressBook.writeModelType(persons, generator);
+        }
+        return messageDigest.digest();
+    }
+
+    /**
+     * Saves a trusted digest with the content hash {@code hash} for the address book file at {@code filePath}.
+     */
+    void saveDigest(byte[] hash, Path filePath) throws IOException {
+        JsonUtil.saveJsonFile(new JsonAddressBookDigest(hash), getDigestFilePath(filePath));
     }
 
 }
@@ -1,16 +1,25 @@
 package seedu.address.storage;
 
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 
 /**
@@ -20,6 +29,12 @@ import seedu.address.model.person.Person;
 class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
+    public static final String MESSAGE_INVALID_PERSON = "Person at index %d: %s";
+    public static final String MESSAGE_NOT_AN_ADDRESS_BOOK = "Expected an object with a list of persons.";
+
+    private static final String PERSONS_FIELD = "persons";
+    /** The number of persons read before they are converted together, in parallel. */
+    private static final int BATCH_SIZE = 1024;
 
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
 
@@ -42,18 +57,141 @@ class JsonSerializableAddressBook {
 
     /**
      * Converts this address book into the model's {@code AddressBook} object.
+     * Large address books are validated and converted in parallel batches, but any error reported is always the one
+     * for the person with the lowest index.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
+        List<Person> convertedPersons = new ArrayList<>(persons.size());
+        Set<Name> names = new HashSet<>();
+        for (int i = 0; i < persons.size(); i += BATCH_SIZE) {
+            convertBatch(persons.subList(i, Math.min(i + BATCH_SIZE, persons.size())), i, false, false,
+                    convertedPersons, names);
+        }
+
         AddressBook addressBook = new AddressBook();
-        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+        addressBook.addPersons(convertedPersons);
+        return addressBook;
+    }
+
+    /**
+     * Converts {@code batch}, the persons from index {@code firstIndex} on, in parallel if it is a full batch, and
+     * adds them to {@code persons}. {@code names} holds the names of the persons converted so far.
+     * Any error reported is the one for the person with the lowest index, as if the persons were converted in order.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    private static void convertBatch(List<JsonAdaptedPerson> batch, int firstIndex, boolean isLazy,
+            boolean isTrusted, List<Person> persons, Set<Name> names) throws IllegalValueException {
+        int size = batch.size();
+        Person[] convertedPersons = new Person[size];
+        String[] errors = new String[size];
+
+        IntStream indices = IntStream.range(0, size);
+        if (size >= BATCH_SIZE) {
+            indices = indices.parallel();
+        }
+        indices.forEach(i -> {
+            try {
+                JsonAdaptedPerson adaptedPerson = batch.get(i);
+                if (isLazy) {
+                    convertedPersons[i] = adaptedPerson.toLazyModelType(isTrusted);
+                } else {
+                    convertedPersons[i] = isTrusted ? adaptedPerson.toTrustedModelType() : adaptedPerson.toModelType();
+                }
+            } catch (IllegalValueException ive) {
+                errors[i] = ive.getMessage();
+            }
+        });
+
+        for (int i = 0; i < size; i++) {
+            if (errors[i] != null) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_PERSON, firstIndex + i, errors[i]));
+            }
+            if (!names.add(convertedPersons[i].getName())) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_PERSON, firstIndex + i,
+                        MESSAGE_DUPLICATE_PERSON));
+            }
+            persons.add(convertedPersons[i]);
+        }
+    }
+
+    /**
+     * Writes {@code persons} to {@code generator} in the format of this class, one person at a time.
+     */
+    public static void writeModelType(List<Person> persons, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeArrayFieldStart(PERSONS_FIELD);
+        for (Person person : persons) {
+            JsonAdaptedPerson.write(person, generator);
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    /**
+     * Reads an address book in the format written by this class from {@code parser}, converting the persons into
+     * the model's {@code Person} in batches as they are read. Each full batch is validated and converted in parallel,
+     * and only one batch of {@code JsonAdaptedPerson} is held at a time, so the memory used stays close to that of
+     * the resulting {@code AddressBook}. Any error reported is the one for the person with the lowest index.
+     *
+     * @throws IOException if the input is not valid json or is not in the expected structure.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static AddressBook readModelType(JsonParser parser) throws IOException, IllegalValueException {
+        return readModelType(parser, false);
+    }
+
+    /**
+     * Similar to {@link #readModelType(JsonParser)}, but if {@code isLazy} is true, only the name of each person
+     * is converted when it is read, after all of its fields are checked. The rest of each person is converted when it
+     * is first needed.
+     */
+    public static AddressBook readModelType(JsonParser parser, boolean isLazy)
+            throws IOException, IllegalValueException {
+        return readModelType(parser, isLazy, false);
+    }
+
+    /**
+     * Similar to {@link #readModelType(JsonParser, boolean)}, but if {@code isTrusted} is true, the fields of each
+     * person are not checked for validity. Only for files that this application saved and that have not changed
+     * since.
+     */
+    public static AddressBook readModelType(JsonParser parser, boolean isLazy, boolean isTrusted)
+            throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, MESSAGE_NOT_AN_ADDRESS_BOOK);
+        }
+
+        List<Person> persons = new ArrayList<>();
+        Set<Name> names = new HashSet<>();
+        List<JsonAdaptedPerson> batch = new ArrayList<>(BATCH_SIZE);
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken token = parser.nextToken();
+            if (!PERSONS_FIELD.equals(fieldName)) {
+                parser.skipChildren();
+                continue;
+            }
+            if (token != JsonToken.START_ARRAY) {
+                throw new JsonParseException(parser, MESSAGE_NOT_AN_ADDRESS_BOOK);
+            }
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token != JsonToken.START_OBJECT) {
+                    throw new JsonParseException(parser, MESSAGE_NOT_AN_ADDRESS_BOOK);
+                }
+                batch.add(parser.readValueAs(JsonAdaptedPerson.class));
+                if (batch.size() == BATCH_SIZE) {
+                    convertBatch(batch, persons.size(), isLazy, isTrusted, persons, names);
+                    batch.clear();
+                }
             }
-            addressBook.addPerson(person);
         }
+        convertBatch(batch, persons.size(), isLazy, isTrusted, persons, names);
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPersons(persons);
         return addressBook;
     }
 
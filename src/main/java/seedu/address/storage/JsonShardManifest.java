@@ -0,0 +1,53 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Jackson-friendly manifest of a sharded address book, which records how its persons are split into shards.
+ */
+class JsonShardManifest {
+
+    public static final int FORMAT_VERSION = 1;
+
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Version %d of the sharded address book is not supported.";
+    public static final String MESSAGE_INVALID_SHARD_COUNT = "The number of shards must be a positive integer.";
+
+    private final int formatVersion;
+    private final int shardCount;
+
+    /**
+     * Constructs a {@code JsonShardManifest} with the given details.
+     */
+    @JsonCreator
+    public JsonShardManifest(@JsonProperty("formatVersion") int formatVersion,
+                             @JsonProperty("shardCount") int shardCount) {
+        this.formatVersion = formatVersion;
+        this.shardCount = shardCount;
+    }
+
+    /**
+     * Constructs a manifest in the current format for an address book split into {@code shardCount} shards.
+     */
+    public JsonShardManifest(int shardCount) {
+        this(FORMAT_VERSION, shardCount);
+    }
+
+    /**
+     * Returns the number of shards recorded in this manifest.
+     *
+     * @throws IllegalValueException if the manifest is in an unsupported format or the number of shards is invalid.
+     */
+    public int toShardCount() throws IllegalValueException {
+        if (formatVersion != FORMAT_VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, formatVersion));
+        }
+        if (shardCount <= 0) {
+            throw new IllegalValueException(MESSAGE_INVALID_SHARD_COUNT);
+        }
+        return shardCount;
+    }
+
+}
@@ -0,0 +1,401 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.ModuleCode;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A class to access AddressBook data stored in a {@link PagedKeyValueStore} on the hard disk.
+ * <p>
+ * Each person is stored under its own key, in the encoding of {@link BinaryAddressBookStorage}. Each of its module
+ * codes and tags is also stored as a key with an empty value, which together form indexes of the persons taking each
+ * module and having each tag. Reading one person, or the persons with a given module code or tag, does not depend on
+ * the number of persons in the address book.
+ * <p>
+ * A save only writes the keys of the persons added or changed since the previous save, and removes the keys of the
+ * persons removed or replaced. Only the name of each person is read when the address book is read. The rest of a
+ * person is read when it is first needed, or before its key is removed or the store is closed.
+ * <p>
+ * If the file does not exist yet, the address book is read once from the json file it replaces.
+ */
+public class KeyValueAddressBookStorage implements AddressBookStorage {
+
+    public static final String FILE_EXTENSION = ".kv";
+    public static final String PERSON_KEY_PREFIX = "person/";
+    public static final String MODULE_CODE_KEY_PREFIX = "module/";
+    public static final String TAG_KEY_PREFIX = "tag/";
+
+    public static final String MESSAGE_UNREADABLE_PERSON = "The record of %s could not be read: %s";
+
+    /** Separates the module code or tag in an index key from the name of the person. */
+    private static final String KEY_SEPARATOR = "/";
+
+    private static final Logger logger = LogsCenter.getLogger(KeyValueAddressBookStorage.class);
+
+    private final Path filePath;
+    private final Path jsonFilePath;
+
+    private PagedKeyValueStore store;
+    /** The persons in the store, compared by reference since persons are immutable. */
+    private final Set<Person> persistedPersons = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    public KeyValueAddressBookStorage(Path filePath) {
+        this(filePath, null);
+    }
+
+    /**
+     * Creates a storage for the key-value file at {@code filePath}, which is migrated from the json file at
+     * {@code jsonFilePath} the first time it is read if it does not exist yet.
+     *
+     * @param jsonFilePath may be null if there is nothing to migrate from.
+     */
+    public KeyValueAddressBookStorage(Path filePath, Path jsonFilePath) {
+        this.filePath = filePath;
+        this.jsonFilePath = jsonFilePath;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    private static String getPersonKey(Name name) {
+        return PERSON_KEY_PREFIX + name.fullName;
+    }
+
+    private static String getModuleCodeKeyPrefix(String moduleCode) {
+        return MODULE_CODE_KEY_PREFIX + moduleCode + KEY_SEPARATOR;
+    }
+
+    private static String getTagKeyPrefix(Tag tag) {
+        return TAG_KEY_PREFIX + tag.tagName + KEY_SEPARATOR;
+    }
+
+    /**
+     * Returns every key stored for {@code person}: its own key, followed by its keys in the module code and tag
+     * indexes.
+     */
+    private static List<String> getKeys(Person person) {
+        String name = person.getName().fullName;
+        List<String> keys = new ArrayList<>();
+        keys.add(getPersonKey(person.getName()));
+        for (int i = 0; i < person.getModuleCodeCount(); i++) {
+            keys.add(getModuleCodeKeyPrefix(ModuleCode.unpack(person.getPackedModuleCode(i))) + name);
+        }
+        for (Tag tag : person.getTags()) {
+            keys.add(getTagKeyPrefix(tag) + name);
+        }
+        return keys;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            KeyValueAddressBookStorage other = new KeyValueAddressBookStorage(filePath);
+            try {
+                return other.readAddressBook();
+            } finally {
+                other.closeQuietly();
+            }
+        }
+
+        synchronized (this) {
+            if (!Files.exists(filePath)) {
+                if (jsonFilePath != null && Files.exists(jsonFilePath)) {
+                    return migrateFromJson();
+                }
+                logger.info("Key-value file " + filePath + " not found");
+                return Optional.empty();
+            }
+
+            closeQuietly();
+            try {
+                store = new PagedKeyValueStore(filePath);
+                return Optional.of(readPersons());
+            } catch (IOException e) {
+                logger.warning("Error reading from key-value file " + filePath + ": " + e);
+                closeQuietly();
+                throw new DataConversionException(e);
+            } catch (IllegalValueException ive) {
+                logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+                closeQuietly();
+                throw new DataConversionException(ive);
+            }
+        }
+    }
+
+    private Optional<ReadOnlyAddressBook> migrateFromJson() throws DataConversionException {
+        Optional<ReadOnlyAddressBook> addressBook = new JsonAddressBookStorage(jsonFilePath).readAddressBook();
+        if (!addressBook.isPresent()) {
+            return addressBook;
+        }
+
+        try {
+            saveAddressBook(addressBook.get());
+            logger.info("Migrated " + jsonFilePath + " to " + filePath);
+        } catch (IOException e) {
+            logger.warning("Failed to migrate " + jsonFilePath + " to " + filePath + ": " + e);
+        }
+        return addressBook;
+    }
+
+    /**
+     * Returns a lazily loaded person for every person key in the store, in the order of their names.
+     */
+    private AddressBook readPersons() throws IllegalValueException {
+        List<Person> persons = new ArrayList<>();
+        for (String key : store.getKeysWithPrefix(PERSON_KEY_PREFIX)) {
+            String name = key.substring(PERSON_KEY_PREFIX.length());
+            if (!Name.isValidName(name)) {
+                throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+            }
+            persons.add(createLazily(new Name(name)));
+        }
+        persons.sort((person, other) -> person.getName().compareTo(other.getName()));
+        persistedPersons.clear();
+        persistedPersons.addAll(persons);
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPersons(persons);
+        return addressBook;
+    }
+
+    /**
+     * Returns a person named {@code name}, whose other fields are read from the store when they are first needed.
+     */
+    private Person createLazily(Name name) {
+        PagedKeyValueStore currentStore = store;
+        return Person.createLazily(name, () -> {
+            try {
+                return decode(name, currentStore.get(getPersonKey(name)));
+            } catch (IllegalValueException e) {
+                throw new IllegalArgumentException(String.format(MESSAGE_UNREADABLE_PERSON, name, e.getMessage()), e);
+            }
+        });
+    }
+
+    private static Person decode(Name name, Optional<byte[]> value) throws IllegalValueException {
+        if (!value.isPresent()) {
+            throw new IllegalValueException(String.format(MESSAGE_UNREADABLE_PERSON, name, "missing record"));
+        }
+        try {
+            return BinaryAddressBookStorage.readPerson(new DataInputStream(new ByteArrayInputStream(value.get())));
+        } catch (IOException e) {
+            throw new IllegalValueException(String.format(MESSAGE_UNREADABLE_PERSON, name, e.getMessage()));
+        }
+    }
+
+    /**
+     * Returns the person named {@code name}, or an empty {@code Optional} if there is no such person.
+     *
+     * @throws DataConversionException if the person in the file is not in the correct format.
+     */
+    public synchronized Optional<Person> readPerson(Name name) throws DataConversionException {
+        requireNonNull(name);
+        openIfClosed();
+        Optional<byte[]> value = store.get(getPersonKey(name));
+        if (!value.isPresent()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(decode(name, value));
+        } catch (IllegalValueException ive) {
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Returns the persons taking the module {@code moduleCode}, in the order of their names.
+     *
+     * @throws DataConversionException if a person in the file is not in the correct format.
+     */
+    public synchronized List<Person> readPersonsWithModuleCode(ModuleCode moduleCode)
+            throws DataConversionException {
+        requireNonNull(moduleCode);
+        return readIndexedPersons(getModuleCodeKeyPrefix(moduleCode.value));
+    }
+
+    /**
+     * Returns the persons with the tag {@code tag}, in the order of their names.
+     *
+     * @throws DataConversionException if a person in the file is not in the correct format.
+     */
+    public synchronized List<Person> readPersonsWithTag(Tag tag) throws DataConversionException {
+        requireNonNull(tag);
+        return readIndexedPersons(getTagKeyPrefix(tag));
+    }
+
+    private List<Person> readIndexedPersons(String keyPrefix) throws DataConversionException {
+        openIfClosed();
+        List<Person> persons = new ArrayList<>();
+        for (String key : store.getKeysWithPrefix(keyPrefix)) {
+            String name = key.substring(keyPrefix.length());
+            if (!Name.isValidName(name)) {
+                throw new DataConversionException(new IllegalValueException(Name.MESSAGE_CONSTRAINTS));
+            }
+            readPerson(new Name(name)).ifPresent(persons::add);
+        }
+        persons.sort((person, other) -> person.getName().compareTo(other.getName()));
+        return persons;
+    }
+
+    private void openIfClosed() throws DataConversionException {
+        if (store != null) {
+            return;
+        }
+        try {
+            store = new PagedKeyValueStore(filePath);
+        } catch (IOException | IllegalValueException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            KeyValueAddressBookStorage other = new KeyValueAddressBookStorage(filePath);
+            try {
+                other.saveAddressBook(addressBook);
+            } finally {
+                other.closeQuietly();
+            }
+            return;
+        }
+
+        synchronized (this) {
+            if (store == null) {
+                // Nothing is known about what the file holds, so it is replaced.
+                Files.deleteIfExists(filePath);
+                persistedPersons.clear();
+                try {
+                    store = new PagedKeyValueStore(filePath);
+                } catch (IllegalValueException ive) {
+                    throw new IOException(ive);
+                }
+            }
+
+            List<Person> persons = addressBook.getPersonList();
+            List<Person> addedPersons = new ArrayList<>();
+            for (Person person : persons) {
+                if (!persistedPersons.contains(person)) {
+                    addedPersons.add(person);
+                }
+            }
+            List<Person> removedPersons = new ArrayList<>();
+            if (persons.size() - addedPersons.size() != persistedPersons.size()) {
+                Set<Person> currentPersons = Collections.newSetFromMap(new IdentityHashMap<>());
+                currentPersons.addAll(persons);
+                for (Person person : persistedPersons) {
+                    if (!currentPersons.contains(person)) {
+                        removedPersons.add(person);
+                    }
+                }
+            }
+            if (addedPersons.isEmpty() && removedPersons.isEmpty()) {
+                return;
+            }
+
+            // Load the replaced persons before their keys are written over.
+            for (Person person : removedPersons) {
+                person.load();
+            }
+            // Write the new keys before removing the old ones, so that no person is ever missing from the file.
+            Set<String> writtenKeys = new HashSet<>();
+            for (Person person : addedPersons) {
+                List<String> keys = getKeys(person);
+                store.put(keys.get(0), encode(person));
+                for (String key : keys.subList(1, keys.size())) {
+                    store.put(key, new byte[0]);
+                }
+                writtenKeys.addAll(keys);
+                persistedPersons.add(person);
+            }
+            for (Person person : removedPersons) {
+                for (String key : getKeys(person)) {
+                    if (!writtenKeys.contains(key)) {
+                        store.remove(key);
+                    }
+                }
+                persistedPersons.remove(person);
+            }
+            store.force();
+        }
+    }
+
+    private static byte[] encode(Person person) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        BinaryAddressBookStorage.writePerson(person, new DataOutputStream(bytes));
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Loads every person read from the file, and closes the file. It is opened again by the next read or save.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        for (Person person : persistedPersons) {
+            person.load();
+        }
+        persistedPersons.clear();
+        if (store != null) {
+            store.close();
+            store = null;
+        }
+    }
+
+    private void closeQuietly() {
+        try {
+            close();
+        } catch (IOException e) {
+            logger.warning("Failed to close " + filePath + ": " + e);
+        }
+    }
+
+}
@@ -0,0 +1,556 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+
+/**
+ * A class to access AddressBook data stored as a memory-mapped file of fixed-size pages on the hard disk.
+ * <p>
+ * The first page holds the file header. Every other page is either free or part of a record, which holds one person
+ * in the encoding of {@link BinaryAddressBookStorage} and takes up as many consecutive pages as it needs. A record
+ * starts with its status, the length of its data, a sequence number, a checksum and the sequence number of the record
+ * it replaces, if any, followed by its data. The checksum covers everything after it.
+ * <p>
+ * A save only writes the records of the persons added or changed since the previous save into free pages, forces
+ * them to the disk, and only then frees the pages of the persons removed or replaced. The rest of the file is left
+ * untouched. If the application stops between the two steps, the records replaced by a record in the file are freed
+ * when the file is next read, even if the person was renamed, and of any two records for persons with the same name,
+ * the one with the higher sequence number wins.
+ * <p>
+ * Only the name of each person is read when the file is opened. The rest of a person is read from its record when
+ * it is first needed, or before the record is freed or the file is closed.
+ * <p>
+ * If the file does not exist yet, the address book is read once from the json file it replaces.
+ */
+public class MappedAddressBookStorage implements AddressBookStorage {
+
+    public static final String FILE_EXTENSION = ".db";
+    /** The bytes "CHAP" at the start of every paged address book. */
+    public static final int MAGIC = 0x43484150;
+    public static final int FORMAT_VERSION = 2;
+    public static final int PAGE_SIZE = 128;
+
+    public static final String MESSAGE_NOT_MAPPED_ADDRESS_BOOK = "The file is not a paged address book.";
+    public static final String MESSAGE_FILE_TOO_LARGE = "The address book is too large to be mapped into memory.";
+    public static final String MESSAGE_UNREADABLE_RECORD = "The record of %s could not be read: %s";
+
+    static final byte STATUS_FREE = 0;
+    static final byte STATUS_RECORD = 1;
+    /** Status, data length, sequence number, checksum and sequence number of the replaced record. */
+    static final int RECORD_HEADER_SIZE = 1 + Integer.BYTES + Long.BYTES + Integer.BYTES + Long.BYTES;
+    /** The replaced sequence number of a record that replaces no other record. */
+    static final long NO_SEQUENCE = 0;
+
+    private static final int CHECKSUM_OFFSET = 1 + Integer.BYTES + Long.BYTES;
+    private static final int REPLACED_SEQUENCE_OFFSET = CHECKSUM_OFFSET + Integer.BYTES;
+
+    private static final int FIRST_RECORD_PAGE = 1;
+    private static final int MIN_PAGE_COUNT = 64;
+
+    private static final Logger logger = LogsCenter.getLogger(MappedAddressBookStorage.class);
+
+    private final Path filePath;
+    private final Path jsonFilePath;
+
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private int pageCount;
+    private final BitSet usedPages = new BitSet();
+    /** The records of the persons in the file, keyed by reference since persons are immutable. */
+    private final Map<Person, Extent> extents = new IdentityHashMap<>();
+    /** The persons in the file, in the order they were last saved in. */
+    private final List<Person> savedPersons = new ArrayList<>();
+    private long nextSequence;
+
+    public MappedAddressBookStorage(Path filePath) {
+        this(filePath, null);
+    }
+
+    /**
+     * Creates a storage for the paged file at {@code filePath}, which is migrated from the json file at
+     * {@code jsonFilePath} the first time it is read if it does not exist yet.
+     *
+     * @param jsonFilePath may be null if there is nothing to migrate from.
+     */
+    public MappedAddressBookStorage(Path filePath, Path jsonFilePath) {
+        this.filePath = filePath;
+        this.jsonFilePath = jsonFilePath;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            MappedAddressBookStorage other = new MappedAddressBookStorage(filePath);
+            try {
+                return other.readAddressBook();
+            } finally {
+                other.closeQuietly();
+            }
+        }
+
+        synchronized (this) {
+            if (!Files.exists(filePath)) {
+                if (jsonFilePath != null && Files.exists(jsonFilePath)) {
+                    return migrateFromJson();
+                }
+                logger.info("Paged file " + filePath + " not found");
+                return Optional.empty();
+            }
+
+            try {
+                return Optional.of(open());
+            } catch (IOException e) {
+                logger.warning("Error reading from paged file " + filePath + ": " + e);
+                closeQuietly();
+                throw new DataConversionException(e);
+            } catch (IllegalValueException ive) {
+                logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+                closeQuietly();
+                throw new DataConversionException(ive);
+            }
+        }
+    }
+
+    private Optional<ReadOnlyAddressBook> migrateFromJson() throws DataConversionException {
+        Optional<ReadOnlyAddressBook> addressBook = new JsonAddressBookStorage(jsonFilePath).readAddressBook();
+        if (!addressBook.isPresent()) {
+            return addressBook;
+        }
+
+        try {
+            saveAddressBook(addressBook.get());
+            logger.info("Migrated " + jsonFilePath + " to " + filePath);
+        } catch (IOException e) {
+            logger.warning("Failed to migrate " + jsonFilePath + " to " + filePath + ": " + e);
+        }
+        return addressBook;
+    }
+
+    /**
+     * Maps the file and reads the name in every record in it, returning lazily loaded persons.
+     * Records replaced by another record in the file are freed, and of any two records for persons with the same
+     * name, the one with the lower sequence number is freed.
+     */
+    private AddressBook open() throws IOException, IllegalValueException {
+        closeQuietly();
+        channel = FileChannel.open(filePath, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        long fileSize = channel.size();
+        if (fileSize < PAGE_SIZE || fileSize % PAGE_SIZE != 0) {
+            throw new IllegalValueException(MESSAGE_NOT_MAPPED_ADDRESS_BOOK);
+        }
+        map(fileSize);
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(Integer.BYTES) != FORMAT_VERSION
+                || buffer.getInt(2 * Integer.BYTES) != PAGE_SIZE) {
+            throw new IllegalValueException(MESSAGE_NOT_MAPPED_ADDRESS_BOOK);
+        }
+
+        List<Extent> allRecords = new ArrayList<>();
+        Set<Long> sequences = new HashSet<>();
+        Map<Long, Extent> replacingRecords = new HashMap<>();
+        long maxSequence = 0;
+        int page = FIRST_RECORD_PAGE;
+        while (page < pageCount) {
+            Extent extent = readExtent(page);
+            if (extent == null) {
+                page++;
+                continue;
+            }
+            allRecords.add(extent);
+            sequences.add(extent.sequence);
+            if (extent.replacedSequence != NO_SEQUENCE) {
+                replacingRecords.put(extent.replacedSequence, extent);
+            }
+            maxSequence = Math.max(maxSequence, extent.sequence);
+            page += extent.pageCount;
+        }
+
+        // A record replacing another record still in the file takes its place, so that the order is kept.
+        Map<Name, Extent> records = new LinkedHashMap<>();
+        Map<Extent, Person> persons = new IdentityHashMap<>();
+        boolean hasFreedRecords = false;
+        for (Extent record : allRecords) {
+            Extent extent = record;
+            Extent replacingRecord = replacingRecords.get(record.sequence);
+            if (replacingRecord != null) {
+                free(record);
+                hasFreedRecords = true;
+                extent = replacingRecord;
+            } else if (sequences.contains(record.replacedSequence)) {
+                continue;
+            }
+
+            Name name = BinaryAddressBookStorage.readName(recordInput(buffer, extent));
+            Extent other = records.get(name);
+            if (other == null || other.sequence < extent.sequence) {
+                records.put(name, extent);
+                persons.put(extent, createLazily(name, buffer, extent));
+            }
+            if (other != null) {
+                free(other.sequence < extent.sequence ? other : extent);
+                hasFreedRecords = true;
+            }
+        }
+        if (hasFreedRecords) {
+            buffer.force();
+        }
+
+        usedPages.clear();
+        usedPages.set(0, FIRST_RECORD_PAGE);
+        extents.clear();
+        savedPersons.clear();
+        for (Extent extent : records.values()) {
+            Person person = persons.get(extent);
+            usedPages.set(extent.firstPage, extent.firstPage + extent.pageCount);
+            extents.put(person, extent);
+            savedPersons.add(person);
+        }
+        nextSequence = maxSequence + 1;
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPersons(savedPersons);
+        return addressBook;
+    }
+
+    /**
+     * Returns the record starting at {@code page}, or null if the page does not start a complete record.
+     */
+    private Extent readExtent(int page) {
+        int offset = page * PAGE_SIZE;
+        if (buffer.get(offset) != STATUS_RECORD) {
+            return null;
+        }
+        int length = buffer.getInt(offset + 1);
+        if (length < 0 || length > (long) (pageCount - page) * PAGE_SIZE - RECORD_HEADER_SIZE) {
+            return null;
+        }
+        long sequence = buffer.getLong(offset + 1 + Integer.BYTES);
+        int checksum = buffer.getInt(offset + CHECKSUM_OFFSET);
+        if (checksum != checksum(offset + REPLACED_SEQUENCE_OFFSET, RECORD_HEADER_SIZE - REPLACED_SEQUENCE_OFFSET
+                + length)) {
+            return null;
+        }
+        long replacedSequence = buffer.getLong(offset + REPLACED_SEQUENCE_OFFSET);
+        return new Extent(page, pagesFor(length), length, sequence, replacedSequence);
+    }
+
+    /**
+     * Returns a person named {@code name}, whose other fields are read from the record at {@code extent} in
+     * {@code buffer} when they are first needed.
+     * The buffer stays readable after the file is grown and mapped again, and the record is not written over until
+     * it is freed, so the person does not need this storage to load.
+     */
+    private static Person createLazily(Name name, ByteBuffer buffer, Extent extent) {
+        return Person.createLazily(name, () -> {
+            try {
+                return BinaryAddressBookStorage.readPerson(recordInput(buffer, extent));
+            } catch (IOException | IllegalValueException e) {
+                throw new IllegalArgumentException(String.format(MESSAGE_UNREADABLE_RECORD, name, e.getMessage()), e);
+            }
+        });
+    }
+
+    private static DataInputStream recordInput(ByteBuffer buffer, Extent extent) {
+        byte[] data = new byte[extent.length];
+        ByteBuffer view = buffer.duplicate();
+        view.position(extent.firstPage * PAGE_SIZE + RECORD_HEADER_SIZE);
+        view.get(data);
+        return new DataInputStream(new ByteArrayInputStream(data));
+    }
+
+    private int checksum(int offset, int length) {
+        ByteBuffer view = buffer.duplicate();
+        view.position(offset);
+        view.limit(offset + length);
+        CRC32 crc = new CRC32();
+        crc.update(view);
+        return (int) crc.getValue();
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            MappedAddressBookStorage other = new MappedAddressBookStorage(filePath);
+            try {
+                other.saveAddressBook(addressBook);
+            } finally {
+                other.closeQuietly();
+            }
+            return;
+        }
+
+        synchronized (this) {
+            List<Person> persons = addressBook.getPersonList();
+            if (buffer == null) {
+                create(persons);
+                return;
+            }
+
+            List<Person> addedPersons = new ArrayList<>();
+            for (Person person : persons) {
+                if (!extents.containsKey(person)) {
+                    addedPersons.add(person);
+                }
+            }
+            Set<Person> removedPersons = Collections.newSetFromMap(new IdentityHashMap<>());
+            if (persons.size() - addedPersons.size() != extents.size()) {
+                removedPersons.addAll(extents.keySet());
+                for (Person person : persons) {
+                    removedPersons.remove(person);
+                }
+            }
+            if (addedPersons.isEmpty() && removedPersons.isEmpty()) {
+                savedPersons.clear();
+                savedPersons.addAll(persons);
+                return;
+            }
+
+            // Force the new records to the disk before freeing the old ones, so that no person is ever missing from
+            // the file, and record which old record each new one replaces, so that it is freed even after a rename.
+            Map<Person, Person> replacedPersons = getReplacedPersons(persons, addedPersons, removedPersons);
+            for (Person person : addedPersons) {
+                Person replacedPerson = replacedPersons.get(person);
+                long replacedSequence = replacedPerson == null ? NO_SEQUENCE : extents.get(replacedPerson).sequence;
+                extents.put(person, write(person, replacedSequence));
+            }
+            buffer.force();
+            for (Person person : removedPersons) {
+                person.load();
+                free(extents.remove(person));
+            }
+            buffer.force();
+            savedPersons.clear();
+            savedPersons.addAll(persons);
+        }
+    }
+
+    /**
+     * Returns the removed person replaced by each added person that certainly replaces one.
+     * An added person replaces the removed person at the same index when no person was added or removed in between,
+     * as edits keep the index of the person they edit, or the only removed person when it is the only one added.
+     */
+    private Map<Person, Person> getReplacedPersons(List<Person> persons, List<Person> addedPersons,
+            Set<Person> removedPersons) {
+        Map<Person, Person> replacedPersons = new IdentityHashMap<>();
+        if (addedPersons.isEmpty() || removedPersons.isEmpty()) {
+            return replacedPersons;
+        }
+        if (addedPersons.size() == 1 && removedPersons.size() == 1) {
+            replacedPersons.put(addedPersons.get(0), removedPersons.iterator().next());
+            return replacedPersons;
+        }
+        if (persons.size() != savedPersons.size()) {
+            return replacedPersons;
+        }
+
+        for (int i = 0; i < persons.size(); i++) {
+            Person person = persons.get(i);
+            Person savedPerson = savedPersons.get(i);
+            if (!extents.containsKey(person) && removedPersons.contains(savedPerson)) {
+                replacedPersons.put(person, savedPerson);
+            }
+        }
+        return replacedPersons;
+    }
+
+    /**
+     * Replaces the file with a new one holding {@code persons}.
+     */
+    private void create(List<Person> persons) throws IOException {
+        closeQuietly();
+        FileUtil.createParentDirsOfFile(filePath);
+        channel = FileChannel.open(filePath, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        pageCount = 0;
+        map((long) MIN_PAGE_COUNT * PAGE_SIZE);
+        buffer.putInt(0, MAGIC);
+        buffer.putInt(Integer.BYTES, FORMAT_VERSION);
+        buffer.putInt(2 * Integer.BYTES, PAGE_SIZE);
+
+        usedPages.clear();
+        usedPages.set(0, FIRST_RECORD_PAGE);
+        extents.clear();
+        savedPersons.clear();
+        savedPersons.addAll(persons);
+        nextSequence = 1;
+        for (Person person : persons) {
+            extents.put(person, write(person, NO_SEQUENCE));
+        }
+        buffer.force();
+    }
+
+    /**
+     * Writes a record for {@code person}, replacing the record with {@code replacedSequence}, into free pages, and
+     * returns where it was written.
+     * The status is written last, so that a record cut short by a crash is never read back.
+     */
+    private Extent write(Person person, long replacedSequence) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        BinaryAddressBookStorage.writePerson(person, new DataOutputStream(bytes));
+        byte[] data = bytes.toByteArray();
+
+        Extent extent = new Extent(allocate(pagesFor(data.length)), pagesFor(data.length), data.length,
+                nextSequence++, replacedSequence);
+        int offset = extent.firstPage * PAGE_SIZE;
+        buffer.put(offset, STATUS_FREE);
+        buffer.putLong(offset + REPLACED_SEQUENCE_OFFSET, replacedSequence);
+        ByteBuffer view = buffer.duplicate();
+        view.position(offset + RECORD_HEADER_SIZE);
+        view.put(data);
+        buffer.putInt(offset + 1, data.length);
+        buffer.putLong(offset + 1 + Integer.BYTES, extent.sequence);
+        buffer.putInt(offset + CHECKSUM_OFFSET, checksum(offset + REPLACED_SEQUENCE_OFFSET,
+                RECORD_HEADER_SIZE - REPLACED_SEQUENCE_OFFSET + data.length));
+        buffer.put(offset, STATUS_RECORD);
+        return extent;
+    }
+
+    /**
+     * Marks every page of {@code extent} as free, so that none of them is mistaken for the start of a record.
+     */
+    private void free(Extent extent) {
+        for (int page = extent.firstPage; page < extent.firstPage + extent.pageCount; page++) {
+            buffer.put(page * PAGE_SIZE, STATUS_FREE);
+        }
+        usedPages.clear(extent.firstPage, extent.firstPage + extent.pageCount);
+    }
+
+    /**
+     * Returns the first page of the first run of {@code count} free pages, growing the file if there is none.
+     */
+    private int allocate(int count) throws IOException {
+        int start = usedPages.nextClearBit(FIRST_RECORD_PAGE);
+        int end = usedPages.nextSetBit(start);
+        while (end != -1 && end - start < count) {
+            start = usedPages.nextClearBit(end);
+            end = usedPages.nextSetBit(start);
+        }
+
+        if (start + count > pageCount) {
+            long newPageCount = Math.max((long) start + count, 2L * pageCount);
+            map(newPageCount * PAGE_SIZE);
+        }
+        usedPages.set(start, start + count);
+        return start;
+    }
+
+    /**
+     * Maps the first {@code size} bytes of the file into memory, growing the file if it is smaller.
+     */
+    private void map(long size) throws IOException {
+        if (size > Integer.MAX_VALUE / PAGE_SIZE * PAGE_SIZE) {
+            throw new IOException(MESSAGE_FILE_TOO_LARGE);
+        }
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        pageCount = (int) (size / PAGE_SIZE);
+    }
+
+    private static int pagesFor(int length) {
+        return (RECORD_HEADER_SIZE + length + PAGE_SIZE - 1) / PAGE_SIZE;
+    }
+
+    /**
+     * Loads every person read from the file, and closes the file. It is opened again by the next read or save.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        for (Person person : extents.keySet()) {
+            person.load();
+        }
+        buffer = null;
+        extents.clear();
+        savedPersons.clear();
+        if (channel != null) {
+            channel.close();
+            channel = null;
+        }
+    }
+
+    private void closeQuietly() {
+        try {
+            close();
+        } catch (IOException e) {
+            logger.warning("Failed to close " + filePath + ": " + e);
+        }
+    }
+
+    /**
+     * The consecutive pages taken up by a record.
+     */
+    private static class Extent {
+        private final int firstPage;
+        private final int pageCount;
+        private final int length;
+        private final long sequence;
+        private final long replacedSequence;
+
+        Extent(int firstPage, int pageCount, int length, long sequence, long replacedSequence) {
+            this.firstPage = firstPage;
+            this.pageCount = pageCount;
+            this.length = length;
+            this.sequence = sequence;
+            this.replacedSequence = replacedSequence;
+        }
+    }
+
+}
@@ -0,0 +1,388 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+
+/**
+ * An embedded store of string keys and byte values, kept in a memory-mapped file of fixed-size pages.
+ * <p>
+ * The first page holds the file header. Every other page is either free or part of a record, which holds one key and
+ * its value and takes up as many consecutive pages as it needs. A record starts with its status, the lengths of its
+ * key and value, a sequence number and a checksum of its key and value.
+ * <p>
+ * The keys and the pages of their records are kept in memory in sorted order, so that looking up, writing or removing
+ * a key only reads or writes the pages of its record, and keys can be scanned by prefix. Values are only read from
+ * the file when they are asked for.
+ * <p>
+ * Writing a key writes a new record into free pages, and the old record is only freed by the next {@link #force()},
+ * once the new record is on the disk; the same goes for removing a key. Until then the pages of the old record are
+ * not reused, so a crash never loses both the old and the new value of a key. If the application stops before the
+ * old record is freed, the record with the higher sequence number wins when the file is next opened.
+ */
+class PagedKeyValueStore {
+
+    /** The bytes "CHKV" at the start of every key-value file. */
+    public static final int MAGIC = 0x43484B56;
+    public static final int FORMAT_VERSION = 1;
+    public static final int PAGE_SIZE = 128;
+
+    public static final String MESSAGE_NOT_KEY_VALUE_FILE = "The file is not a key-value store.";
+    public static final String MESSAGE_FILE_TOO_LARGE = "The store is too large to be mapped into memory.";
+
+    static final byte STATUS_FREE = 0;
+    static final byte STATUS_RECORD = 1;
+    /** Status, key length, value length, sequence number and checksum. */
+    static final int RECORD_HEADER_SIZE = 1 + Integer.BYTES + Integer.BYTES + Long.BYTES + Integer.BYTES;
+
+    private static final int FIRST_RECORD_PAGE = 1;
+    private static final int MIN_PAGE_COUNT = 64;
+
+    private static final Logger logger = LogsCenter.getLogger(PagedKeyValueStore.class);
+
+    private final Path filePath;
+
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private int pageCount;
+    private final BitSet usedPages = new BitSet();
+    private final TreeMap<String, Extent> index = new TreeMap<>();
+    /** Records replaced or removed since the last {@link #force()}, freed by the next one. */
+    private final List<Extent> pendingFrees = new ArrayList<>();
+    private long nextSequence;
+
+    /**
+     * Opens the store in the file at {@code filePath}, creating an empty one if the file does not exist.
+     *
+     * @throws IOException if the file cannot be opened or created.
+     * @throws IllegalValueException if the file is not a key-value store.
+     */
+    PagedKeyValueStore(Path filePath) throws IOException, IllegalValueException {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+
+        if (!Files.exists(filePath)) {
+            create();
+            return;
+        }
+
+        try {
+            open();
+        } catch (IOException | IllegalValueException e) {
+            close();
+            throw e;
+        }
+    }
+
+    public Path getFilePath() {
+        return filePath;
+    }
+
+    private void create() throws IOException {
+        FileUtil.createParentDirsOfFile(filePath);
+        channel = FileChannel.open(filePath, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        map((long) MIN_PAGE_COUNT * PAGE_SIZE);
+        buffer.putInt(0, MAGIC);
+        buffer.putInt(Integer.BYTES, FORMAT_VERSION);
+        buffer.putInt(2 * Integer.BYTES, PAGE_SIZE);
+        buffer.force();
+
+        usedPages.set(0, FIRST_RECORD_PAGE);
+        nextSequence = 1;
+    }
+
+    /**
+     * Maps the file and reads the key of every record in it.
+     * Of any two records with the same key, the one with the lower sequence number is freed.
+     */
+    private void open() throws IOException, IllegalValueException {
+        channel = FileChannel.open(filePath, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        long fileSize = channel.size();
+        if (fileSize < PAGE_SIZE || fileSize % PAGE_SIZE != 0) {
+            throw new IllegalValueException(MESSAGE_NOT_KEY_VALUE_FILE);
+        }
+        map(fileSize);
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(Integer.BYTES) != FORMAT_VERSION
+                || buffer.getInt(2 * Integer.BYTES) != PAGE_SIZE) {
+            throw new IllegalValueException(MESSAGE_NOT_KEY_VALUE_FILE);
+        }
+
+        usedPages.set(0, FIRST_RECORD_PAGE);
+        boolean hasFreedRecords = false;
+        long maxSequence = 0;
+        int page = FIRST_RECORD_PAGE;
+        while (page < pageCount) {
+            Extent extent = readExtent(page);
+            if (extent == null) {
+                page++;
+                continue;
+            }
+
+            String key = new String(read(extent.firstPage * PAGE_SIZE + RECORD_HEADER_SIZE, extent.keyLength), UTF_8);
+            Extent other = index.get(key);
+            if (other == null || other.sequence < extent.sequence) {
+                index.put(key, extent);
+                usedPages.set(extent.firstPage, extent.firstPage + extent.pageCount);
+            }
+            if (other != null) {
+                free(other.sequence < extent.sequence ? other : extent);
+                hasFreedRecords = true;
+            }
+            maxSequence = Math.max(maxSequence, extent.sequence);
+            page += extent.pageCount;
+        }
+        if (hasFreedRecords) {
+            buffer.force();
+        }
+        nextSequence = maxSequence + 1;
+    }
+
+    /**
+     * Returns the record starting at {@code page}, or null if the page does not start a complete record.
+     */
+    private Extent readExtent(int page) {
+        int offset = page * PAGE_SIZE;
+        if (buffer.get(offset) != STATUS_RECORD) {
+            return null;
+        }
+        int keyLength = buffer.getInt(offset + 1);
+        int valueLength = buffer.getInt(offset + 1 + Integer.BYTES);
+        long available = (long) (pageCount - page) * PAGE_SIZE - RECORD_HEADER_SIZE;
+        if (keyLength < 0 || valueLength < 0 || (long) keyLength + valueLength > available) {
+            return null;
+        }
+        long sequence = buffer.getLong(offset + 1 + 2 * Integer.BYTES);
+        int checksum = buffer.getInt(offset + 1 + 2 * Integer.BYTES + Long.BYTES);
+        if (checksum != checksum(offset + RECORD_HEADER_SIZE, keyLength + valueLength)) {
+            return null;
+        }
+        return new Extent(page, pagesFor(keyLength + valueLength), keyLength, valueLength, sequence);
+    }
+
+    /**
+     * Returns the number of keys in the store.
+     */
+    public synchronized int size() {
+        return index.size();
+    }
+
+    /**
+     * Returns true if the store has a value for {@code key}.
+     */
+    public synchronized boolean containsKey(String key) {
+        return index.containsKey(key);
+    }
+
+    /**
+     * Returns the value of {@code key}, or an empty {@code Optional} if the store has no value for it.
+     */
+    public synchronized Optional<byte[]> get(String key) {
+        requireNonNull(key);
+        Extent extent = index.get(key);
+        if (extent == null) {
+            return Optional.empty();
+        }
+        return Optional.of(read(extent.firstPage * PAGE_SIZE + RECORD_HEADER_SIZE + extent.keyLength,
+                extent.valueLength));
+    }
+
+    /**
+     * Returns every key that starts with {@code prefix}, in sorted order.
+     */
+    public synchronized List<String> getKeysWithPrefix(String prefix) {
+        requireNonNull(prefix);
+        return new ArrayList<>(index.subMap(prefix, prefix + Character.MAX_VALUE).keySet());
+    }
+
+    /**
+     * Sets the value of {@code key} to {@code value}.
+     * The change is only guaranteed to be on disk after the next {@link #force()}, which also frees the old record.
+     */
+    public synchronized void put(String key, byte[] value) throws IOException {
+        requireNonNull(key);
+        requireNonNull(value);
+        Extent extent = write(key.getBytes(UTF_8), value);
+        Extent oldExtent = index.put(key, extent);
+        if (oldExtent != null) {
+            pendingFrees.add(oldExtent);
+        }
+    }
+
+    /**
+     * Removes the value of {@code key}, if there is one.
+     * The record is only freed, and the change only guaranteed to be on disk, after the next {@link #force()}.
+     */
+    public synchronized void remove(String key) {
+        requireNonNull(key);
+        Extent extent = index.remove(key);
+        if (extent != null) {
+            pendingFrees.add(extent);
+        }
+    }
+
+    /**
+     * Writes every change made so far to the disk.
+     * The new records are written to the disk before the records they replace are freed, and the pages of those
+     * records can only be reused once they are freed on the disk too.
+     */
+    public synchronized void force() {
+        buffer.force();
+        if (pendingFrees.isEmpty()) {
+            return;
+        }
+
+        for (Extent extent : pendingFrees) {
+            markFree(extent);
+        }
+        buffer.force();
+        for (Extent extent : pendingFrees) {
+            usedPages.clear(extent.firstPage, extent.firstPage + extent.pageCount);
+        }
+        pendingFrees.clear();
+    }
+
+    /**
+     * Writes a record for {@code key} and {@code value} into free pages, and returns where it was written.
+     * The status is written last, so that a record cut short by a crash is never read back.
+     */
+    private Extent write(byte[] key, byte[] value) throws IOException {
+        int length = key.length + value.length;
+        Extent extent = new Extent(allocate(pagesFor(length)), pagesFor(length), key.length, value.length,
+                nextSequence++);
+        int offset = extent.firstPage * PAGE_SIZE;
+        buffer.put(offset, STATUS_FREE);
+        ByteBuffer view = buffer.duplicate();
+        view.position(offset + RECORD_HEADER_SIZE);
+        view.put(key);
+        view.put(value);
+        buffer.putInt(offset + 1, key.length);
+        buffer.putInt(offset + 1 + Integer.BYTES, value.length);
+        buffer.putLong(offset + 1 + 2 * Integer.BYTES, extent.sequence);
+        buffer.putInt(offset + 1 + 2 * Integer.BYTES + Long.BYTES, checksum(offset + RECORD_HEADER_SIZE, length));
+        buffer.put(offset, STATUS_RECORD);
+        return extent;
+    }
+
+    private byte[] read(int offset, int length) {
+        byte[] bytes = new byte[length];
+        ByteBuffer view = buffer.duplicate();
+        view.position(offset);
+        view.get(bytes);
+        return bytes;
+    }
+
+    private int checksum(int offset, int length) {
+        ByteBuffer view = buffer.duplicate();
+        view.position(offset);
+        view.limit(offset + length);
+        CRC32 crc = new CRC32();
+        crc.update(view);
+        return (int) crc.getValue();
+    }
+
+    /**
+     * Frees the pages of {@code extent} at once, for records that were never in use.
+     */
+    private void free(Extent extent) {
+        markFree(extent);
+        usedPages.clear(extent.firstPage, extent.firstPage + extent.pageCount);
+    }
+
+    /**
+     * Marks every page of {@code extent} as free, so that none of them is mistaken for the start of a record.
+     */
+    private void markFree(Extent extent) {
+        for (int page = extent.firstPage; page < extent.firstPage + extent.pageCount; page++) {
+            buffer.put(page * PAGE_SIZE, STATUS_FREE);
+        }
+    }
+
+    /**
+     * Returns the first page of the first run of {@code count} free pages, growing the file if there is none.
+     */
+    private int allocate(int count) throws IOException {
+        int start = usedPages.nextClearBit(FIRST_RECORD_PAGE);
+        int end = usedPages.nextSetBit(start);
+        while (end != -1 && end - start < count) {
+            start = usedPages.nextClearBit(end);
+            end = usedPages.nextSetBit(start);
+        }
+
+        if (start + count > pageCount) {
+            long newPageCount = Math.max((long) start + count, 2L * pageCount);
+            map(newPageCount * PAGE_SIZE);
+        }
+        usedPages.set(start, start + count);
+        return start;
+    }
+
+    /**
+     * Maps the first {@code size} bytes of the file into memory, growing the file if it is smaller.
+     */
+    private void map(long size) throws IOException {
+        if (size > Integer.MAX_VALUE / PAGE_SIZE * PAGE_SIZE) {
+            throw new IOException(MESSAGE_FILE_TOO_LARGE);
+        }
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        pageCount = (int) (size / PAGE_SIZE);
+    }
+
+    private static int pagesFor(int length) {
+        return (RECORD_HEADER_SIZE + length + PAGE_SIZE - 1) / PAGE_SIZE;
+    }
+
+    /**
+     * Writes every change to the disk and closes the file. The store cannot be used after it is closed.
+     */
+    public synchronized void close() throws IOException {
+        if (buffer != null) {
+            force();
+            buffer = null;
+        }
+        index.clear();
+        if (channel != null) {
+            channel.close();
+            channel = null;
+        }
+        logger.fine("Closed " + filePath);
+    }
+
+    /**
+     * The consecutive pages taken up by a record.
+     */
+    private static class Extent {
+        private final int firstPage;
+        private final int pageCount;
+        private final int keyLength;
+        private final int valueLength;
+        private final long sequence;
+
+        Extent(int firstPage, int pageCount, int keyLength, int valueLength, long sequence) {
+            this.firstPage = firstPage;
+            this.pageCount = pageCount;
+            this.keyLength = keyLength;
+            this.valueLength = valueLength;
+            this.sequence = sequence;
+        }
+    }
+
+}
@@ -0,0 +1,54 @@
+package seedu.address.storage;
+
+import java.nio.file.Path;
+
+/**
+ * The external file formats that persons can be imported from and exported to.
+ */
+public enum PersonFileFormat {
+    CSV("csv"),
+    VCARD("vcf", "vcard");
+
+    private final String[] extensions;
+
+    PersonFileFormat(String... extensions) {
+        this.extensions = extensions;
+    }
+
+    /**
+     * Returns the format of {@code file} as indicated by its extension.
+     * Files without a recognised extension are treated as CSV.
+     */
+    public static PersonFileFormat fromFileName(Path file) {
+        Path fileName = file.getFileName();
+        String name = fileName == null ? "" : fileName.toString().toLowerCase();
+        for (PersonFileFormat format : values()) {
+            for (String extension : format.extensions) {
+                if (name.endsWith("." + extension)) {
+                    return format;
+                }
+            }
+        }
+        return CSV;
+    }
+
+    /**
+     * Returns the format named {@code name}, which may be the name of the format or one of its extensions.
+     *
+     * @throws IllegalArgumentException if no format has that name.
+     */
+    public static PersonFileFormat fromName(String name) {
+        String lowerCaseName = name.trim().toLowerCase();
+        for (PersonFileFormat format : values()) {
+            if (format.name().toLowerCase().equals(lowerCaseName)) {
+                return format;
+            }
+            for (String extension : format.extensions) {
+                if (extension.equals(lowerCaseName)) {
+                    return format;
+                }
+            }
+        }
+        throw new IllegalArgumentException("Unknown file format: " + name);
+    }
+}
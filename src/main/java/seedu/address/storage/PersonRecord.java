@@ -0,0 +1,106 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The unvalidated fields of one person as read from an external file, such as a CSV file or a vCard.
+ * Single-valued fields that are absent from the record are null.
+ */
+public class PersonRecord {
+
+    private final int rowNumber;
+    private final String name;
+    private final String email;
+    private final List<String> moduleCodes;
+    private final String phone;
+    private final String teleHandle;
+    private final String remark;
+    private final List<String> tags;
+
+    /**
+     * Constructs a {@code PersonRecord} read from the given (one-based) row of its file.
+     * {@code moduleCodes} and {@code tags} cannot be null.
+     */
+    public PersonRecord(int rowNumber, String name, String email, List<String> moduleCodes, String phone,
+                        String teleHandle, String remark, List<String> tags) {
+        requireAllNonNull(moduleCodes, tags);
+        this.rowNumber = rowNumber;
+        this.name = name;
+        this.email = email;
+        this.moduleCodes = Collections.unmodifiableList(moduleCodes);
+        this.phone = phone;
+        this.teleHandle = teleHandle;
+        this.remark = remark;
+        this.tags = Collections.unmodifiableList(tags);
+    }
+
+    /**
+     * Returns the one-based row (or line) of the file at which this record starts.
+     */
+    public int getRowNumber() {
+        return rowNumber;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public List<String> getModuleCodes() {
+        return moduleCodes;
+    }
+
+    public String getPhone() {
+        return phone;
+    }
+
+    public String getTeleHandle() {
+        return teleHandle;
+    }
+
+    public String getRemark() {
+        return remark;
+    }
+
+    public List<String> getTags() {
+        return tags;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof PersonRecord)) {
+            return false;
+        }
+
+        PersonRecord otherRecord = (PersonRecord) other;
+        return rowNumber == otherRecord.rowNumber
+                && Objects.equals(name, otherRecord.name)
+                && Objects.equals(email, otherRecord.email)
+                && moduleCodes.equals(otherRecord.moduleCodes)
+                && Objects.equals(phone, otherRecord.phone)
+                && Objects.equals(teleHandle, otherRecord.teleHandle)
+                && Objects.equals(remark, otherRecord.remark)
+                && tags.equals(otherRecord.tags);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(rowNumber, name, email, moduleCodes, phone, teleHandle, remark, tags);
+    }
+
+    @Override
+    public String toString() {
+        return "Row " + rowNumber + ": " + name;
+    }
+}
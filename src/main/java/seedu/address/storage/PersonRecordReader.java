@@ -0,0 +1,43 @@
+package seedu.address.storage;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Reads {@code PersonRecord}s one at a time from an external file, so that files of any size can be read
+ * without holding all of their records in memory.
+ */
+public interface PersonRecordReader extends Closeable {
+
+    /**
+     * Returns the next record, or null if there are no more records.
+     *
+     * @throws IOException if the file could not be read or is not structured as its format requires.
+     */
+    PersonRecord read() throws IOException;
+
+    /**
+     * Opens a reader over {@code file}, choosing the format from the file's extension.
+     *
+     * @see PersonFileFormat#fromFileName(Path)
+     */
+    static PersonRecordReader open(Path file) throws IOException {
+        BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8);
+        try {
+            switch (PersonFileFormat.fromFileName(file)) {
+            case VCARD:
+                return new VCardPersonRecordReader(reader);
+            case CSV:
+            default:
+                return new CsvPersonRecordReader(reader);
+            }
+        } catch (IOException | RuntimeException e) {
+            reader.close();
+            throw e;
+        }
+    }
+}
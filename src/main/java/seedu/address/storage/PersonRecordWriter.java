@@ -0,0 +1,43 @@
+package seedu.address.storage;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.person.Person;
+
+/**
+ * Writes persons one at a time to an external file, such as a CSV file or a vCard file,
+ * so that they can be written without building the whole file in memory.
+ */
+public interface PersonRecordWriter extends Closeable {
+
+    /**
+     * Writes {@code person} as the next record of the file.
+     */
+    void write(Person person) throws IOException;
+
+    /**
+     * Creates {@code file}, or truncates it if it exists, and opens a writer over it in the given format.
+     */
+    static PersonRecordWriter open(Path file, PersonFileFormat format) throws IOException {
+        FileUtil.createParentDirsOfFile(file);
+        BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+        try {
+            switch (format) {
+            case VCARD:
+                return new VCardPersonRecordWriter(writer);
+            case CSV:
+            default:
+                return new CsvPersonRecordWriter(writer);
+            }
+        } catch (IOException | RuntimeException e) {
+            writer.close();
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,333 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.stream.IntStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+
+/**
+ * A class to access AddressBook data stored as a directory of json shards on the hard disk.
+ * <p>
+ * Each person is kept in one of a fixed number of shards, chosen by a hash of its name that does not change between
+ * runs. Every shard is a file in the format of {@link JsonAddressBookStorage}, and a manifest in the same directory
+ * records the number of shards. A save only rewrites the shards whose persons were added, removed or changed since
+ * the previous save, and shards are read in parallel. Each shard is replaced atomically, and shards that gain persons
+ * are written before persons are removed from other shards, so a save that is cut short never loses a person,
+ * though a person renamed into another shard may then be kept under both names.
+ * <p>
+ * Persons are read back in the order of their names, which is the order the application keeps them in.
+ * <p>
+ * If the manifest does not exist yet, the address book is read once from the json file it replaces.
+ */
+public class ShardedAddressBookStorage implements AddressBookStorage {
+
+    public static final String DIRECTORY_EXTENSION = ".shards";
+    public static final String MANIFEST_FILE_NAME = "manifest.json";
+    public static final int DEFAULT_SHARD_COUNT = 16;
+
+    public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
+
+    private static final String SHARD_FILE_NAME_FORMAT = "shard-%d.json";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedAddressBookStorage.class);
+
+    private final Path directoryPath;
+    private final Path jsonFilePath;
+    private final JsonAddressBookStorage shardStorage;
+    private int shardCount;
+
+    /** The persons last read from or written to each shard, or null if the shards have not been read or written. */
+    private List<List<Person>> persistedShards;
+
+    public ShardedAddressBookStorage(Path directoryPath) {
+        this(directoryPath, null, false);
+    }
+
+    /**
+     * Creates a storage for the shards in the directory at {@code directoryPath}, which are migrated from the json
+     * file at {@code jsonFilePath} the first time they are read if they do not exist yet.
+     * Each shard is written without any whitespace between tokens if {@code isCompact} is true.
+     *
+     * @param jsonFilePath may be null if there is nothing to migrate from.
+     */
+    public ShardedAddressBookStorage(Path directoryPath, Path jsonFilePath, boolean isCompact) {
+        this(directoryPath, jsonFilePath, isCompact, DEFAULT_SHARD_COUNT);
+    }
+
+    /**
+     * Similar to {@link #ShardedAddressBookStorage(Path, Path, boolean)}, but a new address book is split into
+     * {@code shardCount} shards. An existing address book keeps the number of shards in its manifest.
+     */
+    ShardedAddressBookStorage(Path directoryPath, Path jsonFilePath, boolean isCompact, int shardCount) {
+        this.directoryPath = directoryPath;
+        this.jsonFilePath = jsonFilePath;
+        this.shardStorage = new JsonAddressBookStorage(directoryPath, isCompact);
+        this.shardCount = shardCount;
+    }
+
+    public Path getAddressBookFilePath() {
+        return directoryPath;
+    }
+
+    /**
+     * Returns the path of the shard with the given {@code index} in the directory at {@code directoryPath}.
+     */
+    static Path getShardFilePath(Path directoryPath, int index) {
+        return directoryPath.resolve(String.format(SHARD_FILE_NAME_FORMAT, index));
+    }
+
+    /**
+     * Returns the index of the shard that holds {@code person}.
+     * {@link String#hashCode()} is used as it is the same in every run of the application.
+     */
+    private static int shardOf(Person person, int shardCount) {
+        return Math.floorMod(person.getName().fullName.hashCode(), shardCount);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException {
+        return readAddressBook(directoryPath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param directoryPath location of the data. Cannot be null.
+     * @throws DataConversionException if the data is not in the correct format.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path directoryPath) throws DataConversionException {
+        requireNonNull(directoryPath);
+
+        if (!directoryPath.equals(this.directoryPath)) {
+            return new ShardedAddressBookStorage(directoryPath).readAddressBook();
+        }
+
+        synchronized (this) {
+            Path manifestPath = directoryPath.resolve(MANIFEST_FILE_NAME);
+            if (!Files.exists(manifestPath)) {
+                if (jsonFilePath != null && Files.exists(jsonFilePath)) {
+                    return migrateFromJson();
+                }
+                logger.info("Shard manifest " + manifestPath + " not found");
+                return Optional.empty();
+            }
+
+            try {
+                shardCount = JsonUtil.readJsonFile(manifestPath, JsonShardManifest.class).get().toShardCount();
+                return Optional.of(readShards());
+            } catch (IllegalValueException ive) {
+                logger.info("Illegal values found in " + directoryPath + ": " + ive.getMessage());
+                throw new DataConversionException(ive);
+            }
+        }
+    }
+
+    private Optional<ReadOnlyAddressBook> migrateFromJson() throws DataConversionException {
+        Optional<ReadOnlyAddressBook> addressBook = new JsonAddressBookStorage(jsonFilePath).readAddressBook();
+        if (!addressBook.isPresent()) {
+            return addressBook;
+        }
+
+        try {
+            saveAddressBook(addressBook.get());
+            logger.info("Migrated " + jsonFilePath + " to " + directoryPath);
+        } catch (IOException e) {
+            logger.warning("Failed to migrate " + jsonFilePath + " to " + directoryPath + ": " + e);
+        }
+        return addressBook;
+    }
+
+    /**
+     * Reads every shard in parallel, and returns the persons in all of them.
+     * A shard that does not exist is read as an empty one.
+     */
+    private AddressBook readShards() throws DataConversionException, IllegalValueException {
+        List<List<Person>> shards = new ArrayList<>(shardCount);
+        DataConversionException[] errors = new DataConversionException[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shards.add(new ArrayList<>());
+        }
+
+        IntStream.range(0, shardCount).parallel().forEach(i -> {
+            try {
+                shardStorage.readAddressBook(getShardFilePath(directoryPath, i))
+                        .ifPresent(shard -> shards.get(i).addAll(shard.getPersonList()));
+            } catch (DataConversionException e) {
+                errors[i] = e;
+            }
+        });
+        for (DataConversionException error : errors) {
+            if (error != null) {
+                throw error;
+            }
+        }
+
+        List<Person> persons = new ArrayList<>();
+        Set<Name> names = new HashSet<>();
+        for (List<Person> shard : shards) {
+            for (Person person : shard) {
+                if (!names.add(person.getName())) {
+                    throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+                }
+                persons.add(person);
+            }
+        }
+        persons.sort((person, other) -> person.getName().compareTo(other.getName()));
+        persistedShards = shards;
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPersons(persons);
+        return addressBook;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, directoryPath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param directoryPath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path directoryPath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(directoryPath);
+
+        if (!directoryPath.equals(this.directoryPath)) {
+            new ShardedAddressBookStorage(directoryPath, null, false, shardCount).saveAddressBook(addressBook);
+            return;
+        }
+
+        synchronized (this) {
+            List<List<Person>> shards = new ArrayList<>(shardCount);
+            for (int i = 0; i < shardCount; i++) {
+                shards.add(new ArrayList<>());
+            }
+            for (Person person : addressBook.getPersonList()) {
+                shards.get(shardOf(person, shardCount)).add(person);
+            }
+
+            boolean isNew = persistedShards == null;
+            if (isNew) {
+                Files.createDirectories(directoryPath);
+            }
+            // Persons are removed from their shards only once every shard that gains persons has been written, so
+            // that a person moved between shards by a rename is never missing from both if the save is cut short.
+            List<Integer> losingShards = new ArrayList<>();
+            for (int i = 0; i < shardCount; i++) {
+                List<Person> shard = shards.get(i);
+                if (isNew) {
+                    writeShard(i, shard);
+                    continue;
+                }
+                List<Person> persistedShard = persistedShards.get(i);
+                if (isSameShard(shard, persistedShard)) {
+                    continue;
+                }
+
+                List<Person> removedPersons = getPersonsNotNamedIn(persistedShard, shard);
+                if (removedPersons.isEmpty()) {
+                    writeShard(i, shard);
+                    continue;
+                }
+                losingShards.add(i);
+                if (getPersonsNotNamedIn(shard, persistedShard).isEmpty()) {
+                    continue;
+                }
+                List<Person> gainingShard = new ArrayList<>(shard);
+                gainingShard.addAll(removedPersons);
+                writeShard(i, gainingShard);
+            }
+            for (int i : losingShards) {
+                writeShard(i, shards.get(i));
+            }
+            // The manifest is written last, so that it only exists once every shard has been written.
+            if (isNew) {
+                writeAtomically(directoryPath.resolve(MANIFEST_FILE_NAME),
+                        tempPath -> JsonUtil.saveJsonFile(new JsonShardManifest(shardCount), tempPath));
+            }
+            persistedShards = shards;
+        }
+    }
+
+    private void writeShard(int index, List<Person> shard) throws IOException {
+        writeAtomically(getShardFilePath(directoryPath, index), tempPath -> shardStorage.savePersons(shard, tempPath));
+    }
+
+    /**
+     * Returns the persons in {@code persons} with no person of the same name in {@code otherPersons}.
+     */
+    private static List<Person> getPersonsNotNamedIn(List<Person> persons, List<Person> otherPersons) {
+        Set<Name> otherNames = new HashSet<>();
+        for (Person person : otherPersons) {
+            otherNames.add(person.getName());
+        }
+        List<Person> result = new ArrayList<>();
+        for (Person person : persons) {
+            if (!otherNames.contains(person.getName())) {
+                result.add(person);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns true if {@code shard} holds exactly the same persons as {@code persistedShard}, in the same order.
+     * Persons are compared by reference, since they are immutable.
+     */
+    private static boolean isSameShard(List<Person> shard, List<Person> persistedShard) {
+        if (shard.size() != persistedShard.size()) {
+            return false;
+        }
+        for (int i = 0; i < shard.size(); i++) {
+            if (shard.get(i) != persistedShard.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Writes a file with {@code writer} next to {@code filePath}, and then moves it over {@code filePath}, so that
+     * the file at {@code filePath} is never left half written.
+     */
+    private static void writeAtomically(Path filePath, ContentWriter writer) throws IOException {
+        Path tempPath = filePath.resolveSibling(filePath.getFileName() + TEMP_FILE_SUFFIX);
+        writer.write(tempPath);
+        try (FileChannel channel = FileChannel.open(tempPath, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+        Files.move(tempPath, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Writes the content of a file to the given path.
+     */
+    @FunctionalInterface
+    private interface ContentWriter {
+        void write(Path filePath) throws IOException;
+    }
+
+}
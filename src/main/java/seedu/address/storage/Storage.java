@@ -29,4 +29,9 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
+    /**
+     * Returns the named address books that the current address book is one of.
+     */
+    AddressBookLibrary getAddressBookLibrary();
+
 }
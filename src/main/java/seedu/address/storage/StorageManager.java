@@ -16,16 +16,29 @@ import seedu.address.model.UserPrefs;
  */
 public class StorageManager implements Storage {
 
+    /** Memory budget for resident address books when none is given. */
+    public static final long DEFAULT_MEMORY_BUDGET_BYTES = 64L << 20;
+
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
-    private AddressBookStorage addressBookStorage;
+    private AddressBookLibrary addressBookLibrary;
     private UserPrefsStorage userPrefsStorage;
 
     /**
      * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
+     * Other address books in the same directory are saved as json files.
      */
     public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage) {
+        this(new AddressBookLibrary(addressBookStorage.getAddressBookFilePath(), addressBookStorage,
+                JsonAddressBookStorage::new, DEFAULT_MEMORY_BUDGET_BYTES), userPrefsStorage);
+    }
+
+    /**
+     * Creates a {@code StorageManager} with the given {@code AddressBookLibrary} and {@code UserPrefStorage}.
+     * The address book saved and read is always the current one of {@code addressBookLibrary}.
+     */
+    public StorageManager(AddressBookLibrary addressBookLibrary, UserPrefsStorage userPrefsStorage) {
         super();
-        this.addressBookStorage = addressBookStorage;
+        this.addressBookLibrary = addressBookLibrary;
         this.userPrefsStorage = userPrefsStorage;
     }
 
@@ -49,31 +62,44 @@ public class StorageManager implements Storage {
 
     // ================ AddressBook methods ==============================
 
+    @Override
+    public AddressBookLibrary getAddressBookLibrary() {
+        return addressBookLibrary;
+    }
+
     @Override
     public Path getAddressBookFilePath() {
-        return addressBookStorage.getAddressBookFilePath();
+        return addressBookLibrary.getCurrentStorage().getAddressBookFilePath();
     }
 
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
-        return readAddressBook(addressBookStorage.getAddressBookFilePath());
+        return readAddressBook(addressBookLibrary.getCurrentStorage().getAddressBookFilePath());
     }
 
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException, IOException {
         logger.fine("Attempting to read data from file: " + filePath);
-        return addressBookStorage.readAddressBook(filePath);
+        return addressBookLibrary.getCurrentStorage().readAddressBook(filePath);
     }
 
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
-        saveAddressBook(addressBook, addressBookStorage.getAddressBookFilePath());
+        saveAddressBook(addressBook, addressBookLibrary.getCurrentStorage().getAddressBookFilePath());
     }
 
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
         logger.fine("Attempting to write to data file: " + filePath);
-        addressBookStorage.saveAddressBook(addressBook, filePath);
+        addressBookLibrary.getCurrentStorage().saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Closes the storages of the current and resident address books.
+     */
+    @Override
+    public void close() throws IOException {
+        addressBookLibrary.close();
     }
 
 }
@@ -0,0 +1,181 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads {@code PersonRecord}s from a vCard file, one card at a time.
+ * Properties are mapped as follows: FN to name, EMAIL to email, TEL to phone, NOTE to remark,
+ * CATEGORIES to tags, {@value #TELEGRAM_PROPERTY} to telegram handle and {@value #MODULE_CODES_PROPERTY}
+ * to module codes. Only the first EMAIL and TEL of each card are used; other properties are ignored.
+ */
+public class VCardPersonRecordReader implements PersonRecordReader {
+
+    public static final String TELEGRAM_PROPERTY = "X-TELEGRAM";
+    public static final String MODULE_CODES_PROPERTY = "X-MODULE-CODES";
+
+    private final BufferedReader reader;
+
+    /** The next physical line, read ahead to detect folded lines, or null at the end of the file. */
+    private String nextLine;
+
+    /** One-based number of {@code nextLine}. */
+    private int nextLineNumber;
+
+    /** One-based number of the line at which the last property returned by {@link #readProperty()} starts. */
+    private int propertyLineNumber;
+
+    /**
+     * Creates a reader over {@code reader}.
+     */
+    public VCardPersonRecordReader(BufferedReader reader) throws IOException {
+        requireNonNull(reader);
+        this.reader = reader;
+        advance();
+    }
+
+    @Override
+    public PersonRecord read() throws IOException {
+        String property;
+        do {
+            property = readProperty();
+            if (property == null) {
+                return null;
+            }
+        } while (!property.equalsIgnoreCase("BEGIN:VCARD"));
+
+        int rowNumber = propertyLineNumber;
+        String name = null;
+        String email = null;
+        String phone = null;
+        String teleHandle = null;
+        String remark = null;
+        List<String> moduleCodes = new ArrayList<>();
+        List<String> tags = new ArrayList<>();
+
+        while (true) {
+            property = readProperty();
+            if (property == null) {
+                throw new IOException("Card starting on line " + rowNumber + " is missing END:VCARD");
+            }
+
+            int colon = property.indexOf(':');
+            if (colon < 0) {
+                continue;
+            }
+            String propertyName = getPropertyName(property.substring(0, colon));
+            String value = property.substring(colon + 1);
+
+            switch (propertyName) {
+            case "END":
+                return new PersonRecord(rowNumber, name, email, moduleCodes, phone, teleHandle, remark, tags);
+            case "FN":
+                name = unescape(value);
+                break;
+            case "EMAIL":
+                email = email == null ? unescape(value) : email;
+                break;
+            case "TEL":
+                phone = phone == null ? unescape(value) : phone;
+                break;
+            case "NOTE":
+                remark = unescape(value);
+                break;
+            case "CATEGORIES":
+                addValues(value, tags);
+                break;
+            case TELEGRAM_PROPERTY:
+                teleHandle = unescape(value);
+                break;
+            case MODULE_CODES_PROPERTY:
+                addValues(value, moduleCodes);
+                break;
+            default:
+                break;
+            }
+        }
+    }
+
+    /**
+     * Returns the upper-cased name of a property from the part of its line before the value,
+     * dropping any group prefix and parameters.
+     */
+    private static String getPropertyName(String nameAndParameters) {
+        int semicolon = nameAndParameters.indexOf(';');
+        String name = semicolon < 0 ? nameAndParameters : nameAndParameters.substring(0, semicolon);
+        int dot = name.lastIndexOf('.');
+        return name.substring(dot + 1).trim().toUpperCase();
+    }
+
+    /**
+     * Adds each non-blank value in the comma-separated list {@code value} to {@code values}.
+     */
+    private static void addValues(String value, List<String> values) {
+        int start = 0;
+        for (int i = 0; i <= value.length(); i++) {
+            if (i == value.length() || value.charAt(i) == ',') {
+                String part = unescape(value.substring(start, i));
+                if (!part.isEmpty()) {
+                    values.add(part);
+                }
+                start = i + 1;
+            } else if (value.charAt(i) == '\\') {
+                i++;
+            }
+        }
+    }
+
+    /**
+     * Returns {@code value} trimmed and with vCard escape sequences replaced by the characters they stand for.
+     */
+    private static String unescape(String value) {
+        StringBuilder sb = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\\' && i + 1 < value.length()) {
+                char escaped = value.charAt(++i);
+                sb.append(escaped == 'n' || escaped == 'N' ? '\n' : escaped);
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString().trim();
+    }
+
+    /**
+     * Returns the next property with folded lines joined, or null at the end of the file.
+     * Blank lines are skipped.
+     */
+    private String readProperty() throws IOException {
+        while (nextLine != null && nextLine.trim().isEmpty()) {
+            advance();
+        }
+        if (nextLine == null) {
+            return null;
+        }
+
+        propertyLineNumber = nextLineNumber;
+        StringBuilder property = new StringBuilder(nextLine);
+        advance();
+        while (nextLine != null && !nextLine.isEmpty()
+                && (nextLine.charAt(0) == ' ' || nextLine.charAt(0) == '\t')) {
+            property.append(nextLine, 1, nextLine.length());
+            advance();
+        }
+        return property.toString();
+    }
+
+    private void advance() throws IOException {
+        nextLine = reader.readLine();
+        nextLineNumber++;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
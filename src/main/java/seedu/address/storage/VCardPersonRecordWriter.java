@@ -0,0 +1,106 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.storage.VCardPersonRecordReader.MODULE_CODES_PROPERTY;
+import static seedu.address.storage.VCardPersonRecordReader.TELEGRAM_PROPERTY;
+
+import java.io.IOException;
+import java.io.Writer;
+
+import seedu.address.model.person.ModuleCode;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Writes persons to a vCard 3.0 file, one card per person, using the properties read by
+ * {@link VCardPersonRecordReader}. Empty fields are left out of the card.
+ */
+public class VCardPersonRecordWriter implements PersonRecordWriter {
+
+    private static final String LINE_SEPARATOR = "\r\n";
+
+    private final Writer writer;
+
+    /**
+     * Creates a writer over {@code writer}.
+     */
+    public VCardPersonRecordWriter(Writer writer) {
+        requireNonNull(writer);
+        this.writer = writer;
+    }
+
+    @Override
+    public void write(Person person) throws IOException {
+        requireNonNull(person);
+        writer.write("BEGIN:VCARD" + LINE_SEPARATOR + "VERSION:3.0" + LINE_SEPARATOR);
+        writeProperty("FN", person.getName().fullName);
+        writeProperty("N", escape(person.getName().fullName) + ";;;;", false);
+        writeProperty("EMAIL", person.getEmail().toString());
+        writeProperty("TEL", person.getPhone().value);
+        writeProperty(TELEGRAM_PROPERTY, person.getTeleHandle().value);
+        writeProperty("NOTE", person.getRemark().value);
+
+        StringBuilder moduleCodes = new StringBuilder();
+        for (int i = 0; i < person.getModuleCodeCount(); i++) {
+            moduleCodes.append(i == 0 ? "" : ",").append(escape(ModuleCode.unpack(person.getPackedModuleCode(i))));
+        }
+        writeProperty(MODULE_CODES_PROPERTY, moduleCodes.toString(), false);
+
+        StringBuilder tags = new StringBuilder();
+        for (Tag tag : person.getTags()) {
+            tags.append(tags.length() == 0 ? "" : ",").append(escape(tag.tagName));
+        }
+        writeProperty("CATEGORIES", tags.toString(), false);
+        writer.write("END:VCARD" + LINE_SEPARATOR);
+    }
+
+    private void writeProperty(String name, String value) throws IOException {
+        writeProperty(name, value, true);
+    }
+
+    /**
+     * Writes the property {@code name} with {@code value}, escaping the value if {@code needsEscape}.
+     * Does nothing if {@code value} is empty.
+     */
+    private void writeProperty(String name, String value, boolean needsEscape) throws IOException {
+        if (value.isEmpty()) {
+            return;
+        }
+        writer.write(name);
+        writer.write(':');
+        writer.write(needsEscape ? escape(value) : value);
+        writer.write(LINE_SEPARATOR);
+    }
+
+    /**
+     * Returns {@code value} with the characters that have a special meaning in vCard values escaped.
+     */
+    private static String escape(String value) {
+        StringBuilder sb = null;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            String escaped = c == '\\' ? "\\\\"
+                    : c == ',' ? "\\,"
+                    : c == ';' ? "\\;"
+                    : c == '\n' ? "\\n"
+                    : c == '\r' ? ""
+                    : null;
+            if (escaped != null && sb == null) {
+                sb = new StringBuilder(value.length() + 8).append(value, 0, i);
+            }
+            if (sb != null) {
+                if (escaped != null) {
+                    sb.append(escaped);
+                } else {
+                    sb.append(c);
+                }
+            }
+        }
+        return sb == null ? value : sb.toString();
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+}
@@ -0,0 +1,248 @@
+package seedu.address.storage;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * An {@code AddressBookStorage} that watches the file of another {@code AddressBookStorage} for changes made outside
+ * of this application, such as by a sync tool, and reads the changed address book back in.
+ * <p>
+ * The file is watched on a background thread once {@link #startWatching(Executor, Predicate)} is called, or once the
+ * address book is first read if the storage was created with what to do on external changes. Changes made by saves
+ * through this storage are recognised by the size and modification time they left the file with, and are not read
+ * back in.
+ */
+public class WatchedAddressBookStorage implements AddressBookStorage {
+
+    /** How long the file must stay unchanged before it is read, so that a file still being written is not read. */
+    private static final long QUIET_PERIOD_MILLIS = 200;
+
+    private static final Logger logger = LogsCenter.getLogger(WatchedAddressBookStorage.class);
+
+    private final AddressBookStorage storage;
+    private final Executor executor;
+    private final Predicate<ReadOnlyAddressBook> onExternalChange;
+
+    private WatchService watchService;
+    private volatile FileVersion savedVersion;
+
+    /**
+     * Creates a storage that saves and reads through {@code storage}, and can watch its file for changes.
+     */
+    public WatchedAddressBookStorage(AddressBookStorage storage) {
+        requireNonNull(storage);
+        this.storage = storage;
+        this.executor = null;
+        this.onExternalChange = null;
+    }
+
+    /**
+     * Creates a storage that saves and reads through {@code storage}, and starts watching its file as with
+     * {@link #startWatching(Executor, Predicate)} once the address book is first read from it.
+     */
+    public WatchedAddressBookStorage(AddressBookStorage storage, Executor executor,
+                                     Predicate<ReadOnlyAddressBook> onExternalChange) {
+        requireNonNull(storage);
+        requireNonNull(executor);
+        requireNonNull(onExternalChange);
+        this.storage = storage;
+        this.executor = executor;
+        this.onExternalChange = onExternalChange;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return storage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    /**
+     * Reads the address book at {@code filePath} through the underlying storage. If it is the file of this storage,
+     * the file is watched from then on, if this storage was created with what to do on external changes.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        if (!filePath.equals(getAddressBookFilePath())) {
+            return storage.readAddressBook(filePath);
+        }
+
+        Optional<ReadOnlyAddressBook> addressBook = storage.readAddressBook(filePath);
+        savedVersion = FileVersion.of(filePath);
+        if (executor != null) {
+            try {
+                startWatching(executor, onExternalChange);
+            } catch (IOException e) {
+                logger.warning("Could not watch " + filePath + " for changes: " + e);
+            }
+        }
+        return addressBook;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, getAddressBookFilePath());
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        storage.saveAddressBook(addressBook, filePath);
+        if (filePath.equals(getAddressBookFilePath())) {
+            savedVersion = FileVersion.of(filePath);
+        }
+    }
+
+    /**
+     * Starts watching the file of this storage on a background thread.
+     * Whenever the file is changed by something other than this storage, the address book in it is read, and passed
+     * to {@code onExternalChange} by a task run on {@code executor}, which returns whether the change was applied.
+     * The address book is not passed on if the file was saved through this storage after it was read, so saves and
+     * {@code onExternalChange} should be run on the same thread. A change that was not applied is passed on again
+     * when the file is next changed, unless the file was saved or read through this storage in between.
+     *
+     * @throws IOException if the directory of the file cannot be watched.
+     */
+    public synchronized void startWatching(Executor executor, Predicate<ReadOnlyAddressBook> onExternalChange)
+            throws IOException {
+        requireNonNull(executor);
+        requireNonNull(onExternalChange);
+        if (watchService != null) {
+            return;
+        }
+
+        Path directoryPath = getAddressBookFilePath().toAbsolutePath().getParent();
+        Files.createDirectories(directoryPath);
+        watchService = directoryPath.getFileSystem().newWatchService();
+        directoryPath.register(watchService, ENTRY_CREATE, ENTRY_MODIFY);
+
+        Thread thread = new Thread(() -> watch(watchService, executor, onExternalChange), "address-book-watcher");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Stops watching the file of this storage, and closes the underlying storage.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (watchService != null) {
+            watchService.close();
+            watchService = null;
+        }
+        storage.close();
+    }
+
+    private void watch(WatchService watchService, Executor executor, Predicate<ReadOnlyAddressBook> onExternalChange) {
+        Path fileName = getAddressBookFilePath().getFileName();
+        try {
+            while (true) {
+                boolean isFileChanged = false;
+                WatchKey key = watchService.take();
+                // Keep collecting events until the file has stayed unchanged for a while.
+                while (key != null) {
+                    for (WatchEvent<?> event : key.pollEvents()) {
+                        isFileChanged |= fileName.equals(event.context());
+                    }
+                    key.reset();
+                    key = watchService.poll(QUIET_PERIOD_MILLIS, TimeUnit.MILLISECONDS);
+                }
+                if (isFileChanged) {
+                    readExternalChange(executor, onExternalChange);
+                }
+            }
+        } catch (ClosedWatchServiceException | InterruptedException e) {
+            logger.fine("Stopped watching " + getAddressBookFilePath());
+        }
+    }
+
+    private void readExternalChange(Executor executor, Predicate<ReadOnlyAddressBook> onExternalChange) {
+        Path filePath = getAddressBookFilePath();
+        try {
+            FileVersion version = FileVersion.of(filePath);
+            if (version == null || version.equals(savedVersion)) {
+                return;
+            }
+
+            Optional<ReadOnlyAddressBook> addressBook = storage.readAddressBook();
+            if (!addressBook.isPresent() || !version.equals(FileVersion.of(filePath))) {
+                // The file changed again while it was read; the next change will be read instead.
+                return;
+            }
+            logger.info("Address book file changed externally: " + filePath);
+            executor.execute(() -> {
+                if (version.equals(FileVersion.of(filePath)) && onExternalChange.test(addressBook.get())) {
+                    savedVersion = version;
+                }
+            });
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Could not read the externally changed address book file " + filePath + ": " + e);
+        }
+    }
+
+    /**
+     * The size and modification time of a file, which change whenever the file is written.
+     */
+    private static class FileVersion {
+        private final long size;
+        private final FileTime lastModifiedTime;
+
+        private FileVersion(long size, FileTime lastModifiedTime) {
+            this.size = size;
+            this.lastModifiedTime = lastModifiedTime;
+        }
+
+        /**
+         * Returns the version of the file at {@code filePath}, or null if there is no such file.
+         */
+        static FileVersion of(Path filePath) {
+            try {
+                BasicFileAttributes attributes = Files.readAttributes(filePath, BasicFileAttributes.class);
+                return new FileVersion(attributes.size(), attributes.lastModifiedTime());
+            } catch (IOException e) {
+                return null;
+            }
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this
+                    || (other instanceof FileVersion
+                    && size == ((FileVersion) other).size
+                    && lastModifiedTime.equals(((FileVersion) other).lastModifiedTime));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(size, lastModifiedTime);
+        }
+    }
+
+}
@@ -0,0 +1,470 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot followed by an append-only log of changes.
+ * <p>
+ * Each save appends only the persons added and removed since the previous save, so the cost of a save is
+ * proportional to the size of the change rather than the size of the address book. A save returns only once its
+ * record has been flushed to the disk. Records are flushed in groups: those appended while a flush is in progress are
+ * flushed together by the next one, so concurrent saves share a flush. Once the log grows larger than the snapshot,
+ * a background thread folds it into a new snapshot.
+ * <p>
+ * The snapshot has the same format as the file written by {@link JsonAddressBookStorage}.
+ */
+public class WriteAheadLogAddressBookStorage implements AddressBookStorage {
+
+    public static final String LOG_FILE_SUFFIX = ".log";
+    public static final long DEFAULT_MIN_COMPACTION_LOG_SIZE = 1 << 20;
+
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final long CLOSE_TIMEOUT_SECONDS = 10;
+
+    private static final Logger logger = LogsCenter.getLogger(WriteAheadLogAddressBookStorage.class);
+
+    private final Path filePath;
+    private final Path logFilePath;
+    private final long minCompactionLogSize;
+    private final JsonAddressBookStorage snapshotStorage;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "address-book-log");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final ExecutorService syncExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "address-book-log-sync");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** The persons known to be on the disk, compared by reference since persons are immutable. */
+    private final Set<Person> persistedPersons = Collections.newSetFromMap(new IdentityHashMap<>());
+    private boolean hasPersistedPersons;
+    private FileChannel logChannel;
+    private long snapshotSize;
+    /** Completed once the records appended since the last flush started are flushed, or null if there are none. */
+    private CompletableFuture<Void> pendingSync;
+    private boolean isSyncing;
+    private boolean isCompacting;
+
+    public WriteAheadLogAddressBookStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a storage for the snapshot at {@code filePath}, which is written without any whitespace between
+     * tokens if {@code isCompact} is true.
+     */
+    public WriteAheadLogAddressBookStorage(Path filePath, boolean isCompact) {
+        this(filePath, isCompact, DEFAULT_MIN_COMPACTION_LOG_SIZE);
+    }
+
+    /**
+     * Creates a storage that does not compact its log until the log is at least {@code minCompactionLogSize} bytes.
+     */
+    WriteAheadLogAddressBookStorage(Path filePath, boolean isCompact, long minCompactionLogSize) {
+        this.filePath = filePath;
+        this.logFilePath = filePath.resolveSibling(filePath.getFileName() + LOG_FILE_SUFFIX);
+        this.minCompactionLogSize = minCompactionLogSize;
+        this.snapshotStorage = new JsonAddressBookStorage(filePath, isCompact);
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    public Path getLogFilePath() {
+        return logFilePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * Only the log of this storage's own file is replayed; any other file is read as a plain json file.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the snapshot or the log is not in the correct format.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            return snapshotStorage.readAddressBook(filePath);
+        }
+
+        synchronized (this) {
+            Optional<ReadOnlyAddressBook> snapshot = snapshotStorage.readAddressBook(filePath);
+            if (!Files.exists(logFilePath) && !snapshot.isPresent()) {
+                return Optional.empty();
+            }
+
+            Map<Name, Person> persons = new LinkedHashMap<>();
+            snapshot.ifPresent(addressBook -> addressBook.getPersonList()
+                    .forEach(person -> persons.put(person.getName(), person)));
+            try {
+                replayLog(persons);
+                snapshotSize = Files.exists(filePath) ? Files.size(filePath) : 0;
+            } catch (IOException | IllegalValueException e) {
+                logger.info("Illegal values found in " + logFilePath + ": " + e.getMessage());
+                throw new DataConversionException(e);
+            }
+
+            AddressBook addressBook = new AddressBook();
+            addressBook.addPersons(persons.values());
+            setPersistedPersons(addressBook.getPersonList());
+            return Optional.of(addressBook);
+        }
+    }
+
+    /**
+     * Applies every complete record in the log to {@code persons}.
+     * A record left incomplete by a crash during an append is discarded and cut off the end of the log.
+     */
+    private void replayLog(Map<Name, Person> persons) throws IOException, IllegalValueException {
+        if (!Files.exists(logFilePath)) {
+            return;
+        }
+
+        long validLength = 0;
+        try (BufferedReader reader = Files.newBufferedReader(logFilePath, UTF_8)) {
+            String line = reader.readLine();
+            while (line != null) {
+                String nextLine = reader.readLine();
+                JsonAddressBookLogRecord record;
+                try {
+                    record = JsonUtil.fromJsonString(line, JsonAddressBookLogRecord.class);
+                } catch (IOException e) {
+                    if (nextLine != null) {
+                        throw e;
+                    }
+                    logger.warning("Discarding incomplete record at the end of " + logFilePath);
+                    break;
+                }
+                record.applyTo(persons);
+                validLength += line.getBytes(UTF_8).length + 1;
+                line = nextLine;
+            }
+        }
+
+        if (validLength < Files.size(logFilePath)) {
+            try (FileChannel channel = FileChannel.open(logFilePath, StandardOpenOption.WRITE)) {
+                channel.truncate(validLength);
+            }
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Saving to any file other than this storage's own file writes a plain json file.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            snapshotStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        CompletableFuture<Void> sync;
+        synchronized (this) {
+            List<Person> persons = addressBook.getPersonList();
+            if (!hasPersistedPersons) {
+                // Nothing is known about the data on the disk, so start afresh from a full snapshot.
+                closeLog();
+                snapshotStorage.saveAddressBook(addressBook, filePath);
+                Files.deleteIfExists(logFilePath);
+                snapshotSize = Files.size(filePath);
+                setPersistedPersons(persons);
+                return;
+            }
+
+            List<Person> addedPersons = new ArrayList<>();
+            for (Person person : persons) {
+                if (!persistedPersons.contains(person)) {
+                    addedPersons.add(person);
+                }
+            }
+            List<Person> removedPersons = new ArrayList<>();
+            if (persons.size() - addedPersons.size() != persistedPersons.size()) {
+                Set<Person> currentPersons = Collections.newSetFromMap(new IdentityHashMap<>());
+                currentPersons.addAll(persons);
+                for (Person person : persistedPersons) {
+                    if (!currentPersons.contains(person)) {
+                        removedPersons.add(person);
+                    }
+                }
+            }
+            if (addedPersons.isEmpty() && removedPersons.isEmpty()) {
+                return;
+            }
+
+            // An added person replaces any removed person with the same name, so only the other names are logged.
+            Set<Name> addedNames = addedPersons.stream().map(Person::getName).collect(Collectors.toSet());
+            List<Name> removedNames = removedPersons.stream().map(Person::getName)
+                    .filter(name -> !addedNames.contains(name)).collect(Collectors.toList());
+            sync = appendToLog(new JsonAddressBookLogRecord(removedNames, addedPersons));
+
+            removedPersons.forEach(persistedPersons::remove);
+            persistedPersons.addAll(addedPersons);
+            compactIfNeeded(persons);
+        }
+        awaitSync(sync);
+    }
+
+    /**
+     * Waits for {@code sync} to complete, which is after the record it covers has been flushed to the disk.
+     */
+    private void awaitSync(CompletableFuture<Void> sync) throws IOException {
+        try {
+            sync.get();
+        } catch (ExecutionException e) {
+            throw new IOException("Failed to flush " + logFilePath, e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while flushing " + logFilePath, e);
+        }
+    }
+
+    private void setPersistedPersons(List<Person> persons) {
+        persistedPersons.clear();
+        persistedPersons.addAll(persons);
+        hasPersistedPersons = true;
+    }
+
+    /**
+     * Appends {@code record} to the log as a single line, and returns the flush that will cover it.
+     * Must be called while holding the lock on this storage.
+     */
+    private CompletableFuture<Void> appendToLog(JsonAddressBookLogRecord record) throws IOException {
+        if (logChannel == null) {
+            FileUtil.createParentDirsOfFile(logFilePath);
+            logChannel = FileChannel.open(logFilePath,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap((JsonUtil.toJsonLine(record) + "\n").getBytes(UTF_8));
+        while (buffer.hasRemaining()) {
+            logChannel.write(buffer);
+        }
+
+        if (pendingSync == null) {
+            pendingSync = new CompletableFuture<>();
+            if (!isSyncing) {
+                startSync();
+            }
+        }
+        return pendingSync;
+    }
+
+    /**
+     * Starts flushing the records appended since the last flush in the background.
+     * Must be called while holding the lock on this storage, with no flush in progress.
+     */
+    private void startSync() {
+        isSyncing = true;
+        try {
+            syncExecutor.execute(this::syncLog);
+        } catch (RejectedExecutionException e) {
+            // The storage is closing, and closing the log flushes the pending records.
+            isSyncing = false;
+        }
+    }
+
+    /**
+     * Flushes every record appended since the last flush started to the disk in one go, and completes the flush
+     * that covers them. Saves can append records while the flush is in progress; those are flushed by the next one.
+     */
+    private void syncLog() {
+        CompletableFuture<Void> sync;
+        FileChannel channel;
+        synchronized (this) {
+            sync = pendingSync;
+            pendingSync = null;
+            channel = logChannel;
+        }
+
+        try {
+            if (channel != null) {
+                channel.force(false);
+            }
+            sync.complete(null);
+        } catch (IOException e) {
+            // A channel closed by a compaction has already been flushed as part of the compaction.
+            if (channel.isOpen()) {
+                logger.warning("Failed to flush " + logFilePath + ": " + e.getMessage());
+                sync.completeExceptionally(e);
+            } else {
+                sync.complete(null);
+            }
+        }
+
+        synchronized (this) {
+            isSyncing = false;
+            if (pendingSync != null) {
+                startSync();
+            }
+        }
+    }
+
+    /**
+     * Starts compacting the log in the background if it has outgrown the snapshot.
+     * Must be called while holding the lock on this storage, with {@code persons} being the persisted persons.
+     */
+    private void compactIfNeeded(List<Person> persons) throws IOException {
+        long logSize = logChannel.size();
+        if (isCompacting || logSize < Math.max(minCompactionLogSize, snapshotSize)) {
+            return;
+        }
+
+        isCompacting = true;
+        List<Person> snapshotPersons = new ArrayList<>(persons);
+        executor.execute(() -> compact(snapshotPersons, logSize));
+    }
+
+    /**
+     * Writes {@code persons} as the new snapshot and drops the first {@code compactedLogSize} bytes of the log,
+     * which are the records already reflected in {@code persons}.
+     * <p>
+     * The snapshot is replaced before the log, so a crash in between leaves a log that is replayed over a
+     * snapshot that already contains some of its records. Since replaying a record is idempotent, no data is lost.
+     */
+    private void compact(List<Person> persons, long compactedLogSize) {
+        Path snapshotTempPath = filePath.resolveSibling(filePath.getFileName() + TEMP_FILE_SUFFIX);
+        Path logTempPath = logFilePath.resolveSibling(logFilePath.getFileName() + TEMP_FILE_SUFFIX);
+        try {
+            byte[] snapshotHash = snapshotStorage.savePersons(persons, snapshotTempPath);
+            force(snapshotTempPath);
+
+            synchronized (this) {
+                try (FileChannel source = FileChannel.open(logFilePath, StandardOpenOption.READ);
+                        FileChannel target = FileChannel.open(logTempPath, StandardOpenOption.CREATE,
+                                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                    long position = compactedLogSize;
+                    long size = source.size();
+                    while (position < size) {
+                        position += source.transferTo(position, size - position, target);
+                    }
+                    target.force(false);
+                }
+                Files.deleteIfExists(JsonAddressBookStorage.getDigestFilePath(filePath));
+                Files.move(snapshotTempPath, filePath,
+                        StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                snapshotStorage.saveDigest(snapshotHash, filePath);
+                closeLog();
+                Files.move(logTempPath, logFilePath,
+                        StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                snapshotSize = Files.size(filePath);
+            }
+            logger.fine("Compacted " + logFilePath + " into " + filePath);
+        } catch (IOException e) {
+            logger.warning("Failed to compact " + logFilePath + ": " + e.getMessage());
+        } finally {
+            synchronized (this) {
+                isCompacting = false;
+            }
+        }
+    }
+
+    private static void force(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+    }
+
+    /**
+     * Flushes and closes the log, if it is open, completing any flush still pending.
+     * Must be called while holding the lock on this storage.
+     */
+    private void closeLog() throws IOException {
+        if (logChannel == null) {
+            return;
+        }
+        try {
+            logChannel.force(false);
+            if (pendingSync != null) {
+                pendingSync.complete(null);
+                pendingSync = null;
+            }
+        } finally {
+            logChannel.close();
+            logChannel = null;
+        }
+    }
+
+    /**
+     * Waits for any compaction in progress and for the pending flushes, then flushes and closes the log.
+     */
+    @Override
+    public void close() throws IOException {
+        executor.shutdown();
+        syncExecutor.shutdown();
+        try {
+            if (!executor.awaitTermination(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS)
+                    || !syncExecutor.awaitTermination(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                logger.warning("Timed out waiting for " + logFilePath + " to be compacted and flushed");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        synchronized (this) {
+            closeLog();
+        }
+    }
+
+    /**
+     * Waits for any compaction started by an earlier save to finish.
+     */
+    void awaitCompaction() throws InterruptedException, ExecutionException {
+        executor.submit(() -> { }).get();
+    }
+
+}
@@ -1,7 +1,11 @@
 package seedu.address.ui;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -12,7 +16,9 @@ import javafx.scene.layout.StackPane;
 import javafx.stage.Stage;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
+import seedu.address.logic.commands.BackgroundTask;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -24,15 +30,27 @@ import seedu.address.logic.parser.exceptions.ParseException;
 public class MainWindow extends UiPart<Stage> {
 
     private static final String FXML = "MainWindow.fxml";
+    private static final String MESSAGE_BACKGROUND_TASK_FAILED = "The background task failed: %1$s";
+
+    /** How long to wait on exit for background tasks, such as exports, to finish. */
+    private static final long BACKGROUND_TASK_TIMEOUT_SECONDS = 60;
 
     private final Logger logger = LogsCenter.getLogger(getClass());
 
+    /** Runs the background tasks of commands one at a time, in the order they were started. */
+    private final ExecutorService backgroundExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "background-task");
+        thread.setDaemon(true);
+        return thread;
+    });
+
     private Stage primaryStage;
     private Logic logic;
 
     // Independent Ui parts residing in this Ui container
     private PersonListPanel personListPanel;
     private ResultDisplay resultDisplay;
+    private StatusBarFooter statusBarFooter;
     private HelpWindow helpWindow;
 
     @FXML
@@ -116,7 +134,7 @@ public class MainWindow extends UiPart<Stage> {
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
 
-        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
+        statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
         CommandBox commandBox = new CommandBox(this::executeCommand);
@@ -186,6 +204,12 @@ public class MainWindow extends UiPart<Stage> {
                 handleExit();
             }
 
+            commandResult.getBackgroundTask().ifPresent(this::runInBackground);
+
+            if (commandResult.getAddressBookName().isPresent()) {
+                statusBarFooter.setSaveLocation(logic.getAddressBookFilePath());
+            }
+
             return commandResult;
         } catch (CommandException | ParseException e) {
             logger.info("Invalid command: " + commandText);
@@ -193,4 +217,39 @@ public class MainWindow extends UiPart<Stage> {
             throw e;
         }
     }
+
+    /**
+     * Stops running background tasks, waiting for those already started to finish so that no file is left partly
+     * written.
+     */
+    void stop() {
+        backgroundExecutor.shutdown();
+        try {
+            if (!backgroundExecutor.awaitTermination(BACKGROUND_TASK_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                logger.warning("Timed out waiting for background tasks to finish");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Runs {@code task} off the UI thread, showing its progress and outcome in the result display.
+     */
+    private void runInBackground(BackgroundTask task) {
+        backgroundExecutor.execute(() -> {
+            String feedback;
+            try {
+                feedback = task.run(progress -> Platform.runLater(() -> resultDisplay.setFeedbackToUser(progress)));
+            } catch (CommandException e) {
+                feedback = e.getMessage();
+            } catch (RuntimeException e) {
+                logger.warning("Background task failed: " + StringUtil.getDetails(e));
+                feedback = String.format(MESSAGE_BACKGROUND_TASK_FAILED, e.getMessage());
+            }
+            logger.info("Background task result: " + feedback);
+            String finalFeedback = feedback;
+            Platform.runLater(() -> resultDisplay.setFeedbackToUser(finalFeedback));
+        });
+    }
 }
@@ -53,7 +53,7 @@ public class PersonCard extends UiPart<Region> {
         this.person = person;
         id.setText(displayedIndex + ". ");
         name.setText(person.getName().fullName);
-        email.setText(person.getEmail().value);
+        email.setText(person.getEmail().toString());
         remark.setText(person.getRemark().value);
         person.getModuleCodes().stream()
                         .sorted(Comparator.comparing(moduleCode -> moduleCode.value))
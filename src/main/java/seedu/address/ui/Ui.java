@@ -10,4 +10,7 @@ public interface Ui {
     /** Starts the UI (and the App).  */
     void start(Stage primaryStage);
 
+    /** Stops the UI, waiting for work it started in the background to finish. */
+    void stop();
+
 }
@@ -1,9 +1,12 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.nio.file.Paths;
+
 import org.junit.jupiter.api.Test;
 
 public class FileUtilTest {
@@ -20,4 +23,20 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void replaceExtension() {
+        // extension replaced
+        assertEquals(Paths.get("data", "addressbook.bin"),
+                FileUtil.replaceExtension(Paths.get("data", "addressbook.json"), ".bin"));
+
+        // no extension -> extension added
+        assertEquals(Paths.get("addressbook.bin"), FileUtil.replaceExtension(Paths.get("addressbook"), ".bin"));
+
+        // hidden file -> extension added
+        assertEquals(Paths.get(".addressbook.bin"), FileUtil.replaceExtension(Paths.get(".addressbook"), ".bin"));
+
+        // same extension -> unchanged
+        assertEquals(Paths.get("addressbook.bin"), FileUtil.replaceExtension(Paths.get("addressbook.bin"), ".bin"));
+    }
+
 }
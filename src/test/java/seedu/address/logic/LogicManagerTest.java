@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
@@ -11,6 +13,7 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.AMY;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -19,8 +22,11 @@ import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.OpenCommand;
+import seedu.address.logic.commands.SwitchCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -86,6 +92,29 @@ public class LogicManagerTest {
         assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_openAndSwitch_addressBooksKeptApart() throws Exception {
+        logic.execute("add" + NAME_DESC_AMY + EMAIL_DESC_AMY + MODULE_CODE_DESC_CS2030S + MODULE_CODE_DESC_CS2040);
+        AddressBook defaultAddressBook = new AddressBook(model.getAddressBook());
+
+        CommandResult result = logic.execute("open marketing");
+        assertEquals(String.format(OpenCommand.MESSAGE_SUCCESS, "marketing"), result.getFeedbackToUser());
+        assertTrue(model.getAddressBook().getPersonList().isEmpty());
+        assertFalse(model.canUndoAddressBook());
+        assertEquals(temporaryFolder.resolve("marketing.json"), model.getAddressBookFilePath());
+        assertTrue(Files.exists(temporaryFolder.resolve("marketing.json")));
+
+        logic.execute("switch addressBook");
+        assertEquals(defaultAddressBook, model.getAddressBook());
+        assertEquals(temporaryFolder.resolve("addressBook.json"), model.getAddressBookFilePath());
+    }
+
+    @Test
+    public void execute_switchToUnknownAddressBook_throwsCommandException() {
+        assertCommandException("switch marketing",
+                String.format(SwitchCommand.MESSAGE_UNKNOWN_ADDRESS_BOOK, "marketing"));
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
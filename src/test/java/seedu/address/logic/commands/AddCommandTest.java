@@ -9,7 +9,9 @@ import static seedu.address.testutil.Assert.assertThrows;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
@@ -21,6 +23,7 @@ import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
 import seedu.address.testutil.PersonBuilder;
 
 public class AddCommandTest {
@@ -41,6 +44,19 @@ public class AddCommandTest {
         assertEquals(Arrays.asList(validPerson), modelStub.personsAdded);
     }
 
+    @Test
+    public void execute_phoneAlreadyUsed_sharedPhoneNoted() throws Exception {
+        ModelStubAcceptingPersonAdded modelStub = new ModelStubAcceptingPersonAdded();
+        Person alice = new PersonBuilder().withName("Alice").withPhone("91234567").build();
+        Person bob = new PersonBuilder().withName("Bob").withPhone("91234567").build();
+        new AddCommand(alice).execute(modelStub);
+
+        CommandResult commandResult = new AddCommand(bob).execute(modelStub);
+
+        assertEquals(String.format(AddCommand.MESSAGE_SUCCESS, bob) + String.format(AddCommand.MESSAGE_SHARED_PHONE,
+                "Alice"), commandResult.getFeedbackToUser());
+    }
+
     @Test
     public void execute_duplicatePerson_throwsCommandException() {
         Person validPerson = new PersonBuilder().build();
@@ -113,6 +129,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addPersons(List<Person> persons) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setAddressBook(ReadOnlyAddressBook newData) {
             throw new AssertionError("This method should not be called.");
@@ -133,6 +154,16 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<Person> getPersonsWithPhone(Phone phone) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> getPersonsWithEmailDomain(String domain) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void deletePerson(Person target) {
             throw new AssertionError("This method should not be called.");
@@ -143,6 +174,51 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void setPersons(List<Person> targets, List<Person> editedPersons) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updatePersons(List<Person> toDelete, List<Person> targets, List<Person> editedPersons) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void switchAddressBook(ReadOnlyAddressBook addressBook, Path addressBookFilePath) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void mergeAddressBook(ReadOnlyAddressBook addressBook) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canUndoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canRedoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void undoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void redoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Person> getFilteredPersonList() {
             throw new AssertionError("This method should not be called.");
@@ -184,12 +260,24 @@ public class AddCommandTest {
             return personsAdded.stream().anyMatch(person::isSamePerson);
         }
 
+        @Override
+        public List<Person> getPersonsWithPhone(Phone phone) {
+            requireNonNull(phone);
+            return personsAdded.stream().filter(person -> person.getPhone().equals(phone))
+                    .collect(Collectors.toList());
+        }
+
         @Override
         public void addPerson(Person person) {
             requireNonNull(person);
             personsAdded.add(person);
         }
 
+        @Override
+        public void commitAddressBook() {
+            // called by {@code AddCommand#execute()}
+        }
+
         @Override
         public ReadOnlyAddressBook getAddressBook() {
             return new AddressBook();
@@ -0,0 +1,155 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Collections;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.BulkEditCommand.BulkEditDescriptor;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.ModuleCode;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PersonBuilder;
+
+public class BulkEditCommandTest {
+
+    private static final Set<ModuleCode> CS2040 = Set.of(new ModuleCode("CS2040"));
+    private static final Set<Tag> LOCAL = Set.of(new Tag("local"));
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    private static BulkEditDescriptor renameCs2040AndAddAlumni() {
+        BulkEditDescriptor descriptor = new BulkEditDescriptor();
+        descriptor.setModuleCodesToRemove(CS2040);
+        descriptor.setModuleCodesToAdd(Set.of(new ModuleCode("CS2040S")));
+        descriptor.setTagsToAdd(Set.of(new Tag("alumni")));
+        return descriptor;
+    }
+
+    @Test
+    public void execute_matchingPersons_allEditedAsOneChange() throws Exception {
+        BulkEditCommand command = new BulkEditCommand(CS2040, LOCAL, renameCs2040AndAddAlumni());
+
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel.setPerson(ALICE, new PersonBuilder(ALICE).withModuleCodes("CS2030S", "CS2040S")
+                .withTags("local", "alumni").build());
+        expectedModel.setPerson(DANIEL, new PersonBuilder(DANIEL).withModuleCodes("CS2030S", "CS2040S")
+                .withTags("local", "alumni").build());
+
+        assertCommandSuccess(command, model, String.format(BulkEditCommand.MESSAGE_SUCCESS, 2), expectedModel);
+
+        new UndoCommand().execute(model);
+        assertTrue(model.getAddressBook().equals(getTypicalAddressBook()));
+        assertFalse(model.canUndoAddressBook());
+    }
+
+    @Test
+    public void execute_caseInsensitiveMatchAndRemoval_success() {
+        BulkEditDescriptor descriptor = new BulkEditDescriptor();
+        descriptor.setTagsToRemove(Set.of(new Tag("OVERSEAS")));
+        BulkEditCommand command = new BulkEditCommand(Set.of(new ModuleCode("cs2040")),
+                Set.of(new Tag("International")), descriptor);
+
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel.setPerson(BENSON, new PersonBuilder(BENSON).withTags("international").build());
+
+        assertCommandSuccess(command, model, String.format(BulkEditCommand.MESSAGE_SUCCESS, 1), expectedModel);
+    }
+
+    @Test
+    public void execute_emailDomainMatch_onlyPersonsAtDomainEdited() {
+        Person bensonAtNus = new PersonBuilder(BENSON).withEmail("benson@u.nus.edu").build();
+        model.setPerson(BENSON, bensonAtNus);
+        BulkEditDescriptor descriptor = new BulkEditDescriptor();
+        descriptor.setTagsToAdd(Set.of(new Tag("student")));
+        BulkEditCommand command = new BulkEditCommand("U.NUS.edu", Collections.emptySet(), Collections.emptySet(),
+                descriptor);
+
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel.setPerson(BENSON, new PersonBuilder(bensonAtNus).withTags("overseas", "international", "student")
+                .build());
+
+        assertCommandSuccess(command, model, String.format(BulkEditCommand.MESSAGE_SUCCESS, 1), expectedModel);
+
+        // the domain is combined with the other filters
+        BulkEditCommand noMatchCommand = new BulkEditCommand("u.nus.edu", Collections.emptySet(), LOCAL,
+                descriptor);
+        assertCommandFailure(noMatchCommand, model, BulkEditCommand.MESSAGE_NO_MATCHING_PERSONS);
+    }
+
+    @Test
+    public void execute_noChangeNeeded_nothingCommitted() {
+        BulkEditDescriptor descriptor = new BulkEditDescriptor();
+        descriptor.setTagsToAdd(LOCAL);
+        BulkEditCommand command = new BulkEditCommand(Collections.emptySet(), LOCAL, descriptor);
+
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        assertCommandSuccess(command, model, String.format(BulkEditCommand.MESSAGE_SUCCESS, 0), expectedModel);
+        assertFalse(model.canUndoAddressBook());
+    }
+
+    @Test
+    public void execute_noMatchingPersons_failure() {
+        BulkEditCommand command = new BulkEditCommand(Set.of(new ModuleCode("CS1101S")), Collections.emptySet(),
+                renameCs2040AndAddAlumni());
+        assertCommandFailure(command, model, BulkEditCommand.MESSAGE_NO_MATCHING_PERSONS);
+    }
+
+    @Test
+    public void execute_lastModuleCodeRemoved_failure() {
+        BulkEditDescriptor descriptor = new BulkEditDescriptor();
+        descriptor.setModuleCodesToRemove(Set.of(new ModuleCode("CS2030S"), new ModuleCode("CS2040")));
+        BulkEditCommand command = new BulkEditCommand(Collections.emptySet(), LOCAL, descriptor);
+
+        assertCommandFailure(command, model, String.format(BulkEditCommand.MESSAGE_NO_MODULE_CODE_LEFT,
+                ALICE.getName()));
+    }
+
+    @Test
+    public void equals() {
+        BulkEditCommand standardCommand = new BulkEditCommand(CS2040, LOCAL, renameCs2040AndAddAlumni());
+
+        // same values -> returns true
+        assertTrue(standardCommand.equals(new BulkEditCommand(CS2040, LOCAL, renameCs2040AndAddAlumni())));
+
+        // same object -> returns true
+        assertTrue(standardCommand.equals(standardCommand));
+
+        // null -> returns false
+        assertFalse(standardCommand.equals(null));
+
+        // different types -> returns false
+        assertFalse(standardCommand.equals(new ClearCommand()));
+
+        // different module codes to match -> returns false
+        assertFalse(standardCommand.equals(new BulkEditCommand(Collections.emptySet(), LOCAL,
+                renameCs2040AndAddAlumni())));
+
+        // different tags to match -> returns false
+        assertFalse(standardCommand.equals(new BulkEditCommand(CS2040, Collections.emptySet(),
+                renameCs2040AndAddAlumni())));
+
+        // different email domain to match -> returns false
+        assertFalse(standardCommand.equals(new BulkEditCommand("example.com", CS2040, LOCAL,
+                renameCs2040AndAddAlumni())));
+
+        // same email domain, ignoring case -> returns true
+        assertTrue(new BulkEditCommand("example.com", CS2040, LOCAL, renameCs2040AndAddAlumni())
+                .equals(new BulkEditCommand("EXAMPLE.com", CS2040, LOCAL, renameCs2040AndAddAlumni())));
+
+        // different descriptor -> returns false
+        assertFalse(standardCommand.equals(new BulkEditCommand(CS2040, LOCAL, new BulkEditDescriptor())));
+    }
+}
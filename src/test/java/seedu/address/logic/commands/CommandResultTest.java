@@ -8,6 +8,14 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.Test;
 
 public class CommandResultTest {
+    @Test
+    public void getBackgroundTask() {
+        assertFalse(new CommandResult("feedback").getBackgroundTask().isPresent());
+
+        BackgroundTask task = progressListener -> "done";
+        assertEquals(task, new CommandResult("feedback", task).getBackgroundTask().get());
+    }
+
     @Test
     public void equals() {
         CommandResult commandResult = new CommandResult("feedback");
@@ -15,6 +23,7 @@ public class CommandResultTest {
         // same values -> returns true
         assertTrue(commandResult.equals(new CommandResult("feedback")));
         assertTrue(commandResult.equals(new CommandResult("feedback", false, false)));
+        assertTrue(commandResult.equals(new CommandResult("feedback", progressListener -> "done")));
 
         // same object -> returns true
         assertTrue(commandResult.equals(commandResult));
@@ -1,5 +1,6 @@
 package seedu.address.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
@@ -9,16 +10,29 @@ import static seedu.address.logic.commands.CommandTestUtil.showPersonAtMultipleI
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_THIRD_PERSON;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.Messages;
 import seedu.address.commons.core.index.Index;
+import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.ModuleCode;
+import seedu.address.model.person.ModuleCodesContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonMatchesAllPredicate;
+import seedu.address.model.person.TagsContainsKeywordsPredicate;
+import seedu.address.testutil.PersonBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) and unit tests for
@@ -61,12 +75,58 @@ public class DeleteCommandTest {
         assertCommandSuccess(deleteCommand1, model, expectedMessage1, expectedModel1);
     }
 
-    /*@Test
-    public void execute_validModuleCodeUnfilteredList_Success() {
-        ModuleCodesContainsKeywordsPredicate predicate =
-                new ModuleCodesContainsKeywordsPredicate(Arrays.asList("[CS2040]"));
+    @Test
+    public void execute_validModuleCodeUnfilteredList_success() {
+        //Removes the module code from every person, as all of them have another module code
+        DeleteCommand deleteCommand = new DeleteCommand(
+                new ModuleCodesContainsKeywordsPredicate(Arrays.asList("[CS2040]")), new ModuleCode("CS2040"));
 
-    }*/
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        for (Person person : getTypicalPersons()) {
+            expectedModel.setPerson(person, new PersonBuilder(person).withModuleCodes("CS2030S").build());
+        }
+        String expectedMessage = String.format(DeleteCommand.MESSAGE_NUMBER_DELETED_PERSON, 0)
+                + String.format(DeleteCommand.MESSAGE_NUMBER_EDITED_PERSON, getTypicalPersons().size());
+
+        assertCommandSuccess(deleteCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_tagAndAllModuleCodes_deletesMatchingPersons() {
+        DeleteCommand deleteCommand = new DeleteCommand(new PersonMatchesAllPredicate(Arrays.asList(
+                new TagsContainsKeywordsPredicate(Arrays.asList("[local]")),
+                new ModuleCodesContainsKeywordsPredicate(Arrays.asList("[CS2030S]", "[cs2040]")))),
+                Set.of(new ModuleCode("CS2030S"), new ModuleCode("CS2040")));
+
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.deletePerson(ALICE);
+        expectedModel.deletePerson(DANIEL);
+        String expectedMessage = String.format(DeleteCommand.MESSAGE_NUMBER_DELETED_PERSON, 2)
+                + String.format(DeleteCommand.MESSAGE_DELETE_PERSON_SUCCESS, ALICE)
+                + String.format(DeleteCommand.MESSAGE_DELETE_PERSON_SUCCESS, DANIEL);
+
+        assertCommandSuccess(deleteCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_manyMatchingPersons_summaryCappedAndUndoneAsOneChange() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        int total = DeleteCommand.MAX_LISTED_PERSONS + 5;
+        for (int i = 0; i < total; i++) {
+            addressBook.addPerson(new PersonBuilder().withName("Person " + i).withTags("graduated").build());
+        }
+        Model largeModel = new ModelManager(addressBook, new UserPrefs());
+        DeleteCommand deleteCommand = new DeleteCommand(
+                new TagsContainsKeywordsPredicate(Arrays.asList("[graduated]")), Collections.emptySet());
+
+        String feedback = deleteCommand.execute(largeModel).getFeedbackToUser();
+        assertTrue(feedback.startsWith(String.format(DeleteCommand.MESSAGE_NUMBER_DELETED_PERSON, total)));
+        assertTrue(feedback.endsWith(String.format(DeleteCommand.MESSAGE_MORE_DELETED_PERSONS, 5)));
+        assertTrue(largeModel.getAddressBook().getPersonList().isEmpty());
+
+        new UndoCommand().execute(largeModel);
+        assertEquals(addressBook, largeModel.getAddressBook());
+    }
 
     @Test
     public void execute_invalidIndexUnfilteredList_throwsCommandException() {
@@ -0,0 +1,136 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.storage.PersonFileFormat;
+import seedu.address.testutil.PersonBuilder;
+
+public class ExportCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void constructor_nullArguments_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ExportCommand(null, PersonFileFormat.CSV));
+        assertThrows(NullPointerException.class, () -> new ExportCommand(testFolder, null));
+    }
+
+    @Test
+    public void execute_filteredList_exportsSnapshotInBackground() throws Exception {
+        Path file = testFolder.resolve("alice.csv");
+        model.updateFilteredPersonList(new NameContainsKeywordsPredicate(List.of("Alice")));
+
+        CommandResult result = new ExportCommand(file, PersonFileFormat.CSV).execute(model);
+        assertEquals(String.format(ExportCommand.MESSAGE_STARTED, 1, file), result.getFeedbackToUser());
+        assertFalse(Files.exists(file));
+
+        // changes made after the command returns do not affect the export
+        model.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
+        assertEquals(String.format(ExportCommand.MESSAGE_SUCCESS, 1, file),
+                result.getBackgroundTask().get().run(progress -> { }));
+
+        Model importedModel = new ModelManager(new AddressBook(), new UserPrefs());
+        new ImportCommand(file).execute(importedModel);
+        assertEquals(List.of(ALICE), importedModel.getAddressBook().getPersonList());
+    }
+
+    @Test
+    public void execute_roundTripThroughEachFormat_samePersons() throws Exception {
+        for (PersonFileFormat format : PersonFileFormat.values()) {
+            Path file = testFolder.resolve("all." + format.name());
+            new ExportCommand(file, format).execute(model).getBackgroundTask().get().run(progress -> { });
+
+            Model importedModel = new ModelManager(new AddressBook(), new UserPrefs());
+            new ImportCommand(file).execute(importedModel);
+            assertEquals(model.getAddressBook(), importedModel.getAddressBook());
+        }
+    }
+
+    @Test
+    public void execute_manyPersons_reportsProgress() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        int total = ExportCommand.PROGRESS_INTERVAL * 2 + 1;
+        for (int i = 0; i < total; i++) {
+            addressBook.addPerson(new PersonBuilder().withName("Person " + i).build());
+        }
+        Model largeModel = new ModelManager(addressBook, new UserPrefs());
+        Path file = testFolder.resolve("all.csv");
+
+        List<String> progress = new ArrayList<>();
+        new ExportCommand(file, PersonFileFormat.CSV).execute(largeModel).getBackgroundTask().get()
+                .run(progress::add);
+
+        assertEquals(List.of(
+                String.format(ExportCommand.MESSAGE_PROGRESS, ExportCommand.PROGRESS_INTERVAL, total, file),
+                String.format(ExportCommand.MESSAGE_PROGRESS, ExportCommand.PROGRESS_INTERVAL * 2, total, file)),
+                progress);
+        assertEquals(total + 1, Files.readAllLines(file).size());
+    }
+
+    @Test
+    public void execute_unwritableFile_taskThrowsCommandException() throws Exception {
+        BackgroundTask task = new ExportCommand(testFolder, PersonFileFormat.CSV).execute(model)
+                .getBackgroundTask().get();
+        assertThrows(CommandException.class, () -> task.run(progress -> { }));
+    }
+
+    @Test
+    public void execute_personCannotBeLoaded_noFileLeft() throws Exception {
+        Path file = testFolder.resolve("export.csv");
+        Model lazyModel = new ModelManager();
+        lazyModel.addPerson(Person.createLazily(ALICE.getName(), () -> {
+            throw new IllegalArgumentException("The person cannot be loaded");
+        }));
+        BackgroundTask task = new ExportCommand(file, PersonFileFormat.CSV).execute(lazyModel)
+                .getBackgroundTask().get();
+
+        assertThrows(IllegalArgumentException.class, () -> task.run(progress -> { }));
+        try (Stream<Path> files = Files.list(testFolder)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    public void equals() {
+        ExportCommand exportCsvCommand = new ExportCommand(testFolder.resolve("a.csv"), PersonFileFormat.CSV);
+
+        // same object -> returns true
+        assertTrue(exportCsvCommand.equals(exportCsvCommand));
+
+        // same values -> returns true
+        assertTrue(exportCsvCommand.equals(new ExportCommand(testFolder.resolve("a.csv"), PersonFileFormat.CSV)));
+
+        // null -> returns false
+        assertFalse(exportCsvCommand.equals(null));
+
+        // different file -> returns false
+        assertFalse(exportCsvCommand.equals(new ExportCommand(testFolder.resolve("b.csv"), PersonFileFormat.CSV)));
+
+        // different format -> returns false
+        assertFalse(exportCsvCommand.equals(new ExportCommand(testFolder.resolve("a.csv"), PersonFileFormat.VCARD)));
+    }
+}
@@ -0,0 +1,181 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class ImportCommandTest {
+
+    private static final Person HOON = new PersonBuilder().withName("Hoon Meier").withEmail("hoon@example.com")
+            .withModuleCodes("CS2103T", "CS2101").withPhone("84824240").withTeleHandle("@hoonmeier")
+            .withRemark("Met at a hackathon").withTags("friends").build();
+    private static final Person IDA = new PersonBuilder().withName("Ida Mueller").withEmail("ida@example.com")
+            .withModuleCodes("CS1101S").build();
+
+    @TempDir
+    public Path testFolder;
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    private Path writeFile(String fileName, String content) throws IOException {
+        Path file = testFolder.resolve(fileName);
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    @Test
+    public void constructor_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ImportCommand(null));
+    }
+
+    @Test
+    public void execute_validCsv_importsAllPersons() throws Exception {
+        Path file = writeFile("contacts.csv", "name,email,moduleCodes,phone,teleHandle,remark,tags\n"
+                + "Hoon Meier,hoon@example.com,CS2103T;CS2101,84824240,@hoonmeier,Met at a hackathon,friends\n"
+                + "Ida Mueller,ida@example.com,CS1101S,,,,\n");
+
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel.addPerson(HOON);
+        expectedModel.addPerson(IDA);
+
+        assertCommandSuccess(new ImportCommand(file), model,
+                String.format(ImportCommand.MESSAGE_SUCCESS, 2, file), expectedModel);
+    }
+
+    @Test
+    public void execute_sharedPhones_counted() throws Exception {
+        Path file = writeFile("contacts.csv", "name,email,moduleCodes,phone\n"
+                + "Hoon Meier,hoon@example.com,CS2103T;CS2101,94351253\n"
+                + "Ida Mueller,ida@example.com,CS1101S,84824240\n"
+                + "Jon Mueller,jon@example.com,CS1101S,84824240\n");
+
+        CommandResult result = new ImportCommand(file).execute(model);
+
+        // Hoon shares the number of Alice, and Jon shares the number of Ida
+        assertEquals(String.format(ImportCommand.MESSAGE_SUCCESS, 3, file)
+                + String.format(ImportCommand.MESSAGE_SHARED_PHONES, 2), result.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_validVCard_importsAllPersons() throws Exception {
+        Path file = writeFile("contacts.vcf", "BEGIN:VCARD\n"
+                + "VERSION:3.0\n"
+                + "FN:Hoon Meier\n"
+                + "EMAIL:hoon@example.com\n"
+                + "TEL:84824240\n"
+                + "X-TELEGRAM:@hoonmeier\n"
+                + "NOTE:Met at a hackathon\n"
+                + "CATEGORIES:friends\n"
+                + "X-MODULE-CODES:CS2103T,CS2101\n"
+                + "END:VCARD\n");
+
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel.addPerson(HOON);
+
+        assertCommandSuccess(new ImportCommand(file), model,
+                String.format(ImportCommand.MESSAGE_SUCCESS, 1, file), expectedModel);
+    }
+
+    @Test
+    public void execute_invalidAndDuplicateRows_skipsThem() throws Exception {
+        Path file = writeFile("contacts.csv", "name,email,moduleCodes\n"
+                + "Alice Pauline,alice@example.com,CS2040\n"
+                + "Hoon Meier,hoon@example.com,CS2103T;CS2101\n"
+                + "Hoon Meier,hoon@example.com,CS2103T\n"
+                + "Ida Mueller,ida@example.com,\n");
+
+        String expectedMessage = String.format(ImportCommand.MESSAGE_SUCCESS, 1, file)
+                + String.format(ImportCommand.MESSAGE_SKIPPED_ROWS, 3)
+                + String.format(ImportCommand.MESSAGE_ROW_ERROR, 2, ImportCommand.MESSAGE_DUPLICATE_PERSON)
+                + String.format(ImportCommand.MESSAGE_ROW_ERROR, 4, ImportCommand.MESSAGE_DUPLICATE_PERSON)
+                + String.format(ImportCommand.MESSAGE_ROW_ERROR, 5,
+                        String.format(ImportCommand.MESSAGE_MISSING_FIELD, "module code"));
+
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel.addPerson(new PersonBuilder(HOON).withPhone("").withTeleHandle("").withRemark("")
+                .withTags().build());
+
+        assertCommandSuccess(new ImportCommand(file), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_manyRows_importsInBatchesAndCapsErrors() throws Exception {
+        int validRows = ImportCommand.BATCH_SIZE + 10;
+        int invalidRows = ImportCommand.MAX_REPORTED_ERRORS + 5;
+        StringBuilder csv = new StringBuilder("name,email,moduleCodes\n");
+        for (int i = 0; i < validRows; i++) {
+            csv.append("Person ").append(i).append(",person").append(i).append("@example.com,CS2040\n");
+        }
+        for (int i = 0; i < invalidRows; i++) {
+            csv.append("Invalid ").append(i).append(",not an email,CS2040\n");
+        }
+        Path file = writeFile("contacts.csv", csv.toString());
+        int sizeBefore = model.getAddressBook().getPersonList().size();
+
+        CommandResult result = new ImportCommand(file).execute(model);
+
+        assertEquals(sizeBefore + validRows, model.getAddressBook().getPersonList().size());
+        String feedback = result.getFeedbackToUser();
+        assertTrue(feedback.startsWith(String.format(ImportCommand.MESSAGE_SUCCESS, validRows, file)
+                + String.format(ImportCommand.MESSAGE_SKIPPED_ROWS, invalidRows)));
+        assertTrue(feedback.endsWith(String.format(ImportCommand.MESSAGE_MORE_ERRORS, 5)));
+    }
+
+    @Test
+    public void execute_import_undoableAsOneChange() throws Exception {
+        Path file = writeFile("contacts.csv", "name,email,moduleCodes\n"
+                + "Hoon Meier,hoon@example.com,CS2103T\n"
+                + "Ida Mueller,ida@example.com,CS1101S\n");
+        new ImportCommand(file).execute(model);
+
+        model.undoAddressBook();
+        assertEquals(new ModelManager(getTypicalAddressBook(), new UserPrefs()), model);
+        assertFalse(model.canUndoAddressBook());
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        Path file = testFolder.resolve("missing.csv");
+        assertCommandFailure(new ImportCommand(file), model,
+                String.format(ImportCommand.MESSAGE_FILE_NOT_FOUND, file));
+    }
+
+    @Test
+    public void equals() throws Exception {
+        ImportCommand importFirstCommand = new ImportCommand(testFolder.resolve("first.csv"));
+        ImportCommand importSecondCommand = new ImportCommand(testFolder.resolve("second.csv"));
+
+        // same object -> returns true
+        assertTrue(importFirstCommand.equals(importFirstCommand));
+
+        // same values -> returns true
+        assertTrue(importFirstCommand.equals(new ImportCommand(testFolder.resolve("first.csv"))));
+
+        // different types -> returns false
+        assertFalse(importFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(importFirstCommand.equals(null));
+
+        // different file -> returns false
+        assertFalse(importFirstCommand.equals(importSecondCommand));
+    }
+}
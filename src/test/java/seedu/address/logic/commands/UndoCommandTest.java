@@ -0,0 +1,58 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Remark;
+
+public class UndoCommandTest {
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private final Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_noChanges_failure() {
+        assertCommandFailure(new UndoCommand(), model, UndoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void execute_multipleChanges_revertedInReverseOrder() throws Exception {
+        new DeleteCommand(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON).execute(model);
+        new RemarkCommand(INDEX_FIRST_PERSON, new Remark("Remark")).execute(model);
+        new AddCommand(AMY).execute(model);
+
+        // undo add
+        Model afterRemark = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        new DeleteCommand(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON).execute(afterRemark);
+        new RemarkCommand(INDEX_FIRST_PERSON, new Remark("Remark")).execute(afterRemark);
+        assertCommandSuccess(new UndoCommand(), model, UndoCommand.MESSAGE_SUCCESS, afterRemark);
+
+        // undo remark and the deletion of two persons
+        new UndoCommand().execute(model);
+        new UndoCommand().execute(model);
+        model.sortAddressBook();
+        expectedModel.sortAddressBook();
+        assertEquals(expectedModel, model);
+        assertCommandFailure(new UndoCommand(), model, UndoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void execute_clear_restoresAllPersons() throws Exception {
+        new ClearCommand().execute(model);
+        assertCommandSuccess(new UndoCommand(), model, UndoCommand.MESSAGE_SUCCESS, expectedModel);
+
+        expectedModel.setAddressBook(new AddressBook());
+        assertCommandSuccess(new RedoCommand(), model, RedoCommand.MESSAGE_SUCCESS, expectedModel);
+    }
+}
@@ -8,7 +8,9 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
@@ -22,9 +24,14 @@ import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.OpenCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.SwitchCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.storage.AddressBookLibrary;
 import seedu.address.testutil.EditPersonDescriptorBuilder;
 import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.PersonUtil;
@@ -107,6 +114,71 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand("list 3") instanceof ListCommand);
     }
 
+    @Test
+    public void parseCommand_open() throws Exception {
+        assertEquals(new OpenCommand("marketing"), parser.parseCommand("open marketing"));
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, OpenCommand.MESSAGE_USAGE),
+            () -> parser.parseCommand("open"));
+        assertThrows(ParseException.class, AddressBookLibrary.MESSAGE_CONSTRAINTS, ()
+            -> parser.parseCommand("open ../marketing"));
+    }
+
+    @Test
+    public void parseCommand_switch() throws Exception {
+        for (String alias : CommandWord.getAliasList(CommandWord.SWITCH)) {
+            assertEquals(new SwitchCommand("sales_2021"), parser.parseCommand(alias + "  sales_2021 "));
+        }
+        assertThrows(ParseException.class, AddressBookLibrary.MESSAGE_CONSTRAINTS, ()
+            -> parser.parseCommand("switch two words"));
+    }
+
+    @Test
+    public void parseCommand_undo() throws Exception {
+        assertTrue(parser.parseCommand("undo") instanceof UndoCommand);
+        assertTrue(parser.parseCommand("undo 3") instanceof UndoCommand);
+    }
+
+    @Test
+    public void parseCommand_redo() throws Exception {
+        assertTrue(parser.parseCommand("redo") instanceof RedoCommand);
+        assertTrue(parser.parseCommand("redo 3") instanceof RedoCommand);
+    }
+
+    @Test
+    public void parseCommand_mixedCaseCommandWord() throws Exception {
+        assertTrue(parser.parseCommand("LiSt") instanceof ListCommand);
+        assertTrue(parser.parseCommand("  CLR  ") instanceof ClearCommand);
+    }
+
+    @Test
+    public void parseCommand_userDefinedAlias() throws Exception {
+        Map<String, String> userAliases = new HashMap<>();
+        userAliases.put("r", "delete");
+        userAliases.put("Bye", "quit");
+        AddressBookParser parserWithAliases = new AddressBookParser(userAliases);
+
+        assertEquals(new DeleteCommand(INDEX_FIRST_PERSON),
+                parserWithAliases.parseCommand("r " + INDEX_FIRST_PERSON.getOneBased()));
+        assertTrue(parserWithAliases.parseCommand("bye") instanceof ExitCommand);
+
+        // built-in aliases are unaffected
+        assertTrue(parserWithAliases.parseCommand("list") instanceof ListCommand);
+
+        // parsers without the user-defined aliases do not recognise them
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand("bye"));
+    }
+
+    @Test
+    public void parseCommand_invalidUserDefinedAlias_ignored() throws Exception {
+        Map<String, String> userAliases = new HashMap<>();
+        userAliases.put("list", "clear"); // shadows a built-in alias
+        userAliases.put("x", "unknownCommand"); // refers to an unknown command
+        AddressBookParser parserWithAliases = new AddressBookParser(userAliases);
+
+        assertTrue(parserWithAliases.parseCommand("list") instanceof ListCommand);
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parserWithAliases.parseCommand("x"));
+    }
+
     @Test
     public void parseCommand_unrecognisedInput_throwsParseException() {
         assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE), ()
@@ -8,12 +8,17 @@ import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
 
 import java.util.Arrays;
+import java.util.Collections;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.model.person.EmailDomainMatchesPredicate;
 import seedu.address.model.person.ModuleCode;
 import seedu.address.model.person.ModuleCodesContainsKeywordsPredicate;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.PersonMatchesAllPredicate;
+import seedu.address.model.person.TagsContainsKeywordsPredicate;
 
 /**
  * As we are only doing white-box testing, our test cases do not cover path variations
@@ -46,6 +51,45 @@ public class DeleteCommandParserTest {
         assertParseSuccess(parser, userInput, expectedDeleteCommand);
     }
 
+    @Test
+    public void parse_validTag_returnsDeleteCommand() {
+        DeleteCommand expectedDeleteCommand = new DeleteCommand(
+                new TagsContainsKeywordsPredicate(Arrays.asList("[graduated]")), Collections.emptySet());
+        assertParseSuccess(parser, " t/graduated", expectedDeleteCommand);
+    }
+
+    @Test
+    public void parse_emailDomainAndTag_returnsDeleteCommand() {
+        DeleteCommand expectedDeleteCommand = new DeleteCommand(new PersonMatchesAllPredicate(Arrays.asList(
+                new EmailDomainMatchesPredicate(Collections.singletonList("@example.com")),
+                new TagsContainsKeywordsPredicate(Collections.singletonList("[graduated]")))),
+                Collections.emptySet());
+        assertParseSuccess(parser, " e/@example.com t/graduated", expectedDeleteCommand);
+
+        assertParseFailure(parser, " e/example.com",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, DeleteCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_nameAndModuleCode_returnsDeleteCommand() {
+        DeleteCommand expectedDeleteCommand = new DeleteCommand(new PersonMatchesAllPredicate(Arrays.asList(
+                new NameContainsKeywordsPredicate(Collections.singletonList("John")),
+                new NameContainsKeywordsPredicate(Collections.singletonList("Doe")),
+                new ModuleCodesContainsKeywordsPredicate(Arrays.asList(
+                        String.format("[%s]", VALID_MODULE_CODE_CS2040))))),
+                Collections.singleton(new ModuleCode(VALID_MODULE_CODE_CS2040)));
+        String userInput = String.format(" n/John Doe m/%s", VALID_MODULE_CODE_CS2040);
+        assertParseSuccess(parser, userInput, expectedDeleteCommand);
+    }
+
+    @Test
+    public void parse_invalidFields_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, DeleteCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, " n/ t/graduated", expectedMessage);
+        assertParseFailure(parser, " t/grad*uated", expectedMessage);
+        assertParseFailure(parser, "1 t/graduated", expectedMessage);
+    }
+
     @Test
     public void parse_invalidIndex_throwsParseException() {
         assertParseFailure(parser, "a",
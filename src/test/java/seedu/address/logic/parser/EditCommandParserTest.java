@@ -7,6 +7,7 @@ import static seedu.address.logic.commands.CommandTestUtil.INVALID_EMAIL_DESC;
 import static seedu.address.logic.commands.CommandTestUtil.INVALID_NAME_DESC;
 import static seedu.address.logic.commands.CommandTestUtil.INVALID_PHONE_DESC;
 import static seedu.address.logic.commands.CommandTestUtil.INVALID_TAG_DESC;
+import static seedu.address.logic.commands.CommandTestUtil.MODULE_CODE_DESC_CS2040;
 import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_BOB;
@@ -14,6 +15,7 @@ import static seedu.address.logic.commands.CommandTestUtil.TAG_DESC_INTERNATIONA
 import static seedu.address.logic.commands.CommandTestUtil.TAG_DESC_LOCAL;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_MODULE_CODE_CS2040;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_BOB;
@@ -26,12 +28,18 @@ import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_THIRD_PERSON;
 
+import java.util.Collections;
+import java.util.Set;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.BulkEditCommand;
+import seedu.address.logic.commands.BulkEditCommand.BulkEditDescriptor;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.EditCommand.EditPersonDescriptor;
 import seedu.address.model.person.Email;
+import seedu.address.model.person.ModuleCode;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Phone;
 import seedu.address.model.tag.Tag;
@@ -185,6 +193,49 @@ public class EditCommandParserTest {
         assertParseSuccess(parser, userInput, expectedCommand);
     }
 
+    @Test
+    public void parse_bulkEdit_success() {
+        BulkEditDescriptor descriptor = new BulkEditDescriptor();
+        descriptor.setModuleCodesToAdd(Set.of(new ModuleCode("CS2040S")));
+        descriptor.setModuleCodesToRemove(Set.of(new ModuleCode(VALID_MODULE_CODE_CS2040)));
+        descriptor.setTagsToAdd(Set.of(new Tag("alumni")));
+        BulkEditCommand expectedCommand = new BulkEditCommand(Set.of(new ModuleCode(VALID_MODULE_CODE_CS2040)),
+                Set.of(new Tag(VALID_TAG_LOCAL)), descriptor);
+
+        assertParseSuccess(parser, MODULE_CODE_DESC_CS2040 + TAG_DESC_LOCAL + " +t/alumni -m/CS2040 +m/CS2040S",
+                expectedCommand);
+    }
+
+    @Test
+    public void parse_bulkEditByEmailDomain_success() {
+        BulkEditDescriptor descriptor = new BulkEditDescriptor();
+        descriptor.setTagsToAdd(Set.of(new Tag("student")));
+        BulkEditCommand expectedCommand = new BulkEditCommand("u.nus.edu", Collections.emptySet(),
+                Collections.emptySet(), descriptor);
+
+        assertParseSuccess(parser, " e/@U.NUS.edu +t/student", expectedCommand);
+    }
+
+    @Test
+    public void parse_bulkEditInvalidArgs_failure() {
+        String invalidBulkFormat = String.format(MESSAGE_INVALID_COMMAND_FORMAT, BulkEditCommand.MESSAGE_USAGE);
+
+        // index given
+        assertParseFailure(parser, "1" + MODULE_CODE_DESC_CS2040 + " +t/alumni", invalidBulkFormat);
+
+        // field other than module codes and tags given
+        assertParseFailure(parser, MODULE_CODE_DESC_CS2040 + PHONE_DESC_AMY + " +t/alumni", invalidBulkFormat);
+
+        // nothing to match
+        assertParseFailure(parser, " +t/alumni", BulkEditCommand.MESSAGE_NO_FILTER);
+
+        // whole email instead of a domain to match
+        assertParseFailure(parser, " e/amy@example.com +t/alumni", Email.MESSAGE_DOMAIN_CONSTRAINTS);
+
+        // invalid module code to add
+        assertParseFailure(parser, MODULE_CODE_DESC_CS2040 + " +m/CS 50", ModuleCode.MESSAGE_CONSTRAINTS);
+    }
+
     @Test
     public void parse_resetTags_success() {
         Index targetIndex = INDEX_THIRD_PERSON;
@@ -0,0 +1,42 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.storage.PersonFileFormat;
+
+public class ExportCommandParserTest {
+
+    private final ExportCommandParser parser = new ExportCommandParser();
+
+    @Test
+    public void parse_formatFromExtension_returnsExportCommand() {
+        assertParseSuccess(parser, " data/cs2103t.csv ",
+                new ExportCommand(Paths.get("data/cs2103t.csv"), PersonFileFormat.CSV));
+        assertParseSuccess(parser, " data/cs2103t.VCF",
+                new ExportCommand(Paths.get("data/cs2103t.VCF"), PersonFileFormat.VCARD));
+        assertParseSuccess(parser, "my contacts",
+                new ExportCommand(Paths.get("my contacts"), PersonFileFormat.CSV));
+    }
+
+    @Test
+    public void parse_explicitFormat_returnsExportCommand() {
+        assertParseSuccess(parser, "data/cs2103t.txt vcard",
+                new ExportCommand(Paths.get("data/cs2103t.txt"), PersonFileFormat.VCARD));
+        assertParseSuccess(parser, "data/cs2103t.vcf  CSV",
+                new ExportCommand(Paths.get("data/cs2103t.vcf"), PersonFileFormat.CSV));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "   ", expectedMessage);
+        assertParseFailure(parser, "data/cs2103t\u0000.csv vcard", expectedMessage);
+    }
+}
@@ -13,8 +13,11 @@ import java.util.Arrays;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.FindCommand;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.EmailDomainMatchesPredicate;
 import seedu.address.model.person.ModuleCodesContainsKeywordsPredicate;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.PhoneMatchesPredicate;
 import seedu.address.model.person.TagsContainsKeywordsPredicate;
 
 public class FindCommandParserTest {
@@ -62,6 +65,33 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, userInput, expectedFindCommand);
     }
 
+    @Test
+    public void parse_validPhone_returnsFindCommand() {
+        FindCommand expectedFindCommand =
+                new FindCommand(new PhoneMatchesPredicate(Arrays.asList("91234567", "9123*", "*4567")));
+        assertParseSuccess(parser, " p/91234567  9123* *4567", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_invalidPhone_throwsParseException() {
+        assertParseFailure(parser, " p/", String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " p/9123 abc", PhoneMatchesPredicate.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_validEmailDomain_returnsFindCommand() {
+        FindCommand expectedFindCommand =
+                new FindCommand(new EmailDomainMatchesPredicate(Arrays.asList("@u.nus.edu", "@example.com")));
+        assertParseSuccess(parser, " e/@u.nus.edu  @example.com", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_invalidEmailDomain_throwsParseException() {
+        assertParseFailure(parser, " e/", String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " e/u.nus.edu", Email.MESSAGE_DOMAIN_CONSTRAINTS);
+        assertParseFailure(parser, " e/alice@example.com", Email.MESSAGE_DOMAIN_CONSTRAINTS);
+    }
+
     @Test
     public void parse_emptyTag_throwsParseException() {
         assertParseFailure(parser, "find t/",
@@ -0,0 +1,98 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class ChangeJournalTest {
+
+    @Test
+    public void commit_noEdits_nothingToUndo() {
+        ChangeJournal journal = new ChangeJournal();
+        journal.commit();
+        assertFalse(journal.canUndo());
+        assertFalse(journal.canRedo());
+    }
+
+    @Test
+    public void commit_exceedsCapacity_oldestChangesDiscarded() {
+        ChangeJournal journal = new ChangeJournal(2);
+        AddressBook addressBook = new AddressBook();
+
+        addressBook.addPerson(ALICE);
+        journal.recordAdd(ALICE);
+        journal.commit();
+        addressBook.addPerson(BENSON);
+        journal.recordAdd(BENSON);
+        journal.commit();
+        addressBook.addPerson(CARL);
+        journal.recordAdd(CARL);
+        journal.commit();
+        assertEquals(2, journal.size());
+
+        journal.undo(addressBook);
+        journal.undo(addressBook);
+        assertFalse(journal.canUndo());
+        assertEquals(1, addressBook.getPersonList().size());
+        assertTrue(addressBook.hasPerson(ALICE));
+    }
+
+    @Test
+    public void commit_singleChangeExceedsCapacity_historyCleared() {
+        ChangeJournal journal = new ChangeJournal(1);
+        journal.recordAdd(ALICE);
+        journal.commit();
+        journal.recordSet(ALICE, BENSON);
+        journal.commit();
+
+        assertFalse(journal.canUndo());
+        assertEquals(0, journal.size());
+    }
+
+    @Test
+    public void undoRedo_setAll_personsRestoredInPlace() {
+        ChangeJournal journal = new ChangeJournal();
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(Arrays.asList(ALICE, BENSON, CARL));
+        Person editedAlice = new PersonBuilder(ALICE).withTags("alumni").build();
+        Person editedCarl = new PersonBuilder(CARL).withTags("alumni").build();
+
+        addressBook.setPersons(Arrays.asList(ALICE, CARL), Arrays.asList(editedAlice, editedCarl));
+        journal.recordUpdate(Collections.emptyList(), Arrays.asList(ALICE, CARL),
+                Arrays.asList(editedAlice, editedCarl));
+        journal.commit();
+        assertEquals(4, journal.size());
+
+        journal.undo(addressBook);
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), addressBook.getPersonList());
+        journal.redo(addressBook);
+        assertEquals(Arrays.asList(editedAlice, BENSON, editedCarl), addressBook.getPersonList());
+    }
+
+    @Test
+    public void undo_updateWhereEditedPersonTakesRemovedIdentity_restoresBoth() {
+        ChangeJournal journal = new ChangeJournal();
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(Arrays.asList(ALICE, BENSON));
+        Person bensonAsAlice = new PersonBuilder(BENSON).withName(ALICE.getName().fullName).build();
+
+        addressBook.updatePersons(Arrays.asList(ALICE), Arrays.asList(BENSON), Arrays.asList(bensonAsAlice));
+        journal.recordUpdate(Arrays.asList(ALICE), Arrays.asList(BENSON), Arrays.asList(bensonAsAlice));
+
+        journal.undo(addressBook);
+        assertEquals(Arrays.asList(BENSON, ALICE), addressBook.getPersonList());
+        journal.redo(addressBook);
+        assertEquals(Arrays.asList(bensonAsAlice), addressBook.getPersonList());
+    }
+}
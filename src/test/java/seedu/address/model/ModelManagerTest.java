@@ -2,12 +2,16 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -17,7 +21,9 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -147,4 +153,54 @@ public class ModelManagerTest {
         modelManager.sortAddressBook();
         assertEquals(expectedModelManager, modelManager);
     }
+
+    @Test
+    public void mergeAddressBook_changedPersons_onlyChangesApplied() {
+        modelManager.setAddressBook(getTypicalAddressBook());
+        modelManager.commitAddressBook();
+        Person carl = modelManager.getAddressBook().getPersonList().get(2);
+
+        AddressBook changedAddressBook = getTypicalAddressBook();
+        Person editedBenson = new PersonBuilder(BENSON).withRemark("Moved to Sydney").build();
+        changedAddressBook.setPerson(BENSON, editedBenson);
+        changedAddressBook.removePerson(ALICE);
+        changedAddressBook.addPerson(HOON);
+        modelManager.mergeAddressBook(changedAddressBook);
+
+        changedAddressBook.sortAddressBook();
+        assertEquals(changedAddressBook, modelManager.getAddressBook());
+        assertSame(carl, modelManager.getAddressBook().getPersonList().get(1));
+
+    }
+
+    @Test
+    public void mergeAddressBook_afterUserChange_nothingToUndo() {
+        modelManager.setAddressBook(getTypicalAddressBook());
+        modelManager.commitAddressBook();
+        modelManager.deletePerson(CARL);
+        modelManager.commitAddressBook();
+
+        AddressBook changedAddressBook = getTypicalAddressBook();
+        changedAddressBook.removePerson(CARL);
+        changedAddressBook.addPerson(HOON);
+        modelManager.mergeAddressBook(changedAddressBook);
+
+        // Neither the merge nor the changes before it can be undone
+        assertFalse(modelManager.canUndoAddressBook());
+        assertFalse(modelManager.canRedoAddressBook());
+        changedAddressBook.sortAddressBook();
+        assertEquals(changedAddressBook, modelManager.getAddressBook());
+    }
+
+    @Test
+    public void mergeAddressBook_samePersons_noChange() {
+        modelManager.setAddressBook(getTypicalAddressBook());
+        modelManager.commitAddressBook();
+        modelManager.undoAddressBook();
+        assertTrue(modelManager.canRedoAddressBook());
+
+        modelManager.mergeAddressBook(new AddressBook());
+        modelManager.mergeAddressBook(new AddressBook());
+        assertTrue(modelManager.canRedoAddressBook());
+    }
 }
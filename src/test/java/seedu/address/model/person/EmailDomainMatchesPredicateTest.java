@@ -0,0 +1,85 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class EmailDomainMatchesPredicateTest {
+
+    @Test
+    public void equals() {
+        List<String> firstPredicateKeywordList = Collections.singletonList("@example.com");
+        List<String> secondPredicateKeywordList = Arrays.asList("@example.com", "@u.nus.edu");
+
+        EmailDomainMatchesPredicate firstPredicate = new EmailDomainMatchesPredicate(firstPredicateKeywordList);
+        EmailDomainMatchesPredicate secondPredicate = new EmailDomainMatchesPredicate(secondPredicateKeywordList);
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new EmailDomainMatchesPredicate(firstPredicateKeywordList)));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different keywords -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void isValidKeyword() {
+        assertTrue(EmailDomainMatchesPredicate.isValidKeyword("@example.com"));
+        assertTrue(EmailDomainMatchesPredicate.isValidKeyword("@U.NUS.EDU"));
+
+        assertFalse(EmailDomainMatchesPredicate.isValidKeyword(""));
+        assertFalse(EmailDomainMatchesPredicate.isValidKeyword("@"));
+        assertFalse(EmailDomainMatchesPredicate.isValidKeyword("example.com"));
+        assertFalse(EmailDomainMatchesPredicate.isValidKeyword("alice@example.com"));
+        assertFalse(EmailDomainMatchesPredicate.isValidKeyword("@@example.com"));
+        assertFalse(EmailDomainMatchesPredicate.isValidKeyword("@example.c"));
+    }
+
+    @Test
+    public void constructor_invalidKeyword_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new EmailDomainMatchesPredicate(Arrays.asList("@example.com", "example.com")));
+    }
+
+    @Test
+    public void test_emailAtDomain_returnsTrue() {
+        Person person = new PersonBuilder().withEmail("alice@u.nus.edu").build();
+
+        // one keyword
+        assertTrue(new EmailDomainMatchesPredicate(Collections.singletonList("@u.nus.edu")).test(person));
+
+        // mixed-case keyword
+        assertTrue(new EmailDomainMatchesPredicate(Collections.singletonList("@U.Nus.Edu")).test(person));
+
+        // only one keyword matches
+        assertTrue(new EmailDomainMatchesPredicate(Arrays.asList("@example.com", "@u.nus.edu")).test(person));
+    }
+
+    @Test
+    public void test_emailNotAtDomain_returnsFalse() {
+        Person person = new PersonBuilder().withEmail("alice@u.nus.edu").build();
+
+        // parent domain
+        assertFalse(new EmailDomainMatchesPredicate(Collections.singletonList("@nus.edu")).test(person));
+
+        // different domain
+        assertFalse(new EmailDomainMatchesPredicate(Collections.singletonList("@example.com")).test(person));
+    }
+
+}
@@ -1,6 +1,9 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -19,6 +22,12 @@ public class EmailTest {
         assertThrows(IllegalArgumentException.class, () -> new Email(invalidEmail));
     }
 
+    @Test
+    public void ofTrusted_invalidEmail_notChecked() {
+        assertThrows(NullPointerException.class, () -> Email.ofTrusted(null));
+        assertEquals("peterjack", Email.ofTrusted("peterjack").toString());
+    }
+
     @Test
     public void isValidEmail() {
         // null email
@@ -65,4 +74,46 @@ public class EmailTest {
         assertTrue(Email.isValidEmail("if.you.dream.it_you.can.do.it@example.com")); // long local part
         assertTrue(Email.isValidEmail("e1234567@u.nus.edu")); // more than one period in domain
     }
+
+    @Test
+    public void isValidDomain() {
+        assertFalse(Email.isValidDomain(""));
+        assertFalse(Email.isValidDomain("@example.com"));
+        assertFalse(Email.isValidDomain("example.c"));
+        assertFalse(Email.isValidDomain("exam_ple.com"));
+
+        assertTrue(Email.isValidDomain("example.com"));
+        assertTrue(Email.isValidDomain("U.NUS.edu"));
+    }
+
+    @Test
+    public void getParts_validEmail_splitAtSeparator() {
+        Email email = new Email("Peter.Jack@U.NUS.edu");
+        assertEquals("Peter.Jack", email.getLocalPart());
+        assertEquals("u.nus.edu", email.getDomain());
+        assertEquals("Peter.Jack@u.nus.edu", email.toString());
+    }
+
+    @Test
+    public void getDomain_equalDomains_sameObject() {
+        String domain = new Email("alice@Example.com").getDomain();
+        assertSame(domain, new Email("bob@example.COM").getDomain());
+        assertSame(domain, Email.internDomain(new String("EXAMPLE.com")));
+    }
+
+    @Test
+    public void equals() {
+        Email email = new Email("alice@example.com");
+
+        // same values, ignoring the case of the domain -> returns true
+        assertEquals(email, new Email("alice@example.com"));
+        assertEquals(email, new Email("alice@EXAMPLE.com"));
+        assertEquals(email.hashCode(), new Email("alice@EXAMPLE.com").hashCode());
+
+        // different values -> returns false
+        assertNotEquals(email, new Email("Alice@example.com"));
+        assertNotEquals(email, new Email("alice@example.org"));
+        assertNotEquals(email, null);
+        assertNotEquals(email, "alice@example.com");
+    }
 }
@@ -0,0 +1,108 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class ModuleCodeTest {
+
+    private static final List<String> SORTED_MODULE_CODES = Arrays.asList("CS1010", "CS1010S", "CS1010X",
+            "CS2030S", "CS2040", "CS2040C", "CS2103", "CS2103T", "CS2103TABCDE", "CSA1000", "GEQ1000", "ST2334",
+            "ZZZ9999ZZZZZZ");
+
+    @Test
+    public void constructor_invalidModuleCode_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new ModuleCode("CS210"));
+    }
+
+    @Test
+    public void isValidModuleCode() {
+        assertFalse(ModuleCode.isValidModuleCode("")); // empty string
+        assertFalse(ModuleCode.isValidModuleCode("C2103")); // prefix too short
+        assertFalse(ModuleCode.isValidModuleCode("CSAB2103")); // prefix too long
+        assertFalse(ModuleCode.isValidModuleCode("CS21034")); // too many digits
+
+        assertTrue(ModuleCode.isValidModuleCode("CS2103"));
+        assertTrue(ModuleCode.isValidModuleCode("geq1000"));
+        assertTrue(ModuleCode.isValidModuleCode("CS2103ABCDEF"));
+        assertTrue(ModuleCode.isValidModuleCode("CS2103ABCDEFGHIJ")); // suffix too long to pack
+    }
+
+    @Test
+    public void value_anyCase_upperCase() {
+        assertEquals("CS2103T", new ModuleCode("cs2103t").value);
+        assertEquals("CS2103T", ModuleCode.ofTrusted("Cs2103T").value);
+    }
+
+    @Test
+    public void pack_unpack_roundTrip() {
+        for (String moduleCode : SORTED_MODULE_CODES) {
+            assertEquals(moduleCode, ModuleCode.unpack(ModuleCode.pack(moduleCode)));
+            assertEquals(new ModuleCode(moduleCode), ModuleCode.ofPacked(ModuleCode.pack(moduleCode)));
+        }
+        assertEquals("CS0001", ModuleCode.unpack(ModuleCode.pack("cs0001")));
+    }
+
+    @Test
+    public void pack_suffixTooLongToPack_registered() {
+        long packed = ModuleCode.pack("cs2103abcdefg");
+        assertEquals(packed, ModuleCode.pack("CS2103ABCDEFG"));
+        assertNotEquals(packed, ModuleCode.pack("CS2103ABCDEFH"));
+        assertNotEquals(ModuleCode.pack("CS2103ABCDEF"), packed);
+        assertEquals("CS2103ABCDEFG", ModuleCode.unpack(packed));
+        assertEquals(new ModuleCode("CS2103ABCDEFG"), ModuleCode.ofPacked(packed));
+        assertTrue(ModuleCode.pack("ZZZ9999ZZZZZZ") < packed);
+
+        long[] packedAll = ModuleCode.packAll(Arrays.asList(new ModuleCode("CS2103ABCDEFG"),
+                ModuleCode.ofTrusted("cs2103abcdefg"), new ModuleCode("CS2040")));
+        assertArrayEquals(new long[] {ModuleCode.pack("CS2040"), packed}, packedAll);
+    }
+
+    @Test
+    public void compareTo_suffixTooLongToPack_comparedByValue() {
+        assertTrue(new ModuleCode("CS2103ABCDEFG").compareTo(new ModuleCode("CS2103T")) < 0);
+        assertTrue(new ModuleCode("CS2103T").compareTo(new ModuleCode("CS2103ABCDEFG")) > 0);
+        assertEquals(0, new ModuleCode("CS2103ABCDEFG").compareTo(new ModuleCode("cs2103abcdefg")));
+    }
+
+    @Test
+    public void pack_sortedModuleCodes_sortedPackedModuleCodes() {
+        for (int i = 1; i < SORTED_MODULE_CODES.size(); i++) {
+            long previous = ModuleCode.pack(SORTED_MODULE_CODES.get(i - 1));
+            long current = ModuleCode.pack(SORTED_MODULE_CODES.get(i));
+            assertTrue(previous < current, SORTED_MODULE_CODES.get(i));
+        }
+    }
+
+    @Test
+    public void packAll_unsortedWithDuplicates_sortedDistinct() {
+        long[] packed = ModuleCode.packAll(Arrays.asList(new ModuleCode("CS2103T"), new ModuleCode("CS2040"),
+                new ModuleCode("cs2103t")));
+        assertArrayEquals(new long[] {ModuleCode.pack("CS2040"), ModuleCode.pack("CS2103T")}, packed);
+    }
+
+    @Test
+    public void equals() {
+        ModuleCode moduleCode = new ModuleCode("CS2103T");
+
+        // same values, ignoring case -> returns true
+        assertEquals(moduleCode, new ModuleCode("CS2103T"));
+        assertEquals(moduleCode, new ModuleCode("cs2103t"));
+        assertEquals(moduleCode.hashCode(), new ModuleCode("cs2103t").hashCode());
+        assertEquals(0, moduleCode.compareTo(new ModuleCode("cs2103t")));
+
+        // different values -> returns false
+        assertNotEquals(moduleCode, new ModuleCode("CS2103"));
+        assertNotEquals(moduleCode, null);
+        assertNotEquals(moduleCode, "CS2103T");
+    }
+
+}
@@ -2,6 +2,7 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -38,6 +39,13 @@ public class NameContainsKeywordsPredicateTest {
         assertFalse(firstPredicate.equals(secondPredicate));
     }
 
+    @Test
+    public void constructor_invalidKeyword_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new NameContainsKeywordsPredicate(Arrays.asList("  ")));
+        assertThrows(IllegalArgumentException.class, () ->
+                new NameContainsKeywordsPredicate(Arrays.asList("Alice", "Alice Bob")));
+    }
+
     @Test
     public void test_nameContainsKeywords_returnsTrue() {
         // One keyword
@@ -55,6 +63,10 @@ public class NameContainsKeywordsPredicateTest {
         // Mixed-case keywords
         predicate = new NameContainsKeywordsPredicate(Arrays.asList("aLIce", "bOB"));
         assertTrue(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+
+        // Part of a word, with surrounding whitespace
+        predicate = new NameContainsKeywordsPredicate(Arrays.asList(" LIC "));
+        assertTrue(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
     }
 
     @Test
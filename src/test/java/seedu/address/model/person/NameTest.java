@@ -1,9 +1,14 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Locale;
+
 import org.junit.jupiter.api.Test;
 
 public class NameTest {
@@ -19,6 +24,12 @@ public class NameTest {
         assertThrows(IllegalArgumentException.class, () -> new Name(invalidName));
     }
 
+    @Test
+    public void ofTrusted_invalidName_notChecked() {
+        assertThrows(NullPointerException.class, () -> Name.ofTrusted(null));
+        assertEquals("^", Name.ofTrusted("^").toString());
+    }
+
     @Test
     public void isValidName() {
         // null name
@@ -37,4 +48,43 @@ public class NameTest {
         assertTrue(Name.isValidName("Capital Tan")); // with capital letters
         assertTrue(Name.isValidName("David Roger Jackson Ray Jr 2nd")); // long names
     }
+
+    @Test
+    public void getFoldedWords() {
+        assertEquals(Arrays.asList("peter", "jack"), new Name("Peter JACK").getFoldedWords());
+        assertEquals(Collections.singletonList("12345"), new Name("12345").getFoldedWords());
+
+        // extra whitespace between, before and after words
+        assertEquals(Arrays.asList("peter", "jack"), Name.ofTrusted("  Peter \t jack ").getFoldedWords());
+        assertEquals(Collections.emptyList(), Name.ofTrusted(" ").getFoldedWords());
+    }
+
+    @Test
+    public void hasWordContaining() {
+        Name name = new Name("Peter Jack");
+
+        // whole words and parts of words
+        assertTrue(name.hasWordContaining("peter"));
+        assertTrue(name.hasWordContaining("jack"));
+        assertTrue(name.hasWordContaining("ete"));
+
+        // keywords must already be folded
+        assertFalse(name.hasWordContaining("Peter"));
+
+        // across words
+        assertFalse(name.hasWordContaining("peterjack"));
+        assertFalse(name.hasWordContaining("r j"));
+    }
+
+    @Test
+    public void fold_anyDefaultLocale_sameResult() {
+        Locale defaultLocale = Locale.getDefault();
+        try {
+            Locale.setDefault(new Locale("tr"));
+            assertEquals("title", Name.fold("TITLE"));
+            assertTrue(new Name("TITLE").hasWordContaining("title"));
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
 }
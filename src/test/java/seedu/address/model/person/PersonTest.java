@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
@@ -10,6 +11,9 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
 
+import java.util.Arrays;
+import java.util.Collections;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.testutil.PersonBuilder;
@@ -83,4 +87,65 @@ public class PersonTest {
         editedAlice = new PersonBuilder(ALICE).withTags(VALID_TAG_INTERNATIONAL).build();
         assertFalse(ALICE.equals(editedAlice));
     }
+
+    @Test
+    public void hasModuleCode() {
+        Person person = new PersonBuilder().withModuleCodes("CS2040", "CS2030S").build();
+        assertTrue(person.hasModuleCode(new ModuleCode("CS2040")));
+        assertTrue(person.hasModuleCode(new ModuleCode("cs2030s")));
+        assertFalse(person.hasModuleCode(new ModuleCode("CS2030")));
+    }
+
+    @Test
+    public void hasAllModuleCodes() {
+        Person person = new PersonBuilder().withModuleCodes("CS2040", "CS2030S", "ST2334").build();
+        assertTrue(person.hasAllModuleCodes(ModuleCode.packAll(Collections.emptyList())));
+        assertTrue(person.hasAllModuleCodes(ModuleCode.packAll(Arrays.asList(
+                new ModuleCode("ST2334"), new ModuleCode("CS2030S")))));
+        assertFalse(person.hasAllModuleCodes(ModuleCode.packAll(Arrays.asList(
+                new ModuleCode("ST2334"), new ModuleCode("CS2103T")))));
+    }
+
+    @Test
+    public void getPackedModuleCode_inOrderOfModuleCodes() {
+        Person person = new PersonBuilder().withModuleCodes("ST2334", "CS2040", "CS2030S").build();
+        assertEquals(3, person.getModuleCodeCount());
+        int i = 0;
+        for (ModuleCode moduleCode : person.getModuleCodes()) {
+            assertEquals(moduleCode.getPacked(), person.getPackedModuleCode(i++));
+        }
+    }
+
+    @Test
+    public void createLazily_onlyNameRead_notLoaded() {
+        Person person = Person.createLazily(ALICE.getName(), () -> {
+            throw new AssertionError("Person should not be loaded");
+        });
+        assertFalse(person.isLoaded());
+        assertEquals(ALICE.getName(), person.getName());
+        assertTrue(person.isSamePerson(ALICE));
+        assertFalse(person.isLoaded());
+    }
+
+    @Test
+    public void createLazily_otherFieldRead_loaded() {
+        int[] loadCount = {0};
+        Person person = Person.createLazily(ALICE.getName(), () -> {
+            loadCount[0]++;
+            return new PersonBuilder(ALICE).build();
+        });
+        assertEquals(ALICE.getEmail(), person.getEmail());
+        assertTrue(person.isLoaded());
+        assertEquals(ALICE.getTags(), person.getTags());
+        assertEquals(ALICE, person);
+        assertEquals(ALICE.hashCode(), person.hashCode());
+        assertEquals(1, loadCount[0]);
+    }
+
+    @Test
+    public void createLazily_differentNameLoaded_throwsIllegalArgumentException() {
+        Person person = Person.createLazily(ALICE.getName(), () -> BOB);
+        assertThrows(IllegalArgumentException.class, person::getPhone);
+        assertFalse(person.isLoaded());
+    }
 }
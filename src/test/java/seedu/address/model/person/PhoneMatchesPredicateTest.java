@@ -0,0 +1,114 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class PhoneMatchesPredicateTest {
+
+    @Test
+    public void equals() {
+        List<String> firstPredicateKeywordList = Collections.singletonList("91234567");
+        List<String> secondPredicateKeywordList = Arrays.asList("91234567", "9123*");
+
+        PhoneMatchesPredicate firstPredicate = new PhoneMatchesPredicate(firstPredicateKeywordList);
+        PhoneMatchesPredicate secondPredicate = new PhoneMatchesPredicate(secondPredicateKeywordList);
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new PhoneMatchesPredicate(firstPredicateKeywordList)));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different keywords -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void isValidKeyword() {
+        assertTrue(PhoneMatchesPredicate.isValidKeyword("9"));
+        assertTrue(PhoneMatchesPredicate.isValidKeyword("9123*"));
+        assertTrue(PhoneMatchesPredicate.isValidKeyword("*4567"));
+        assertTrue(PhoneMatchesPredicate.isValidKeyword("123456789012345678"));
+        assertTrue(PhoneMatchesPredicate.isValidKeyword("1234567890123456789"));
+
+        assertFalse(PhoneMatchesPredicate.isValidKeyword(""));
+        assertFalse(PhoneMatchesPredicate.isValidKeyword("*"));
+        assertFalse(PhoneMatchesPredicate.isValidKeyword("*45*"));
+        assertFalse(PhoneMatchesPredicate.isValidKeyword("91a4"));
+        assertFalse(PhoneMatchesPredicate.isValidKeyword("12*34"));
+    }
+
+    @Test
+    public void constructor_invalidKeyword_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new PhoneMatchesPredicate(Arrays.asList("9123", "abc")));
+    }
+
+    @Test
+    public void test_phoneMatches_returnsTrue() {
+        Person person = new PersonBuilder().withPhone("091234567").build();
+
+        // whole number
+        assertTrue(new PhoneMatchesPredicate(Collections.singletonList("091234567")).test(person));
+
+        // start of the number, including a leading zero
+        assertTrue(new PhoneMatchesPredicate(Collections.singletonList("0912*")).test(person));
+        assertTrue(new PhoneMatchesPredicate(Collections.singletonList("091234567*")).test(person));
+
+        // end of the number
+        assertTrue(new PhoneMatchesPredicate(Collections.singletonList("*4567")).test(person));
+        assertTrue(new PhoneMatchesPredicate(Collections.singletonList("*091234567")).test(person));
+
+        // only one keyword matches
+        assertTrue(new PhoneMatchesPredicate(Arrays.asList("88888888", "*567")).test(person));
+    }
+
+    @Test
+    public void test_phoneTooLongToPack_matchedByDigits() {
+        Person person = new PersonBuilder().withPhone("01234567890123456789").build();
+
+        assertTrue(new PhoneMatchesPredicate(Collections.singletonList("01234567890123456789")).test(person));
+        assertTrue(new PhoneMatchesPredicate(Collections.singletonList("0123*")).test(person));
+        assertTrue(new PhoneMatchesPredicate(Collections.singletonList("*6789")).test(person));
+        assertFalse(new PhoneMatchesPredicate(Collections.singletonList("1234567890123456789")).test(person));
+        assertFalse(new PhoneMatchesPredicate(Collections.singletonList("*0123")).test(person));
+
+        // a keyword too long to pack against a phone number that is packed
+        assertFalse(new PhoneMatchesPredicate(Collections.singletonList("*01234567890123456789"))
+                .test(new PersonBuilder().withPhone("123456789").build()));
+    }
+
+    @Test
+    public void test_phoneDoesNotMatch_returnsFalse() {
+        Person person = new PersonBuilder().withPhone("091234567").build();
+
+        // part of the number without a wildcard
+        assertFalse(new PhoneMatchesPredicate(Collections.singletonList("91234567")).test(person));
+
+        // leading zero dropped from the start
+        assertFalse(new PhoneMatchesPredicate(Collections.singletonList("912*")).test(person));
+
+        // longer than the number
+        assertFalse(new PhoneMatchesPredicate(Collections.singletonList("*0091234567")).test(person));
+        assertFalse(new PhoneMatchesPredicate(Collections.singletonList("0912345678*")).test(person));
+
+        // no phone number
+        assertFalse(new PhoneMatchesPredicate(Collections.singletonList("0*"))
+                .test(new PersonBuilder().withPhone("").build()));
+    }
+
+}
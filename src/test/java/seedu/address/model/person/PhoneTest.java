@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -35,5 +36,38 @@ public class PhoneTest {
         assertTrue(Phone.isValidPhone("911")); // exactly 3 numbers
         assertTrue(Phone.isValidPhone("93121534"));
         assertTrue(Phone.isValidPhone("124293842033123")); // long phone numbers
+        assertTrue(Phone.isValidPhone("123456789012345678")); // longest phone numbers that are packed
+        assertTrue(Phone.isValidPhone("1234567890123456789")); // too long to pack
+    }
+
+    @Test
+    public void getPacked() {
+        assertEquals(0, new Phone("").getPacked());
+        assertEquals(193121534, new Phone("93121534").getPacked());
+        assertEquals(1000, new Phone("000").getPacked());
+        assertEquals(1123456789012345678L, new Phone("123456789012345678").getPacked());
+        assertEquals(8, Phone.getDigitCount(new Phone("93121534").getPacked()));
+        assertEquals(3, Phone.getDigitCount(new Phone("000").getPacked()));
+        assertEquals(Phone.NOT_PACKED, new Phone("1234567890123456789").getPacked());
+        assertEquals(Phone.NOT_PACKED, Phone.ofTrusted("99999999999999999999").getPacked());
+    }
+
+    @Test
+    public void equals() {
+        Phone phone = new Phone("093121534");
+        assertTrue(phone.equals(new Phone("093121534")));
+        assertEquals(phone.hashCode(), new Phone("093121534").hashCode());
+
+        // leading zeros are part of the number
+        assertFalse(phone.equals(new Phone("93121534")));
+        assertFalse(phone.equals(null));
+        assertFalse(phone.equals("093121534"));
+
+        // phone numbers too long to pack are compared by their digits
+        Phone longPhone = new Phone("1234567890123456789");
+        assertTrue(longPhone.equals(new Phone("1234567890123456789")));
+        assertEquals(longPhone.hashCode(), new Phone("1234567890123456789").hashCode());
+        assertFalse(longPhone.equals(new Phone("1234567890123456788")));
+        assertFalse(longPhone.equals(new Phone("123456789012345678")));
     }
 }
@@ -7,9 +7,12 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_INTERNATION
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
@@ -161,6 +164,195 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void addAll_personsNotInList_appendsInOrder() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.addAll(Arrays.asList(BOB, CARL));
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.setPersons(Arrays.asList(ALICE, BOB, CARL));
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+    }
+
+    @Test
+    public void addAll_duplicatePersons_throwsDuplicatePersonException() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withTags(VALID_TAG_INTERNATIONAL).build();
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.addAll(Arrays.asList(BOB, editedAlice)));
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.addAll(Arrays.asList(BOB, BOB)));
+        assertEquals(Collections.singletonList(ALICE), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void removeAll_existingPersons_removesPersons() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB, CARL));
+        uniquePersonList.removeAll(Arrays.asList(CARL, ALICE));
+        assertEquals(Collections.singletonList(BOB), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void removeAll_personNotInList_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.removeAll(Arrays.asList(ALICE, BOB)));
+        assertEquals(Collections.singletonList(ALICE), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setPersonsBatch_editedPersons_replacedInPlace() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB, CARL));
+        Person editedAlice = new PersonBuilder(ALICE).withTags(VALID_TAG_INTERNATIONAL).build();
+        Person editedCarl = new PersonBuilder(CARL).withName("Carl Kurz Jr").build();
+        uniquePersonList.setPersons(Arrays.asList(CARL, ALICE), Arrays.asList(editedCarl, editedAlice));
+        assertEquals(Arrays.asList(editedAlice, BOB, editedCarl), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setPersonsBatch_swappedIdentities_success() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB));
+        Person aliceAsBob = new PersonBuilder(ALICE).withName(BOB.getName().fullName).build();
+        Person bobAsAlice = new PersonBuilder(BOB).withName(ALICE.getName().fullName).build();
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB), Arrays.asList(aliceAsBob, bobAsAlice));
+        assertEquals(Arrays.asList(aliceAsBob, bobAsAlice), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setPersonsBatch_editedPersonClashesWithOther_throwsDuplicatePersonException() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB));
+        Person aliceAsBob = new PersonBuilder(ALICE).withName(BOB.getName().fullName).build();
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(
+                Collections.singletonList(ALICE), Collections.singletonList(aliceAsBob)));
+        assertEquals(Arrays.asList(ALICE, BOB), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setPersonsBatch_targetNotInList_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.setPersons(
+                Collections.singletonList(BOB), Collections.singletonList(BOB)));
+    }
+
+    @Test
+    public void updatePersons_removedPersonsNameTaken_success() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB, CARL));
+        Person carlAsAlice = new PersonBuilder(CARL).withName(ALICE.getName().fullName).build();
+        uniquePersonList.updatePersons(Collections.singletonList(ALICE), Collections.singletonList(CARL),
+                Collections.singletonList(carlAsAlice));
+        assertEquals(Arrays.asList(BOB, carlAsAlice), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void updatePersons_personBothRemovedAndReplaced_throwsPersonNotFoundException() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB));
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.updatePersons(
+                Collections.singletonList(ALICE), Collections.singletonList(ALICE), Collections.singletonList(CARL)));
+        assertEquals(Arrays.asList(ALICE, BOB), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void updatePersons_withAddedPersons_success() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB));
+        Person editedBob = new PersonBuilder(BOB).withRemark("Edited").build();
+        uniquePersonList.updatePersons(Collections.singletonList(ALICE), Collections.singletonList(BOB),
+                Collections.singletonList(editedBob), Collections.singletonList(ALICE));
+        assertEquals(Arrays.asList(editedBob, ALICE), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void updatePersons_addedPersonNameTaken_throwsDuplicatePersonException() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB));
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.updatePersons(Collections.emptyList(),
+                Collections.emptyList(), Collections.emptyList(), Collections.singletonList(ALICE)));
+        assertEquals(Arrays.asList(ALICE, BOB), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void getPersonsWithPhone_listChanged_indexUpdated() {
+        Person aliceWithBobPhone = new PersonBuilder(ALICE).withPhone(BOB.getPhone().value).build();
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        assertEquals(Collections.singletonList(ALICE), uniquePersonList.getPersonsWithPhone(ALICE.getPhone()));
+
+        // the index built by the first lookup follows later changes
+        uniquePersonList.setPerson(ALICE, aliceWithBobPhone);
+        assertTrue(uniquePersonList.getPersonsWithPhone(ALICE.getPhone()).isEmpty());
+        assertEquals(2, uniquePersonList.getPersonsWithPhone(BOB.getPhone()).size());
+
+        uniquePersonList.updatePersons(Collections.singletonList(BOB), Collections.emptyList(),
+                Collections.emptyList(), Collections.singletonList(CARL));
+        assertEquals(Collections.singletonList(aliceWithBobPhone),
+                uniquePersonList.getPersonsWithPhone(BOB.getPhone()));
+        assertEquals(Collections.singletonList(CARL), uniquePersonList.getPersonsWithPhone(CARL.getPhone()));
+
+        uniquePersonList.setPersons(Collections.singletonList(ALICE));
+        assertTrue(uniquePersonList.getPersonsWithPhone(BOB.getPhone()).isEmpty());
+        assertEquals(Collections.singletonList(ALICE), uniquePersonList.getPersonsWithPhone(ALICE.getPhone()));
+    }
+
+    @Test
+    public void getPersonsWithPhone_phoneTooLongToPack_found() {
+        String longPhone = "12345678901234567890";
+        Person aliceWithLongPhone = new PersonBuilder(ALICE).withPhone(longPhone).build();
+        uniquePersonList.add(aliceWithLongPhone);
+        uniquePersonList.add(BOB);
+
+        assertEquals(Collections.singletonList(aliceWithLongPhone),
+                uniquePersonList.getPersonsWithPhone(new Phone(longPhone)));
+        assertTrue(uniquePersonList.getPersonsWithPhone(new Phone("12345678901234567891")).isEmpty());
+        assertEquals(Collections.singletonList(BOB), uniquePersonList.getPersonsWithPhone(BOB.getPhone()));
+    }
+
+    @Test
+    public void getPersonsWithPhone_emptyPhone_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> uniquePersonList.getPersonsWithPhone(new Phone("")));
+    }
+
+    @Test
+    public void getPersonsWithEmailDomain_listChanged_indexUpdated() {
+        Person aliceAtNus = new PersonBuilder(ALICE).withEmail("alice@u.nus.edu").build();
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        assertEquals(Arrays.asList(ALICE, BOB), uniquePersonList.getPersonsWithEmailDomain("example.com"));
+        assertEquals(Arrays.asList(ALICE, BOB), uniquePersonList.getPersonsWithEmailDomain("EXAMPLE.com"));
+        assertTrue(uniquePersonList.getPersonsWithEmailDomain("u.nus.edu").isEmpty());
+
+        // the index built by the first lookup follows later changes
+        uniquePersonList.setPerson(ALICE, aliceAtNus);
+        assertEquals(Collections.singletonList(BOB), uniquePersonList.getPersonsWithEmailDomain("example.com"));
+        assertEquals(Collections.singletonList(aliceAtNus), uniquePersonList.getPersonsWithEmailDomain("u.nus.edu"));
+
+        uniquePersonList.remove(BOB);
+        assertTrue(uniquePersonList.getPersonsWithEmailDomain("example.com").isEmpty());
+    }
+
+    @Test
+    public void getPersonsWithEmailDomain_bulkUpdate_indexUpdated() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            persons.add(new PersonBuilder().withName("Person " + i).withEmail("person" + i + "@example.com").build());
+        }
+        uniquePersonList.setPersons(persons);
+        assertEquals(100, uniquePersonList.getPersonsWithEmailDomain("example.com").size());
+
+        List<Person> targets = new ArrayList<>();
+        List<Person> editedPersons = new ArrayList<>();
+        for (int i = 0; i < 100; i += 2) {
+            targets.add(persons.get(i));
+            editedPersons.add(new PersonBuilder(persons.get(i)).withEmail("person" + i + "@u.nus.edu").build());
+        }
+        List<Person> removedPersons = Arrays.asList(persons.get(1), persons.get(99));
+        uniquePersonList.updatePersons(removedPersons, targets, editedPersons, Collections.singletonList(ALICE));
+
+        List<Person> remainingPersons = new ArrayList<>();
+        for (int i = 3; i < 99; i += 2) {
+            remainingPersons.add(persons.get(i));
+        }
+        remainingPersons.add(ALICE);
+        assertEquals(new HashSet<>(remainingPersons),
+                new HashSet<>(uniquePersonList.getPersonsWithEmailDomain("example.com")));
+        assertEquals(remainingPersons.size(), uniquePersonList.getPersonsWithEmailDomain("example.com").size());
+        assertEquals(new HashSet<>(editedPersons),
+                new HashSet<>(uniquePersonList.getPersonsWithEmailDomain("u.nus.edu")));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
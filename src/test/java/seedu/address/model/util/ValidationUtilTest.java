@@ -0,0 +1,132 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Email;
+import seedu.address.model.person.ModuleCode;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Remark;
+import seedu.address.model.person.TeleHandle;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Checks each validator against the regex it replaces, on hand-picked, exhaustively enumerated and random strings.
+ */
+public class ValidationUtilTest {
+
+    /** Characters that each play a distinct role in at least one of the regexes. */
+    private static final char[] ALPHABET = {'a', 'Z', '0', '9', ' ', '@', '.', '-', '_', '+', '!', '\t', '\u00e9'};
+    private static final int EXHAUSTIVE_MAX_LENGTH = 5;
+    private static final int RANDOM_SAMPLE_COUNT = 20000;
+    private static final int RANDOM_MAX_LENGTH = 16;
+
+    private static final List<String> EDGE_CASES = Arrays.asList("", " ", "a", "ab", "abc", "12", "123", "1234",
+            "123456789012345678", "1234567890123456789", "Alex Yeoh", "Alex  Yeoh ", " Alex", "Alex_Yeoh", "R\u00e9my",
+            "a@bc", "a@b", "a@b.c", "a@b.cd", "a@bc.d",
+            "a@b-c", "a@b-cd", "a@bc-d", "a@-bc", "a@bc-", "a@b..cd", "a@.bc", "a@bc.", "a.b@cd", ".a@cd", "a.@cd",
+            "a..b@cd", "a+b_c-d.e@ex-am-ple.co", "a@b@cd", "@bc", "a@", "a@b_c.de", "CS2103", "CS2103T", "GEQ1000",
+            "GEQA1000", "C2103", "CS210", "CS21034", "CS2103T1", "cs2103tt", "CS2103ABCDEF", "CS2103ABCDEFG",
+            "@alexy", "@alex", "@alex_yeoh", "alexyeo", "@", "@@alexy", "AB", "a ", "a\t",
+            "a\u00e9", "\u00e9a", "ab\u00e9", "ab\ud83d\ude00", "a\ud83d\ude00b",
+            "\ud83d\ude00", "a\u000b", "a\u001f", "\u007fa", "\u0080a");
+
+    @Test
+    public void isValidName_matchesRegex() {
+        assertSameAsRegex(Name.VALIDATION_REGEX, ValidationUtil::isValidName);
+    }
+
+    @Test
+    public void isValidPhone_matchesRegex() {
+        assertSameAsRegexOrEmpty(Phone.VALIDATION_REGEX, ValidationUtil::isValidPhone);
+    }
+
+    @Test
+    public void isValidEmail_matchesRegex() {
+        assertSameAsRegex(Email.VALIDATION_REGEX, ValidationUtil::isValidEmail);
+    }
+
+    @Test
+    public void isValidModuleCode_matchesRegex() {
+        assertSameAsRegex(ModuleCode.VALIDATION_REGEX, ValidationUtil::isValidModuleCode);
+    }
+
+    @Test
+    public void isValidTagName_matchesRegex() {
+        assertSameAsRegex(Tag.VALIDATION_REGEX, ValidationUtil::isValidTagName);
+    }
+
+    @Test
+    public void isValidTeleHandle_matchesRegex() {
+        assertSameAsRegexOrEmpty(TeleHandle.VALIDATION_REGEX, ValidationUtil::isValidTeleHandle);
+    }
+
+    @Test
+    public void isValidRemark_matchesRegex() {
+        assertSameAsRegexOrEmpty(Remark.VALIDATION_REGEX, ValidationUtil::isValidRemark);
+    }
+
+    @Test
+    public void isValidEmail_lastDomainLabel() {
+        // The last domain label needs two letters or digits in a row
+        assertTrue(ValidationUtil.isValidEmail("peter@example.co"));
+        assertTrue(ValidationUtil.isValidEmail("peter@example.a-bc"));
+        assertFalse(ValidationUtil.isValidEmail("peter@example.c"));
+        assertFalse(ValidationUtil.isValidEmail("peter@example.a-b-c"));
+    }
+
+    private static void assertSameAsRegexOrEmpty(String regex, Predicate<String> validator) {
+        assertSameAsRegex("|" + regex, validator);
+    }
+
+    private static void assertSameAsRegex(String regex, Predicate<String> validator) {
+        Pattern pattern = Pattern.compile(regex);
+        for (String test : getTestStrings()) {
+            assertEquals(pattern.matcher(test).matches(), validator.test(test), "Mismatch for \"" + test + "\"");
+        }
+    }
+
+    private static List<String> getTestStrings() {
+        List<String> testStrings = new ArrayList<>(EDGE_CASES);
+        addAllStrings(testStrings, new StringBuilder());
+
+        Random random = new Random(2103);
+        for (int i = 0; i < RANDOM_SAMPLE_COUNT; i++) {
+            StringBuilder builder = new StringBuilder();
+            int length = random.nextInt(RANDOM_MAX_LENGTH + 1);
+            for (int j = 0; j < length; j++) {
+                builder.append(ALPHABET[random.nextInt(ALPHABET.length)]);
+            }
+            testStrings.add(builder.toString());
+        }
+        return testStrings;
+    }
+
+    /**
+     * Adds every string of up to {@code EXHAUSTIVE_MAX_LENGTH} characters from a small alphabet that starts with
+     * {@code prefix}.
+     */
+    private static void addAllStrings(List<String> testStrings, StringBuilder prefix) {
+        testStrings.add(prefix.toString());
+        if (prefix.length() == EXHAUSTIVE_MAX_LENGTH) {
+            return;
+        }
+        for (char c : new char[] {'a', '1', ' ', '@', '.', '-', '_'}) {
+            prefix.append(c);
+            addAllStrings(testStrings, prefix);
+            prefix.setLength(prefix.length() - 1);
+        }
+    }
+
+}
@@ -0,0 +1,47 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+
+public class AddressBookFileConverterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void convert_jsonToBinaryAndBack_sameFile() throws Exception {
+        Path jsonFilePath = testFolder.resolve("addressbook.json");
+        Path binaryFilePath = testFolder.resolve("addressbook.bin");
+        Path roundTripFilePath = testFolder.resolve("roundtrip.json");
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(getTypicalAddressBook());
+
+        AddressBookFileConverter.convert(jsonFilePath, binaryFilePath);
+        assertEquals(getTypicalAddressBook(),
+                new AddressBook(new BinaryAddressBookStorage(binaryFilePath).readAddressBook().get()));
+
+        AddressBookFileConverter.convert(binaryFilePath, roundTripFilePath);
+        assertEquals(Files.readString(jsonFilePath), Files.readString(roundTripFilePath));
+    }
+
+    @Test
+    public void convert_missingSource_throwsNoSuchFileException() {
+        assertThrows(NoSuchFileException.class, () -> AddressBookFileConverter.convert(
+                testFolder.resolve("missing.json"), testFolder.resolve("addressbook.bin")));
+    }
+
+    @Test
+    public void convert_nullPath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> AddressBookFileConverter.convert(null,
+                testFolder.resolve("addressbook.bin")));
+    }
+}
@@ -0,0 +1,150 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class AddressBookLibraryTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final List<Path> createdStoragePaths = new ArrayList<>();
+
+    @Test
+    public void isValidName() {
+        assertTrue(AddressBookLibrary.isValidName("marketing"));
+        assertTrue(AddressBookLibrary.isValidName("sales_2021-q3"));
+        assertFalse(AddressBookLibrary.isValidName(""));
+        assertFalse(AddressBookLibrary.isValidName("two words"));
+        assertFalse(AddressBookLibrary.isValidName("../marketing"));
+    }
+
+    @Test
+    public void constructor_currentFile_nameFromFileName() {
+        AddressBookLibrary library = createLibrary(Long.MAX_VALUE);
+        assertEquals("contHACKS", library.getCurrentName());
+        assertEquals(testFolder.resolve("marketing.json"), library.getFilePath("marketing"));
+        assertTrue(library.hasAddressBook("contHACKS"));
+        assertFalse(library.hasAddressBook("marketing"));
+    }
+
+    @Test
+    public void switchTo_newAddressBook_emptyAndPreviousSaved() throws Exception {
+        AddressBookLibrary library = createLibrary(Long.MAX_VALUE);
+        AddressBook addressBook = getTypicalAddressBook();
+
+        ReadOnlyAddressBook marketing = library.switchTo("marketing", addressBook);
+        assertTrue(marketing.getPersonList().isEmpty());
+        assertEquals("marketing", library.getCurrentName());
+        assertEquals(testFolder.resolve("marketing.json"), library.getCurrentStorage().getAddressBookFilePath());
+        assertEquals(addressBook, readBack(testFolder.resolve("contHACKS.json")));
+        assertTrue(library.isResident("contHACKS"));
+    }
+
+    @Test
+    public void switchTo_residentAddressBook_notReadAgain() throws Exception {
+        AddressBookLibrary library = createLibrary(Long.MAX_VALUE);
+        AddressBook addressBook = getTypicalAddressBook();
+        library.switchTo("marketing", addressBook);
+
+        // Changes to the file after the book became resident are not read
+        Files.delete(testFolder.resolve("contHACKS.json"));
+        ReadOnlyAddressBook switchedBack = library.switchTo("contHACKS", new AddressBook());
+        assertEquals(addressBook, switchedBack);
+        assertEquals(Collections.singletonList(testFolder.resolve("marketing.json")), createdStoragePaths);
+        assertEquals(Collections.singletonList("marketing"), library.getResidentNames());
+    }
+
+    @Test
+    public void switchTo_savedAddressBook_readFromFile() throws Exception {
+        AddressBook marketingBook = new AddressBook();
+        marketingBook.addPerson(ALICE);
+        new JsonAddressBookStorage(testFolder.resolve("marketing.json")).saveAddressBook(marketingBook);
+
+        AddressBookLibrary library = createLibrary(Long.MAX_VALUE);
+        assertTrue(library.hasAddressBook("marketing"));
+        assertEquals(marketingBook, new AddressBook(library.switchTo("marketing", new AddressBook())));
+    }
+
+    @Test
+    public void switchTo_currentAddressBook_unchanged() throws Exception {
+        AddressBookLibrary library = createLibrary(Long.MAX_VALUE);
+        AddressBook addressBook = getTypicalAddressBook();
+        assertSame(addressBook, library.switchTo("contHACKS", addressBook));
+        assertTrue(library.getResidentNames().isEmpty());
+    }
+
+    @Test
+    public void switchTo_overMemoryBudget_leastRecentlyUsedEvicted() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        long bookBytes = addressBook.getPersonList().size() * AddressBookLibrary.ESTIMATED_BYTES_PER_PERSON;
+        AddressBookLibrary library = createLibrary(2 * bookBytes);
+
+        library.switchTo("a", addressBook);
+        library.switchTo("b", addressBook);
+        library.switchTo("c", addressBook);
+        assertEquals(Arrays.asList("a", "b"), library.getResidentNames());
+
+        // Using a book makes it the most recently used one
+        library.switchTo("a", addressBook);
+        assertEquals(Arrays.asList("b", "c"), library.getResidentNames());
+        library.switchTo("d", addressBook);
+        assertEquals(Arrays.asList("c", "a"), library.getResidentNames());
+
+        // An evicted book is read back from its file
+        assertEquals(addressBook, new AddressBook(library.switchTo("b", addressBook)));
+    }
+
+    @Test
+    public void evict_residentFileChanged_readAgainOnSwitch() throws Exception {
+        AddressBookLibrary library = createLibrary(Long.MAX_VALUE);
+        library.switchTo("marketing", getTypicalAddressBook());
+
+        AddressBook changedAddressBook = new AddressBook();
+        changedAddressBook.addPerson(ALICE);
+        new JsonAddressBookStorage(testFolder.resolve("contHACKS.json")).saveAddressBook(changedAddressBook);
+        library.evict(testFolder.resolve("contHACKS.json"));
+        assertFalse(library.isResident("contHACKS"));
+
+        assertEquals(changedAddressBook, new AddressBook(library.switchTo("contHACKS", new AddressBook())));
+        assertEquals(Arrays.asList(testFolder.resolve("marketing.json"), testFolder.resolve("contHACKS.json")),
+                createdStoragePaths);
+    }
+
+    @Test
+    public void switchTo_invalidName_throwsIllegalArgumentException() {
+        AddressBookLibrary library = createLibrary(Long.MAX_VALUE);
+        assertThrows(IllegalArgumentException.class, () -> library.switchTo("../a", new AddressBook()));
+    }
+
+    private AddressBookLibrary createLibrary(long memoryBudgetBytes) {
+        Path filePath = testFolder.resolve("contHACKS.json");
+        return new AddressBookLibrary(filePath, new JsonAddressBookStorage(filePath), path -> {
+            createdStoragePaths.add(path);
+            return new JsonAddressBookStorage(path);
+        }, memoryBudgetBytes);
+    }
+
+    private static AddressBook readBack(Path filePath) throws Exception {
+        return new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+}
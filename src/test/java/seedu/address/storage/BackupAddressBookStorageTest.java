@@ -0,0 +1,231 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+public class BackupAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final TestClock clock = new TestClock();
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        BackupAddressBookStorage storage = createStorage(Duration.ZERO, 5);
+        assertThrows(NullPointerException.class, () -> storage.saveAddressBook(null));
+    }
+
+    @Test
+    public void saveAddressBook_firstSave_backupMatchesSavedFile() throws Exception {
+        BackupAddressBookStorage storage = createStorage(Duration.ofMinutes(60), 5);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        storage.awaitBackups();
+
+        List<Path> backupPaths = storage.getBackupFilePaths();
+        assertEquals(1, backupPaths.size());
+        assertEquals(addressBook, readBack(backupPaths.get(0)));
+        assertEquals(addressBook, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_withinInterval_noNewBackup() throws Exception {
+        BackupAddressBookStorage storage = createStorage(Duration.ofMinutes(60), 5);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+
+        clock.advance(Duration.ofMinutes(59));
+        addressBook.removePerson(ALICE);
+        storage.saveAddressBook(addressBook);
+        storage.awaitBackups();
+        assertEquals(1, storage.getBackupFilePaths().size());
+
+        // The next save after the interval is backed up
+        clock.advance(Duration.ofMinutes(1));
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        storage.awaitBackups();
+        List<Path> backupPaths = storage.getBackupFilePaths();
+        assertEquals(2, backupPaths.size());
+        assertEquals(addressBook, readBack(backupPaths.get(1)));
+    }
+
+    @Test
+    public void saveAddressBook_unchanged_noNewBackup() throws Exception {
+        BackupAddressBookStorage storage = createStorage(Duration.ZERO, 5);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        clock.advance(Duration.ofMinutes(1));
+        storage.saveAddressBook(addressBook);
+        storage.awaitBackups();
+        assertEquals(1, storage.getBackupFilePaths().size());
+    }
+
+    @Test
+    public void saveAddressBook_moreThanMaxBackups_oldestDeleted() throws Exception {
+        BackupAddressBookStorage storage = createStorage(Duration.ZERO, 2);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        clock.advance(Duration.ofSeconds(1));
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        clock.advance(Duration.ofSeconds(1));
+        addressBook.addPerson(IDA);
+        storage.saveAddressBook(addressBook);
+        storage.awaitBackups();
+
+        List<Path> backupPaths = storage.getBackupFilePaths();
+        assertEquals(2, backupPaths.size());
+        assertEquals(addressBook, readBack(backupPaths.get(1)));
+        assertTrue(readBack(backupPaths.get(0)).getPersonList().contains(HOON));
+    }
+
+    @Test
+    public void saveAddressBook_otherFilePath_notBackedUp() throws Exception {
+        BackupAddressBookStorage storage = createStorage(Duration.ZERO, 5);
+        Path otherFilePath = testFolder.resolve("other.json");
+        storage.saveAddressBook(getTypicalAddressBook(), otherFilePath);
+        storage.awaitBackups();
+        assertTrue(Files.exists(otherFilePath));
+        assertTrue(storage.getBackupFilePaths().isEmpty());
+    }
+
+    @Test
+    public void saveAddressBook_booksWithSharedNamePrefix_onlyOwnBackupsDeleted() throws Exception {
+        BackupAddressBookStorage storage = createStorage(Duration.ZERO, 1);
+        BackupAddressBookStorage otherStorage = createStorage("addressbook-old.json", Duration.ZERO, 1);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        otherStorage.saveAddressBook(addressBook);
+        storage.awaitBackups();
+        otherStorage.awaitBackups();
+
+        clock.advance(Duration.ofSeconds(1));
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        otherStorage.saveAddressBook(addressBook);
+        storage.awaitBackups();
+        otherStorage.awaitBackups();
+
+        List<Path> backupPaths = storage.getBackupFilePaths();
+        List<Path> otherBackupPaths = otherStorage.getBackupFilePaths();
+        assertEquals(1, backupPaths.size());
+        assertEquals(1, otherBackupPaths.size());
+        assertEquals(addressBook, readBack(backupPaths.get(0)));
+        assertEquals(addressBook, readBack(otherBackupPaths.get(0)));
+    }
+
+    @Test
+    public void close_backupStarted_backupWritten() throws Exception {
+        BackupAddressBookStorage storage = createStorage(Duration.ZERO, 5);
+        storage.saveAddressBook(getTypicalAddressBook());
+        storage.close();
+
+        List<Path> backupPaths = storage.getBackupFilePaths();
+        assertEquals(1, backupPaths.size());
+        assertEquals(getTypicalAddressBook(), readBack(backupPaths.get(0)));
+    }
+
+    @Test
+    public void saveAddressBook_personCannotBeLoaded_noBackupOrTempFileLeft() throws Exception {
+        // Saves nothing itself, so that only the backup loads the person
+        AddressBookStorage unsavedStorage = new JsonAddressBookStorage(testFolder.resolve("addressbook.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {}
+        };
+        BackupAddressBookStorage storage = new BackupAddressBookStorage(unsavedStorage,
+                testFolder.resolve("backups"), Duration.ZERO, 5, clock);
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(Person.createLazily(ALICE.getName(), () -> {
+            throw new IllegalArgumentException("The person cannot be loaded");
+        }));
+
+        storage.saveAddressBook(addressBook);
+        storage.awaitBackups();
+        assertTrue(storage.getBackupFilePaths().isEmpty());
+        try (Stream<Path> files = Files.list(testFolder.resolve("backups"))) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    public void saveAddressBook_tempFileLeftOver_deleted() throws Exception {
+        Path leftOverPath = testFolder.resolve("backups").resolve("addressbook-20210101-000000-000.json.tmp");
+        Path otherBookPath = testFolder.resolve("backups").resolve("addressbook-old-20210101-000000-000.json.tmp");
+        Files.createDirectories(leftOverPath.getParent());
+        Files.createFile(leftOverPath);
+        Files.createFile(otherBookPath);
+
+        BackupAddressBookStorage storage = createStorage(Duration.ZERO, 5);
+        storage.saveAddressBook(getTypicalAddressBook());
+        storage.awaitBackups();
+        assertFalse(Files.exists(leftOverPath));
+        assertTrue(Files.exists(otherBookPath));
+        assertEquals(1, storage.getBackupFilePaths().size());
+    }
+
+    private BackupAddressBookStorage createStorage(Duration backupInterval, int maxBackupCount) {
+        return createStorage("addressbook.json", backupInterval, maxBackupCount);
+    }
+
+    private BackupAddressBookStorage createStorage(String fileName, Duration backupInterval, int maxBackupCount) {
+        AddressBookStorage jsonStorage = new JsonAddressBookStorage(testFolder.resolve(fileName));
+        return new BackupAddressBookStorage(jsonStorage, testFolder.resolve("backups"), backupInterval,
+                maxBackupCount, clock);
+    }
+
+    private static AddressBook readBack(Path filePath) throws Exception {
+        return new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    /**
+     * A clock that only moves when told to.
+     */
+    private static class TestClock extends Clock {
+        private Instant instant = Instant.parse("2021-10-01T09:00:00Z");
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+
+}
@@ -0,0 +1,190 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void toBinaryFilePath() {
+        assertEquals(Paths.get("data", "addressbook.bin"),
+                BinaryAddressBookStorage.toBinaryFilePath(Paths.get("data", "addressbook.json")));
+        assertEquals(Paths.get("addressbook.bin"), BinaryAddressBookStorage.toBinaryFilePath(Paths.get("addressbook")));
+        assertEquals(Paths.get("addressbook.bin"),
+                BinaryAddressBookStorage.toBinaryFilePath(Paths.get("addressbook.bin")));
+    }
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(testFolder.resolve("a.bin"));
+        assertThrows(NullPointerException.class, () -> storage.readAddressBook(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(testFolder.resolve("a.bin")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void read_jsonFile_throwsDataConversionException() {
+        Path jsonFilePath = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest",
+                "typicalPersonsAddressBook.json");
+        assertThrows(DataConversionException.class, () ->
+                new BinaryAddressBookStorage(jsonFilePath).readAddressBook());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        AddressBook original = getTypicalAddressBook();
+        original.addPerson(new PersonBuilder().withName("Zoe Unicode").withRemark("Likes 日本").build());
+        original.addPerson(new PersonBuilder().withName("Yan Long").withModuleCodes("CS2103ABCDEFG").build());
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original, filePath);
+        assertEquals(original, new AddressBook(storage.readAddressBook(filePath).get()));
+
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_typicalAddressBook_smallerThanJson() throws Exception {
+        Path jsonFilePath = testFolder.resolve("addressbook.json");
+        Path binaryFilePath = testFolder.resolve("addressbook.bin");
+        new JsonAddressBookStorage(jsonFilePath, true).saveAddressBook(getTypicalAddressBook());
+        new BinaryAddressBookStorage(binaryFilePath).saveAddressBook(getTypicalAddressBook());
+
+        assertTrue(Files.size(binaryFilePath) < Files.size(jsonFilePath) / 2);
+    }
+
+    @Test
+    public void readAddressBook_jsonFileOnly_migrated() throws Exception {
+        Path jsonFilePath = testFolder.resolve("addressbook.json");
+        Path binaryFilePath = BinaryAddressBookStorage.toBinaryFilePath(jsonFilePath);
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(original);
+
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(binaryFilePath, jsonFilePath);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+        assertTrue(Files.exists(binaryFilePath));
+
+        // Later reads use the binary file only
+        Files.delete(jsonFilePath);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_unsupportedVersion_throwsIllegalValueException() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(BinaryAddressBookStorage.MAGIC);
+        out.writeInt(BinaryAddressBookStorage.FORMAT_VERSION + 1);
+
+        assertThrows(IllegalValueException.class, String.format(BinaryAddressBookStorage.MESSAGE_UNSUPPORTED_VERSION,
+                BinaryAddressBookStorage.FORMAT_VERSION + 1), () -> read(bytes.toByteArray()));
+    }
+
+    @Test
+    public void readAddressBook_invalidName_throwsIllegalValueException() throws Exception {
+        byte[] bytes = write(new PersonBuilder().withName("Amy Bee").build());
+        replace(bytes, "Amy Bee", "Amy Be!");
+
+        assertThrows(IllegalValueException.class, Name.MESSAGE_CONSTRAINTS, () -> read(bytes));
+    }
+
+    @Test
+    public void readAddressBook_duplicatePersons_throwsIllegalValueException() throws Exception {
+        byte[] bytes = write(new PersonBuilder().withName("Amy Bee").build(),
+                new PersonBuilder().withName("Amy Bed").build());
+        replace(bytes, "Amy Bed", "Amy Bee");
+
+        assertThrows(IllegalValueException.class, BinaryAddressBookStorage.MESSAGE_DUPLICATE_PERSON, () ->
+                read(bytes));
+    }
+
+    @Test
+    public void readAddressBook_corruptStringLength_throwsIllegalValueException() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(BinaryAddressBookStorage.MAGIC);
+        out.writeInt(BinaryAddressBookStorage.FORMAT_VERSION);
+        out.writeByte(1); // one person
+        out.write(new byte[] {(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07}); // name of 2^31 - 1 bytes
+
+        assertThrows(IllegalValueException.class, String.format(BinaryAddressBookStorage.MESSAGE_STRING_TOO_LONG,
+                BinaryAddressBookStorage.MAX_STRING_LENGTH), () -> read(bytes.toByteArray()));
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        byte[] bytes = write(ALICE);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 1));
+
+        assertThrows(DataConversionException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(testFolder.resolve("a.bin"));
+        assertThrows(NullPointerException.class, () -> storage.saveAddressBook(null));
+    }
+
+    private static byte[] write(Person... persons) throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        BinaryAddressBookStorage.writeTo(Arrays.asList(persons), new DataOutputStream(bytes));
+        return bytes.toByteArray();
+    }
+
+    private static AddressBook read(byte[] bytes) throws Exception {
+        return BinaryAddressBookStorage.readFrom(new DataInputStream(new ByteArrayInputStream(bytes)));
+    }
+
+    /**
+     * Replaces the first occurrence of the ASCII string {@code target} in {@code bytes} with {@code replacement},
+     * which must be of the same length.
+     */
+    private static void replace(byte[] bytes, String target, String replacement) {
+        String content = new String(bytes, ISO_8859_1);
+        int index = content.indexOf(target);
+        for (int i = 0; i < replacement.length(); i++) {
+            bytes[index + i] = (byte) replacement.charAt(i);
+        }
+    }
+}
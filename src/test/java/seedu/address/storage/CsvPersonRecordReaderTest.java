@@ -0,0 +1,72 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+public class CsvPersonRecordReaderTest {
+
+    private static CsvPersonRecordReader readerOf(String csv) throws IOException {
+        return new CsvPersonRecordReader(new BufferedReader(new StringReader(csv)));
+    }
+
+    @Test
+    public void constructor_emptyFile_throwsIoException() {
+        assertThrows(IOException.class, () -> readerOf(""));
+    }
+
+    @Test
+    public void constructor_noNameColumn_throwsIoException() {
+        assertThrows(IOException.class, () -> readerOf("email,moduleCodes\n"));
+    }
+
+    @Test
+    public void read_allColumns_success() throws Exception {
+        CsvPersonRecordReader reader = readerOf(
+                "Name,EMAIL,moduleCodes,phone,teleHandle,remark,tags\r\n"
+                + "Alice Pauline,alice@example.com,CS2030S;CS2040,94351253,@alice,Likes cats,local;friends\r\n");
+
+        PersonRecord expected = new PersonRecord(2, "Alice Pauline", "alice@example.com",
+                Arrays.asList("CS2030S", "CS2040"), "94351253", "@alice", "Likes cats",
+                Arrays.asList("local", "friends"));
+        assertEquals(expected, reader.read());
+        assertNull(reader.read());
+    }
+
+    @Test
+    public void read_columnsInAnyOrderAndMissingFields_success() throws Exception {
+        CsvPersonRecordReader reader = readerOf("email,name\nbob@example.com,Bob Choo\n\n,Carl Kurz");
+
+        assertEquals(new PersonRecord(2, "Bob Choo", "bob@example.com", Collections.emptyList(), null, null,
+                null, Collections.emptyList()), reader.read());
+        assertEquals(new PersonRecord(4, "Carl Kurz", null, Collections.emptyList(), null, null,
+                null, Collections.emptyList()), reader.read());
+        assertNull(reader.read());
+    }
+
+    @Test
+    public void read_quotedFields_success() throws Exception {
+        CsvPersonRecordReader reader = readerOf("name,remark,email\n"
+                + "\"Pauline, Alice\",\"Says \"\"hi\"\"\nevery day\",alice@example.com\n"
+                + "Bob,,bob@example.com\n");
+
+        assertEquals(new PersonRecord(2, "Pauline, Alice", "alice@example.com", Collections.emptyList(), null,
+                null, "Says \"hi\"\nevery day", Collections.emptyList()), reader.read());
+        assertEquals(4, reader.read().getRowNumber());
+        assertNull(reader.read());
+    }
+
+    @Test
+    public void read_unterminatedQuote_throwsIoException() throws Exception {
+        CsvPersonRecordReader reader = readerOf("name\n\"Alice\n");
+        assertThrows(IOException.class, reader::read);
+    }
+}
@@ -0,0 +1,49 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class CsvPersonRecordWriterTest {
+
+    @Test
+    public void write_plainFields_writtenUnquoted() throws Exception {
+        StringWriter out = new StringWriter();
+        try (CsvPersonRecordWriter writer = new CsvPersonRecordWriter(out)) {
+            writer.write(new PersonBuilder().withName("Alice Pauline").withEmail("alice@example.com")
+                    .withModuleCodes("CS2040").withPhone("94351253").withTags("local").build());
+        }
+
+        assertEquals("name,email,moduleCodes,phone,teleHandle,remark,tags\r\n"
+                + "Alice Pauline,alice@example.com,CS2040,94351253,,,local\r\n", out.toString());
+    }
+
+    @Test
+    public void write_specialCharacters_readBackUnchanged() throws Exception {
+        Person person = new PersonBuilder().withModuleCodes("CS2030S", "CS2040")
+                .withRemark("Says \"hi\", often").withTags("friends", "local").build();
+        StringWriter out = new StringWriter();
+        try (CsvPersonRecordWriter writer = new CsvPersonRecordWriter(out)) {
+            writer.write(person);
+        }
+
+        CsvPersonRecordReader reader = new CsvPersonRecordReader(new BufferedReader(new StringReader(out.toString())));
+        PersonRecord record = reader.read();
+        assertEquals("Says \"hi\", often", record.getRemark());
+        assertEquals(2, record.getModuleCodes().size());
+        String[] tags = record.getTags().toArray(new String[0]);
+        Arrays.sort(tags);
+        assertEquals(List.of("friends", "local"), Arrays.asList(tags));
+        assertNull(reader.read());
+    }
+}
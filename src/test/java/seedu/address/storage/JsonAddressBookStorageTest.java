@@ -2,22 +2,32 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.HOON;
 import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.ModuleCode;
+import seedu.address.model.person.Phone;
+import seedu.address.testutil.PersonBuilder;
 
 public class JsonAddressBookStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
@@ -86,6 +96,131 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void saveAddressBook_compact_smallerFileReadBack() throws Exception {
+        Path prettyFilePath = testFolder.resolve("Pretty.json");
+        Path compactFilePath = testFolder.resolve("Compact.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(prettyFilePath).saveAddressBook(original);
+        JsonAddressBookStorage compactStorage = new JsonAddressBookStorage(compactFilePath, true);
+        compactStorage.saveAddressBook(original);
+
+        assertTrue(Files.size(compactFilePath) < Files.size(prettyFilePath));
+        assertFalse(Files.readString(compactFilePath).contains("\n"));
+        assertEquals(original, new AddressBook(compactStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_compressed_smallerFileReadBack() throws Exception {
+        Path plainFilePath = testFolder.resolve("Plain.json");
+        Path compressedFilePath = testFolder.resolve("Compressed.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage plainStorage = new JsonAddressBookStorage(plainFilePath);
+        plainStorage.saveAddressBook(original);
+        new JsonAddressBookStorage(compressedFilePath, false, false, true).saveAddressBook(original);
+
+        byte[] compressed = Files.readAllBytes(compressedFilePath);
+        assertEquals(0x1f, compressed[0] & 0xFF);
+        assertEquals(0x8b, compressed[1] & 0xFF);
+        assertTrue(compressed.length < Files.size(plainFilePath));
+
+        // Either kind of file is read by any storage
+        assertEquals(original, new AddressBook(plainStorage.readAddressBook(compressedFilePath).get()));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(plainFilePath, false, false, true)
+                .readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_pretty_sameAsDataBoundJson() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableAddressBook(original)), Files.readString(filePath));
+    }
+
+    @Test
+    public void readAddressBook_lazy_allFieldsCheckedOnlyNamesConverted() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath, false, true);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+        assertFalse(readBack.getPersonList().get(0).isLoaded());
+        assertEquals(original, new AddressBook(readBack));
+
+        // An invalid email is found when the file is read, not when the person is loaded
+        Files.write(filePath, Files.readAllLines(TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json")).stream()
+                .map(line -> line.replace("Person with invalid name field: Ha!ns Mu@ster", "Hans Muster")
+                        .replace("hans@example.com", "hans@@example"))
+                .collect(Collectors.toList()));
+        assertThrows(DataConversionException.class, storage::readAddressBook);
+        assertThrows(DataConversionException.class, () -> new JsonAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_trustedDigest_checksSkippedOnlyIfUnchanged() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        assertTrue(Files.exists(JsonAddressBookStorage.getDigestFilePath(filePath)));
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        // A file with an invalid email is read as it is when the digest matches it
+        Files.write(filePath, Files.readString(filePath).replace(ALICE.getEmail().toString(), "alice@@example")
+                .getBytes(StandardCharsets.UTF_8));
+        MessageDigest messageDigest = JsonAddressBookDigest.createMessageDigest();
+        storage.saveDigest(messageDigest.digest(Files.readAllBytes(filePath)), filePath);
+        assertEquals("alice@@example", storage.readAddressBook().get().getPersonList().get(0).getEmail().toString());
+
+        // Any change to the file makes every person be checked again
+        Files.write(filePath, (Files.readString(filePath) + "\n").getBytes(StandardCharsets.UTF_8));
+        assertThrows(DataConversionException.class, () -> storage.readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_phoneTooLongToPack_readOnBothPaths() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath);
+        AddressBook original = new AddressBook();
+        original.addPerson(new PersonBuilder(ALICE).withPhone("1234567890123456789").build());
+        original.addPerson(new PersonBuilder(BENSON).withPhone("1234567890123456780").build());
+
+        // trusted, as the digest matches the file
+        storage.saveAddressBook(original);
+        AddressBook trusted = new AddressBook(storage.readAddressBook().get());
+        assertEquals(original, trusted);
+        assertEquals(1, trusted.getPersonsWithPhone(new Phone("1234567890123456789")).size());
+
+        // checked, as there is no digest
+        Files.delete(JsonAddressBookStorage.getDigestFilePath(filePath));
+        AddressBook checked = new AddressBook(storage.readAddressBook().get());
+        assertEquals(original, checked);
+        assertEquals(1, checked.getPersonsWithPhone(new Phone("1234567890123456780")).size());
+    }
+
+    @Test
+    public void readAddressBook_moduleCodeTooLongToPack_readOnBothPaths() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath);
+        AddressBook original = new AddressBook();
+        original.addPerson(new PersonBuilder(ALICE).withModuleCodes("CS2103ABCDEFG", "CS2040").build());
+
+        // trusted, as the digest matches the file
+        storage.saveAddressBook(original);
+        AddressBook trusted = new AddressBook(storage.readAddressBook().get());
+        assertEquals(original, trusted);
+        assertTrue(trusted.getPersonList().get(0).hasModuleCode(new ModuleCode("CS2103ABCDEFG")));
+
+        // checked, as there is no digest
+        Files.delete(JsonAddressBookStorage.getDigestFilePath(filePath));
+        AddressBook checked = new AddressBook(storage.readAddressBook().get());
+        assertEquals(original, checked);
+        assertTrue(checked.getPersonList().get(0).getModuleCodes().contains(new ModuleCode("CS2103ABCDEFG")));
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
@@ -5,12 +5,25 @@ import static seedu.address.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.TypicalPersons;
 
 public class JsonSerializableAddressBookTest {
@@ -20,6 +33,9 @@ public class JsonSerializableAddressBookTest {
     private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
     private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json");
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void toModelType_typicalPersonsFile_success() throws Exception {
         JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(TYPICAL_PERSONS_FILE,
@@ -33,15 +49,132 @@ public class JsonSerializableAddressBookTest {
     public void toModelType_invalidPersonFile_throwsIllegalValueException() throws Exception {
         JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(INVALID_PERSON_FILE,
                 JsonSerializableAddressBook.class).get();
-        assertThrows(IllegalValueException.class, dataFromFile::toModelType);
+        assertThrows(IllegalValueException.class, String.format(JsonSerializableAddressBook.MESSAGE_INVALID_PERSON,
+                0, Email.MESSAGE_CONSTRAINTS), dataFromFile::toModelType);
+    }
+
+    @Test
+    public void toModelType_manyPersons_success() throws Exception {
+        List<Person> persons = createPersons(5000);
+        AddressBook expected = new AddressBook();
+        expected.setPersons(persons);
+
+        assertEquals(expected, new JsonSerializableAddressBook(toAdaptedPersons(persons)).toModelType());
+    }
+
+    @Test
+    public void toModelType_manyPersonsWithInvalidPersons_lowestIndexReported() {
+        List<JsonAdaptedPerson> persons = toAdaptedPersons(createPersons(5000));
+        JsonAdaptedPerson invalidPerson = new JsonAdaptedPerson("R@chel", "rachel@example.com",
+                Collections.emptyList(), "", "", "", Collections.emptyList());
+        persons.set(4000, invalidPerson);
+        persons.set(3000, invalidPerson);
+        persons.set(4500, persons.get(10));
+
+        assertThrows(IllegalValueException.class, String.format(JsonSerializableAddressBook.MESSAGE_INVALID_PERSON,
+                3000, Name.MESSAGE_CONSTRAINTS), () -> new JsonSerializableAddressBook(persons).toModelType());
+    }
+
+    @Test
+    public void toModelType_manyPersonsWithDuplicates_laterIndexReported() {
+        List<JsonAdaptedPerson> persons = toAdaptedPersons(createPersons(5000));
+        persons.set(4321, persons.get(1234));
+
+        assertThrows(IllegalValueException.class, String.format(JsonSerializableAddressBook.MESSAGE_INVALID_PERSON,
+                4321, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON), () ->
+                new JsonSerializableAddressBook(persons).toModelType());
+    }
+
+    @Test
+    public void readModelType_manyPersons_success() throws Exception {
+        List<Person> persons = createPersons(5000);
+        AddressBook expected = new AddressBook();
+        expected.setPersons(persons);
+        Path filePath = testFolder.resolve("manyPersons.json");
+        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(toAdaptedPersons(persons)), filePath);
+
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            assertEquals(expected, JsonSerializableAddressBook.readModelType(parser));
+        }
+    }
+
+    @Test
+    public void readModelType_manyPersonsWithInvalidPersons_lowestIndexReported() throws Exception {
+        List<JsonAdaptedPerson> persons = toAdaptedPersons(createPersons(5000));
+        JsonAdaptedPerson invalidPerson = new JsonAdaptedPerson("R@chel", "rachel@example.com",
+                Collections.emptyList(), "", "", "", Collections.emptyList());
+        persons.set(3100, invalidPerson);
+        persons.set(3000, invalidPerson);
+        persons.set(2500, persons.get(10));
+        Path filePath = testFolder.resolve("invalidPersons.json");
+        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(persons), filePath);
+
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            assertThrows(IllegalValueException.class, String.format(JsonSerializableAddressBook.MESSAGE_INVALID_PERSON,
+                    2500, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON), () ->
+                    JsonSerializableAddressBook.readModelType(parser));
+        }
+    }
+
+    private static List<Person> createPersons(int count) {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            persons.add(new PersonBuilder().withName("Person " + i).build());
+        }
+        return persons;
+    }
+
+    private static List<JsonAdaptedPerson> toAdaptedPersons(List<Person> persons) {
+        return persons.stream().map(JsonAdaptedPerson::new).collect(Collectors.toCollection(ArrayList::new));
     }
 
     @Test
     public void toModelType_duplicatePersons_throwsIllegalValueException() throws Exception {
         JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(DUPLICATE_PERSON_FILE,
                 JsonSerializableAddressBook.class).get();
-        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON,
-                dataFromFile::toModelType);
+        assertThrows(IllegalValueException.class, String.format(JsonSerializableAddressBook.MESSAGE_INVALID_PERSON,
+                1, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON), dataFromFile::toModelType);
+    }
+
+    @Test
+    public void readModelType_typicalPersonsFile_success() throws Exception {
+        try (JsonParser parser = JsonUtil.createParser(TYPICAL_PERSONS_FILE)) {
+            assertEquals(TypicalPersons.getTypicalAddressBook(), JsonSerializableAddressBook.readModelType(parser));
+        }
+    }
+
+    @Test
+    public void readModelType_invalidPersonFile_throwsIllegalValueException() throws Exception {
+        try (JsonParser parser = JsonUtil.createParser(INVALID_PERSON_FILE)) {
+            assertThrows(IllegalValueException.class, () -> JsonSerializableAddressBook.readModelType(parser));
+        }
+    }
+
+    @Test
+    public void readModelType_duplicatePersons_throwsIllegalValueException() throws Exception {
+        try (JsonParser parser = JsonUtil.createParser(DUPLICATE_PERSON_FILE)) {
+            assertThrows(IllegalValueException.class, String.format(JsonSerializableAddressBook.MESSAGE_INVALID_PERSON,
+                    1, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON), () ->
+                    JsonSerializableAddressBook.readModelType(parser));
+        }
+    }
+
+    @Test
+    public void readModelType_personsNotAList_throwsJsonParseException() throws Exception {
+        Path filePath = testFolder.resolve("notAList.json");
+        FileUtil.writeToFile(filePath, "{ \"persons\" : { \"name\" : \"Alice\" } }");
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            assertThrows(JsonParseException.class, () -> JsonSerializableAddressBook.readModelType(parser));
+        }
+    }
+
+    @Test
+    public void readModelType_unknownFields_ignored() throws Exception {
+        Path filePath = testFolder.resolve("unknownFields.json");
+        FileUtil.writeToFile(filePath, "{ \"version\" : { \"major\" : [ 1 ] }, \"persons\" : [ ] }");
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            assertEquals(new AddressBook(), JsonSerializableAddressBook.readModelType(parser));
+        }
     }
 
 }
@@ -0,0 +1,150 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.ModuleCode;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PersonBuilder;
+
+public class KeyValueAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        KeyValueAddressBookStorage storage = new KeyValueAddressBookStorage(testFolder.resolve("a.kv"));
+        assertThrows(NullPointerException.class, () -> storage.readAddressBook(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new KeyValueAddressBookStorage(testFolder.resolve("a.kv")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void read_jsonFile_throwsDataConversionException() {
+        Path jsonFilePath = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest",
+                "typicalPersonsAddressBook.json");
+        assertThrows(DataConversionException.class, () ->
+                new KeyValueAddressBookStorage(jsonFilePath).readAddressBook());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.kv");
+        KeyValueAddressBookStorage storage = new KeyValueAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+        assertEquals(original, readBack(filePath));
+
+        // Modify data, save only the changes, and read back
+        original.setPerson(BENSON, new PersonBuilder(BENSON).withRemark("Prefers email").build());
+        original.removePerson(ALICE);
+        original.addPerson(HOON);
+        original.sortAddressBook();
+        storage.saveAddressBook(original);
+        assertEquals(original, readBack(filePath));
+
+        // Saves after a restart only touch the changed persons
+        KeyValueAddressBookStorage restarted = new KeyValueAddressBookStorage(filePath);
+        AddressBook restartedBook = new AddressBook(restarted.readAddressBook().get());
+        Person firstPerson = restartedBook.getPersonList().get(0);
+        assertFalse(firstPerson.isLoaded());
+        restartedBook.addPerson(ALICE);
+        restartedBook.sortAddressBook();
+        restarted.saveAddressBook(restartedBook);
+        restarted.close();
+        assertTrue(firstPerson.isLoaded());
+        assertEquals(restartedBook, readBack(filePath));
+        storage.close();
+    }
+
+    @Test
+    public void readPersonsWithModuleCodeAndTag_indexesKeptUpToDate() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.kv");
+        KeyValueAddressBookStorage storage = new KeyValueAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+
+        Tag local = new Tag("local");
+        long localCount = addressBook.getPersonList().stream().filter(p -> p.getTags().contains(local)).count();
+        assertEquals(localCount, storage.readPersonsWithTag(local).size());
+        assertTrue(storage.readPersonsWithTag(local).contains(ALICE));
+
+        // Change ALICE's module codes and tags
+        ModuleCode moduleCode = new ModuleCode("CS9999");
+        Person editedAlice = new PersonBuilder(ALICE).withModuleCodes("CS9999").withTags().build();
+        addressBook.setPerson(ALICE, editedAlice);
+        storage.saveAddressBook(addressBook);
+        storage.close();
+
+        KeyValueAddressBookStorage reopened = new KeyValueAddressBookStorage(filePath);
+        assertEquals(Collections.singletonList(editedAlice), reopened.readPersonsWithModuleCode(moduleCode));
+        assertFalse(reopened.readPersonsWithTag(local).contains(ALICE));
+        assertEquals(localCount - 1, reopened.readPersonsWithTag(local).size());
+        assertEquals(editedAlice, reopened.readPerson(ALICE.getName()).get());
+        assertFalse(reopened.readPerson(new Name("Nobody")).isPresent());
+        reopened.close();
+    }
+
+    @Test
+    public void readAddressBook_jsonFileOnly_migrated() throws Exception {
+        Path jsonFilePath = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest",
+                "typicalPersonsAddressBook.json");
+        Path filePath = testFolder.resolve("TempAddressBook.kv");
+
+        KeyValueAddressBookStorage storage = new KeyValueAddressBookStorage(filePath, jsonFilePath);
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook().get()));
+        storage.close();
+        assertTrue(Files.exists(filePath));
+        assertEquals(getTypicalAddressBook(), readBack(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_otherFilePath_success() throws Exception {
+        KeyValueAddressBookStorage storage = new KeyValueAddressBookStorage(testFolder.resolve("a.kv"));
+        Path otherFilePath = testFolder.resolve("b.kv");
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPersons(Arrays.asList(ALICE, BENSON));
+        storage.saveAddressBook(addressBook, otherFilePath);
+        assertEquals(addressBook, new AddressBook(storage.readAddressBook(otherFilePath).get()));
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        KeyValueAddressBookStorage storage = new KeyValueAddressBookStorage(testFolder.resolve("a.kv"));
+        assertThrows(NullPointerException.class, () -> storage.saveAddressBook(null));
+    }
+
+    private static AddressBook readBack(Path filePath) throws Exception {
+        KeyValueAddressBookStorage storage = new KeyValueAddressBookStorage(filePath);
+        try {
+            return new AddressBook(storage.readAddressBook().get());
+        } finally {
+            storage.close();
+        }
+    }
+
+}
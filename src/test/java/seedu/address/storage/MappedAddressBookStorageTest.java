@@ -0,0 +1,268 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class MappedAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        MappedAddressBookStorage storage = new MappedAddressBookStorage(testFolder.resolve("a.db"));
+        assertThrows(NullPointerException.class, () -> storage.readAddressBook(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new MappedAddressBookStorage(testFolder.resolve("a.db")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void read_jsonFile_throwsDataConversionException() {
+        Path jsonFilePath = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest",
+                "typicalPersonsAddressBook.json");
+        assertThrows(DataConversionException.class, () ->
+                new MappedAddressBookStorage(jsonFilePath).readAddressBook());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.db");
+        MappedAddressBookStorage storage = new MappedAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+        assertEquals(original, readBack(filePath));
+
+        Person editedBenson = new PersonBuilder(BENSON)
+                .withRemark("A remark long enough to need more than one page of the file to hold it").build();
+        original.setPerson(BENSON, editedBenson);
+        original.removePerson(ALICE);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        assertEquals(new AddressBook(original).getPersonList().size(), readBack(filePath).getPersonList().size());
+        assertTrue(readBack(filePath).hasPerson(editedBenson));
+        assertFalse(readBack(filePath).hasPerson(ALICE));
+
+        // Saves after a restart only touch the changed records
+        MappedAddressBookStorage restarted = new MappedAddressBookStorage(filePath);
+        AddressBook restartedBook = new AddressBook(restarted.readAddressBook().get());
+        restartedBook.addPerson(IDA);
+        restarted.saveAddressBook(restartedBook);
+        AddressBook result = readBack(filePath);
+        assertTrue(result.hasPerson(IDA));
+        assertEquals(restartedBook.getPersonList().size(), result.getPersonList().size());
+        restarted.close();
+        storage.close();
+    }
+
+    @Test
+    public void readAddressBook_personsLoadedOnDemand() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.db");
+        MappedAddressBookStorage storage = new MappedAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        storage.close();
+
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        Person alice = readBack.getPersonList().get(0);
+        Person benson = readBack.getPersonList().get(1);
+        assertFalse(alice.isLoaded());
+        assertEquals(ALICE.getEmail(), alice.getEmail());
+        assertTrue(alice.isLoaded());
+        assertFalse(benson.isLoaded());
+
+        // A removed person is loaded before its record is freed
+        readBack.removePerson(benson);
+        storage.saveAddressBook(readBack);
+        assertTrue(benson.isLoaded());
+        assertEquals(BENSON, benson);
+
+        // Every person is loaded before the file is closed
+        Person carl = readBack.getPersonList().get(1);
+        assertFalse(carl.isLoaded());
+        storage.close();
+        assertTrue(carl.isLoaded());
+        assertEquals(CARL, carl);
+    }
+
+    @Test
+    public void saveAddressBook_oneRecordChanged_otherPagesUntouched() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.db");
+        MappedAddressBookStorage storage = new MappedAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        byte[] before = Files.readAllBytes(filePath);
+
+        original.setPerson(BENSON, new PersonBuilder(BENSON).withRemark("Prefers email").build());
+        storage.saveAddressBook(original);
+        byte[] after = Files.readAllBytes(filePath);
+        storage.close();
+
+        assertEquals(before.length, after.length);
+        int changedPages = 0;
+        for (int offset = 0; offset < before.length; offset += MappedAddressBookStorage.PAGE_SIZE) {
+            byte[] beforePage = Arrays.copyOfRange(before, offset, offset + MappedAddressBookStorage.PAGE_SIZE);
+            byte[] afterPage = Arrays.copyOfRange(after, offset, offset + MappedAddressBookStorage.PAGE_SIZE);
+            if (!Arrays.equals(beforePage, afterPage)) {
+                changedPages++;
+            }
+        }
+        // The freed page of the old record and the page of the new record
+        assertEquals(2, changedPages);
+    }
+
+    @Test
+    public void saveAddressBook_freedPages_reused() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.db");
+        MappedAddressBookStorage storage = new MappedAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        long size = Files.size(filePath);
+
+        for (int i = 0; i < 1000; i++) {
+            Person benson = original.getPersonList().stream().filter(BENSON::isSamePerson).findFirst().get();
+            original.setPerson(benson, new PersonBuilder(BENSON).withRemark("Edit " + i).build());
+            storage.saveAddressBook(original);
+        }
+        storage.close();
+
+        assertEquals(size, Files.size(filePath));
+        assertEquals(original, readBack(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_manyPersons_fileGrows() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.db");
+        MappedAddressBookStorage storage = new MappedAddressBookStorage(filePath);
+        AddressBook original = new AddressBook();
+        storage.saveAddressBook(original);
+        for (int i = 0; i < 500; i++) {
+            original.addPerson(new PersonBuilder().withName("Person " + i).build());
+        }
+        storage.saveAddressBook(original);
+        storage.close();
+
+        assertEquals(original, readBack(filePath));
+    }
+
+    @Test
+    public void readAddressBook_staleDuplicateRecord_newerRecordKept() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.db");
+        MappedAddressBookStorage storage = new MappedAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        byte[] before = Files.readAllBytes(filePath);
+
+        Person editedBenson = new PersonBuilder(BENSON).withRemark("Prefers email").build();
+        original.setPerson(BENSON, editedBenson);
+        storage.saveAddressBook(original);
+        storage.close();
+
+        // Restore the freed record of the old Benson, as if the application stopped before freeing it
+        byte[] after = Files.readAllBytes(filePath);
+        int staleOffset = -1;
+        for (int offset = 0; offset < before.length; offset += MappedAddressBookStorage.PAGE_SIZE) {
+            if (before[offset] == MappedAddressBookStorage.STATUS_RECORD
+                    && after[offset] == MappedAddressBookStorage.STATUS_FREE) {
+                staleOffset = offset;
+            }
+        }
+        after[staleOffset] = MappedAddressBookStorage.STATUS_RECORD;
+        Files.write(filePath, after);
+
+        assertEquals(original, readBack(filePath));
+        // The stale record is freed when read
+        assertEquals(MappedAddressBookStorage.STATUS_FREE, Files.readAllBytes(filePath)[staleOffset]);
+    }
+
+    @Test
+    public void readAddressBook_staleRecordOfRenamedPerson_freed() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.db");
+        MappedAddressBookStorage storage = new MappedAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        byte[] before = Files.readAllBytes(filePath);
+
+        original.setPerson(BENSON, new PersonBuilder(BENSON).withName("Benson Q").build());
+        storage.saveAddressBook(original);
+        storage.close();
+
+        // Restore the freed record of the old Benson, as if the application stopped before freeing it
+        byte[] after = Files.readAllBytes(filePath);
+        int staleOffset = -1;
+        for (int offset = 0; offset < before.length; offset += MappedAddressBookStorage.PAGE_SIZE) {
+            if (before[offset] == MappedAddressBookStorage.STATUS_RECORD
+                    && after[offset] == MappedAddressBookStorage.STATUS_FREE) {
+                staleOffset = offset;
+            }
+        }
+        after[staleOffset] = MappedAddressBookStorage.STATUS_RECORD;
+        Files.write(filePath, after);
+
+        assertEquals(original, readBack(filePath));
+        assertEquals(MappedAddressBookStorage.STATUS_FREE, Files.readAllBytes(filePath)[staleOffset]);
+    }
+
+    @Test
+    public void readAddressBook_jsonFileOnly_migrated() throws Exception {
+        Path jsonFilePath = testFolder.resolve("addressbook.json");
+        Path filePath = testFolder.resolve("addressbook.db");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(original);
+
+        MappedAddressBookStorage storage = new MappedAddressBookStorage(filePath, jsonFilePath);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+        storage.close();
+        assertTrue(Files.exists(filePath));
+        assertEquals(original, readBack(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_otherFilePath_success() throws Exception {
+        MappedAddressBookStorage storage = new MappedAddressBookStorage(testFolder.resolve("a.db"));
+        Path otherFilePath = testFolder.resolve("b.db");
+        storage.saveAddressBook(getTypicalAddressBook(), otherFilePath);
+
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook(otherFilePath).get()));
+        assertFalse(Files.exists(testFolder.resolve("a.db")));
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        MappedAddressBookStorage storage = new MappedAddressBookStorage(testFolder.resolve("a.db"));
+        assertThrows(NullPointerException.class, () -> storage.saveAddressBook(null));
+    }
+
+    private static AddressBook readBack(Path filePath) throws Exception {
+        MappedAddressBookStorage storage = new MappedAddressBookStorage(filePath);
+        try {
+            return new AddressBook(storage.readAddressBook().get());
+        } finally {
+            storage.close();
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+
+public class PagedKeyValueStoreTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_missingFile_emptyStoreCreated() throws Exception {
+        Path filePath = testFolder.resolve("sub").resolve("store.kv");
+        PagedKeyValueStore store = new PagedKeyValueStore(filePath);
+        assertTrue(Files.exists(filePath));
+        assertEquals(0, store.size());
+        assertFalse(store.get("missing").isPresent());
+        store.close();
+    }
+
+    @Test
+    public void constructor_notKeyValueFile_throwsIllegalValueException() throws Exception {
+        Path filePath = testFolder.resolve("store.kv");
+        FileUtil.writeToFile(filePath, "not a key-value store");
+        assertThrows(IllegalValueException.class, () -> new PagedKeyValueStore(filePath));
+    }
+
+    @Test
+    public void putGetRemove_reopened_changesKept() throws Exception {
+        Path filePath = testFolder.resolve("store.kv");
+        PagedKeyValueStore store = new PagedKeyValueStore(filePath);
+        store.put("a", bytes("first"));
+        store.put("b", bytes("second"));
+        store.put("a", bytes("replaced"));
+        store.put("c", new byte[1000]);
+        store.remove("b");
+        store.remove("missing");
+        assertEquals("replaced", string(store.get("a")));
+        assertFalse(store.containsKey("b"));
+        store.close();
+
+        PagedKeyValueStore reopened = new PagedKeyValueStore(filePath);
+        assertEquals(2, reopened.size());
+        assertEquals("replaced", string(reopened.get("a")));
+        assertFalse(reopened.get("b").isPresent());
+        assertTrue(Arrays.equals(new byte[1000], reopened.get("c").get()));
+        reopened.close();
+    }
+
+    @Test
+    public void getKeysWithPrefix_mixedKeys_sortedMatchingKeys() throws Exception {
+        PagedKeyValueStore store = new PagedKeyValueStore(testFolder.resolve("store.kv"));
+        store.put("tag/friends/Carl", new byte[0]);
+        store.put("tag/friend/Alice", new byte[0]);
+        store.put("tag/friends/Alice", new byte[0]);
+        store.put("module/CS2103T/Alice", new byte[0]);
+
+        assertEquals(Arrays.asList("tag/friends/Alice", "tag/friends/Carl"), store.getKeysWithPrefix("tag/friends/"));
+        assertEquals(3, store.getKeysWithPrefix("tag/").size());
+        assertTrue(store.getKeysWithPrefix("person/").isEmpty());
+        store.close();
+    }
+
+    @Test
+    public void put_manyKeys_fileGrows() throws Exception {
+        Path filePath = testFolder.resolve("store.kv");
+        PagedKeyValueStore store = new PagedKeyValueStore(filePath);
+        long initialSize = Files.size(filePath);
+        for (int i = 0; i < 500; i++) {
+            store.put("key" + i, bytes("value" + i));
+        }
+        store.close();
+
+        assertTrue(Files.size(filePath) > initialSize);
+        PagedKeyValueStore reopened = new PagedKeyValueStore(filePath);
+        assertEquals(500, reopened.size());
+        assertEquals("value123", string(reopened.get("key123")));
+        reopened.close();
+    }
+
+    @Test
+    public void constructor_staleDuplicateRecord_newerRecordKept() throws Exception {
+        Path filePath = testFolder.resolve("store.kv");
+        PagedKeyValueStore store = new PagedKeyValueStore(filePath);
+        store.put("a", bytes("old"));
+        store.close();
+        byte[] oldRecord = Arrays.copyOfRange(Files.readAllBytes(filePath), PagedKeyValueStore.PAGE_SIZE,
+                2 * PagedKeyValueStore.PAGE_SIZE);
+
+        store = new PagedKeyValueStore(filePath);
+        store.put("a", bytes("new"));
+        store.close();
+
+        // Bring back the old record, as if the application stopped before freeing it
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(oldRecord), PagedKeyValueStore.PAGE_SIZE);
+        }
+        PagedKeyValueStore reopened = new PagedKeyValueStore(filePath);
+        assertEquals(1, reopened.size());
+        assertEquals("new", string(reopened.get("a")));
+        reopened.close();
+    }
+
+    @Test
+    public void put_replacedRecord_freedAndReusedOnlyAfterForce() throws Exception {
+        Path filePath = testFolder.resolve("store.kv");
+        PagedKeyValueStore store = new PagedKeyValueStore(filePath);
+        store.put("a", bytes("old"));
+        store.force();
+        byte[] oldRecord = Arrays.copyOfRange(Files.readAllBytes(filePath), PagedKeyValueStore.PAGE_SIZE,
+                2 * PagedKeyValueStore.PAGE_SIZE);
+
+        // The old record is kept on the disk, and its page is not reused, until the next force
+        store.put("a", bytes("new"));
+        store.put("b", bytes("other"));
+        store.remove("b");
+        store.put("c", bytes("another"));
+        assertArrayEquals(oldRecord, Arrays.copyOfRange(Files.readAllBytes(filePath), PagedKeyValueStore.PAGE_SIZE,
+                2 * PagedKeyValueStore.PAGE_SIZE));
+
+        store.force();
+        assertEquals(PagedKeyValueStore.STATUS_FREE, Files.readAllBytes(filePath)[PagedKeyValueStore.PAGE_SIZE]);
+        store.put("d", bytes("reused"));
+        store.close();
+
+        PagedKeyValueStore reopened = new PagedKeyValueStore(filePath);
+        assertEquals(Arrays.asList("a", "c", "d"), reopened.getKeysWithPrefix(""));
+        assertEquals("new", string(reopened.get("a")));
+        assertEquals(PagedKeyValueStore.STATUS_RECORD, Files.readAllBytes(filePath)[PagedKeyValueStore.PAGE_SIZE]);
+        reopened.close();
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(UTF_8);
+    }
+
+    private static String string(Optional<byte[]> value) {
+        return new String(value.get(), UTF_8);
+    }
+
+}
@@ -0,0 +1,157 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class ShardedAddressBookStorageTest {
+
+    private static final int SHARD_COUNT = 4;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(testFolder.resolve("a.shards"));
+        assertThrows(NullPointerException.class, () -> storage.readAddressBook(null));
+    }
+
+    @Test
+    public void read_missingDirectory_emptyResult() throws Exception {
+        assertFalse(new ShardedAddressBookStorage(testFolder.resolve("a.shards")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path directoryPath = testFolder.resolve("TempAddressBook.shards");
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(directoryPath, null, false, SHARD_COUNT);
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+        assertTrue(Files.exists(directoryPath.resolve(ShardedAddressBookStorage.MANIFEST_FILE_NAME)));
+        for (int i = 0; i < SHARD_COUNT; i++) {
+            assertTrue(Files.exists(ShardedAddressBookStorage.getShardFilePath(directoryPath, i)));
+        }
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        // Modify data, overwrite exiting shards, and read back
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        original.sortAddressBook();
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(new ShardedAddressBookStorage(directoryPath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_onePersonChanged_onlyItsShardRewritten() throws Exception {
+        Path directoryPath = testFolder.resolve("TempAddressBook.shards");
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(directoryPath, null, false, SHARD_COUNT);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        FileTime oldTime = FileTime.fromMillis(0);
+        for (int i = 0; i < SHARD_COUNT; i++) {
+            Files.setLastModifiedTime(ShardedAddressBookStorage.getShardFilePath(directoryPath, i), oldTime);
+        }
+
+        original.setPerson(BENSON, new PersonBuilder(BENSON).withRemark("Prefers email").build());
+        storage.saveAddressBook(original);
+
+        int rewrittenShards = 0;
+        for (int i = 0; i < SHARD_COUNT; i++) {
+            if (!Files.getLastModifiedTime(ShardedAddressBookStorage.getShardFilePath(directoryPath, i))
+                    .equals(oldTime)) {
+                rewrittenShards++;
+            }
+        }
+        assertEquals(1, rewrittenShards);
+        assertEquals(original, new AddressBook(new ShardedAddressBookStorage(directoryPath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_renamedIntoOtherShardCutShort_keptUnderBothNames() throws Exception {
+        Path directoryPath = testFolder.resolve("TempAddressBook.shards");
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(directoryPath, null, false, SHARD_COUNT);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        // "Alice Pauline" is in shard 0 and "Alice Q" in shard 1; shard 0 then cannot be rewritten
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Alice Q").build();
+        original.setPerson(ALICE, renamedAlice);
+        Path blockedTempPath = ShardedAddressBookStorage.getShardFilePath(directoryPath, 0).resolveSibling(
+                ShardedAddressBookStorage.getShardFilePath(directoryPath, 0).getFileName() + ".tmp");
+        Files.createDirectories(blockedTempPath.resolve("blocked"));
+        assertThrows(IOException.class, () -> storage.saveAddressBook(original));
+
+        List<Person> persons = new ShardedAddressBookStorage(directoryPath).readAddressBook().get().getPersonList();
+        assertTrue(persons.contains(ALICE));
+        assertTrue(persons.contains(renamedAlice));
+    }
+
+    @Test
+    public void readAddressBook_existingManifest_shardCountKept() throws Exception {
+        Path directoryPath = testFolder.resolve("TempAddressBook.shards");
+        AddressBook original = getTypicalAddressBook();
+        new ShardedAddressBookStorage(directoryPath, null, false, SHARD_COUNT).saveAddressBook(original);
+
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(directoryPath);
+        storage.readAddressBook();
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+
+        assertFalse(Files.exists(ShardedAddressBookStorage.getShardFilePath(directoryPath, SHARD_COUNT)));
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_invalidShard_throwsDataConversionException() throws Exception {
+        Path directoryPath = testFolder.resolve("TempAddressBook.shards");
+        new ShardedAddressBookStorage(directoryPath, null, false, SHARD_COUNT).saveAddressBook(getTypicalAddressBook());
+        FileUtil.writeToFile(ShardedAddressBookStorage.getShardFilePath(directoryPath, 1), "not json");
+
+        assertThrows(DataConversionException.class, () ->
+                new ShardedAddressBookStorage(directoryPath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_jsonFileOnly_migrated() throws Exception {
+        Path jsonFilePath = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest",
+                "typicalPersonsAddressBook.json");
+        Path directoryPath = testFolder.resolve("TempAddressBook.shards");
+
+        AddressBook migrated = new AddressBook(
+                new ShardedAddressBookStorage(directoryPath, jsonFilePath, false).readAddressBook().get());
+        assertEquals(getTypicalAddressBook(), migrated);
+        assertTrue(Files.exists(directoryPath.resolve(ShardedAddressBookStorage.MANIFEST_FILE_NAME)));
+        assertEquals(migrated, new AddressBook(new ShardedAddressBookStorage(directoryPath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(testFolder.resolve("a.shards"));
+        assertThrows(NullPointerException.class, () -> storage.saveAddressBook(null));
+    }
+
+}
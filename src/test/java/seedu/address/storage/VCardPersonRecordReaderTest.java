@@ -0,0 +1,71 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+public class VCardPersonRecordReaderTest {
+
+    private static VCardPersonRecordReader readerOf(String vcard) throws IOException {
+        return new VCardPersonRecordReader(new BufferedReader(new StringReader(vcard)));
+    }
+
+    @Test
+    public void read_emptyFile_returnsNull() throws Exception {
+        assertNull(readerOf("").read());
+    }
+
+    @Test
+    public void read_allProperties_success() throws Exception {
+        VCardPersonRecordReader reader = readerOf("BEGIN:VCARD\r\n"
+                + "VERSION:3.0\r\n"
+                + "N:Pauline;Alice;;;\r\n"
+                + "FN:Alice Pauline\r\n"
+                + "item1.EMAIL;TYPE=INTERNET:alice@example.com\r\n"
+                + "EMAIL:other@example.com\r\n"
+                + "TEL;TYPE=CELL:94351253\r\n"
+                + "NOTE:Likes cats\\, dogs\\nand birds\r\n"
+                + "CATEGORIES:local,friends\r\n"
+                + "X-TELEGRAM:@alice\r\n"
+                + "X-MODULE-CODES:CS2030S,CS2040\r\n"
+                + "END:VCARD\r\n");
+
+        PersonRecord expected = new PersonRecord(1, "Alice Pauline", "alice@example.com",
+                Arrays.asList("CS2030S", "CS2040"), "94351253", "@alice", "Likes cats, dogs\nand birds",
+                Arrays.asList("local", "friends"));
+        assertEquals(expected, reader.read());
+        assertNull(reader.read());
+    }
+
+    @Test
+    public void read_foldedLinesAndSeveralCards_success() throws Exception {
+        VCardPersonRecordReader reader = readerOf("begin:vcard\n"
+                + "FN:Alice\n"
+                + "  Pauline\n"
+                + "end:vcard\n"
+                + "\n"
+                + "BEGIN:VCARD\n"
+                + "FN:Bob Choo\n"
+                + "END:VCARD\n");
+
+        assertEquals(new PersonRecord(1, "Alice Pauline", null, Collections.emptyList(), null, null, null,
+                Collections.emptyList()), reader.read());
+        assertEquals(new PersonRecord(6, "Bob Choo", null, Collections.emptyList(), null, null, null,
+                Collections.emptyList()), reader.read());
+        assertNull(reader.read());
+    }
+
+    @Test
+    public void read_missingEnd_throwsIoException() throws Exception {
+        VCardPersonRecordReader reader = readerOf("BEGIN:VCARD\nFN:Alice Pauline\n");
+        assertThrows(IOException.class, reader::read);
+    }
+}
@@ -0,0 +1,45 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.io.StringWriter;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class VCardPersonRecordWriterTest {
+
+    @Test
+    public void write_emptyFields_leftOut() throws Exception {
+        StringWriter out = new StringWriter();
+        try (VCardPersonRecordWriter writer = new VCardPersonRecordWriter(out)) {
+            writer.write(new PersonBuilder().withName("Alice Pauline").withEmail("alice@example.com")
+                    .withModuleCodes("CS2040").build());
+        }
+
+        assertEquals("BEGIN:VCARD\r\n"
+                + "VERSION:3.0\r\n"
+                + "FN:Alice Pauline\r\n"
+                + "N:Alice Pauline;;;;\r\n"
+                + "EMAIL:alice@example.com\r\n"
+                + "X-MODULE-CODES:CS2040\r\n"
+                + "END:VCARD\r\n", out.toString());
+    }
+
+    @Test
+    public void write_specialCharacters_readBackUnchanged() throws Exception {
+        Person person = new PersonBuilder().withRemark("Likes cats; dogs, and \\birds\\").build();
+        StringWriter out = new StringWriter();
+        try (VCardPersonRecordWriter writer = new VCardPersonRecordWriter(out)) {
+            writer.write(person);
+        }
+
+        VCardPersonRecordReader reader = new VCardPersonRecordReader(
+                new BufferedReader(new StringReader(out.toString())));
+        assertEquals("Likes cats; dogs, and \\birds\\", reader.read().getRemark());
+    }
+}
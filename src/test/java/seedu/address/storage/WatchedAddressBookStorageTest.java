@@ -0,0 +1,109 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class WatchedAddressBookStorageTest {
+
+    private static final long TIMEOUT_SECONDS = 10;
+
+    @TempDir
+    public Path testFolder;
+
+    private final BlockingQueue<ReadOnlyAddressBook> externalChanges = new LinkedBlockingQueue<>();
+    private WatchedAddressBookStorage storage;
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        if (storage != null) {
+            storage.close();
+        }
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        storage = new WatchedAddressBookStorage(new JsonAddressBookStorage(testFolder.resolve("addressbook.json")));
+        assertThrows(NullPointerException.class, () -> storage.saveAddressBook(null));
+    }
+
+    @Test
+    public void startWatching_externalChange_changedAddressBookPassedOn() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        storage = new WatchedAddressBookStorage(new JsonAddressBookStorage(filePath));
+        storage.saveAddressBook(getTypicalAddressBook());
+        storage.startWatching(Runnable::run, externalChanges::add);
+
+        AddressBook changedAddressBook = getTypicalAddressBook();
+        changedAddressBook.removePerson(ALICE);
+        changedAddressBook.addPerson(HOON);
+        new JsonAddressBookStorage(filePath).saveAddressBook(changedAddressBook);
+
+        ReadOnlyAddressBook externalChange = externalChanges.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertEquals(changedAddressBook, new AddressBook(externalChange));
+    }
+
+    @Test
+    public void startWatching_changeNotApplied_passedOnAgain() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        storage = new WatchedAddressBookStorage(new JsonAddressBookStorage(filePath));
+        storage.saveAddressBook(getTypicalAddressBook());
+        storage.startWatching(Runnable::run, addressBook -> externalChanges.add(addressBook) && false);
+
+        AddressBook changedAddressBook = getTypicalAddressBook();
+        changedAddressBook.removePerson(ALICE);
+        new JsonAddressBookStorage(filePath).saveAddressBook(changedAddressBook);
+        assertEquals(changedAddressBook, new AddressBook(externalChanges.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS)));
+
+        // The same change is written again, leaving the file as it was when the change was not applied
+        FileTime changedTime = Files.getLastModifiedTime(filePath);
+        new JsonAddressBookStorage(filePath).saveAddressBook(changedAddressBook);
+        Files.setLastModifiedTime(filePath, changedTime);
+        assertEquals(changedAddressBook, new AddressBook(externalChanges.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS)));
+    }
+
+    @Test
+    public void readAddressBook_createdWithOnExternalChange_watchedFromFirstRead() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        storage = new WatchedAddressBookStorage(new JsonAddressBookStorage(filePath), Runnable::run,
+                externalChanges::add);
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook().get()));
+
+        AddressBook changedAddressBook = getTypicalAddressBook();
+        changedAddressBook.addPerson(HOON);
+        new JsonAddressBookStorage(filePath).saveAddressBook(changedAddressBook);
+        assertEquals(changedAddressBook, new AddressBook(externalChanges.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS)));
+    }
+
+    @Test
+    public void startWatching_ownSave_notPassedOn() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        storage = new WatchedAddressBookStorage(new JsonAddressBookStorage(filePath));
+        storage.startWatching(Runnable::run, externalChanges::add);
+
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.removePerson(ALICE);
+        storage.saveAddressBook(addressBook);
+        assertNull(externalChanges.poll(1, TimeUnit.SECONDS));
+    }
+
+}
@@ -0,0 +1,187 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class WriteAheadLogAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        WriteAheadLogAddressBookStorage storage = new WriteAheadLogAddressBookStorage(testFolder.resolve("a.json"));
+        assertThrows(NullPointerException.class, () -> storage.readAddressBook(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        WriteAheadLogAddressBookStorage storage = new WriteAheadLogAddressBookStorage(testFolder.resolve("a.json"));
+        assertFalse(storage.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        WriteAheadLogAddressBookStorage storage = new WriteAheadLogAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+
+        // First save writes a full snapshot
+        storage.saveAddressBook(original);
+        assertFalse(Files.exists(storage.getLogFilePath()));
+        String snapshot = Files.readString(filePath);
+
+        // Later saves only append the changes
+        Person editedBenson = new PersonBuilder(BENSON).withRemark("Prefers email").build();
+        original.setPerson(BENSON, editedBenson);
+        original.removePerson(ALICE);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        assertEquals(snapshot, Files.readString(filePath));
+        List<String> records = Files.readAllLines(storage.getLogFilePath());
+        assertEquals(1, records.size());
+        assertFalse(records.get(0).contains(CARL.getName().fullName));
+
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        assertEquals(2, Files.readAllLines(storage.getLogFilePath()).size());
+
+        // Snapshot and log are replayed on start-up
+        WriteAheadLogAddressBookStorage restarted = new WriteAheadLogAddressBookStorage(filePath);
+        AddressBook readBack = new AddressBook(restarted.readAddressBook().get());
+        assertEquals(original, readBack);
+
+        // Saves after a restart continue the log
+        readBack.removePerson(IDA);
+        restarted.saveAddressBook(readBack);
+        assertEquals(3, Files.readAllLines(restarted.getLogFilePath()).size());
+        assertEquals(readBack, new AddressBook(new WriteAheadLogAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_unchangedAddressBook_nothingAppended() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        WriteAheadLogAddressBookStorage storage = new WriteAheadLogAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+
+        addressBook.sortAddressBook();
+        storage.saveAddressBook(addressBook);
+        assertFalse(Files.exists(storage.getLogFilePath()));
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastRecord_recordDiscarded() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        WriteAheadLogAddressBookStorage storage = new WriteAheadLogAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        Files.write(storage.getLogFilePath(), "{\"removed\":[\"Ali".getBytes(UTF_8), StandardOpenOption.APPEND);
+
+        WriteAheadLogAddressBookStorage restarted = new WriteAheadLogAddressBookStorage(filePath);
+        AddressBook readBack = new AddressBook(restarted.readAddressBook().get());
+        assertEquals(original, readBack);
+
+        // The incomplete record is cut off so that new records start on a fresh line
+        readBack.addPerson(IDA);
+        restarted.saveAddressBook(readBack);
+        assertEquals(readBack, new AddressBook(new WriteAheadLogAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_invalidRecordBeforeEnd_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        WriteAheadLogAddressBookStorage storage = new WriteAheadLogAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        Files.write(storage.getLogFilePath(), "not a record\n{\"removed\":[\"Alice Pauline\"]}\n".getBytes(UTF_8));
+
+        assertThrows(DataConversionException.class, () ->
+                new WriteAheadLogAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_logWithoutSnapshot_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        WriteAheadLogAddressBookStorage storage = new WriteAheadLogAddressBookStorage(filePath);
+        Files.write(storage.getLogFilePath(), "{\"removed\":[\"Alice Pauline\"]}\n".getBytes(UTF_8));
+
+        assertEquals(new AddressBook(), new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_logOutgrowsSnapshot_logCompacted() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        WriteAheadLogAddressBookStorage storage = new WriteAheadLogAddressBookStorage(filePath, false, 0);
+        storage.saveAddressBook(new AddressBook());
+
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        storage.awaitCompaction();
+
+        assertEquals(0, Files.size(storage.getLogFilePath()));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+
+        // Records appended after the compaction are kept
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        storage.awaitCompaction();
+        assertTrue(Files.size(storage.getLogFilePath()) > 0);
+        assertEquals(original, new AddressBook(new WriteAheadLogAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void close_compactionStarted_compactionFinishedAndLogKept() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        WriteAheadLogAddressBookStorage storage = new WriteAheadLogAddressBookStorage(filePath, false, 0);
+        storage.saveAddressBook(new AddressBook());
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        storage.close();
+
+        assertEquals(0, Files.size(storage.getLogFilePath()));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_otherFilePath_plainJsonWritten() throws Exception {
+        WriteAheadLogAddressBookStorage storage = new WriteAheadLogAddressBookStorage(testFolder.resolve("a.json"));
+        Path otherFilePath = testFolder.resolve("b.json");
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original, otherFilePath);
+
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(otherFilePath).readAddressBook().get()));
+        assertFalse(Files.exists(testFolder.resolve("b.json" + WriteAheadLogAddressBookStorage.LOG_FILE_SUFFIX)));
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        WriteAheadLogAddressBookStorage storage = new WriteAheadLogAddressBookStorage(testFolder.resolve("a.json"));
+        assertThrows(NullPointerException.class, () -> storage.saveAddressBook(null));
+    }
+}